@@ -0,0 +1,345 @@
+package br.com.staroski.equality.maven;
+
+import static org.objectweb.asm.Opcodes.*;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.objectweb.asm.ClassReader;
+import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.Type;
+import org.objectweb.asm.tree.AbstractInsnNode;
+import org.objectweb.asm.tree.ClassNode;
+import org.objectweb.asm.tree.FieldInsnNode;
+import org.objectweb.asm.tree.FieldNode;
+import org.objectweb.asm.tree.FrameNode;
+import org.objectweb.asm.tree.InsnList;
+import org.objectweb.asm.tree.InsnNode;
+import org.objectweb.asm.tree.JumpInsnNode;
+import org.objectweb.asm.tree.LabelNode;
+import org.objectweb.asm.tree.MethodInsnNode;
+import org.objectweb.asm.tree.MethodNode;
+import org.objectweb.asm.tree.TypeInsnNode;
+import org.objectweb.asm.tree.VarInsnNode;
+
+// Reescreve classes cujos m&eacute;todos hashCode e equals apenas delegam para uma EqualityStrategy.fieldBased(this) guardada num atributo privado.
+// O atributo da estrat&eacute;gia e a sua inicializa&ccedil;&atilde;o nos construtores s&atilde;o removidos, e o hashCode e equals passam a ler os atributos diretamente,
+// com as mesmas chamadas a HashCodeUtils e EqualsUtils que a estrat&eacute;gia faz por reflex&atilde;o, portanto os valores calculados s&atilde;o os mesmos.
+// Antes de reescrever, todas as classes do diret&oacute;rio devem ser indexadas, para saber quais classes s&atilde;o estendidas e quais atributos
+// de estrat&eacute;gia s&atilde;o acessados por outras classes; essas classes nunca s&atilde;o reescritas.
+final class StrategyWeaver {
+
+    private static final String STRATEGY = "br/com/staroski/equality/strategy/EqualityStrategy";
+    private static final String STRATEGY_DESCRIPTOR = "L" + STRATEGY + ";";
+    private static final String HASH_CODE_UTILS = "br/com/staroski/equality/HashCodeUtils";
+    private static final String EQUALS_UTILS = "br/com/staroski/equality/EqualsUtils";
+    private static final String SERIALIZABLE = "java/io/Serializable";
+
+    // superclasse de cada classe indexada
+    private final Map<String, String> superClasses = new HashMap<String, String>();
+
+    // atributos de estrat&eacute;gia acessados fora da classe que os declara, no formato "dono.nome"
+    private final Set<String> foreignAccesses = new HashSet<String>();
+
+    // indexa uma classe do diret&oacute;rio, deve ser chamado para todas as classes antes do weave
+    void index(byte[] bytes) {
+        final ClassNode node = new ClassNode();
+        new ClassReader(bytes).accept(node, ClassReader.SKIP_DEBUG | ClassReader.SKIP_FRAMES);
+        superClasses.put(node.name, node.superName);
+        for (MethodNode method : node.methods) {
+            for (AbstractInsnNode insn = method.instructions.getFirst(); insn != null; insn = insn.getNext()) {
+                if (insn instanceof FieldInsnNode) {
+                    final FieldInsnNode field = (FieldInsnNode) insn;
+                    if (!field.owner.equals(node.name) && isStrategy(field.desc)) {
+                        foreignAccesses.add(field.owner + "." + field.name);
+                    }
+                }
+            }
+        }
+    }
+
+    // reescreve a classe, retornando null se ela n&atilde;o se enquadra no padr&atilde;o
+    byte[] weave(byte[] bytes) {
+        final ClassNode node = new ClassNode();
+        new ClassReader(bytes).accept(node, 0);
+        if (!isWeavable(node)) {
+            return null;
+        }
+        final FieldNode strategy = strategyField(node);
+        if (strategy == null || foreignAccesses.contains(node.name + "." + strategy.name)) {
+            return null;
+        }
+        final MethodNode hashCode = method(node, "hashCode", "()I");
+        final MethodNode equals = method(node, "equals", "(Ljava/lang/Object;)Z");
+        if (hashCode == null || !delegatesHashCode(node, strategy, hashCode)) {
+            return null;
+        }
+        if (equals == null || !delegatesEquals(node, strategy, equals)) {
+            return null;
+        }
+        // todo acesso ao atributo da estrat&eacute;gia deve ser uma inicializa&ccedil;&atilde;o no construtor ou a delega&ccedil;&atilde;o do hashCode e equals
+        final List<AbstractInsnNode> initializations = new ArrayList<AbstractInsnNode>();
+        for (MethodNode method : node.methods) {
+            if (method == hashCode || method == equals) {
+                continue;
+            }
+            final AbstractInsnNode[] code = code(method);
+            for (int i = 0; i < code.length; i++) {
+                if (!isAccess(node, strategy, code[i])) {
+                    continue;
+                }
+                if (!"<init>".equals(method.name) || !isInitialization(node, strategy, code, i)) {
+                    return null;
+                }
+                for (int j = i - 3; j <= i; j++) {
+                    initializations.add(code[j]);
+                }
+            }
+        }
+        final List<FieldNode> fields = equalityFields(node, strategy);
+        if (fields == null) {
+            return null;
+        }
+        for (MethodNode method : node.methods) {
+            for (AbstractInsnNode insn : initializations) {
+                if (method.instructions.contains(insn)) {
+                    method.instructions.remove(insn);
+                }
+            }
+        }
+        node.fields.remove(strategy);
+        rewrite(hashCode, hashCodeCode(node, fields));
+        rewrite(equals, equalsCode(node, fields));
+        final ClassWriter writer = new ClassWriter(ClassWriter.COMPUTE_MAXS);
+        node.accept(writer);
+        return writer.toByteArray();
+    }
+
+    private AbstractInsnNode[] code(MethodNode method) {
+        final List<AbstractInsnNode> code = new ArrayList<AbstractInsnNode>();
+        for (AbstractInsnNode insn = method.instructions.getFirst(); insn != null; insn = insn.getNext()) {
+            // ignora r&oacute;tulos, n&uacute;meros de linha e frames
+            if (insn.getOpcode() >= 0) {
+                code.add(insn);
+            }
+        }
+        return code.toArray(new AbstractInsnNode[code.size()]);
+    }
+
+    // aload0 getfield strategy aload1 invokevirtual EqualityStrategy.equals ireturn
+    private boolean delegatesEquals(ClassNode node, FieldNode strategy, MethodNode method) {
+        final AbstractInsnNode[] code = code(method);
+        return code.length == 5
+                && isLoad(code[0], 0)
+                && isGetStrategy(node, strategy, code[1])
+                && isLoad(code[2], 1)
+                && isInvoke(code[3], INVOKEVIRTUAL, STRATEGY, "equals", "(Ljava/lang/Object;)Z")
+                && code[4].getOpcode() == IRETURN;
+    }
+
+    // aload0 getfield strategy invokevirtual EqualityStrategy.hashCode ireturn
+    private boolean delegatesHashCode(ClassNode node, FieldNode strategy, MethodNode method) {
+        final AbstractInsnNode[] code = code(method);
+        return code.length == 4
+                && isLoad(code[0], 0)
+                && isGetStrategy(node, strategy, code[1])
+                && isInvoke(code[2], INVOKEVIRTUAL, STRATEGY, "hashCode", "()I")
+                && code[3].getOpcode() == IRETURN;
+    }
+
+    // atributos que a estrat&eacute;gia baseada em atributos utiliza, na ordem de declara&ccedil;&atilde;o, ou null se houver outra estrat&eacute;gia
+    private List<FieldNode> equalityFields(ClassNode node, FieldNode strategy) {
+        final List<FieldNode> fields = new ArrayList<FieldNode>();
+        for (FieldNode field : node.fields) {
+            if (field == strategy || (field.access & ACC_STATIC) != 0) {
+                continue;
+            }
+            if (isStrategy(field.desc)) {
+                return null;
+            }
+            fields.add(field);
+        }
+        return fields;
+    }
+
+    private InsnList equalsCode(ClassNode node, List<FieldNode> fields) {
+        final InsnList code = new InsnList();
+        final LabelNode notSame = new LabelNode();
+        final LabelNode sameType = new LabelNode();
+        final LabelNode different = new LabelNode();
+        // if (this == object) return true;
+        code.add(new VarInsnNode(ALOAD, 0));
+        code.add(new VarInsnNode(ALOAD, 1));
+        code.add(new JumpInsnNode(IF_ACMPNE, notSame));
+        code.add(new InsnNode(ICONST_1));
+        code.add(new InsnNode(IRETURN));
+        code.add(notSame);
+        code.add(new FrameNode(F_SAME, 0, null, 0, null));
+        // if (!(object instanceof Owner)) return false;
+        code.add(new VarInsnNode(ALOAD, 1));
+        code.add(new TypeInsnNode(INSTANCEOF, node.name));
+        code.add(new JumpInsnNode(IFNE, sameType));
+        code.add(new InsnNode(ICONST_0));
+        code.add(new InsnNode(IRETURN));
+        code.add(sameType);
+        code.add(new FrameNode(F_SAME, 0, null, 0, null));
+        // Owner other = (Owner) object;
+        code.add(new VarInsnNode(ALOAD, 1));
+        code.add(new TypeInsnNode(CHECKCAST, node.name));
+        code.add(new VarInsnNode(ASTORE, 2));
+        // if (!equal(field, other.field)) return false;
+        for (FieldNode field : fields) {
+            code.add(new VarInsnNode(ALOAD, 0));
+            code.add(new FieldInsnNode(GETFIELD, node.name, field.name, field.desc));
+            code.add(new VarInsnNode(ALOAD, 2));
+            code.add(new FieldInsnNode(GETFIELD, node.name, field.name, field.desc));
+            final String type = utilityType(field.desc);
+            code.add(new MethodInsnNode(INVOKESTATIC, EQUALS_UTILS, "equal", "(" + type + type + ")Z", false));
+            code.add(new JumpInsnNode(IFEQ, different));
+        }
+        code.add(new InsnNode(ICONST_1));
+        code.add(new InsnNode(IRETURN));
+        if (!fields.isEmpty()) {
+            code.add(different);
+            code.add(new FrameNode(F_APPEND, 1, new Object[] { node.name }, 0, null));
+            code.add(new InsnNode(ICONST_0));
+            code.add(new InsnNode(IRETURN));
+        }
+        return code;
+    }
+
+    private InsnList hashCodeCode(ClassNode node, List<FieldNode> fields) {
+        final InsnList code = new InsnList();
+        // return hash(SINGLE_VALUE, hash(...hash(MULTI_VALUE, field1)..., fieldN));
+        code.add(new InsnNode(ICONST_0));
+        code.add(new InsnNode(ICONST_1));
+        for (FieldNode field : fields) {
+            code.add(new VarInsnNode(ALOAD, 0));
+            code.add(new FieldInsnNode(GETFIELD, node.name, field.name, field.desc));
+            code.add(new MethodInsnNode(INVOKESTATIC, HASH_CODE_UTILS, "hash", "(I" + utilityType(field.desc) + ")I", false));
+        }
+        code.add(new MethodInsnNode(INVOKESTATIC, HASH_CODE_UTILS, "hash", "(II)I", false));
+        code.add(new InsnNode(IRETURN));
+        return code;
+    }
+
+    private boolean isAccess(ClassNode node, FieldNode strategy, AbstractInsnNode insn) {
+        if (!(insn instanceof FieldInsnNode)) {
+            return false;
+        }
+        final FieldInsnNode field = (FieldInsnNode) insn;
+        return field.owner.equals(node.name) && field.name.equals(strategy.name) && field.desc.equals(strategy.desc);
+    }
+
+    private boolean isGetStrategy(ClassNode node, FieldNode strategy, AbstractInsnNode insn) {
+        return insn.getOpcode() == GETFIELD && isAccess(node, strategy, insn);
+    }
+
+    // aload0 aload0 invokestatic EqualityStrategy.fieldBased putfield strategy
+    private boolean isInitialization(ClassNode node, FieldNode strategy, AbstractInsnNode[] code, int putField) {
+        return putField >= 3
+                && code[putField].getOpcode() == PUTFIELD
+                && isLoad(code[putField - 3], 0)
+                && isLoad(code[putField - 2], 0)
+                && isInvoke(code[putField - 1], INVOKESTATIC, STRATEGY, "fieldBased", "(Ljava/lang/Object;)" + STRATEGY_DESCRIPTOR);
+    }
+
+    private boolean isInvoke(AbstractInsnNode insn, int opcode, String owner, String name, String desc) {
+        if (insn.getOpcode() != opcode) {
+            return false;
+        }
+        final MethodInsnNode method = (MethodInsnNode) insn;
+        return method.owner.equals(owner) && method.name.equals(name) && method.desc.equals(desc);
+    }
+
+    private boolean isLoad(AbstractInsnNode insn, int var) {
+        return insn.getOpcode() == ALOAD && ((VarInsnNode) insn).var == var;
+    }
+
+    // verifica se o descritor &eacute; de EqualityStrategy ou de uma subclasse indexada
+    private boolean isStrategy(String desc) {
+        if (desc.charAt(0) != 'L') {
+            return false;
+        }
+        for (String type = Type.getType(desc).getInternalName(); type != null; type = superClasses.get(type)) {
+            if (STRATEGY.equals(type)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean isWeavable(ClassNode node) {
+        if ((node.access & (ACC_INTERFACE | ACC_ENUM)) != 0) {
+            return false;
+        }
+        // o StackMapTable s&oacute; existe a partir do Java 6
+        if ((node.version & 0xFFFF) < V1_6) {
+            return false;
+        }
+        // a estrat&eacute;gia utiliza os atributos da classe do objeto, que s&atilde;o outros nas subclasses
+        if (superClasses.containsValue(node.name)) {
+            return false;
+        }
+        // remover o atributo alteraria o serialVersionUID calculado
+        if (node.interfaces.contains(SERIALIZABLE)) {
+            for (FieldNode field : node.fields) {
+                if ("serialVersionUID".equals(field.name)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+        return true;
+    }
+
+    private MethodNode method(ClassNode node, String name, String desc) {
+        for (MethodNode method : node.methods) {
+            if (method.name.equals(name) && method.desc.equals(desc) && (method.access & ACC_STATIC) == 0) {
+                return method;
+            }
+        }
+        return null;
+    }
+
+    private void rewrite(MethodNode method, InsnList code) {
+        method.instructions.clear();
+        method.instructions.add(code);
+        method.tryCatchBlocks.clear();
+        method.localVariables = null;
+        method.visibleLocalVariableAnnotations = null;
+        method.invisibleLocalVariableAnnotations = null;
+    }
+
+    // atributo privado e n&atilde;o est&aacute;tico do tipo EqualityStrategy, ou null se n&atilde;o houver; atributos vis&iacute;veis fora da classe podem ser lidos por
+    // classes de outros diret&oacute;rios, como as de teste ou de outros m&oacute;dulos, que falhariam com NoSuchFieldError se o atributo fosse removido
+    private FieldNode strategyField(ClassNode node) {
+        for (FieldNode field : node.fields) {
+            if (STRATEGY_DESCRIPTOR.equals(field.desc) && (field.access & (ACC_STATIC | ACC_PRIVATE)) == ACC_PRIVATE) {
+                return field;
+            }
+        }
+        return null;
+    }
+
+    // tipo do par&acirc;metro dos m&eacute;todos de HashCodeUtils e EqualsUtils para o descritor do atributo
+    private String utilityType(String desc) {
+        switch (desc.charAt(0)) {
+            case 'Z':
+            case 'B':
+            case 'C':
+            case 'S':
+            case 'I':
+            case 'J':
+            case 'F':
+            case 'D':
+                return desc;
+            default:
+                return "Ljava/lang/Object;";
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package br.com.staroski.equality.maven;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.apache.maven.plugin.AbstractMojo;
+import org.apache.maven.plugin.MojoExecutionException;
+import org.apache.maven.plugins.annotations.LifecyclePhase;
+import org.apache.maven.plugins.annotations.Mojo;
+import org.apache.maven.plugins.annotations.Parameter;
+
+/**
+ * <I>Goal</I> que reescreve, ap&oacute;s a compila&ccedil;&atilde;o, as classes cujos m&eacute;todos <code>hashCode</code> e <code>equals</code> apenas delegam para a
+ * estrat&eacute;gia baseada em atributos, <code>EqualityStrategy.fieldBased(this)</code>.<BR>
+ * <BR>
+ * Uma classe escrita conforme o exemplo abaixo:
+ *
+ * <PRE>
+ * class MyClass {
+ *
+ *     private final EqualityStrategy strategy = fieldBased(this);
+ *
+ *     private int field1;
+ *     private Object field2;
+ *
+ *     public int hashCode() {
+ *         return strategy.hashCode();
+ *     }
+ *
+ *     public boolean equals(Object object) {
+ *         return strategy.equals(object);
+ *     }
+ * }
+ * </PRE>
+ *
+ * &Eacute; reescrita como se tivesse sido escrita assim:
+ *
+ * <PRE>
+ * class MyClass {
+ *
+ *     private int field1;
+ *     private Object field2;
+ *
+ *     public int hashCode() {
+ *         return hash(SINGLE_VALUE, hash(hash(MULTI_VALUE, field1), field2));
+ *     }
+ *
+ *     public boolean equals(Object object) {
+ *         if (this == object) {
+ *             return true;
+ *         }
+ *         if (!(object instanceof MyClass)) {
+ *             return false;
+ *         }
+ *         MyClass other = (MyClass) object;
+ *         return equal(field1, other.field1) &amp;&amp; equal(field2, other.field2);
+ *     }
+ * }
+ * </PRE>
+ *
+ * Assim os objetos deixam de ocupar mem&oacute;ria com a estrat&eacute;gia e os atributos s&atilde;o lidos sem reflex&atilde;o, mantendo os mesmos valores de <code>hashCode</code> e
+ * <code>equals</code>.<BR>
+ * <BR>
+ * <B>Obs:</B> Somente s&atilde;o reescritas as classes que seguem exatamente o padr&atilde;o acima, com o atributo da estrat&eacute;gia <code>private</code>, que n&atilde;o s&atilde;o
+ * estendidas por outra classe do diret&oacute;rio e cujo atributo da estrat&eacute;gia n&atilde;o &eacute; utilizado em nenhum outro lugar. Diferente da estrat&eacute;gia, o <code>equals</code> reescrito retorna <code>false</code> para
+ * objetos de outras classes, e sempre utiliza os atributos da classe reescrita, mesmo que o objeto seja de uma subclasse compilada em outro projeto.
+ *
+ * @author Ricardo Artur Staroski
+ */
+@Mojo(name = "weave", defaultPhase = LifecyclePhase.PROCESS_CLASSES, threadSafe = true)
+public final class WeaveMojo extends AbstractMojo {
+
+    /**
+     * O diret&oacute;rio com as classes compiladas.
+     */
+    @Parameter(defaultValue = "${project.build.outputDirectory}", required = true)
+    private File classesDirectory;
+
+    /**
+     * Indica se a reescrita das classes deve ser ignorada.
+     */
+    @Parameter(property = "equality.weave.skip", defaultValue = "false")
+    private boolean skip;
+
+    public void execute() throws MojoExecutionException {
+        if (skip) {
+            getLog().info("Skipping equality weaving");
+            return;
+        }
+        if (!classesDirectory.isDirectory()) {
+            getLog().debug(classesDirectory + " does not exist");
+            return;
+        }
+        try {
+            final List<Path> classFiles = classFiles(classesDirectory.toPath());
+            final StrategyWeaver weaver = new StrategyWeaver();
+            final List<byte[]> classes = new ArrayList<byte[]>(classFiles.size());
+            for (Path file : classFiles) {
+                final byte[] bytes = Files.readAllBytes(file);
+                weaver.index(bytes);
+                classes.add(bytes);
+            }
+            int woven = 0;
+            for (int i = 0; i < classFiles.size(); i++) {
+                final byte[] bytes = weaver.weave(classes.get(i));
+                if (bytes != null) {
+                    Files.write(classFiles.get(i), bytes);
+                    getLog().debug("Woven " + classFiles.get(i));
+                    woven++;
+                }
+            }
+            getLog().info("Woven " + woven + " of " + classFiles.size() + " classes in " + classesDirectory);
+        } catch (IOException e) {
+            throw new MojoExecutionException("Could not weave the classes in " + classesDirectory, e);
+        }
+    }
+
+    private List<Path> classFiles(Path directory) throws IOException {
+        try (Stream<Path> files = Files.walk(directory)) {
+            return files.filter(file -> file.toString().endsWith(".class"))
+                        .filter(file -> !file.getFileName().toString().equals("module-info.class"))
+                        .collect(Collectors.toList());
+        }
+    }
+}
@@ -0,0 +1,205 @@
+package br.com.staroski.equality;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+import br.com.staroski.equality.collection.IdentityHashMemo;
+import br.com.staroski.equality.strategy.Equivalence;
+
+// Caminhos r&aacute;pidos para o hashCode e equals das cole&ccedil;&otilde;es do java.util utilizados pelas classes HashCodeUtils e EqualsUtils.
+// Os valores s&atilde;o exatamente os definidos pelos contratos de List, Set e Map, por isso s&oacute; s&atilde;o aplicados &agrave;s classes conhecidas que seguem esses
+// contratos; vis&otilde;es e inv&oacute;lucros, que delegam para cole&ccedil;&otilde;es possivelmente diferentes, como as de IdentityHashMap, continuam usando os seus pr&oacute;prios m&eacute;todos.
+final class CollectionSupport {
+
+    // cole&ccedil;&otilde;es grandes o suficiente para compensar o hash em paralelo
+    private static final int PARALLEL_THRESHOLD = 1 << 17;
+
+    // quantidade de elementos de uma lista processados por cada tarefa paralela
+    private static final int CHUNK_SIZE = 1 << 14;
+
+    private static final int PRIME = 31;
+
+    private static final String IMMUTABLE_COLLECTIONS = "java.util.ImmutableCollections$";
+
+    private static final Set<String> CONTRACT_CLASSES = new HashSet<String>(Arrays.asList( //
+            "java.util.ArrayList", //
+            "java.util.LinkedList", //
+            "java.util.Arrays$ArrayList", //
+            "java.util.HashSet", //
+            "java.util.LinkedHashSet", //
+            "java.util.TreeSet", //
+            "java.util.HashMap", //
+            "java.util.LinkedHashMap", //
+            "java.util.TreeMap", //
+            "java.util.Collections$EmptyList", //
+            "java.util.Collections$EmptySet", //
+            "java.util.Collections$EmptyMap", //
+            "java.util.Collections$SingletonList", //
+            "java.util.Collections$SingletonSet", //
+            "java.util.Collections$SingletonMap"));
+
+    // mem&oacute;ria dos hashes das cole&ccedil;&otilde;es imut&aacute;veis, criada somente quando habilitada
+    private static final class Cache {
+
+        static final IdentityHashMemo<Object> HASHES = new IdentityHashMemo<Object>(new Equivalence<Object>() {
+
+            public boolean equals(Object object1, Object object2) {
+                return object1.equals(object2);
+            }
+
+            public int hash(Object object) {
+                return computeHash(object);
+            }
+        });
+    }
+
+    private static volatile boolean caching;
+
+    // compara duas listas do java.util com a mesma sem&acirc;ntica do List.equals, mas verificando o tamanho primeiro e indexando listas RandomAccess
+    static boolean equalLists(final List<?> list1, final List<?> list2) {
+        final int size = list1.size();
+        if (list2.size() != size) {
+            return false;
+        }
+        if (list1 instanceof RandomAccess && list2 instanceof RandomAccess) {
+            for (int i = 0; i < size; i++) {
+                if (!Objects.equals(list1.get(i), list2.get(i))) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        final Iterator<?> iterator1 = list1.iterator();
+        final Iterator<?> iterator2 = list2.iterator();
+        while (iterator1.hasNext() && iterator2.hasNext()) {
+            if (!Objects.equals(iterator1.next(), iterator2.next())) {
+                return false;
+            }
+        }
+        return !(iterator1.hasNext() || iterator2.hasNext());
+    }
+
+    // calcula o hashCode de uma cole&ccedil;&atilde;o do java.util, com o mesmo valor do seu pr&oacute;prio m&eacute;todo hashCode
+    static int hash(final Object object) {
+        if (caching && isImmutable(object)) {
+            return Cache.HASHES.hash(object);
+        }
+        return computeHash(object);
+    }
+
+    static boolean isCaching() {
+        return caching;
+    }
+
+    // verifica se o objeto &eacute; uma cole&ccedil;&atilde;o do java.util cujo hashCode e equals seguem os contratos de List, Set e Map
+    static boolean isContractCollection(final Object object) {
+        if (!(object instanceof Collection || object instanceof Map)) {
+            return false;
+        }
+        final String name = object.getClass().getName();
+        return CONTRACT_CLASSES.contains(name) || name.startsWith(IMMUTABLE_COLLECTIONS);
+    }
+
+    static synchronized void setCaching(final boolean enabled) {
+        if (caching && !enabled) {
+            Cache.HASHES.invalidateAll();
+        }
+        caching = enabled;
+    }
+
+    // calcula o hash sem consultar a mem&oacute;ria
+    private static int computeHash(final Object object) {
+        if (object instanceof List) {
+            return hashList((List<?>) object);
+        }
+        if (object instanceof Set) {
+            final Set<?> set = (Set<?>) object;
+            if (set.size() < PARALLEL_THRESHOLD) {
+                return set.hashCode();
+            }
+            // soma dos hashes dos elementos, conforme o Set.hashCode
+            return set.parallelStream().mapToInt(Objects::hashCode).sum();
+        }
+        final Map<?, ?> map = (Map<?, ?>) object;
+        if (map.size() < PARALLEL_THRESHOLD) {
+            return map.hashCode();
+        }
+        // soma dos hashes das entradas, conforme o Map.hashCode e o Map.Entry.hashCode
+        return map.entrySet().parallelStream().mapToInt(entry -> Objects.hashCode(entry.getKey()) ^ Objects.hashCode(entry.getValue())).sum();
+    }
+
+    // calcula o hash de uma lista conforme o List.hashCode, dividindo as listas RandomAccess grandes em trechos calculados em paralelo
+    private static int hashList(final List<?> list) {
+        final int size = list.size();
+        if (!(list instanceof RandomAccess)) {
+            int hash = 1;
+            for (Object element : list) {
+                hash = PRIME * hash + Objects.hashCode(element);
+            }
+            return hash;
+        }
+        if (size < PARALLEL_THRESHOLD) {
+            int hash = 1;
+            for (int i = 0; i < size; i++) {
+                hash = PRIME * hash + Objects.hashCode(list.get(i));
+            }
+            return hash;
+        }
+        final int chunks = (size + CHUNK_SIZE - 1) / CHUNK_SIZE;
+        final int[] partial = IntStream.range(0, chunks).parallel().map(chunk -> {
+            final int from = chunk * CHUNK_SIZE;
+            return hashRange(list, from, Math.min(from + CHUNK_SIZE, size));
+        }).toArray();
+        // cada trecho desloca o hash acumulado em 31 elevado ao seu tamanho
+        final int chunkPower = power(CHUNK_SIZE);
+        int hash = 1;
+        for (int chunk = 0; chunk < chunks; chunk++) {
+            final int from = chunk * CHUNK_SIZE;
+            final int length = Math.min(CHUNK_SIZE, size - from);
+            hash = hash * (length == CHUNK_SIZE ? chunkPower : power(length)) + partial[chunk];
+        }
+        return hash;
+    }
+
+    // hash de um trecho, a partir de zero, que somado ao hash anterior deslocado resulta no List.hashCode
+    private static int hashRange(final List<?> list, final int from, final int to) {
+        int hash = 0;
+        for (int i = from; i < to; i++) {
+            hash = PRIME * hash + Objects.hashCode(list.get(i));
+        }
+        return hash;
+    }
+
+    // verifica se a cole&ccedil;&atilde;o &eacute; imut&aacute;vel, por ser uma das cole&ccedil;&otilde;es criadas por List.of, Set.of, Map.of ou pelos m&eacute;todos empty e singleton da classe Collections
+    private static boolean isImmutable(final Object object) {
+        final String name = object.getClass().getName();
+        return name.startsWith(IMMUTABLE_COLLECTIONS) || name.startsWith("java.util.Collections$Empty") || name.startsWith("java.util.Collections$Singleton");
+    }
+
+    // 31 elevado ao expoente informado, com o mesmo transbordamento da aritm&eacute;tica int
+    private static int power(int exponent) {
+        int result = 1;
+        int base = PRIME;
+        while (exponent > 0) {
+            if ((exponent & 1) != 0) {
+                result *= base;
+            }
+            base *= base;
+            exponent >>>= 1;
+        }
+        return result;
+    }
+
+    // Construtor privado, classe utilit&aacute;ria n&atilde;o-instanciavel
+    private CollectionSupport() {
+        throw new UnsupportedOperationException(getClass().getName() + " can not be instantiated");
+    }
+}
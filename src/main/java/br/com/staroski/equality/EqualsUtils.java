@@ -1,5 +1,8 @@
 package br.com.staroski.equality;
 
+import java.util.Collection;
+import java.util.List;
+
 /**
  * Esta classe utilit&aacute;ria disponibiliza m&eacute;todos que permitem a constru&ccedil;&atilde;o f&aacute;cil de m&eacute;todos <code>equals</code>.<BR>
  * <BR>
@@ -106,6 +109,38 @@ public final class EqualsUtils {
         return true;
     }
 
+    /**
+     * Compara os trechos [<code>from1</code>, <code>to1</code>) e [<code>from2</code>, <code>to2</code>) de dois arrays de <tt>boolean</tt>, sem copi&aacute;-los.<BR>
+     * O resultado &eacute; o mesmo de {@link #equal(boolean[], boolean[])} para c&oacute;pias dos trechos.
+     * 
+     * @param array1
+     *            O primeiro array.
+     * @param from1
+     *            A posi&ccedil;&atilde;o inicial do trecho do primeiro array, inclusiva.
+     * @param to1
+     *            A posi&ccedil;&atilde;o final do trecho do primeiro array, exclusiva.
+     * @param array2
+     *            O segundo array.
+     * @param from2
+     *            A posi&ccedil;&atilde;o inicial do trecho do segundo array, inclusiva.
+     * @param to2
+     *            A posi&ccedil;&atilde;o final do trecho do segundo array, exclusiva.
+     * @return <code>true</code> se os trechos forem iguais e <code>false</code> caso contr&aacute;rio.
+     * @throws IndexOutOfBoundsException
+     *             Se algum trecho n&atilde;o estiver dentro do seu array.
+     */
+    public static boolean equal(final boolean[] array1, final int from1, final int to1, final boolean[] array2, final int from2, final int to2) {
+        if (array1 == null || array2 == null) {
+            throw new IllegalArgumentException("null");
+        }
+        checkRange(array1.length, from1, to1);
+        checkRange(array2.length, from2, to2);
+        if (to2 - from2 != to1 - from1) {
+            return false;
+        }
+        return mismatch(array1, from1, to1, array2, from2, to2) < 0;
+    }
+
     /**
      * Compara dois valores <tt>byte</tt>.
      * 
@@ -147,6 +182,38 @@ public final class EqualsUtils {
         return true;
     }
 
+    /**
+     * Compara os trechos [<code>from1</code>, <code>to1</code>) e [<code>from2</code>, <code>to2</code>) de dois arrays de <tt>byte</tt>, sem copi&aacute;-los.<BR>
+     * O resultado &eacute; o mesmo de {@link #equal(byte[], byte[])} para c&oacute;pias dos trechos.
+     * 
+     * @param array1
+     *            O primeiro array.
+     * @param from1
+     *            A posi&ccedil;&atilde;o inicial do trecho do primeiro array, inclusiva.
+     * @param to1
+     *            A posi&ccedil;&atilde;o final do trecho do primeiro array, exclusiva.
+     * @param array2
+     *            O segundo array.
+     * @param from2
+     *            A posi&ccedil;&atilde;o inicial do trecho do segundo array, inclusiva.
+     * @param to2
+     *            A posi&ccedil;&atilde;o final do trecho do segundo array, exclusiva.
+     * @return <code>true</code> se os trechos forem iguais e <code>false</code> caso contr&aacute;rio.
+     * @throws IndexOutOfBoundsException
+     *             Se algum trecho n&atilde;o estiver dentro do seu array.
+     */
+    public static boolean equal(final byte[] array1, final int from1, final int to1, final byte[] array2, final int from2, final int to2) {
+        if (array1 == null || array2 == null) {
+            throw new IllegalArgumentException("null");
+        }
+        checkRange(array1.length, from1, to1);
+        checkRange(array2.length, from2, to2);
+        if (to2 - from2 != to1 - from1) {
+            return false;
+        }
+        return mismatch(array1, from1, to1, array2, from2, to2) < 0;
+    }
+
     /**
      * Compara dois valores <tt>char</tt>.
      * 
@@ -188,6 +255,97 @@ public final class EqualsUtils {
         return true;
     }
 
+    /**
+     * Compara os trechos [<code>from1</code>, <code>to1</code>) e [<code>from2</code>, <code>to2</code>) de dois arrays de <tt>char</tt>, sem copi&aacute;-los.<BR>
+     * O resultado &eacute; o mesmo de {@link #equal(char[], char[])} para c&oacute;pias dos trechos.
+     * 
+     * @param array1
+     *            O primeiro array.
+     * @param from1
+     *            A posi&ccedil;&atilde;o inicial do trecho do primeiro array, inclusiva.
+     * @param to1
+     *            A posi&ccedil;&atilde;o final do trecho do primeiro array, exclusiva.
+     * @param array2
+     *            O segundo array.
+     * @param from2
+     *            A posi&ccedil;&atilde;o inicial do trecho do segundo array, inclusiva.
+     * @param to2
+     *            A posi&ccedil;&atilde;o final do trecho do segundo array, exclusiva.
+     * @return <code>true</code> se os trechos forem iguais e <code>false</code> caso contr&aacute;rio.
+     * @throws IndexOutOfBoundsException
+     *             Se algum trecho n&atilde;o estiver dentro do seu array.
+     */
+    public static boolean equal(final char[] array1, final int from1, final int to1, final char[] array2, final int from2, final int to2) {
+        if (array1 == null || array2 == null) {
+            throw new IllegalArgumentException("null");
+        }
+        checkRange(array1.length, from1, to1);
+        checkRange(array2.length, from2, to2);
+        if (to2 - from2 != to1 - from1) {
+            return false;
+        }
+        return mismatch(array1, from1, to1, array2, from2, to2) < 0;
+    }
+
+    /**
+     * Compara o conte&uacute;do de duas {@link CharSequence}s, como {@link StringBuilder}s ou {@link java.nio.CharBuffer}s, sem criar {@link String}s.<BR>
+     * Para duas {@link String}s o resultado &eacute; o mesmo do m&eacute;todo {@link String#equals(Object)}.
+     * 
+     * @param chars1
+     *            A primeira sequ&ecirc;ncia de caracteres.
+     * @param chars2
+     *            A segunda sequ&ecirc;ncia de caracteres.
+     * @return <code>true</code> se tiverem os mesmos caracteres e <code>false</code> caso contr&aacute;rio.
+     */
+    public static boolean equal(final CharSequence chars1, final CharSequence chars2) {
+        if (chars1 == chars2) {
+            return true;
+        }
+        if (chars1 == null || chars2 == null) {
+            return false;
+        }
+        if (chars1 instanceof String && chars2 instanceof String) {
+            return chars1.equals(chars2);
+        }
+        final int length = chars1.length();
+        if (chars2.length() != length) {
+            return false;
+        }
+        return equalChars(chars1, 0, chars2, 0, length);
+    }
+
+    /**
+     * Compara o conte&uacute;do de trechos de duas {@link CharSequence}s, sem criar {@link String}s.<BR>
+     * O resultado &eacute; o mesmo do m&eacute;todo {@link #equal(CharSequence, CharSequence)} para as sequ&ecirc;ncias <code>chars1.subSequence(from1, to1)</code> e
+     * <code>chars2.subSequence(from2, to2)</code>.
+     * 
+     * @param chars1
+     *            A primeira sequ&ecirc;ncia de caracteres.
+     * @param from1
+     *            O &iacute;ndice do primeiro caractere da primeira sequ&ecirc;ncia, inclusive.
+     * @param to1
+     *            O &iacute;ndice do &uacute;ltimo caractere da primeira sequ&ecirc;ncia, exclusive.
+     * @param chars2
+     *            A segunda sequ&ecirc;ncia de caracteres.
+     * @param from2
+     *            O &iacute;ndice do primeiro caractere da segunda sequ&ecirc;ncia, inclusive.
+     * @param to2
+     *            O &iacute;ndice do &uacute;ltimo caractere da segunda sequ&ecirc;ncia, exclusive.
+     * @return <code>true</code> se os trechos tiverem os mesmos caracteres e <code>false</code> caso contr&aacute;rio.
+     */
+    public static boolean equal(final CharSequence chars1, final int from1, final int to1, final CharSequence chars2, final int from2, final int to2) {
+        if (chars1 == null || chars2 == null) {
+            throw new IllegalArgumentException("null");
+        }
+        checkRange(chars1.length(), from1, to1);
+        checkRange(chars2.length(), from2, to2);
+        final int length = to1 - from1;
+        if (to2 - from2 != length) {
+            return false;
+        }
+        return equalChars(chars1, from1, chars2, from2, length);
+    }
+
     /**
      * Compara dois valores <tt>double</tt>.
      * 
@@ -229,6 +387,38 @@ public final class EqualsUtils {
         return true;
     }
 
+    /**
+     * Compara os trechos [<code>from1</code>, <code>to1</code>) e [<code>from2</code>, <code>to2</code>) de dois arrays de <tt>double</tt>, sem copi&aacute;-los.<BR>
+     * O resultado &eacute; o mesmo de {@link #equal(double[], double[])} para c&oacute;pias dos trechos.
+     * 
+     * @param array1
+     *            O primeiro array.
+     * @param from1
+     *            A posi&ccedil;&atilde;o inicial do trecho do primeiro array, inclusiva.
+     * @param to1
+     *            A posi&ccedil;&atilde;o final do trecho do primeiro array, exclusiva.
+     * @param array2
+     *            O segundo array.
+     * @param from2
+     *            A posi&ccedil;&atilde;o inicial do trecho do segundo array, inclusiva.
+     * @param to2
+     *            A posi&ccedil;&atilde;o final do trecho do segundo array, exclusiva.
+     * @return <code>true</code> se os trechos forem iguais e <code>false</code> caso contr&aacute;rio.
+     * @throws IndexOutOfBoundsException
+     *             Se algum trecho n&atilde;o estiver dentro do seu array.
+     */
+    public static boolean equal(final double[] array1, final int from1, final int to1, final double[] array2, final int from2, final int to2) {
+        if (array1 == null || array2 == null) {
+            throw new IllegalArgumentException("null");
+        }
+        checkRange(array1.length, from1, to1);
+        checkRange(array2.length, from2, to2);
+        if (to2 - from2 != to1 - from1) {
+            return false;
+        }
+        return mismatch(array1, from1, to1, array2, from2, to2) < 0;
+    }
+
     /**
      * Compara dois valores <tt>float</tt>.
      * 
@@ -270,6 +460,38 @@ public final class EqualsUtils {
         return true;
     }
 
+    /**
+     * Compara os trechos [<code>from1</code>, <code>to1</code>) e [<code>from2</code>, <code>to2</code>) de dois arrays de <tt>float</tt>, sem copi&aacute;-los.<BR>
+     * O resultado &eacute; o mesmo de {@link #equal(float[], float[])} para c&oacute;pias dos trechos.
+     * 
+     * @param array1
+     *            O primeiro array.
+     * @param from1
+     *            A posi&ccedil;&atilde;o inicial do trecho do primeiro array, inclusiva.
+     * @param to1
+     *            A posi&ccedil;&atilde;o final do trecho do primeiro array, exclusiva.
+     * @param array2
+     *            O segundo array.
+     * @param from2
+     *            A posi&ccedil;&atilde;o inicial do trecho do segundo array, inclusiva.
+     * @param to2
+     *            A posi&ccedil;&atilde;o final do trecho do segundo array, exclusiva.
+     * @return <code>true</code> se os trechos forem iguais e <code>false</code> caso contr&aacute;rio.
+     * @throws IndexOutOfBoundsException
+     *             Se algum trecho n&atilde;o estiver dentro do seu array.
+     */
+    public static boolean equal(final float[] array1, final int from1, final int to1, final float[] array2, final int from2, final int to2) {
+        if (array1 == null || array2 == null) {
+            throw new IllegalArgumentException("null");
+        }
+        checkRange(array1.length, from1, to1);
+        checkRange(array2.length, from2, to2);
+        if (to2 - from2 != to1 - from1) {
+            return false;
+        }
+        return mismatch(array1, from1, to1, array2, from2, to2) < 0;
+    }
+
     /**
      * Compara dois valores <tt>int</tt>.
      * 
@@ -311,6 +533,38 @@ public final class EqualsUtils {
         return true;
     }
 
+    /**
+     * Compara os trechos [<code>from1</code>, <code>to1</code>) e [<code>from2</code>, <code>to2</code>) de dois arrays de <tt>int</tt>, sem copi&aacute;-los.<BR>
+     * O resultado &eacute; o mesmo de {@link #equal(int[], int[])} para c&oacute;pias dos trechos.
+     * 
+     * @param array1
+     *            O primeiro array.
+     * @param from1
+     *            A posi&ccedil;&atilde;o inicial do trecho do primeiro array, inclusiva.
+     * @param to1
+     *            A posi&ccedil;&atilde;o final do trecho do primeiro array, exclusiva.
+     * @param array2
+     *            O segundo array.
+     * @param from2
+     *            A posi&ccedil;&atilde;o inicial do trecho do segundo array, inclusiva.
+     * @param to2
+     *            A posi&ccedil;&atilde;o final do trecho do segundo array, exclusiva.
+     * @return <code>true</code> se os trechos forem iguais e <code>false</code> caso contr&aacute;rio.
+     * @throws IndexOutOfBoundsException
+     *             Se algum trecho n&atilde;o estiver dentro do seu array.
+     */
+    public static boolean equal(final int[] array1, final int from1, final int to1, final int[] array2, final int from2, final int to2) {
+        if (array1 == null || array2 == null) {
+            throw new IllegalArgumentException("null");
+        }
+        checkRange(array1.length, from1, to1);
+        checkRange(array2.length, from2, to2);
+        if (to2 - from2 != to1 - from1) {
+            return false;
+        }
+        return mismatch(array1, from1, to1, array2, from2, to2) < 0;
+    }
+
     /**
      * Compara dois valores <tt>long</tt>.
      * 
@@ -353,7 +607,42 @@ public final class EqualsUtils {
     }
 
     /**
-     * Compara dois <tt>Object</tt>s.
+     * Compara os trechos [<code>from1</code>, <code>to1</code>) e [<code>from2</code>, <code>to2</code>) de dois arrays de <tt>long</tt>, sem copi&aacute;-los.<BR>
+     * O resultado &eacute; o mesmo de {@link #equal(long[], long[])} para c&oacute;pias dos trechos.
+     * 
+     * @param array1
+     *            O primeiro array.
+     * @param from1
+     *            A posi&ccedil;&atilde;o inicial do trecho do primeiro array, inclusiva.
+     * @param to1
+     *            A posi&ccedil;&atilde;o final do trecho do primeiro array, exclusiva.
+     * @param array2
+     *            O segundo array.
+     * @param from2
+     *            A posi&ccedil;&atilde;o inicial do trecho do segundo array, inclusiva.
+     * @param to2
+     *            A posi&ccedil;&atilde;o final do trecho do segundo array, exclusiva.
+     * @return <code>true</code> se os trechos forem iguais e <code>false</code> caso contr&aacute;rio.
+     * @throws IndexOutOfBoundsException
+     *             Se algum trecho n&atilde;o estiver dentro do seu array.
+     */
+    public static boolean equal(final long[] array1, final int from1, final int to1, final long[] array2, final int from2, final int to2) {
+        if (array1 == null || array2 == null) {
+            throw new IllegalArgumentException("null");
+        }
+        checkRange(array1.length, from1, to1);
+        checkRange(array2.length, from2, to2);
+        if (to2 - from2 != to1 - from1) {
+            return false;
+        }
+        return mismatch(array1, from1, to1, array2, from2, to2) < 0;
+    }
+
+    /**
+     * Compara dois <tt>Object</tt>s.<BR>
+     * Arrays s&atilde;o comparados pelo seu conte&uacute;do. As listas do pacote <code>java.util</code>, como {@link java.util.ArrayList} e as criadas por <code>List.of</code>, s&atilde;o
+     * comparadas com o mesmo resultado do seu pr&oacute;prio m&eacute;todo <code>equals</code>, por&eacute;m verificando o tamanho antes dos elementos e indexando as listas
+     * {@link java.util.RandomAccess} sem criar iteradores.
      * 
      * @param object1
      *            O primeiro objeto.
@@ -371,6 +660,9 @@ public final class EqualsUtils {
         if (object1.getClass().isArray()) {
             return equalArray(object1, object2);
         }
+        if (object1 instanceof List && object2 instanceof List && CollectionSupport.isContractCollection(object1)) {
+            return CollectionSupport.equalLists((List<?>) object1, (List<?>) object2);
+        }
         return object1.equals(object2);
     }
 
@@ -403,6 +695,38 @@ public final class EqualsUtils {
         return true;
     }
 
+    /**
+     * Compara os trechos [<code>from1</code>, <code>to1</code>) e [<code>from2</code>, <code>to2</code>) de dois arrays de <tt>Object</tt>, sem copi&aacute;-los.<BR>
+     * O resultado &eacute; o mesmo de {@link #equal(Object[], Object[])} para c&oacute;pias dos trechos.
+     * 
+     * @param array1
+     *            O primeiro array.
+     * @param from1
+     *            A posi&ccedil;&atilde;o inicial do trecho do primeiro array, inclusiva.
+     * @param to1
+     *            A posi&ccedil;&atilde;o final do trecho do primeiro array, exclusiva.
+     * @param array2
+     *            O segundo array.
+     * @param from2
+     *            A posi&ccedil;&atilde;o inicial do trecho do segundo array, inclusiva.
+     * @param to2
+     *            A posi&ccedil;&atilde;o final do trecho do segundo array, exclusiva.
+     * @return <code>true</code> se os trechos forem iguais e <code>false</code> caso contr&aacute;rio.
+     * @throws IndexOutOfBoundsException
+     *             Se algum trecho n&atilde;o estiver dentro do seu array.
+     */
+    public static boolean equal(final Object[] array1, final int from1, final int to1, final Object[] array2, final int from2, final int to2) {
+        if (array1 == null || array2 == null) {
+            throw new IllegalArgumentException("null");
+        }
+        checkRange(array1.length, from1, to1);
+        checkRange(array2.length, from2, to2);
+        if (to2 - from2 != to1 - from1) {
+            return false;
+        }
+        return mismatch(array1, from1, to1, array2, from2, to2) < 0;
+    }
+
     /**
      * Compara dois valores <tt>short</tt>.
      * 
@@ -444,27 +768,1111 @@ public final class EqualsUtils {
         return true;
     }
 
-    // Compara dois Objects assumindo que eles s&atilde;o arrays.
-    private static boolean equalArray(final Object object1, final Object object2) {
-        if (object1 instanceof byte[] && object2 instanceof byte[])
-            return equal((byte[]) object1, (byte[]) object2);
-        if (object1 instanceof boolean[] && object2 instanceof boolean[])
-            return equal((boolean[]) object1, (boolean[]) object2);
-        if (object1 instanceof short[] && object2 instanceof short[])
-            return equal((short[]) object1, (short[]) object2);
-        if (object1 instanceof char[] && object2 instanceof char[])
-            return equal((char[]) object1, (char[]) object2);
-        if (object1 instanceof int[] && object2 instanceof int[])
-            return equal((int[]) object1, (int[]) object2);
-        if (object1 instanceof float[] && object2 instanceof float[])
-            return equal((float[]) object1, (float[]) object2);
-        if (object1 instanceof long[] && object2 instanceof long[])
-            return equal((long[]) object1, (long[]) object2);
-        if (object1 instanceof double[] && object2 instanceof double[])
-            return equal((double[]) object1, (double[]) object2);
-        if (object1 instanceof Object[] && object2 instanceof Object[])
-            return equal((Object[]) object1, (Object[]) object2);
-        throw new AssertionError("received non-array object(s) {\n  object1: " + object1 + "\n  object2: " + object2 + "\n}");
+    /**
+     * Compara os trechos [<code>from1</code>, <code>to1</code>) e [<code>from2</code>, <code>to2</code>) de dois arrays de <tt>short</tt>, sem copi&aacute;-los.<BR>
+     * O resultado &eacute; o mesmo de {@link #equal(short[], short[])} para c&oacute;pias dos trechos.
+     * 
+     * @param array1
+     *            O primeiro array.
+     * @param from1
+     *            A posi&ccedil;&atilde;o inicial do trecho do primeiro array, inclusiva.
+     * @param to1
+     *            A posi&ccedil;&atilde;o final do trecho do primeiro array, exclusiva.
+     * @param array2
+     *            O segundo array.
+     * @param from2
+     *            A posi&ccedil;&atilde;o inicial do trecho do segundo array, inclusiva.
+     * @param to2
+     *            A posi&ccedil;&atilde;o final do trecho do segundo array, exclusiva.
+     * @return <code>true</code> se os trechos forem iguais e <code>false</code> caso contr&aacute;rio.
+     * @throws IndexOutOfBoundsException
+     *             Se algum trecho n&atilde;o estiver dentro do seu array.
+     */
+    public static boolean equal(final short[] array1, final int from1, final int to1, final short[] array2, final int from2, final int to2) {
+        if (array1 == null || array2 == null) {
+            throw new IllegalArgumentException("null");
+        }
+        checkRange(array1.length, from1, to1);
+        checkRange(array2.length, from2, to2);
+        if (to2 - from2 != to1 - from1) {
+            return false;
+        }
+        return mismatch(array1, from1, to1, array2, from2, to2) < 0;
+    }
+
+    /**
+     * Compara dois arrays de <tt>boolean</tt> sem considerar a ordem dos elementos, isto &eacute;, verifica se eles cont&ecirc;m os mesmos elementos, com as mesmas
+     * repeti&ccedil;&otilde;es, em qualquer ordem.<BR>
+     * As ocorr&ecirc;ncias de cada elemento s&atilde;o contadas em uma tabela <I>hash</I>, em tempo linear e sem ordenar os arrays.
+     * 
+     * @param array1
+     *            O primeiro array.
+     * @param array2
+     *            O segundo array.
+     * @return <code>true</code> se contiverem os mesmos elementos e <code>false</code> caso contr&aacute;rio.
+     * @see HashCodeUtils#hashUnordered(int, boolean[])
+     */
+    public static boolean equalUnordered(final boolean[] array1, final boolean[] array2) {
+        if (array1 == array2) {
+            return true;
+        }
+        if (array1 == null || array2 == null) {
+            return false;
+        }
+        final int length = array1.length;
+        if (array2.length != length) {
+            return false;
+        }
+        return Multisets.equalBits(length, i -> array1[i] ? 1 : 0, i -> array2[i] ? 1 : 0);
+    }
+
+    /**
+     * Compara dois arrays de <tt>byte</tt> sem considerar a ordem dos elementos, isto &eacute;, verifica se eles cont&ecirc;m os mesmos elementos, com as mesmas
+     * repeti&ccedil;&otilde;es, em qualquer ordem.<BR>
+     * As ocorr&ecirc;ncias de cada elemento s&atilde;o contadas em uma tabela <I>hash</I>, em tempo linear e sem ordenar os arrays.
+     * 
+     * @param array1
+     *            O primeiro array.
+     * @param array2
+     *            O segundo array.
+     * @return <code>true</code> se contiverem os mesmos elementos e <code>false</code> caso contr&aacute;rio.
+     * @see HashCodeUtils#hashUnordered(int, byte[])
+     */
+    public static boolean equalUnordered(final byte[] array1, final byte[] array2) {
+        if (array1 == array2) {
+            return true;
+        }
+        if (array1 == null || array2 == null) {
+            return false;
+        }
+        final int length = array1.length;
+        if (array2.length != length) {
+            return false;
+        }
+        return Multisets.equalBits(length, i -> array1[i], i -> array2[i]);
+    }
+
+    /**
+     * Compara dois arrays de <tt>char</tt> sem considerar a ordem dos elementos, isto &eacute;, verifica se eles cont&ecirc;m os mesmos elementos, com as mesmas
+     * repeti&ccedil;&otilde;es, em qualquer ordem.<BR>
+     * As ocorr&ecirc;ncias de cada elemento s&atilde;o contadas em uma tabela <I>hash</I>, em tempo linear e sem ordenar os arrays.
+     * 
+     * @param array1
+     *            O primeiro array.
+     * @param array2
+     *            O segundo array.
+     * @return <code>true</code> se contiverem os mesmos elementos e <code>false</code> caso contr&aacute;rio.
+     * @see HashCodeUtils#hashUnordered(int, char[])
+     */
+    public static boolean equalUnordered(final char[] array1, final char[] array2) {
+        if (array1 == array2) {
+            return true;
+        }
+        if (array1 == null || array2 == null) {
+            return false;
+        }
+        final int length = array1.length;
+        if (array2.length != length) {
+            return false;
+        }
+        return Multisets.equalBits(length, i -> array1[i], i -> array2[i]);
+    }
+
+    /**
+     * Compara dois arrays de <tt>double</tt> sem considerar a ordem dos elementos, isto &eacute;, verifica se eles cont&ecirc;m os mesmos elementos, com as mesmas
+     * repeti&ccedil;&otilde;es, em qualquer ordem.<BR>
+     * As ocorr&ecirc;ncias de cada elemento s&atilde;o contadas em uma tabela <I>hash</I>, em tempo linear e sem ordenar os arrays.
+     * 
+     * @param array1
+     *            O primeiro array.
+     * @param array2
+     *            O segundo array.
+     * @return <code>true</code> se contiverem os mesmos elementos e <code>false</code> caso contr&aacute;rio.
+     * @see HashCodeUtils#hashUnordered(int, double[])
+     */
+    public static boolean equalUnordered(final double[] array1, final double[] array2) {
+        if (array1 == array2) {
+            return true;
+        }
+        if (array1 == null || array2 == null) {
+            return false;
+        }
+        final int length = array1.length;
+        if (array2.length != length) {
+            return false;
+        }
+        return Multisets.equalBits(length, i -> Double.doubleToLongBits(array1[i]), i -> Double.doubleToLongBits(array2[i]));
+    }
+
+    /**
+     * Compara dois arrays de <tt>float</tt> sem considerar a ordem dos elementos, isto &eacute;, verifica se eles cont&ecirc;m os mesmos elementos, com as mesmas
+     * repeti&ccedil;&otilde;es, em qualquer ordem.<BR>
+     * As ocorr&ecirc;ncias de cada elemento s&atilde;o contadas em uma tabela <I>hash</I>, em tempo linear e sem ordenar os arrays.
+     * 
+     * @param array1
+     *            O primeiro array.
+     * @param array2
+     *            O segundo array.
+     * @return <code>true</code> se contiverem os mesmos elementos e <code>false</code> caso contr&aacute;rio.
+     * @see HashCodeUtils#hashUnordered(int, float[])
+     */
+    public static boolean equalUnordered(final float[] array1, final float[] array2) {
+        if (array1 == array2) {
+            return true;
+        }
+        if (array1 == null || array2 == null) {
+            return false;
+        }
+        final int length = array1.length;
+        if (array2.length != length) {
+            return false;
+        }
+        return Multisets.equalBits(length, i -> Float.floatToIntBits(array1[i]), i -> Float.floatToIntBits(array2[i]));
+    }
+
+    /**
+     * Compara dois arrays de <tt>int</tt> sem considerar a ordem dos elementos, isto &eacute;, verifica se eles cont&ecirc;m os mesmos elementos, com as mesmas
+     * repeti&ccedil;&otilde;es, em qualquer ordem.<BR>
+     * As ocorr&ecirc;ncias de cada elemento s&atilde;o contadas em uma tabela <I>hash</I>, em tempo linear e sem ordenar os arrays.
+     * 
+     * @param array1
+     *            O primeiro array.
+     * @param array2
+     *            O segundo array.
+     * @return <code>true</code> se contiverem os mesmos elementos e <code>false</code> caso contr&aacute;rio.
+     * @see HashCodeUtils#hashUnordered(int, int[])
+     */
+    public static boolean equalUnordered(final int[] array1, final int[] array2) {
+        if (array1 == array2) {
+            return true;
+        }
+        if (array1 == null || array2 == null) {
+            return false;
+        }
+        final int length = array1.length;
+        if (array2.length != length) {
+            return false;
+        }
+        return Multisets.equalBits(length, i -> array1[i], i -> array2[i]);
+    }
+
+    /**
+     * Compara dois arrays de <tt>long</tt> sem considerar a ordem dos elementos, isto &eacute;, verifica se eles cont&ecirc;m os mesmos elementos, com as mesmas
+     * repeti&ccedil;&otilde;es, em qualquer ordem.<BR>
+     * As ocorr&ecirc;ncias de cada elemento s&atilde;o contadas em uma tabela <I>hash</I>, em tempo linear e sem ordenar os arrays.
+     * 
+     * @param array1
+     *            O primeiro array.
+     * @param array2
+     *            O segundo array.
+     * @return <code>true</code> se contiverem os mesmos elementos e <code>false</code> caso contr&aacute;rio.
+     * @see HashCodeUtils#hashUnordered(int, long[])
+     */
+    public static boolean equalUnordered(final long[] array1, final long[] array2) {
+        if (array1 == array2) {
+            return true;
+        }
+        if (array1 == null || array2 == null) {
+            return false;
+        }
+        final int length = array1.length;
+        if (array2.length != length) {
+            return false;
+        }
+        return Multisets.equalBits(length, i -> array1[i], i -> array2[i]);
+    }
+
+    /**
+     * Compara dois arrays de <tt>Object</tt> sem considerar a ordem dos elementos, isto &eacute;, verifica se eles cont&ecirc;m os mesmos elementos, com as mesmas
+     * repeti&ccedil;&otilde;es, em qualquer ordem.<BR>
+     * As ocorr&ecirc;ncias de cada elemento s&atilde;o contadas em uma tabela <I>hash</I>, em tempo linear e sem ordenar os arrays. Os elementos s&atilde;o comparados como no m&eacute;todo {@link #equal(Object, Object)}.
+     * 
+     * @param array1
+     *            O primeiro array.
+     * @param array2
+     *            O segundo array.
+     * @return <code>true</code> se contiverem os mesmos elementos e <code>false</code> caso contr&aacute;rio.
+     * @see HashCodeUtils#hashUnordered(int, Object[])
+     */
+    public static boolean equalUnordered(final Object[] array1, final Object[] array2) {
+        if (array1 == array2) {
+            return true;
+        }
+        if (array1 == null || array2 == null) {
+            return false;
+        }
+        final int length = array1.length;
+        if (array2.length != length) {
+            return false;
+        }
+        return Multisets.equalObjects(length, i -> array1[i], i -> array2[i]);
+    }
+
+    /**
+     * Compara dois arrays de <tt>short</tt> sem considerar a ordem dos elementos, isto &eacute;, verifica se eles cont&ecirc;m os mesmos elementos, com as mesmas
+     * repeti&ccedil;&otilde;es, em qualquer ordem.<BR>
+     * As ocorr&ecirc;ncias de cada elemento s&atilde;o contadas em uma tabela <I>hash</I>, em tempo linear e sem ordenar os arrays.
+     * 
+     * @param array1
+     *            O primeiro array.
+     * @param array2
+     *            O segundo array.
+     * @return <code>true</code> se contiverem os mesmos elementos e <code>false</code> caso contr&aacute;rio.
+     * @see HashCodeUtils#hashUnordered(int, short[])
+     */
+    public static boolean equalUnordered(final short[] array1, final short[] array2) {
+        if (array1 == array2) {
+            return true;
+        }
+        if (array1 == null || array2 == null) {
+            return false;
+        }
+        final int length = array1.length;
+        if (array2.length != length) {
+            return false;
+        }
+        return Multisets.equalBits(length, i -> array1[i], i -> array2[i]);
+    }
+
+    /**
+     * Compara duas {@link Collection}s sem considerar a ordem dos elementos, com o mesmo resultado do m&eacute;todo {@link #equalUnordered(Object[], Object[])} para os
+     * arrays dos seus elementos.
+     * 
+     * @param collection1
+     *            A primeira cole&ccedil;&atilde;o.
+     * @param collection2
+     *            A segunda cole&ccedil;&atilde;o.
+     * @return <code>true</code> se contiverem os mesmos elementos e <code>false</code> caso contr&aacute;rio.
+     * @see HashCodeUtils#hashUnordered(int, Collection)
+     */
+    public static boolean equalUnordered(final Collection<?> collection1, final Collection<?> collection2) {
+        if (collection1 == collection2) {
+            return true;
+        }
+        if (collection1 == null || collection2 == null || collection1.size() != collection2.size()) {
+            return false;
+        }
+        return equalUnordered(collection1.toArray(), collection2.toArray());
+    }
+
+    /**
+     * Compara dois arrays de <tt>boolean</tt> sem considerar a ordem dos elementos, isto &eacute;, verifica se eles cont&ecirc;m os mesmos elementos, com as mesmas
+     * repeti&ccedil;&otilde;es, em qualquer ordem.<BR>
+     * Os elementos de arrays grandes s&atilde;o divididos pelo seu <I>hash</I> em parti&ccedil;&otilde;es contadas em paralelo, com o mesmo resultado do m&eacute;todo
+     * {@link #equalUnordered(boolean[], boolean[])}.
+     * 
+     * @param array1
+     *            O primeiro array.
+     * @param array2
+     *            O segundo array.
+     * @return <code>true</code> se contiverem os mesmos elementos e <code>false</code> caso contr&aacute;rio.
+     * @see HashCodeUtils#hashUnorderedParallel(int, boolean[])
+     */
+    public static boolean equalUnorderedParallel(final boolean[] array1, final boolean[] array2) {
+        if (array1 == array2) {
+            return true;
+        }
+        if (array1 == null || array2 == null) {
+            return false;
+        }
+        final int length = array1.length;
+        if (array2.length != length) {
+            return false;
+        }
+        if (length < Multisets.PARALLEL_THRESHOLD) {
+            return equalUnordered(array1, array2);
+        }
+        return Multisets.equalBitsParallel(length, i -> array1[i] ? 1 : 0, i -> array2[i] ? 1 : 0);
+    }
+
+    /**
+     * Compara dois arrays de <tt>byte</tt> sem considerar a ordem dos elementos, isto &eacute;, verifica se eles cont&ecirc;m os mesmos elementos, com as mesmas
+     * repeti&ccedil;&otilde;es, em qualquer ordem.<BR>
+     * Os elementos de arrays grandes s&atilde;o divididos pelo seu <I>hash</I> em parti&ccedil;&otilde;es contadas em paralelo, com o mesmo resultado do m&eacute;todo
+     * {@link #equalUnordered(byte[], byte[])}.
+     * 
+     * @param array1
+     *            O primeiro array.
+     * @param array2
+     *            O segundo array.
+     * @return <code>true</code> se contiverem os mesmos elementos e <code>false</code> caso contr&aacute;rio.
+     * @see HashCodeUtils#hashUnorderedParallel(int, byte[])
+     */
+    public static boolean equalUnorderedParallel(final byte[] array1, final byte[] array2) {
+        if (array1 == array2) {
+            return true;
+        }
+        if (array1 == null || array2 == null) {
+            return false;
+        }
+        final int length = array1.length;
+        if (array2.length != length) {
+            return false;
+        }
+        if (length < Multisets.PARALLEL_THRESHOLD) {
+            return equalUnordered(array1, array2);
+        }
+        return Multisets.equalBitsParallel(length, i -> array1[i], i -> array2[i]);
+    }
+
+    /**
+     * Compara dois arrays de <tt>char</tt> sem considerar a ordem dos elementos, isto &eacute;, verifica se eles cont&ecirc;m os mesmos elementos, com as mesmas
+     * repeti&ccedil;&otilde;es, em qualquer ordem.<BR>
+     * Os elementos de arrays grandes s&atilde;o divididos pelo seu <I>hash</I> em parti&ccedil;&otilde;es contadas em paralelo, com o mesmo resultado do m&eacute;todo
+     * {@link #equalUnordered(char[], char[])}.
+     * 
+     * @param array1
+     *            O primeiro array.
+     * @param array2
+     *            O segundo array.
+     * @return <code>true</code> se contiverem os mesmos elementos e <code>false</code> caso contr&aacute;rio.
+     * @see HashCodeUtils#hashUnorderedParallel(int, char[])
+     */
+    public static boolean equalUnorderedParallel(final char[] array1, final char[] array2) {
+        if (array1 == array2) {
+            return true;
+        }
+        if (array1 == null || array2 == null) {
+            return false;
+        }
+        final int length = array1.length;
+        if (array2.length != length) {
+            return false;
+        }
+        if (length < Multisets.PARALLEL_THRESHOLD) {
+            return equalUnordered(array1, array2);
+        }
+        return Multisets.equalBitsParallel(length, i -> array1[i], i -> array2[i]);
+    }
+
+    /**
+     * Compara dois arrays de <tt>double</tt> sem considerar a ordem dos elementos, isto &eacute;, verifica se eles cont&ecirc;m os mesmos elementos, com as mesmas
+     * repeti&ccedil;&otilde;es, em qualquer ordem.<BR>
+     * Os elementos de arrays grandes s&atilde;o divididos pelo seu <I>hash</I> em parti&ccedil;&otilde;es contadas em paralelo, com o mesmo resultado do m&eacute;todo
+     * {@link #equalUnordered(double[], double[])}.
+     * 
+     * @param array1
+     *            O primeiro array.
+     * @param array2
+     *            O segundo array.
+     * @return <code>true</code> se contiverem os mesmos elementos e <code>false</code> caso contr&aacute;rio.
+     * @see HashCodeUtils#hashUnorderedParallel(int, double[])
+     */
+    public static boolean equalUnorderedParallel(final double[] array1, final double[] array2) {
+        if (array1 == array2) {
+            return true;
+        }
+        if (array1 == null || array2 == null) {
+            return false;
+        }
+        final int length = array1.length;
+        if (array2.length != length) {
+            return false;
+        }
+        if (length < Multisets.PARALLEL_THRESHOLD) {
+            return equalUnordered(array1, array2);
+        }
+        return Multisets.equalBitsParallel(length, i -> Double.doubleToLongBits(array1[i]), i -> Double.doubleToLongBits(array2[i]));
+    }
+
+    /**
+     * Compara dois arrays de <tt>float</tt> sem considerar a ordem dos elementos, isto &eacute;, verifica se eles cont&ecirc;m os mesmos elementos, com as mesmas
+     * repeti&ccedil;&otilde;es, em qualquer ordem.<BR>
+     * Os elementos de arrays grandes s&atilde;o divididos pelo seu <I>hash</I> em parti&ccedil;&otilde;es contadas em paralelo, com o mesmo resultado do m&eacute;todo
+     * {@link #equalUnordered(float[], float[])}.
+     * 
+     * @param array1
+     *            O primeiro array.
+     * @param array2
+     *            O segundo array.
+     * @return <code>true</code> se contiverem os mesmos elementos e <code>false</code> caso contr&aacute;rio.
+     * @see HashCodeUtils#hashUnorderedParallel(int, float[])
+     */
+    public static boolean equalUnorderedParallel(final float[] array1, final float[] array2) {
+        if (array1 == array2) {
+            return true;
+        }
+        if (array1 == null || array2 == null) {
+            return false;
+        }
+        final int length = array1.length;
+        if (array2.length != length) {
+            return false;
+        }
+        if (length < Multisets.PARALLEL_THRESHOLD) {
+            return equalUnordered(array1, array2);
+        }
+        return Multisets.equalBitsParallel(length, i -> Float.floatToIntBits(array1[i]), i -> Float.floatToIntBits(array2[i]));
+    }
+
+    /**
+     * Compara dois arrays de <tt>int</tt> sem considerar a ordem dos elementos, isto &eacute;, verifica se eles cont&ecirc;m os mesmos elementos, com as mesmas
+     * repeti&ccedil;&otilde;es, em qualquer ordem.<BR>
+     * Os elementos de arrays grandes s&atilde;o divididos pelo seu <I>hash</I> em parti&ccedil;&otilde;es contadas em paralelo, com o mesmo resultado do m&eacute;todo
+     * {@link #equalUnordered(int[], int[])}.
+     * 
+     * @param array1
+     *            O primeiro array.
+     * @param array2
+     *            O segundo array.
+     * @return <code>true</code> se contiverem os mesmos elementos e <code>false</code> caso contr&aacute;rio.
+     * @see HashCodeUtils#hashUnorderedParallel(int, int[])
+     */
+    public static boolean equalUnorderedParallel(final int[] array1, final int[] array2) {
+        if (array1 == array2) {
+            return true;
+        }
+        if (array1 == null || array2 == null) {
+            return false;
+        }
+        final int length = array1.length;
+        if (array2.length != length) {
+            return false;
+        }
+        if (length < Multisets.PARALLEL_THRESHOLD) {
+            return equalUnordered(array1, array2);
+        }
+        return Multisets.equalBitsParallel(length, i -> array1[i], i -> array2[i]);
+    }
+
+    /**
+     * Compara dois arrays de <tt>long</tt> sem considerar a ordem dos elementos, isto &eacute;, verifica se eles cont&ecirc;m os mesmos elementos, com as mesmas
+     * repeti&ccedil;&otilde;es, em qualquer ordem.<BR>
+     * Os elementos de arrays grandes s&atilde;o divididos pelo seu <I>hash</I> em parti&ccedil;&otilde;es contadas em paralelo, com o mesmo resultado do m&eacute;todo
+     * {@link #equalUnordered(long[], long[])}.
+     * 
+     * @param array1
+     *            O primeiro array.
+     * @param array2
+     *            O segundo array.
+     * @return <code>true</code> se contiverem os mesmos elementos e <code>false</code> caso contr&aacute;rio.
+     * @see HashCodeUtils#hashUnorderedParallel(int, long[])
+     */
+    public static boolean equalUnorderedParallel(final long[] array1, final long[] array2) {
+        if (array1 == array2) {
+            return true;
+        }
+        if (array1 == null || array2 == null) {
+            return false;
+        }
+        final int length = array1.length;
+        if (array2.length != length) {
+            return false;
+        }
+        if (length < Multisets.PARALLEL_THRESHOLD) {
+            return equalUnordered(array1, array2);
+        }
+        return Multisets.equalBitsParallel(length, i -> array1[i], i -> array2[i]);
+    }
+
+    /**
+     * Compara dois arrays de <tt>Object</tt> sem considerar a ordem dos elementos, isto &eacute;, verifica se eles cont&ecirc;m os mesmos elementos, com as mesmas
+     * repeti&ccedil;&otilde;es, em qualquer ordem.<BR>
+     * Os elementos de arrays grandes s&atilde;o divididos pelo seu <I>hash</I> em parti&ccedil;&otilde;es contadas em paralelo, com o mesmo resultado do m&eacute;todo
+     * {@link #equalUnordered(Object[], Object[])}.
+     * 
+     * @param array1
+     *            O primeiro array.
+     * @param array2
+     *            O segundo array.
+     * @return <code>true</code> se contiverem os mesmos elementos e <code>false</code> caso contr&aacute;rio.
+     * @see HashCodeUtils#hashUnorderedParallel(int, Object[])
+     */
+    public static boolean equalUnorderedParallel(final Object[] array1, final Object[] array2) {
+        if (array1 == array2) {
+            return true;
+        }
+        if (array1 == null || array2 == null) {
+            return false;
+        }
+        final int length = array1.length;
+        if (array2.length != length) {
+            return false;
+        }
+        if (length < Multisets.PARALLEL_THRESHOLD) {
+            return equalUnordered(array1, array2);
+        }
+        return Multisets.equalObjectsParallel(length, i -> array1[i], i -> array2[i]);
+    }
+
+    /**
+     * Compara dois arrays de <tt>short</tt> sem considerar a ordem dos elementos, isto &eacute;, verifica se eles cont&ecirc;m os mesmos elementos, com as mesmas
+     * repeti&ccedil;&otilde;es, em qualquer ordem.<BR>
+     * Os elementos de arrays grandes s&atilde;o divididos pelo seu <I>hash</I> em parti&ccedil;&otilde;es contadas em paralelo, com o mesmo resultado do m&eacute;todo
+     * {@link #equalUnordered(short[], short[])}.
+     * 
+     * @param array1
+     *            O primeiro array.
+     * @param array2
+     *            O segundo array.
+     * @return <code>true</code> se contiverem os mesmos elementos e <code>false</code> caso contr&aacute;rio.
+     * @see HashCodeUtils#hashUnorderedParallel(int, short[])
+     */
+    public static boolean equalUnorderedParallel(final short[] array1, final short[] array2) {
+        if (array1 == array2) {
+            return true;
+        }
+        if (array1 == null || array2 == null) {
+            return false;
+        }
+        final int length = array1.length;
+        if (array2.length != length) {
+            return false;
+        }
+        if (length < Multisets.PARALLEL_THRESHOLD) {
+            return equalUnordered(array1, array2);
+        }
+        return Multisets.equalBitsParallel(length, i -> array1[i], i -> array2[i]);
+    }
+
+    /**
+     * Compara duas {@link Collection}s sem considerar a ordem dos elementos, com o mesmo resultado do m&eacute;todo {@link #equalUnorderedParallel(Object[], Object[])} para os
+     * arrays dos seus elementos.
+     * 
+     * @param collection1
+     *            A primeira cole&ccedil;&atilde;o.
+     * @param collection2
+     *            A segunda cole&ccedil;&atilde;o.
+     * @return <code>true</code> se contiverem os mesmos elementos e <code>false</code> caso contr&aacute;rio.
+     * @see HashCodeUtils#hashUnorderedParallel(int, Collection)
+     */
+    public static boolean equalUnorderedParallel(final Collection<?> collection1, final Collection<?> collection2) {
+        if (collection1 == collection2) {
+            return true;
+        }
+        if (collection1 == null || collection2 == null || collection1.size() != collection2.size()) {
+            return false;
+        }
+        return equalUnorderedParallel(collection1.toArray(), collection2.toArray());
+    }
+
+    /**
+     * Procura a primeira posi&ccedil;&atilde;o em que dois arrays de <tt>boolean</tt> s&atilde;o diferentes, comparando os elementos como no m&eacute;todo {@link #equal(boolean[], boolean[])}.
+     * 
+     * @param array1
+     *            O primeiro array.
+     * @param array2
+     *            O segundo array.
+     * @return A primeira posi&ccedil;&atilde;o com elementos diferentes, o tamanho do menor array se ele for o in&iacute;cio do maior, ou <code>-1</code> se forem iguais.
+     */
+    public static int mismatch(final boolean[] array1, final boolean[] array2) {
+        if (array1 == null || array2 == null) {
+            throw new IllegalArgumentException("null");
+        }
+        return mismatch(array1, 0, array1.length, array2, 0, array2.length);
+    }
+
+    /**
+     * Procura a primeira posi&ccedil;&atilde;o em que os trechos [<code>from1</code>, <code>to1</code>) e [<code>from2</code>, <code>to2</code>) de dois arrays de
+     * <tt>boolean</tt> s&atilde;o diferentes, sem copi&aacute;-los.
+     * 
+     * @param array1
+     *            O primeiro array.
+     * @param from1
+     *            A posi&ccedil;&atilde;o inicial do trecho do primeiro array, inclusiva.
+     * @param to1
+     *            A posi&ccedil;&atilde;o final do trecho do primeiro array, exclusiva.
+     * @param array2
+     *            O segundo array.
+     * @param from2
+     *            A posi&ccedil;&atilde;o inicial do trecho do segundo array, inclusiva.
+     * @param to2
+     *            A posi&ccedil;&atilde;o final do trecho do segundo array, exclusiva.
+     * @return A primeira posi&ccedil;&atilde;o, relativa ao in&iacute;cio dos trechos, com elementos diferentes, o tamanho do menor trecho se ele for o in&iacute;cio do maior, ou
+     *         <code>-1</code> se forem iguais.
+     * @throws IndexOutOfBoundsException
+     *             Se algum trecho n&atilde;o estiver dentro do seu array.
+     */
+    public static int mismatch(final boolean[] array1, final int from1, final int to1, final boolean[] array2, final int from2, final int to2) {
+        if (array1 == null || array2 == null) {
+            throw new IllegalArgumentException("null");
+        }
+        checkRange(array1.length, from1, to1);
+        checkRange(array2.length, from2, to2);
+        final int length1 = to1 - from1;
+        final int length2 = to2 - from2;
+        final int length = Math.min(length1, length2);
+        for (int i = 0; i < length; i++) {
+            if (!equal(array1[from1 + i], array2[from2 + i])) {
+                return i;
+            }
+        }
+        return length1 == length2 ? -1 : length;
+    }
+
+    /**
+     * Procura a primeira posi&ccedil;&atilde;o em que dois arrays de <tt>byte</tt> s&atilde;o diferentes, comparando os elementos como no m&eacute;todo {@link #equal(byte[], byte[])}.
+     * 
+     * @param array1
+     *            O primeiro array.
+     * @param array2
+     *            O segundo array.
+     * @return A primeira posi&ccedil;&atilde;o com elementos diferentes, o tamanho do menor array se ele for o in&iacute;cio do maior, ou <code>-1</code> se forem iguais.
+     */
+    public static int mismatch(final byte[] array1, final byte[] array2) {
+        if (array1 == null || array2 == null) {
+            throw new IllegalArgumentException("null");
+        }
+        return mismatch(array1, 0, array1.length, array2, 0, array2.length);
+    }
+
+    /**
+     * Procura a primeira posi&ccedil;&atilde;o em que os trechos [<code>from1</code>, <code>to1</code>) e [<code>from2</code>, <code>to2</code>) de dois arrays de
+     * <tt>byte</tt> s&atilde;o diferentes, sem copi&aacute;-los.
+     * 
+     * @param array1
+     *            O primeiro array.
+     * @param from1
+     *            A posi&ccedil;&atilde;o inicial do trecho do primeiro array, inclusiva.
+     * @param to1
+     *            A posi&ccedil;&atilde;o final do trecho do primeiro array, exclusiva.
+     * @param array2
+     *            O segundo array.
+     * @param from2
+     *            A posi&ccedil;&atilde;o inicial do trecho do segundo array, inclusiva.
+     * @param to2
+     *            A posi&ccedil;&atilde;o final do trecho do segundo array, exclusiva.
+     * @return A primeira posi&ccedil;&atilde;o, relativa ao in&iacute;cio dos trechos, com elementos diferentes, o tamanho do menor trecho se ele for o in&iacute;cio do maior, ou
+     *         <code>-1</code> se forem iguais.
+     * @throws IndexOutOfBoundsException
+     *             Se algum trecho n&atilde;o estiver dentro do seu array.
+     */
+    public static int mismatch(final byte[] array1, final int from1, final int to1, final byte[] array2, final int from2, final int to2) {
+        if (array1 == null || array2 == null) {
+            throw new IllegalArgumentException("null");
+        }
+        checkRange(array1.length, from1, to1);
+        checkRange(array2.length, from2, to2);
+        final int length1 = to1 - from1;
+        final int length2 = to2 - from2;
+        final int length = Math.min(length1, length2);
+        for (int i = 0; i < length; i++) {
+            if (!equal(array1[from1 + i], array2[from2 + i])) {
+                return i;
+            }
+        }
+        return length1 == length2 ? -1 : length;
+    }
+
+    /**
+     * Procura a primeira posi&ccedil;&atilde;o em que dois arrays de <tt>char</tt> s&atilde;o diferentes, comparando os elementos como no m&eacute;todo {@link #equal(char[], char[])}.
+     * 
+     * @param array1
+     *            O primeiro array.
+     * @param array2
+     *            O segundo array.
+     * @return A primeira posi&ccedil;&atilde;o com elementos diferentes, o tamanho do menor array se ele for o in&iacute;cio do maior, ou <code>-1</code> se forem iguais.
+     */
+    public static int mismatch(final char[] array1, final char[] array2) {
+        if (array1 == null || array2 == null) {
+            throw new IllegalArgumentException("null");
+        }
+        return mismatch(array1, 0, array1.length, array2, 0, array2.length);
+    }
+
+    /**
+     * Procura a primeira posi&ccedil;&atilde;o em que os trechos [<code>from1</code>, <code>to1</code>) e [<code>from2</code>, <code>to2</code>) de dois arrays de
+     * <tt>char</tt> s&atilde;o diferentes, sem copi&aacute;-los.
+     * 
+     * @param array1
+     *            O primeiro array.
+     * @param from1
+     *            A posi&ccedil;&atilde;o inicial do trecho do primeiro array, inclusiva.
+     * @param to1
+     *            A posi&ccedil;&atilde;o final do trecho do primeiro array, exclusiva.
+     * @param array2
+     *            O segundo array.
+     * @param from2
+     *            A posi&ccedil;&atilde;o inicial do trecho do segundo array, inclusiva.
+     * @param to2
+     *            A posi&ccedil;&atilde;o final do trecho do segundo array, exclusiva.
+     * @return A primeira posi&ccedil;&atilde;o, relativa ao in&iacute;cio dos trechos, com elementos diferentes, o tamanho do menor trecho se ele for o in&iacute;cio do maior, ou
+     *         <code>-1</code> se forem iguais.
+     * @throws IndexOutOfBoundsException
+     *             Se algum trecho n&atilde;o estiver dentro do seu array.
+     */
+    public static int mismatch(final char[] array1, final int from1, final int to1, final char[] array2, final int from2, final int to2) {
+        if (array1 == null || array2 == null) {
+            throw new IllegalArgumentException("null");
+        }
+        checkRange(array1.length, from1, to1);
+        checkRange(array2.length, from2, to2);
+        final int length1 = to1 - from1;
+        final int length2 = to2 - from2;
+        final int length = Math.min(length1, length2);
+        for (int i = 0; i < length; i++) {
+            if (!equal(array1[from1 + i], array2[from2 + i])) {
+                return i;
+            }
+        }
+        return length1 == length2 ? -1 : length;
+    }
+
+    /**
+     * Procura a primeira posi&ccedil;&atilde;o em que dois arrays de <tt>double</tt> s&atilde;o diferentes, comparando os elementos como no m&eacute;todo {@link #equal(double[], double[])}.
+     * 
+     * @param array1
+     *            O primeiro array.
+     * @param array2
+     *            O segundo array.
+     * @return A primeira posi&ccedil;&atilde;o com elementos diferentes, o tamanho do menor array se ele for o in&iacute;cio do maior, ou <code>-1</code> se forem iguais.
+     */
+    public static int mismatch(final double[] array1, final double[] array2) {
+        if (array1 == null || array2 == null) {
+            throw new IllegalArgumentException("null");
+        }
+        return mismatch(array1, 0, array1.length, array2, 0, array2.length);
+    }
+
+    /**
+     * Procura a primeira posi&ccedil;&atilde;o em que os trechos [<code>from1</code>, <code>to1</code>) e [<code>from2</code>, <code>to2</code>) de dois arrays de
+     * <tt>double</tt> s&atilde;o diferentes, sem copi&aacute;-los.
+     * 
+     * @param array1
+     *            O primeiro array.
+     * @param from1
+     *            A posi&ccedil;&atilde;o inicial do trecho do primeiro array, inclusiva.
+     * @param to1
+     *            A posi&ccedil;&atilde;o final do trecho do primeiro array, exclusiva.
+     * @param array2
+     *            O segundo array.
+     * @param from2
+     *            A posi&ccedil;&atilde;o inicial do trecho do segundo array, inclusiva.
+     * @param to2
+     *            A posi&ccedil;&atilde;o final do trecho do segundo array, exclusiva.
+     * @return A primeira posi&ccedil;&atilde;o, relativa ao in&iacute;cio dos trechos, com elementos diferentes, o tamanho do menor trecho se ele for o in&iacute;cio do maior, ou
+     *         <code>-1</code> se forem iguais.
+     * @throws IndexOutOfBoundsException
+     *             Se algum trecho n&atilde;o estiver dentro do seu array.
+     */
+    public static int mismatch(final double[] array1, final int from1, final int to1, final double[] array2, final int from2, final int to2) {
+        if (array1 == null || array2 == null) {
+            throw new IllegalArgumentException("null");
+        }
+        checkRange(array1.length, from1, to1);
+        checkRange(array2.length, from2, to2);
+        final int length1 = to1 - from1;
+        final int length2 = to2 - from2;
+        final int length = Math.min(length1, length2);
+        for (int i = 0; i < length; i++) {
+            if (!equal(array1[from1 + i], array2[from2 + i])) {
+                return i;
+            }
+        }
+        return length1 == length2 ? -1 : length;
+    }
+
+    /**
+     * Procura a primeira posi&ccedil;&atilde;o em que dois arrays de <tt>float</tt> s&atilde;o diferentes, comparando os elementos como no m&eacute;todo {@link #equal(float[], float[])}.
+     * 
+     * @param array1
+     *            O primeiro array.
+     * @param array2
+     *            O segundo array.
+     * @return A primeira posi&ccedil;&atilde;o com elementos diferentes, o tamanho do menor array se ele for o in&iacute;cio do maior, ou <code>-1</code> se forem iguais.
+     */
+    public static int mismatch(final float[] array1, final float[] array2) {
+        if (array1 == null || array2 == null) {
+            throw new IllegalArgumentException("null");
+        }
+        return mismatch(array1, 0, array1.length, array2, 0, array2.length);
+    }
+
+    /**
+     * Procura a primeira posi&ccedil;&atilde;o em que os trechos [<code>from1</code>, <code>to1</code>) e [<code>from2</code>, <code>to2</code>) de dois arrays de
+     * <tt>float</tt> s&atilde;o diferentes, sem copi&aacute;-los.
+     * 
+     * @param array1
+     *            O primeiro array.
+     * @param from1
+     *            A posi&ccedil;&atilde;o inicial do trecho do primeiro array, inclusiva.
+     * @param to1
+     *            A posi&ccedil;&atilde;o final do trecho do primeiro array, exclusiva.
+     * @param array2
+     *            O segundo array.
+     * @param from2
+     *            A posi&ccedil;&atilde;o inicial do trecho do segundo array, inclusiva.
+     * @param to2
+     *            A posi&ccedil;&atilde;o final do trecho do segundo array, exclusiva.
+     * @return A primeira posi&ccedil;&atilde;o, relativa ao in&iacute;cio dos trechos, com elementos diferentes, o tamanho do menor trecho se ele for o in&iacute;cio do maior, ou
+     *         <code>-1</code> se forem iguais.
+     * @throws IndexOutOfBoundsException
+     *             Se algum trecho n&atilde;o estiver dentro do seu array.
+     */
+    public static int mismatch(final float[] array1, final int from1, final int to1, final float[] array2, final int from2, final int to2) {
+        if (array1 == null || array2 == null) {
+            throw new IllegalArgumentException("null");
+        }
+        checkRange(array1.length, from1, to1);
+        checkRange(array2.length, from2, to2);
+        final int length1 = to1 - from1;
+        final int length2 = to2 - from2;
+        final int length = Math.min(length1, length2);
+        for (int i = 0; i < length; i++) {
+            if (!equal(array1[from1 + i], array2[from2 + i])) {
+                return i;
+            }
+        }
+        return length1 == length2 ? -1 : length;
+    }
+
+    /**
+     * Procura a primeira posi&ccedil;&atilde;o em que dois arrays de <tt>int</tt> s&atilde;o diferentes, comparando os elementos como no m&eacute;todo {@link #equal(int[], int[])}.
+     * 
+     * @param array1
+     *            O primeiro array.
+     * @param array2
+     *            O segundo array.
+     * @return A primeira posi&ccedil;&atilde;o com elementos diferentes, o tamanho do menor array se ele for o in&iacute;cio do maior, ou <code>-1</code> se forem iguais.
+     */
+    public static int mismatch(final int[] array1, final int[] array2) {
+        if (array1 == null || array2 == null) {
+            throw new IllegalArgumentException("null");
+        }
+        return mismatch(array1, 0, array1.length, array2, 0, array2.length);
+    }
+
+    /**
+     * Procura a primeira posi&ccedil;&atilde;o em que os trechos [<code>from1</code>, <code>to1</code>) e [<code>from2</code>, <code>to2</code>) de dois arrays de
+     * <tt>int</tt> s&atilde;o diferentes, sem copi&aacute;-los.
+     * 
+     * @param array1
+     *            O primeiro array.
+     * @param from1
+     *            A posi&ccedil;&atilde;o inicial do trecho do primeiro array, inclusiva.
+     * @param to1
+     *            A posi&ccedil;&atilde;o final do trecho do primeiro array, exclusiva.
+     * @param array2
+     *            O segundo array.
+     * @param from2
+     *            A posi&ccedil;&atilde;o inicial do trecho do segundo array, inclusiva.
+     * @param to2
+     *            A posi&ccedil;&atilde;o final do trecho do segundo array, exclusiva.
+     * @return A primeira posi&ccedil;&atilde;o, relativa ao in&iacute;cio dos trechos, com elementos diferentes, o tamanho do menor trecho se ele for o in&iacute;cio do maior, ou
+     *         <code>-1</code> se forem iguais.
+     * @throws IndexOutOfBoundsException
+     *             Se algum trecho n&atilde;o estiver dentro do seu array.
+     */
+    public static int mismatch(final int[] array1, final int from1, final int to1, final int[] array2, final int from2, final int to2) {
+        if (array1 == null || array2 == null) {
+            throw new IllegalArgumentException("null");
+        }
+        checkRange(array1.length, from1, to1);
+        checkRange(array2.length, from2, to2);
+        final int length1 = to1 - from1;
+        final int length2 = to2 - from2;
+        final int length = Math.min(length1, length2);
+        for (int i = 0; i < length; i++) {
+            if (!equal(array1[from1 + i], array2[from2 + i])) {
+                return i;
+            }
+        }
+        return length1 == length2 ? -1 : length;
+    }
+
+    /**
+     * Procura a primeira posi&ccedil;&atilde;o em que dois arrays de <tt>long</tt> s&atilde;o diferentes, comparando os elementos como no m&eacute;todo {@link #equal(long[], long[])}.
+     * 
+     * @param array1
+     *            O primeiro array.
+     * @param array2
+     *            O segundo array.
+     * @return A primeira posi&ccedil;&atilde;o com elementos diferentes, o tamanho do menor array se ele for o in&iacute;cio do maior, ou <code>-1</code> se forem iguais.
+     */
+    public static int mismatch(final long[] array1, final long[] array2) {
+        if (array1 == null || array2 == null) {
+            throw new IllegalArgumentException("null");
+        }
+        return mismatch(array1, 0, array1.length, array2, 0, array2.length);
+    }
+
+    /**
+     * Procura a primeira posi&ccedil;&atilde;o em que os trechos [<code>from1</code>, <code>to1</code>) e [<code>from2</code>, <code>to2</code>) de dois arrays de
+     * <tt>long</tt> s&atilde;o diferentes, sem copi&aacute;-los.
+     * 
+     * @param array1
+     *            O primeiro array.
+     * @param from1
+     *            A posi&ccedil;&atilde;o inicial do trecho do primeiro array, inclusiva.
+     * @param to1
+     *            A posi&ccedil;&atilde;o final do trecho do primeiro array, exclusiva.
+     * @param array2
+     *            O segundo array.
+     * @param from2
+     *            A posi&ccedil;&atilde;o inicial do trecho do segundo array, inclusiva.
+     * @param to2
+     *            A posi&ccedil;&atilde;o final do trecho do segundo array, exclusiva.
+     * @return A primeira posi&ccedil;&atilde;o, relativa ao in&iacute;cio dos trechos, com elementos diferentes, o tamanho do menor trecho se ele for o in&iacute;cio do maior, ou
+     *         <code>-1</code> se forem iguais.
+     * @throws IndexOutOfBoundsException
+     *             Se algum trecho n&atilde;o estiver dentro do seu array.
+     */
+    public static int mismatch(final long[] array1, final int from1, final int to1, final long[] array2, final int from2, final int to2) {
+        if (array1 == null || array2 == null) {
+            throw new IllegalArgumentException("null");
+        }
+        checkRange(array1.length, from1, to1);
+        checkRange(array2.length, from2, to2);
+        final int length1 = to1 - from1;
+        final int length2 = to2 - from2;
+        final int length = Math.min(length1, length2);
+        for (int i = 0; i < length; i++) {
+            if (!equal(array1[from1 + i], array2[from2 + i])) {
+                return i;
+            }
+        }
+        return length1 == length2 ? -1 : length;
+    }
+
+    /**
+     * Procura a primeira posi&ccedil;&atilde;o em que dois arrays de <tt>Object</tt> s&atilde;o diferentes, comparando os elementos como no m&eacute;todo {@link #equal(Object[], Object[])}.
+     * 
+     * @param array1
+     *            O primeiro array.
+     * @param array2
+     *            O segundo array.
+     * @return A primeira posi&ccedil;&atilde;o com elementos diferentes, o tamanho do menor array se ele for o in&iacute;cio do maior, ou <code>-1</code> se forem iguais.
+     */
+    public static int mismatch(final Object[] array1, final Object[] array2) {
+        if (array1 == null || array2 == null) {
+            throw new IllegalArgumentException("null");
+        }
+        return mismatch(array1, 0, array1.length, array2, 0, array2.length);
+    }
+
+    /**
+     * Procura a primeira posi&ccedil;&atilde;o em que os trechos [<code>from1</code>, <code>to1</code>) e [<code>from2</code>, <code>to2</code>) de dois arrays de
+     * <tt>Object</tt> s&atilde;o diferentes, sem copi&aacute;-los.
+     * 
+     * @param array1
+     *            O primeiro array.
+     * @param from1
+     *            A posi&ccedil;&atilde;o inicial do trecho do primeiro array, inclusiva.
+     * @param to1
+     *            A posi&ccedil;&atilde;o final do trecho do primeiro array, exclusiva.
+     * @param array2
+     *            O segundo array.
+     * @param from2
+     *            A posi&ccedil;&atilde;o inicial do trecho do segundo array, inclusiva.
+     * @param to2
+     *            A posi&ccedil;&atilde;o final do trecho do segundo array, exclusiva.
+     * @return A primeira posi&ccedil;&atilde;o, relativa ao in&iacute;cio dos trechos, com elementos diferentes, o tamanho do menor trecho se ele for o in&iacute;cio do maior, ou
+     *         <code>-1</code> se forem iguais.
+     * @throws IndexOutOfBoundsException
+     *             Se algum trecho n&atilde;o estiver dentro do seu array.
+     */
+    public static int mismatch(final Object[] array1, final int from1, final int to1, final Object[] array2, final int from2, final int to2) {
+        if (array1 == null || array2 == null) {
+            throw new IllegalArgumentException("null");
+        }
+        checkRange(array1.length, from1, to1);
+        checkRange(array2.length, from2, to2);
+        final int length1 = to1 - from1;
+        final int length2 = to2 - from2;
+        final int length = Math.min(length1, length2);
+        for (int i = 0; i < length; i++) {
+            if (!equal(array1[from1 + i], array2[from2 + i])) {
+                return i;
+            }
+        }
+        return length1 == length2 ? -1 : length;
+    }
+
+    /**
+     * Procura a primeira posi&ccedil;&atilde;o em que dois arrays de <tt>short</tt> s&atilde;o diferentes, comparando os elementos como no m&eacute;todo {@link #equal(short[], short[])}.
+     * 
+     * @param array1
+     *            O primeiro array.
+     * @param array2
+     *            O segundo array.
+     * @return A primeira posi&ccedil;&atilde;o com elementos diferentes, o tamanho do menor array se ele for o in&iacute;cio do maior, ou <code>-1</code> se forem iguais.
+     */
+    public static int mismatch(final short[] array1, final short[] array2) {
+        if (array1 == null || array2 == null) {
+            throw new IllegalArgumentException("null");
+        }
+        return mismatch(array1, 0, array1.length, array2, 0, array2.length);
+    }
+
+    /**
+     * Procura a primeira posi&ccedil;&atilde;o em que os trechos [<code>from1</code>, <code>to1</code>) e [<code>from2</code>, <code>to2</code>) de dois arrays de
+     * <tt>short</tt> s&atilde;o diferentes, sem copi&aacute;-los.
+     * 
+     * @param array1
+     *            O primeiro array.
+     * @param from1
+     *            A posi&ccedil;&atilde;o inicial do trecho do primeiro array, inclusiva.
+     * @param to1
+     *            A posi&ccedil;&atilde;o final do trecho do primeiro array, exclusiva.
+     * @param array2
+     *            O segundo array.
+     * @param from2
+     *            A posi&ccedil;&atilde;o inicial do trecho do segundo array, inclusiva.
+     * @param to2
+     *            A posi&ccedil;&atilde;o final do trecho do segundo array, exclusiva.
+     * @return A primeira posi&ccedil;&atilde;o, relativa ao in&iacute;cio dos trechos, com elementos diferentes, o tamanho do menor trecho se ele for o in&iacute;cio do maior, ou
+     *         <code>-1</code> se forem iguais.
+     * @throws IndexOutOfBoundsException
+     *             Se algum trecho n&atilde;o estiver dentro do seu array.
+     */
+    public static int mismatch(final short[] array1, final int from1, final int to1, final short[] array2, final int from2, final int to2) {
+        if (array1 == null || array2 == null) {
+            throw new IllegalArgumentException("null");
+        }
+        checkRange(array1.length, from1, to1);
+        checkRange(array2.length, from2, to2);
+        final int length1 = to1 - from1;
+        final int length2 = to2 - from2;
+        final int length = Math.min(length1, length2);
+        for (int i = 0; i < length; i++) {
+            if (!equal(array1[from1 + i], array2[from2 + i])) {
+                return i;
+            }
+        }
+        return length1 == length2 ? -1 : length;
+    }
+
+    // Verifica se o trecho [from, to) est&aacute; dentro de uma sequ&ecirc;ncia com o tamanho informado.
+    private static void checkRange(final int length, final int from, final int to) {
+        if (from > to) {
+            throw new IllegalArgumentException("from(" + from + ") > to(" + to + ")");
+        }
+        if (from < 0 || to > length) {
+            throw new IndexOutOfBoundsException("from: " + from + ", to: " + to + ", length: " + length);
+        }
+    }
+
+    // Compara dois Objects assumindo que eles s&atilde;o arrays.
+    private static boolean equalArray(final Object object1, final Object object2) {
+        if (object1 instanceof byte[] && object2 instanceof byte[])
+            return equal((byte[]) object1, (byte[]) object2);
+        if (object1 instanceof boolean[] && object2 instanceof boolean[])
+            return equal((boolean[]) object1, (boolean[]) object2);
+        if (object1 instanceof short[] && object2 instanceof short[])
+            return equal((short[]) object1, (short[]) object2);
+        if (object1 instanceof char[] && object2 instanceof char[])
+            return equal((char[]) object1, (char[]) object2);
+        if (object1 instanceof int[] && object2 instanceof int[])
+            return equal((int[]) object1, (int[]) object2);
+        if (object1 instanceof float[] && object2 instanceof float[])
+            return equal((float[]) object1, (float[]) object2);
+        if (object1 instanceof long[] && object2 instanceof long[])
+            return equal((long[]) object1, (long[]) object2);
+        if (object1 instanceof double[] && object2 instanceof double[])
+            return equal((double[]) object1, (double[]) object2);
+        if (object1 instanceof Object[] && object2 instanceof Object[])
+            return equal((Object[]) object1, (Object[]) object2);
+        throw new AssertionError("received non-array object(s) {\n  object1: " + object1 + "\n  object2: " + object2 + "\n}");
+    }
+
+    // Compara os caracteres das duas sequ&ecirc;ncias a partir dos &iacute;ndices informados.
+    private static boolean equalChars(final CharSequence chars1, final int from1, final CharSequence chars2, final int from2, final int length) {
+        for (int i = 0; i < length; i++) {
+            if (chars1.charAt(from1 + i) != chars2.charAt(from2 + i)) {
+                return false;
+            }
+        }
+        return true;
     }
 
     // Construtor privado, classe utilit&aacute;ria n&atilde;o-instanciavel
@@ -1,5 +1,9 @@
 package br.com.staroski.equality;
 
+import java.util.Collection;
+import java.util.function.IntUnaryOperator;
+import java.util.stream.IntStream;
+
 /**
  * Esta classe utilit&aacute;ria disponibiliza m&eacute;todos que permitem a constru&ccedil;&atilde;o f&aacute;cil de m&eacute;todos <code>hashCode</code>.<BR>
  * <BR>
@@ -76,6 +80,34 @@ public final class HashCodeUtils {
      */
     private static final int PRIME = 31;
 
+    /**
+     * Quantidade de elementos processados por cada tarefa dos c&aacute;lculos paralelos de <I>hash</I> que n&atilde;o dependem da ordem.
+     */
+    private static final int UNORDERED_CHUNK_SIZE = 1 << 14;
+
+    // Pot&ecirc;ncias de 31 utilizadas pelos m&eacute;todos rehash, criadas somente quando utilizadas. O expoente &eacute; dividido em tr&ecirc;s partes de 11 bits, assim
+    // qualquer pot&ecirc;ncia &eacute; obtida com duas multiplica&ccedil;&otilde;es, ocupando somente 4608 ints.
+    private static final class Powers {
+
+        static final int BITS = 11;
+        static final int MASK = (1 << BITS) - 1;
+
+        static final int[] LOW = powers(PRIME, 1 << BITS);
+        static final int[] MIDDLE = powers(LOW[MASK] * PRIME, 1 << BITS);
+        static final int[] HIGH = powers(MIDDLE[MASK] * MIDDLE[1], 1 << (31 - (BITS << 1)));
+
+        // pot&ecirc;ncias de 0 at&eacute; count - 1 da base informada
+        private static int[] powers(final int base, final int count) {
+            final int[] powers = new int[count];
+            int power = 1;
+            for (int i = 0; i < count; i++) {
+                powers[i] = power;
+                power *= base;
+            }
+            return powers;
+        }
+    }
+
     /**
      * Calcula o <I>hash</I> de um valor <tt>boolean</tt>.
      * 
@@ -110,6 +142,34 @@ public final class HashCodeUtils {
         return hash(seed, hash);
     }
 
+    /**
+     * Calcula o <I>hash</I> do trecho [<code>from</code>, <code>to</code>) de um array de <tt>boolean</tt>, sem copi&aacute;-lo.<BR>
+     * O resultado &eacute; o mesmo de {@link #hash(int, boolean[])} para uma c&oacute;pia do trecho, como a obtida por {@link java.util.Arrays#copyOfRange(boolean[], int, int)}.
+     * 
+     * @param seed
+     *            A semente ({@link #MULTI_VALUE aditiva} ou {@link #SINGLE_VALUE n&atilde;o aditiva}) para o c&aacute;lulo do <I>hash</I>
+     * @param array
+     *            O array que cont&eacute;m o trecho do qual se deseja obter o <I>hash</I>.
+     * @param from
+     *            A posi&ccedil;&atilde;o inicial do trecho, inclusiva.
+     * @param to
+     *            A posi&ccedil;&atilde;o final do trecho, exclusiva.
+     * @return O valor <I>hash</I> calculado.
+     * @throws IndexOutOfBoundsException
+     *             Se o trecho n&atilde;o estiver dentro do array.
+     */
+    public static int hash(final int seed, final boolean[] array, final int from, final int to) {
+        if (array == null) {
+            throw new IllegalArgumentException("null");
+        }
+        checkRange(array.length, from, to);
+        int hash = MULTI_VALUE;
+        for (int i = from; i < to; ++i) {
+            hash = hash(hash, array[i]);
+        }
+        return hash(seed, hash);
+    }
+
     /**
      * Calcula o <I>hash</I> de um valor <tt>byte</tt>.
      * 
@@ -144,6 +204,34 @@ public final class HashCodeUtils {
         return hash(seed, hash);
     }
 
+    /**
+     * Calcula o <I>hash</I> do trecho [<code>from</code>, <code>to</code>) de um array de <tt>byte</tt>, sem copi&aacute;-lo.<BR>
+     * O resultado &eacute; o mesmo de {@link #hash(int, byte[])} para uma c&oacute;pia do trecho, como a obtida por {@link java.util.Arrays#copyOfRange(byte[], int, int)}.
+     * 
+     * @param seed
+     *            A semente ({@link #MULTI_VALUE aditiva} ou {@link #SINGLE_VALUE n&atilde;o aditiva}) para o c&aacute;lulo do <I>hash</I>
+     * @param array
+     *            O array que cont&eacute;m o trecho do qual se deseja obter o <I>hash</I>.
+     * @param from
+     *            A posi&ccedil;&atilde;o inicial do trecho, inclusiva.
+     * @param to
+     *            A posi&ccedil;&atilde;o final do trecho, exclusiva.
+     * @return O valor <I>hash</I> calculado.
+     * @throws IndexOutOfBoundsException
+     *             Se o trecho n&atilde;o estiver dentro do array.
+     */
+    public static int hash(final int seed, final byte[] array, final int from, final int to) {
+        if (array == null) {
+            throw new IllegalArgumentException("null");
+        }
+        checkRange(array.length, from, to);
+        int hash = MULTI_VALUE;
+        for (int i = from; i < to; ++i) {
+            hash = hash(hash, array[i]);
+        }
+        return hash(seed, hash);
+    }
+
     /**
      * Calcula o <I>hash</I> de um valor <tt>char</tt>.
      * 
@@ -178,6 +266,77 @@ public final class HashCodeUtils {
         return hash(seed, hash);
     }
 
+    /**
+     * Calcula o <I>hash</I> do trecho [<code>from</code>, <code>to</code>) de um array de <tt>char</tt>, sem copi&aacute;-lo.<BR>
+     * O resultado &eacute; o mesmo de {@link #hash(int, char[])} para uma c&oacute;pia do trecho, como a obtida por {@link java.util.Arrays#copyOfRange(char[], int, int)}.
+     * 
+     * @param seed
+     *            A semente ({@link #MULTI_VALUE aditiva} ou {@link #SINGLE_VALUE n&atilde;o aditiva}) para o c&aacute;lulo do <I>hash</I>
+     * @param array
+     *            O array que cont&eacute;m o trecho do qual se deseja obter o <I>hash</I>.
+     * @param from
+     *            A posi&ccedil;&atilde;o inicial do trecho, inclusiva.
+     * @param to
+     *            A posi&ccedil;&atilde;o final do trecho, exclusiva.
+     * @return O valor <I>hash</I> calculado.
+     * @throws IndexOutOfBoundsException
+     *             Se o trecho n&atilde;o estiver dentro do array.
+     */
+    public static int hash(final int seed, final char[] array, final int from, final int to) {
+        if (array == null) {
+            throw new IllegalArgumentException("null");
+        }
+        checkRange(array.length, from, to);
+        int hash = MULTI_VALUE;
+        for (int i = from; i < to; ++i) {
+            hash = hash(hash, array[i]);
+        }
+        return hash(seed, hash);
+    }
+
+    /**
+     * Calcula o <I>hash</I> do conte&uacute;do de uma {@link CharSequence}, como um {@link StringBuilder} ou um {@link java.nio.CharBuffer}, sem criar uma {@link String}.<BR>
+     * O valor calculado &eacute; o mesmo do m&eacute;todo {@link #hash(int, Object)} para uma {@link String} com o mesmo conte&uacute;do, isto &eacute;,
+     * <code>31 * seed + string.hashCode()</code>.
+     * 
+     * @param seed
+     *            A semente ({@link #MULTI_VALUE aditiva} ou {@link #SINGLE_VALUE n&atilde;o aditiva}) para o c&aacute;lulo do <I>hash</I>
+     * @param chars
+     *            A sequ&ecirc;ncia de caracteres da qual se deseja obter o <I>hash</I>.
+     * @return O valor <I>hash</I> calculado.
+     */
+    public static int hash(final int seed, final CharSequence chars) {
+        if (chars == null) {
+            return hash(seed, 0);
+        }
+        if (chars instanceof String) {
+            return hash(seed, chars.hashCode());
+        }
+        return hash(seed, hashChars(chars, 0, chars.length()));
+    }
+
+    /**
+     * Calcula o <I>hash</I> do conte&uacute;do de um trecho de uma {@link CharSequence}, sem criar uma {@link String}.<BR>
+     * O valor calculado &eacute; o mesmo do m&eacute;todo {@link #hash(int, CharSequence)} para a sequ&ecirc;ncia <code>chars.subSequence(from, to)</code>.
+     * 
+     * @param seed
+     *            A semente ({@link #MULTI_VALUE aditiva} ou {@link #SINGLE_VALUE n&atilde;o aditiva}) para o c&aacute;lulo do <I>hash</I>
+     * @param chars
+     *            A sequ&ecirc;ncia de caracteres da qual se deseja obter o <I>hash</I>.
+     * @param from
+     *            O &iacute;ndice do primeiro caractere, inclusive.
+     * @param to
+     *            O &iacute;ndice do &uacute;ltimo caractere, exclusive.
+     * @return O valor <I>hash</I> calculado.
+     */
+    public static int hash(final int seed, final CharSequence chars, final int from, final int to) {
+        if (chars == null) {
+            throw new IllegalArgumentException("null");
+        }
+        checkRange(chars.length(), from, to);
+        return hash(seed, hashChars(chars, from, to));
+    }
+
     /**
      * Calcula o <I>hash</I> de um valor <tt>double</tt>.
      * 
@@ -212,6 +371,34 @@ public final class HashCodeUtils {
         return hash(seed, hash);
     }
 
+    /**
+     * Calcula o <I>hash</I> do trecho [<code>from</code>, <code>to</code>) de um array de <tt>double</tt>, sem copi&aacute;-lo.<BR>
+     * O resultado &eacute; o mesmo de {@link #hash(int, double[])} para uma c&oacute;pia do trecho, como a obtida por {@link java.util.Arrays#copyOfRange(double[], int, int)}.
+     * 
+     * @param seed
+     *            A semente ({@link #MULTI_VALUE aditiva} ou {@link #SINGLE_VALUE n&atilde;o aditiva}) para o c&aacute;lulo do <I>hash</I>
+     * @param array
+     *            O array que cont&eacute;m o trecho do qual se deseja obter o <I>hash</I>.
+     * @param from
+     *            A posi&ccedil;&atilde;o inicial do trecho, inclusiva.
+     * @param to
+     *            A posi&ccedil;&atilde;o final do trecho, exclusiva.
+     * @return O valor <I>hash</I> calculado.
+     * @throws IndexOutOfBoundsException
+     *             Se o trecho n&atilde;o estiver dentro do array.
+     */
+    public static int hash(final int seed, final double[] array, final int from, final int to) {
+        if (array == null) {
+            throw new IllegalArgumentException("null");
+        }
+        checkRange(array.length, from, to);
+        int hash = MULTI_VALUE;
+        for (int i = from; i < to; ++i) {
+            hash = hash(hash, array[i]);
+        }
+        return hash(seed, hash);
+    }
+
     /**
      * Calcula o <I>hash</I> de um valor <tt>float</tt>.
      * 
@@ -246,6 +433,34 @@ public final class HashCodeUtils {
         return hash(seed, hash);
     }
 
+    /**
+     * Calcula o <I>hash</I> do trecho [<code>from</code>, <code>to</code>) de um array de <tt>float</tt>, sem copi&aacute;-lo.<BR>
+     * O resultado &eacute; o mesmo de {@link #hash(int, float[])} para uma c&oacute;pia do trecho, como a obtida por {@link java.util.Arrays#copyOfRange(float[], int, int)}.
+     * 
+     * @param seed
+     *            A semente ({@link #MULTI_VALUE aditiva} ou {@link #SINGLE_VALUE n&atilde;o aditiva}) para o c&aacute;lulo do <I>hash</I>
+     * @param array
+     *            O array que cont&eacute;m o trecho do qual se deseja obter o <I>hash</I>.
+     * @param from
+     *            A posi&ccedil;&atilde;o inicial do trecho, inclusiva.
+     * @param to
+     *            A posi&ccedil;&atilde;o final do trecho, exclusiva.
+     * @return O valor <I>hash</I> calculado.
+     * @throws IndexOutOfBoundsException
+     *             Se o trecho n&atilde;o estiver dentro do array.
+     */
+    public static int hash(final int seed, final float[] array, final int from, final int to) {
+        if (array == null) {
+            throw new IllegalArgumentException("null");
+        }
+        checkRange(array.length, from, to);
+        int hash = MULTI_VALUE;
+        for (int i = from; i < to; ++i) {
+            hash = hash(hash, array[i]);
+        }
+        return hash(seed, hash);
+    }
+
     /**
      * Calcula o <I>hash</I> de um valor <tt>int</tt>.
      * 
@@ -280,6 +495,34 @@ public final class HashCodeUtils {
         return hash(seed, hash);
     }
 
+    /**
+     * Calcula o <I>hash</I> do trecho [<code>from</code>, <code>to</code>) de um array de <tt>int</tt>, sem copi&aacute;-lo.<BR>
+     * O resultado &eacute; o mesmo de {@link #hash(int, int[])} para uma c&oacute;pia do trecho, como a obtida por {@link java.util.Arrays#copyOfRange(int[], int, int)}.
+     * 
+     * @param seed
+     *            A semente ({@link #MULTI_VALUE aditiva} ou {@link #SINGLE_VALUE n&atilde;o aditiva}) para o c&aacute;lulo do <I>hash</I>
+     * @param array
+     *            O array que cont&eacute;m o trecho do qual se deseja obter o <I>hash</I>.
+     * @param from
+     *            A posi&ccedil;&atilde;o inicial do trecho, inclusiva.
+     * @param to
+     *            A posi&ccedil;&atilde;o final do trecho, exclusiva.
+     * @return O valor <I>hash</I> calculado.
+     * @throws IndexOutOfBoundsException
+     *             Se o trecho n&atilde;o estiver dentro do array.
+     */
+    public static int hash(final int seed, final int[] array, final int from, final int to) {
+        if (array == null) {
+            throw new IllegalArgumentException("null");
+        }
+        checkRange(array.length, from, to);
+        int hash = MULTI_VALUE;
+        for (int i = from; i < to; ++i) {
+            hash = hash(hash, array[i]);
+        }
+        return hash(seed, hash);
+    }
+
     /**
      * Calcula o <I>hash</I> de um valor <tt>long</tt>.
      * 
@@ -315,7 +558,39 @@ public final class HashCodeUtils {
     }
 
     /**
-     * Calcula o <I>hash</I> de um <tt>Object</tt>.
+     * Calcula o <I>hash</I> do trecho [<code>from</code>, <code>to</code>) de um array de <tt>long</tt>, sem copi&aacute;-lo.<BR>
+     * O resultado &eacute; o mesmo de {@link #hash(int, long[])} para uma c&oacute;pia do trecho, como a obtida por {@link java.util.Arrays#copyOfRange(long[], int, int)}.
+     * 
+     * @param seed
+     *            A semente ({@link #MULTI_VALUE aditiva} ou {@link #SINGLE_VALUE n&atilde;o aditiva}) para o c&aacute;lulo do <I>hash</I>
+     * @param array
+     *            O array que cont&eacute;m o trecho do qual se deseja obter o <I>hash</I>.
+     * @param from
+     *            A posi&ccedil;&atilde;o inicial do trecho, inclusiva.
+     * @param to
+     *            A posi&ccedil;&atilde;o final do trecho, exclusiva.
+     * @return O valor <I>hash</I> calculado.
+     * @throws IndexOutOfBoundsException
+     *             Se o trecho n&atilde;o estiver dentro do array.
+     */
+    public static int hash(final int seed, final long[] array, final int from, final int to) {
+        if (array == null) {
+            throw new IllegalArgumentException("null");
+        }
+        checkRange(array.length, from, to);
+        int hash = MULTI_VALUE;
+        for (int i = from; i < to; ++i) {
+            hash = hash(hash, array[i]);
+        }
+        return hash(seed, hash);
+    }
+
+    /**
+     * Calcula o <I>hash</I> de um <tt>Object</tt>.<BR>
+     * Arrays s&atilde;o calculados pelo seu conte&uacute;do. As listas, conjuntos e mapas do pacote <code>java.util</code>, como {@link java.util.ArrayList}, {@link java.util.HashSet},
+     * {@link java.util.HashMap} e os criados por <code>List.of</code>, <code>Set.of</code> e <code>Map.of</code>, t&ecirc;m o mesmo <I>hash</I> dos seus pr&oacute;prios m&eacute;todos
+     * <code>hashCode</code>, por&eacute;m as listas {@link java.util.RandomAccess} s&atilde;o indexadas sem criar iteradores, as cole&ccedil;&otilde;es muito grandes s&atilde;o calculadas em
+     * paralelo e o <I>hash</I> das cole&ccedil;&otilde;es imut&aacute;veis pode ser {@link #setCollectionHashCaching(boolean) guardado}.
      * 
      * @param seed
      *            A semente ({@link #MULTI_VALUE aditiva} ou {@link #SINGLE_VALUE n&atilde;o aditiva}) para o c&aacute;lulo do <I>hash</I>
@@ -330,6 +605,9 @@ public final class HashCodeUtils {
         if (object.getClass().isArray()) {
             return hashArray(seed, object);
         }
+        if (CollectionSupport.isContractCollection(object)) {
+            return hash(seed, CollectionSupport.hash(object));
+        }
         return hash(seed, object.hashCode());
     }
 
@@ -355,6 +633,34 @@ public final class HashCodeUtils {
         return hash(seed, hash);
     }
 
+    /**
+     * Calcula o <I>hash</I> do trecho [<code>from</code>, <code>to</code>) de um array de <tt>Object</tt>, sem copi&aacute;-lo.<BR>
+     * O resultado &eacute; o mesmo de {@link #hash(int, Object[])} para uma c&oacute;pia do trecho, como a obtida por {@link java.util.Arrays#copyOfRange(Object[], int, int)}.
+     * 
+     * @param seed
+     *            A semente ({@link #MULTI_VALUE aditiva} ou {@link #SINGLE_VALUE n&atilde;o aditiva}) para o c&aacute;lulo do <I>hash</I>
+     * @param array
+     *            O array que cont&eacute;m o trecho do qual se deseja obter o <I>hash</I>.
+     * @param from
+     *            A posi&ccedil;&atilde;o inicial do trecho, inclusiva.
+     * @param to
+     *            A posi&ccedil;&atilde;o final do trecho, exclusiva.
+     * @return O valor <I>hash</I> calculado.
+     * @throws IndexOutOfBoundsException
+     *             Se o trecho n&atilde;o estiver dentro do array.
+     */
+    public static int hash(final int seed, final Object[] array, final int from, final int to) {
+        if (array == null) {
+            throw new IllegalArgumentException("null");
+        }
+        checkRange(array.length, from, to);
+        int hash = MULTI_VALUE;
+        for (int i = from; i < to; ++i) {
+            hash = hash(hash, array[i]);
+        }
+        return hash(seed, hash);
+    }
+
     /**
      * Calcula o <I>hash</I> de um valor <tt>short</tt>.
      * 
@@ -389,6 +695,751 @@ public final class HashCodeUtils {
         return hash(seed, hash);
     }
 
+    /**
+     * Calcula o <I>hash</I> do trecho [<code>from</code>, <code>to</code>) de um array de <tt>short</tt>, sem copi&aacute;-lo.<BR>
+     * O resultado &eacute; o mesmo de {@link #hash(int, short[])} para uma c&oacute;pia do trecho, como a obtida por {@link java.util.Arrays#copyOfRange(short[], int, int)}.
+     * 
+     * @param seed
+     *            A semente ({@link #MULTI_VALUE aditiva} ou {@link #SINGLE_VALUE n&atilde;o aditiva}) para o c&aacute;lulo do <I>hash</I>
+     * @param array
+     *            O array que cont&eacute;m o trecho do qual se deseja obter o <I>hash</I>.
+     * @param from
+     *            A posi&ccedil;&atilde;o inicial do trecho, inclusiva.
+     * @param to
+     *            A posi&ccedil;&atilde;o final do trecho, exclusiva.
+     * @return O valor <I>hash</I> calculado.
+     * @throws IndexOutOfBoundsException
+     *             Se o trecho n&atilde;o estiver dentro do array.
+     */
+    public static int hash(final int seed, final short[] array, final int from, final int to) {
+        if (array == null) {
+            throw new IllegalArgumentException("null");
+        }
+        checkRange(array.length, from, to);
+        int hash = MULTI_VALUE;
+        for (int i = from; i < to; ++i) {
+            hash = hash(hash, array[i]);
+        }
+        return hash(seed, hash);
+    }
+
+    /**
+     * Calcula um <I>hash</I> de um array de <tt>boolean</tt> que n&atilde;o depende da ordem dos elementos, isto &eacute;, arrays com os mesmos elementos, em qualquer ordem, t&ecirc;m o
+     * mesmo <I>hash</I>.<BR>
+     * Cada elemento &eacute; espalhado antes de ser combinado por soma e por multiplica&ccedil;&atilde;o, assim elementos repetidos n&atilde;o se anulam e conjuntos diferentes
+     * com a mesma soma n&atilde;o colidem.
+     * 
+     * @param seed
+     *            A semente ({@link #MULTI_VALUE aditiva} ou {@link #SINGLE_VALUE n&atilde;o aditiva}) para o c&aacute;lulo do <I>hash</I>
+     * @param array
+     *            O array do qual se deseja obter o <I>hash</I>.
+     * @return O valor <I>hash</I> calculado.
+     * @see EqualsUtils#equalUnordered(boolean[], boolean[])
+     */
+    public static int hashUnordered(final int seed, final boolean[] array) {
+        if (array == null) {
+            return hash(seed, 0);
+        }
+        final int length = array.length;
+        int sum = 0;
+        int product = 1;
+        for (int i = 0; i < length; ++i) {
+            final int mixed = mix(hash(SINGLE_VALUE, array[i]));
+            sum += mixed;
+            product *= mixed | 1;
+        }
+        return hashUnordered(seed, sum, product, length);
+    }
+
+    /**
+     * Calcula um <I>hash</I> de um array de <tt>byte</tt> que n&atilde;o depende da ordem dos elementos, isto &eacute;, arrays com os mesmos elementos, em qualquer ordem, t&ecirc;m o
+     * mesmo <I>hash</I>.<BR>
+     * Cada elemento &eacute; espalhado antes de ser combinado por soma e por multiplica&ccedil;&atilde;o, assim elementos repetidos n&atilde;o se anulam e conjuntos diferentes
+     * com a mesma soma n&atilde;o colidem.
+     * 
+     * @param seed
+     *            A semente ({@link #MULTI_VALUE aditiva} ou {@link #SINGLE_VALUE n&atilde;o aditiva}) para o c&aacute;lulo do <I>hash</I>
+     * @param array
+     *            O array do qual se deseja obter o <I>hash</I>.
+     * @return O valor <I>hash</I> calculado.
+     * @see EqualsUtils#equalUnordered(byte[], byte[])
+     */
+    public static int hashUnordered(final int seed, final byte[] array) {
+        if (array == null) {
+            return hash(seed, 0);
+        }
+        final int length = array.length;
+        int sum = 0;
+        int product = 1;
+        for (int i = 0; i < length; ++i) {
+            final int mixed = mix(hash(SINGLE_VALUE, array[i]));
+            sum += mixed;
+            product *= mixed | 1;
+        }
+        return hashUnordered(seed, sum, product, length);
+    }
+
+    /**
+     * Calcula um <I>hash</I> de um array de <tt>char</tt> que n&atilde;o depende da ordem dos elementos, isto &eacute;, arrays com os mesmos elementos, em qualquer ordem, t&ecirc;m o
+     * mesmo <I>hash</I>.<BR>
+     * Cada elemento &eacute; espalhado antes de ser combinado por soma e por multiplica&ccedil;&atilde;o, assim elementos repetidos n&atilde;o se anulam e conjuntos diferentes
+     * com a mesma soma n&atilde;o colidem.
+     * 
+     * @param seed
+     *            A semente ({@link #MULTI_VALUE aditiva} ou {@link #SINGLE_VALUE n&atilde;o aditiva}) para o c&aacute;lulo do <I>hash</I>
+     * @param array
+     *            O array do qual se deseja obter o <I>hash</I>.
+     * @return O valor <I>hash</I> calculado.
+     * @see EqualsUtils#equalUnordered(char[], char[])
+     */
+    public static int hashUnordered(final int seed, final char[] array) {
+        if (array == null) {
+            return hash(seed, 0);
+        }
+        final int length = array.length;
+        int sum = 0;
+        int product = 1;
+        for (int i = 0; i < length; ++i) {
+            final int mixed = mix(hash(SINGLE_VALUE, array[i]));
+            sum += mixed;
+            product *= mixed | 1;
+        }
+        return hashUnordered(seed, sum, product, length);
+    }
+
+    /**
+     * Calcula um <I>hash</I> de um array de <tt>double</tt> que n&atilde;o depende da ordem dos elementos, isto &eacute;, arrays com os mesmos elementos, em qualquer ordem, t&ecirc;m o
+     * mesmo <I>hash</I>.<BR>
+     * Cada elemento &eacute; espalhado antes de ser combinado por soma e por multiplica&ccedil;&atilde;o, assim elementos repetidos n&atilde;o se anulam e conjuntos diferentes
+     * com a mesma soma n&atilde;o colidem.
+     * 
+     * @param seed
+     *            A semente ({@link #MULTI_VALUE aditiva} ou {@link #SINGLE_VALUE n&atilde;o aditiva}) para o c&aacute;lulo do <I>hash</I>
+     * @param array
+     *            O array do qual se deseja obter o <I>hash</I>.
+     * @return O valor <I>hash</I> calculado.
+     * @see EqualsUtils#equalUnordered(double[], double[])
+     */
+    public static int hashUnordered(final int seed, final double[] array) {
+        if (array == null) {
+            return hash(seed, 0);
+        }
+        final int length = array.length;
+        int sum = 0;
+        int product = 1;
+        for (int i = 0; i < length; ++i) {
+            final int mixed = mix(hash(SINGLE_VALUE, array[i]));
+            sum += mixed;
+            product *= mixed | 1;
+        }
+        return hashUnordered(seed, sum, product, length);
+    }
+
+    /**
+     * Calcula um <I>hash</I> de um array de <tt>float</tt> que n&atilde;o depende da ordem dos elementos, isto &eacute;, arrays com os mesmos elementos, em qualquer ordem, t&ecirc;m o
+     * mesmo <I>hash</I>.<BR>
+     * Cada elemento &eacute; espalhado antes de ser combinado por soma e por multiplica&ccedil;&atilde;o, assim elementos repetidos n&atilde;o se anulam e conjuntos diferentes
+     * com a mesma soma n&atilde;o colidem.
+     * 
+     * @param seed
+     *            A semente ({@link #MULTI_VALUE aditiva} ou {@link #SINGLE_VALUE n&atilde;o aditiva}) para o c&aacute;lulo do <I>hash</I>
+     * @param array
+     *            O array do qual se deseja obter o <I>hash</I>.
+     * @return O valor <I>hash</I> calculado.
+     * @see EqualsUtils#equalUnordered(float[], float[])
+     */
+    public static int hashUnordered(final int seed, final float[] array) {
+        if (array == null) {
+            return hash(seed, 0);
+        }
+        final int length = array.length;
+        int sum = 0;
+        int product = 1;
+        for (int i = 0; i < length; ++i) {
+            final int mixed = mix(hash(SINGLE_VALUE, array[i]));
+            sum += mixed;
+            product *= mixed | 1;
+        }
+        return hashUnordered(seed, sum, product, length);
+    }
+
+    /**
+     * Calcula um <I>hash</I> de um array de <tt>int</tt> que n&atilde;o depende da ordem dos elementos, isto &eacute;, arrays com os mesmos elementos, em qualquer ordem, t&ecirc;m o
+     * mesmo <I>hash</I>.<BR>
+     * Cada elemento &eacute; espalhado antes de ser combinado por soma e por multiplica&ccedil;&atilde;o, assim elementos repetidos n&atilde;o se anulam e conjuntos diferentes
+     * com a mesma soma n&atilde;o colidem.
+     * 
+     * @param seed
+     *            A semente ({@link #MULTI_VALUE aditiva} ou {@link #SINGLE_VALUE n&atilde;o aditiva}) para o c&aacute;lulo do <I>hash</I>
+     * @param array
+     *            O array do qual se deseja obter o <I>hash</I>.
+     * @return O valor <I>hash</I> calculado.
+     * @see EqualsUtils#equalUnordered(int[], int[])
+     */
+    public static int hashUnordered(final int seed, final int[] array) {
+        if (array == null) {
+            return hash(seed, 0);
+        }
+        final int length = array.length;
+        int sum = 0;
+        int product = 1;
+        for (int i = 0; i < length; ++i) {
+            final int mixed = mix(hash(SINGLE_VALUE, array[i]));
+            sum += mixed;
+            product *= mixed | 1;
+        }
+        return hashUnordered(seed, sum, product, length);
+    }
+
+    /**
+     * Calcula um <I>hash</I> de um array de <tt>long</tt> que n&atilde;o depende da ordem dos elementos, isto &eacute;, arrays com os mesmos elementos, em qualquer ordem, t&ecirc;m o
+     * mesmo <I>hash</I>.<BR>
+     * Cada elemento &eacute; espalhado antes de ser combinado por soma e por multiplica&ccedil;&atilde;o, assim elementos repetidos n&atilde;o se anulam e conjuntos diferentes
+     * com a mesma soma n&atilde;o colidem.
+     * 
+     * @param seed
+     *            A semente ({@link #MULTI_VALUE aditiva} ou {@link #SINGLE_VALUE n&atilde;o aditiva}) para o c&aacute;lulo do <I>hash</I>
+     * @param array
+     *            O array do qual se deseja obter o <I>hash</I>.
+     * @return O valor <I>hash</I> calculado.
+     * @see EqualsUtils#equalUnordered(long[], long[])
+     */
+    public static int hashUnordered(final int seed, final long[] array) {
+        if (array == null) {
+            return hash(seed, 0);
+        }
+        final int length = array.length;
+        int sum = 0;
+        int product = 1;
+        for (int i = 0; i < length; ++i) {
+            final int mixed = mix(hash(SINGLE_VALUE, array[i]));
+            sum += mixed;
+            product *= mixed | 1;
+        }
+        return hashUnordered(seed, sum, product, length);
+    }
+
+    /**
+     * Calcula um <I>hash</I> de um array de <tt>Object</tt> que n&atilde;o depende da ordem dos elementos, isto &eacute;, arrays com os mesmos elementos, em qualquer ordem, t&ecirc;m o
+     * mesmo <I>hash</I>.<BR>
+     * Cada elemento &eacute; espalhado antes de ser combinado por soma e por multiplica&ccedil;&atilde;o, assim elementos repetidos n&atilde;o se anulam e conjuntos diferentes
+     * com a mesma soma n&atilde;o colidem. Arrays e cole&ccedil;&otilde;es contidos no array s&atilde;o calculados como no m&eacute;todo {@link #hash(int, Object)}.
+     * 
+     * @param seed
+     *            A semente ({@link #MULTI_VALUE aditiva} ou {@link #SINGLE_VALUE n&atilde;o aditiva}) para o c&aacute;lulo do <I>hash</I>
+     * @param array
+     *            O array do qual se deseja obter o <I>hash</I>.
+     * @return O valor <I>hash</I> calculado.
+     * @see EqualsUtils#equalUnordered(Object[], Object[])
+     */
+    public static int hashUnordered(final int seed, final Object[] array) {
+        if (array == null) {
+            return hash(seed, 0);
+        }
+        final int length = array.length;
+        int sum = 0;
+        int product = 1;
+        for (int i = 0; i < length; ++i) {
+            final int mixed = mix(hash(SINGLE_VALUE, array[i]));
+            sum += mixed;
+            product *= mixed | 1;
+        }
+        return hashUnordered(seed, sum, product, length);
+    }
+
+    /**
+     * Calcula um <I>hash</I> de um array de <tt>short</tt> que n&atilde;o depende da ordem dos elementos, isto &eacute;, arrays com os mesmos elementos, em qualquer ordem, t&ecirc;m o
+     * mesmo <I>hash</I>.<BR>
+     * Cada elemento &eacute; espalhado antes de ser combinado por soma e por multiplica&ccedil;&atilde;o, assim elementos repetidos n&atilde;o se anulam e conjuntos diferentes
+     * com a mesma soma n&atilde;o colidem.
+     * 
+     * @param seed
+     *            A semente ({@link #MULTI_VALUE aditiva} ou {@link #SINGLE_VALUE n&atilde;o aditiva}) para o c&aacute;lulo do <I>hash</I>
+     * @param array
+     *            O array do qual se deseja obter o <I>hash</I>.
+     * @return O valor <I>hash</I> calculado.
+     * @see EqualsUtils#equalUnordered(short[], short[])
+     */
+    public static int hashUnordered(final int seed, final short[] array) {
+        if (array == null) {
+            return hash(seed, 0);
+        }
+        final int length = array.length;
+        int sum = 0;
+        int product = 1;
+        for (int i = 0; i < length; ++i) {
+            final int mixed = mix(hash(SINGLE_VALUE, array[i]));
+            sum += mixed;
+            product *= mixed | 1;
+        }
+        return hashUnordered(seed, sum, product, length);
+    }
+
+    /**
+     * Calcula um <I>hash</I> de uma {@link Collection} que n&atilde;o depende da ordem dos elementos, com o mesmo resultado do m&eacute;todo {@link #hashUnordered(int, Object[])}
+     * para um array com os mesmos elementos.
+     * 
+     * @param seed
+     *            A semente ({@link #MULTI_VALUE aditiva} ou {@link #SINGLE_VALUE n&atilde;o aditiva}) para o c&aacute;lulo do <I>hash</I>
+     * @param collection
+     *            A cole&ccedil;&atilde;o da qual se deseja obter o <I>hash</I>.
+     * @return O valor <I>hash</I> calculado.
+     * @see EqualsUtils#equalUnordered(Collection, Collection)
+     */
+    public static int hashUnordered(final int seed, final Collection<?> collection) {
+        if (collection == null) {
+            return hash(seed, 0);
+        }
+        int length = 0;
+        int sum = 0;
+        int product = 1;
+        for (Object element : collection) {
+            final int mixed = mix(hash(SINGLE_VALUE, element));
+            sum += mixed;
+            product *= mixed | 1;
+            length++;
+        }
+        return hashUnordered(seed, sum, product, length);
+    }
+
+    /**
+     * Calcula um <I>hash</I> de um array de <tt>boolean</tt> que n&atilde;o depende da ordem dos elementos, isto &eacute;, arrays com os mesmos elementos, em qualquer ordem, t&ecirc;m o
+     * mesmo <I>hash</I>.<BR>
+     * Os elementos de arrays grandes s&atilde;o calculados em paralelo, com o mesmo resultado do m&eacute;todo {@link #hashUnordered(int, boolean[])}.
+     * 
+     * @param seed
+     *            A semente ({@link #MULTI_VALUE aditiva} ou {@link #SINGLE_VALUE n&atilde;o aditiva}) para o c&aacute;lulo do <I>hash</I>
+     * @param array
+     *            O array do qual se deseja obter o <I>hash</I>.
+     * @return O valor <I>hash</I> calculado.
+     * @see EqualsUtils#equalUnorderedParallel(boolean[], boolean[])
+     */
+    public static int hashUnorderedParallel(final int seed, final boolean[] array) {
+        if (array == null || array.length < Multisets.PARALLEL_THRESHOLD) {
+            return hashUnordered(seed, array);
+        }
+        return hashUnorderedParallel(seed, array.length, i -> hash(SINGLE_VALUE, array[i]));
+    }
+
+    /**
+     * Calcula um <I>hash</I> de um array de <tt>byte</tt> que n&atilde;o depende da ordem dos elementos, isto &eacute;, arrays com os mesmos elementos, em qualquer ordem, t&ecirc;m o
+     * mesmo <I>hash</I>.<BR>
+     * Os elementos de arrays grandes s&atilde;o calculados em paralelo, com o mesmo resultado do m&eacute;todo {@link #hashUnordered(int, byte[])}.
+     * 
+     * @param seed
+     *            A semente ({@link #MULTI_VALUE aditiva} ou {@link #SINGLE_VALUE n&atilde;o aditiva}) para o c&aacute;lulo do <I>hash</I>
+     * @param array
+     *            O array do qual se deseja obter o <I>hash</I>.
+     * @return O valor <I>hash</I> calculado.
+     * @see EqualsUtils#equalUnorderedParallel(byte[], byte[])
+     */
+    public static int hashUnorderedParallel(final int seed, final byte[] array) {
+        if (array == null || array.length < Multisets.PARALLEL_THRESHOLD) {
+            return hashUnordered(seed, array);
+        }
+        return hashUnorderedParallel(seed, array.length, i -> hash(SINGLE_VALUE, array[i]));
+    }
+
+    /**
+     * Calcula um <I>hash</I> de um array de <tt>char</tt> que n&atilde;o depende da ordem dos elementos, isto &eacute;, arrays com os mesmos elementos, em qualquer ordem, t&ecirc;m o
+     * mesmo <I>hash</I>.<BR>
+     * Os elementos de arrays grandes s&atilde;o calculados em paralelo, com o mesmo resultado do m&eacute;todo {@link #hashUnordered(int, char[])}.
+     * 
+     * @param seed
+     *            A semente ({@link #MULTI_VALUE aditiva} ou {@link #SINGLE_VALUE n&atilde;o aditiva}) para o c&aacute;lulo do <I>hash</I>
+     * @param array
+     *            O array do qual se deseja obter o <I>hash</I>.
+     * @return O valor <I>hash</I> calculado.
+     * @see EqualsUtils#equalUnorderedParallel(char[], char[])
+     */
+    public static int hashUnorderedParallel(final int seed, final char[] array) {
+        if (array == null || array.length < Multisets.PARALLEL_THRESHOLD) {
+            return hashUnordered(seed, array);
+        }
+        return hashUnorderedParallel(seed, array.length, i -> hash(SINGLE_VALUE, array[i]));
+    }
+
+    /**
+     * Calcula um <I>hash</I> de um array de <tt>double</tt> que n&atilde;o depende da ordem dos elementos, isto &eacute;, arrays com os mesmos elementos, em qualquer ordem, t&ecirc;m o
+     * mesmo <I>hash</I>.<BR>
+     * Os elementos de arrays grandes s&atilde;o calculados em paralelo, com o mesmo resultado do m&eacute;todo {@link #hashUnordered(int, double[])}.
+     * 
+     * @param seed
+     *            A semente ({@link #MULTI_VALUE aditiva} ou {@link #SINGLE_VALUE n&atilde;o aditiva}) para o c&aacute;lulo do <I>hash</I>
+     * @param array
+     *            O array do qual se deseja obter o <I>hash</I>.
+     * @return O valor <I>hash</I> calculado.
+     * @see EqualsUtils#equalUnorderedParallel(double[], double[])
+     */
+    public static int hashUnorderedParallel(final int seed, final double[] array) {
+        if (array == null || array.length < Multisets.PARALLEL_THRESHOLD) {
+            return hashUnordered(seed, array);
+        }
+        return hashUnorderedParallel(seed, array.length, i -> hash(SINGLE_VALUE, array[i]));
+    }
+
+    /**
+     * Calcula um <I>hash</I> de um array de <tt>float</tt> que n&atilde;o depende da ordem dos elementos, isto &eacute;, arrays com os mesmos elementos, em qualquer ordem, t&ecirc;m o
+     * mesmo <I>hash</I>.<BR>
+     * Os elementos de arrays grandes s&atilde;o calculados em paralelo, com o mesmo resultado do m&eacute;todo {@link #hashUnordered(int, float[])}.
+     * 
+     * @param seed
+     *            A semente ({@link #MULTI_VALUE aditiva} ou {@link #SINGLE_VALUE n&atilde;o aditiva}) para o c&aacute;lulo do <I>hash</I>
+     * @param array
+     *            O array do qual se deseja obter o <I>hash</I>.
+     * @return O valor <I>hash</I> calculado.
+     * @see EqualsUtils#equalUnorderedParallel(float[], float[])
+     */
+    public static int hashUnorderedParallel(final int seed, final float[] array) {
+        if (array == null || array.length < Multisets.PARALLEL_THRESHOLD) {
+            return hashUnordered(seed, array);
+        }
+        return hashUnorderedParallel(seed, array.length, i -> hash(SINGLE_VALUE, array[i]));
+    }
+
+    /**
+     * Calcula um <I>hash</I> de um array de <tt>int</tt> que n&atilde;o depende da ordem dos elementos, isto &eacute;, arrays com os mesmos elementos, em qualquer ordem, t&ecirc;m o
+     * mesmo <I>hash</I>.<BR>
+     * Os elementos de arrays grandes s&atilde;o calculados em paralelo, com o mesmo resultado do m&eacute;todo {@link #hashUnordered(int, int[])}.
+     * 
+     * @param seed
+     *            A semente ({@link #MULTI_VALUE aditiva} ou {@link #SINGLE_VALUE n&atilde;o aditiva}) para o c&aacute;lulo do <I>hash</I>
+     * @param array
+     *            O array do qual se deseja obter o <I>hash</I>.
+     * @return O valor <I>hash</I> calculado.
+     * @see EqualsUtils#equalUnorderedParallel(int[], int[])
+     */
+    public static int hashUnorderedParallel(final int seed, final int[] array) {
+        if (array == null || array.length < Multisets.PARALLEL_THRESHOLD) {
+            return hashUnordered(seed, array);
+        }
+        return hashUnorderedParallel(seed, array.length, i -> hash(SINGLE_VALUE, array[i]));
+    }
+
+    /**
+     * Calcula um <I>hash</I> de um array de <tt>long</tt> que n&atilde;o depende da ordem dos elementos, isto &eacute;, arrays com os mesmos elementos, em qualquer ordem, t&ecirc;m o
+     * mesmo <I>hash</I>.<BR>
+     * Os elementos de arrays grandes s&atilde;o calculados em paralelo, com o mesmo resultado do m&eacute;todo {@link #hashUnordered(int, long[])}.
+     * 
+     * @param seed
+     *            A semente ({@link #MULTI_VALUE aditiva} ou {@link #SINGLE_VALUE n&atilde;o aditiva}) para o c&aacute;lulo do <I>hash</I>
+     * @param array
+     *            O array do qual se deseja obter o <I>hash</I>.
+     * @return O valor <I>hash</I> calculado.
+     * @see EqualsUtils#equalUnorderedParallel(long[], long[])
+     */
+    public static int hashUnorderedParallel(final int seed, final long[] array) {
+        if (array == null || array.length < Multisets.PARALLEL_THRESHOLD) {
+            return hashUnordered(seed, array);
+        }
+        return hashUnorderedParallel(seed, array.length, i -> hash(SINGLE_VALUE, array[i]));
+    }
+
+    /**
+     * Calcula um <I>hash</I> de um array de <tt>Object</tt> que n&atilde;o depende da ordem dos elementos, isto &eacute;, arrays com os mesmos elementos, em qualquer ordem, t&ecirc;m o
+     * mesmo <I>hash</I>.<BR>
+     * Os elementos de arrays grandes s&atilde;o calculados em paralelo, com o mesmo resultado do m&eacute;todo {@link #hashUnordered(int, Object[])}.
+     * 
+     * @param seed
+     *            A semente ({@link #MULTI_VALUE aditiva} ou {@link #SINGLE_VALUE n&atilde;o aditiva}) para o c&aacute;lulo do <I>hash</I>
+     * @param array
+     *            O array do qual se deseja obter o <I>hash</I>.
+     * @return O valor <I>hash</I> calculado.
+     * @see EqualsUtils#equalUnorderedParallel(Object[], Object[])
+     */
+    public static int hashUnorderedParallel(final int seed, final Object[] array) {
+        if (array == null || array.length < Multisets.PARALLEL_THRESHOLD) {
+            return hashUnordered(seed, array);
+        }
+        return hashUnorderedParallel(seed, array.length, i -> hash(SINGLE_VALUE, array[i]));
+    }
+
+    /**
+     * Calcula um <I>hash</I> de um array de <tt>short</tt> que n&atilde;o depende da ordem dos elementos, isto &eacute;, arrays com os mesmos elementos, em qualquer ordem, t&ecirc;m o
+     * mesmo <I>hash</I>.<BR>
+     * Os elementos de arrays grandes s&atilde;o calculados em paralelo, com o mesmo resultado do m&eacute;todo {@link #hashUnordered(int, short[])}.
+     * 
+     * @param seed
+     *            A semente ({@link #MULTI_VALUE aditiva} ou {@link #SINGLE_VALUE n&atilde;o aditiva}) para o c&aacute;lulo do <I>hash</I>
+     * @param array
+     *            O array do qual se deseja obter o <I>hash</I>.
+     * @return O valor <I>hash</I> calculado.
+     * @see EqualsUtils#equalUnorderedParallel(short[], short[])
+     */
+    public static int hashUnorderedParallel(final int seed, final short[] array) {
+        if (array == null || array.length < Multisets.PARALLEL_THRESHOLD) {
+            return hashUnordered(seed, array);
+        }
+        return hashUnorderedParallel(seed, array.length, i -> hash(SINGLE_VALUE, array[i]));
+    }
+
+    /**
+     * Calcula um <I>hash</I> de uma {@link Collection} que n&atilde;o depende da ordem dos elementos, com o mesmo resultado do m&eacute;todo {@link #hashUnordered(int, Collection)}.<BR>
+     * Os elementos de cole&ccedil;&otilde;es grandes s&atilde;o calculados em paralelo.
+     * 
+     * @param seed
+     *            A semente ({@link #MULTI_VALUE aditiva} ou {@link #SINGLE_VALUE n&atilde;o aditiva}) para o c&aacute;lulo do <I>hash</I>
+     * @param collection
+     *            A cole&ccedil;&atilde;o da qual se deseja obter o <I>hash</I>.
+     * @return O valor <I>hash</I> calculado.
+     * @see EqualsUtils#equalUnorderedParallel(Collection, Collection)
+     */
+    public static int hashUnorderedParallel(final int seed, final Collection<?> collection) {
+        if (collection == null || collection.size() < Multisets.PARALLEL_THRESHOLD) {
+            return hashUnordered(seed, collection);
+        }
+        return hashUnorderedParallel(seed, collection.toArray());
+    }
+
+    /**
+     * Verifica se o <I>hash</I> das cole&ccedil;&otilde;es imut&aacute;veis est&aacute; sendo {@link #setCollectionHashCaching(boolean) guardado}.
+     * 
+     * @return <code>true</code> se estiver sendo guardado e <code>false</code> caso contr&aacute;rio.
+     */
+    public static boolean isCollectionHashCaching() {
+        return CollectionSupport.isCaching();
+    }
+
+    /**
+     * Atualiza o <I>hash</I> de um array de <tt>boolean</tt>, calculado pelo m&eacute;todo {@link #hash(int, boolean[])}, ap&oacute;s a altera&ccedil;&atilde;o de um &uacute;nico elemento, sem percorrer o
+     * array.<BR>
+     * Como o <I>hash</I> &eacute; um polin&ocirc;mio em 31, a altera&ccedil;&atilde;o do elemento da posi&ccedil;&atilde;o <code>index</code> s&oacute; muda o termo multiplicado por 31 elevado a
+     * <code>length - 1 - index</code>; o resultado &eacute; id&ecirc;ntico ao de recalcular o <I>hash</I> do array inteiro, qualquer que seja a semente utilizada.
+     * 
+     * @param hash
+     *            O <I>hash</I> do array antes da altera&ccedil;&atilde;o.
+     * @param length
+     *            O tamanho do array.
+     * @param index
+     *            A posi&ccedil;&atilde;o do elemento alterado.
+     * @param oldValue
+     *            O valor anterior do elemento.
+     * @param newValue
+     *            O novo valor do elemento.
+     * @return O <I>hash</I> do array ap&oacute;s a altera&ccedil;&atilde;o.
+     * @throws IndexOutOfBoundsException
+     *             Se a posi&ccedil;&atilde;o n&atilde;o estiver dentro do array.
+     */
+    public static int rehash(final int hash, final int length, final int index, final boolean oldValue, final boolean newValue) {
+        return rehash(hash, length, index, hash(SINGLE_VALUE, newValue) - hash(SINGLE_VALUE, oldValue));
+    }
+
+    /**
+     * Atualiza o <I>hash</I> de um array de <tt>byte</tt>, calculado pelo m&eacute;todo {@link #hash(int, byte[])}, ap&oacute;s a altera&ccedil;&atilde;o de um &uacute;nico elemento, sem percorrer o
+     * array.<BR>
+     * Como o <I>hash</I> &eacute; um polin&ocirc;mio em 31, a altera&ccedil;&atilde;o do elemento da posi&ccedil;&atilde;o <code>index</code> s&oacute; muda o termo multiplicado por 31 elevado a
+     * <code>length - 1 - index</code>; o resultado &eacute; id&ecirc;ntico ao de recalcular o <I>hash</I> do array inteiro, qualquer que seja a semente utilizada.
+     * 
+     * @param hash
+     *            O <I>hash</I> do array antes da altera&ccedil;&atilde;o.
+     * @param length
+     *            O tamanho do array.
+     * @param index
+     *            A posi&ccedil;&atilde;o do elemento alterado.
+     * @param oldValue
+     *            O valor anterior do elemento.
+     * @param newValue
+     *            O novo valor do elemento.
+     * @return O <I>hash</I> do array ap&oacute;s a altera&ccedil;&atilde;o.
+     * @throws IndexOutOfBoundsException
+     *             Se a posi&ccedil;&atilde;o n&atilde;o estiver dentro do array.
+     */
+    public static int rehash(final int hash, final int length, final int index, final byte oldValue, final byte newValue) {
+        return rehash(hash, length, index, hash(SINGLE_VALUE, newValue) - hash(SINGLE_VALUE, oldValue));
+    }
+
+    /**
+     * Atualiza o <I>hash</I> de um array de <tt>char</tt>, calculado pelo m&eacute;todo {@link #hash(int, char[])}, ap&oacute;s a altera&ccedil;&atilde;o de um &uacute;nico elemento, sem percorrer o
+     * array.<BR>
+     * Como o <I>hash</I> &eacute; um polin&ocirc;mio em 31, a altera&ccedil;&atilde;o do elemento da posi&ccedil;&atilde;o <code>index</code> s&oacute; muda o termo multiplicado por 31 elevado a
+     * <code>length - 1 - index</code>; o resultado &eacute; id&ecirc;ntico ao de recalcular o <I>hash</I> do array inteiro, qualquer que seja a semente utilizada.
+     * 
+     * @param hash
+     *            O <I>hash</I> do array antes da altera&ccedil;&atilde;o.
+     * @param length
+     *            O tamanho do array.
+     * @param index
+     *            A posi&ccedil;&atilde;o do elemento alterado.
+     * @param oldValue
+     *            O valor anterior do elemento.
+     * @param newValue
+     *            O novo valor do elemento.
+     * @return O <I>hash</I> do array ap&oacute;s a altera&ccedil;&atilde;o.
+     * @throws IndexOutOfBoundsException
+     *             Se a posi&ccedil;&atilde;o n&atilde;o estiver dentro do array.
+     */
+    public static int rehash(final int hash, final int length, final int index, final char oldValue, final char newValue) {
+        return rehash(hash, length, index, hash(SINGLE_VALUE, newValue) - hash(SINGLE_VALUE, oldValue));
+    }
+
+    /**
+     * Atualiza o <I>hash</I> de um array de <tt>double</tt>, calculado pelo m&eacute;todo {@link #hash(int, double[])}, ap&oacute;s a altera&ccedil;&atilde;o de um &uacute;nico elemento, sem percorrer o
+     * array.<BR>
+     * Como o <I>hash</I> &eacute; um polin&ocirc;mio em 31, a altera&ccedil;&atilde;o do elemento da posi&ccedil;&atilde;o <code>index</code> s&oacute; muda o termo multiplicado por 31 elevado a
+     * <code>length - 1 - index</code>; o resultado &eacute; id&ecirc;ntico ao de recalcular o <I>hash</I> do array inteiro, qualquer que seja a semente utilizada.
+     * 
+     * @param hash
+     *            O <I>hash</I> do array antes da altera&ccedil;&atilde;o.
+     * @param length
+     *            O tamanho do array.
+     * @param index
+     *            A posi&ccedil;&atilde;o do elemento alterado.
+     * @param oldValue
+     *            O valor anterior do elemento.
+     * @param newValue
+     *            O novo valor do elemento.
+     * @return O <I>hash</I> do array ap&oacute;s a altera&ccedil;&atilde;o.
+     * @throws IndexOutOfBoundsException
+     *             Se a posi&ccedil;&atilde;o n&atilde;o estiver dentro do array.
+     */
+    public static int rehash(final int hash, final int length, final int index, final double oldValue, final double newValue) {
+        return rehash(hash, length, index, hash(SINGLE_VALUE, newValue) - hash(SINGLE_VALUE, oldValue));
+    }
+
+    /**
+     * Atualiza o <I>hash</I> de um array de <tt>float</tt>, calculado pelo m&eacute;todo {@link #hash(int, float[])}, ap&oacute;s a altera&ccedil;&atilde;o de um &uacute;nico elemento, sem percorrer o
+     * array.<BR>
+     * Como o <I>hash</I> &eacute; um polin&ocirc;mio em 31, a altera&ccedil;&atilde;o do elemento da posi&ccedil;&atilde;o <code>index</code> s&oacute; muda o termo multiplicado por 31 elevado a
+     * <code>length - 1 - index</code>; o resultado &eacute; id&ecirc;ntico ao de recalcular o <I>hash</I> do array inteiro, qualquer que seja a semente utilizada.
+     * 
+     * @param hash
+     *            O <I>hash</I> do array antes da altera&ccedil;&atilde;o.
+     * @param length
+     *            O tamanho do array.
+     * @param index
+     *            A posi&ccedil;&atilde;o do elemento alterado.
+     * @param oldValue
+     *            O valor anterior do elemento.
+     * @param newValue
+     *            O novo valor do elemento.
+     * @return O <I>hash</I> do array ap&oacute;s a altera&ccedil;&atilde;o.
+     * @throws IndexOutOfBoundsException
+     *             Se a posi&ccedil;&atilde;o n&atilde;o estiver dentro do array.
+     */
+    public static int rehash(final int hash, final int length, final int index, final float oldValue, final float newValue) {
+        return rehash(hash, length, index, hash(SINGLE_VALUE, newValue) - hash(SINGLE_VALUE, oldValue));
+    }
+
+    /**
+     * Atualiza o <I>hash</I> de um array de <tt>int</tt>, calculado pelo m&eacute;todo {@link #hash(int, int[])}, ap&oacute;s a altera&ccedil;&atilde;o de um &uacute;nico elemento, sem percorrer o
+     * array.<BR>
+     * Como o <I>hash</I> &eacute; um polin&ocirc;mio em 31, a altera&ccedil;&atilde;o do elemento da posi&ccedil;&atilde;o <code>index</code> s&oacute; muda o termo multiplicado por 31 elevado a
+     * <code>length - 1 - index</code>; o resultado &eacute; id&ecirc;ntico ao de recalcular o <I>hash</I> do array inteiro, qualquer que seja a semente utilizada.
+     * 
+     * @param hash
+     *            O <I>hash</I> do array antes da altera&ccedil;&atilde;o.
+     * @param length
+     *            O tamanho do array.
+     * @param index
+     *            A posi&ccedil;&atilde;o do elemento alterado.
+     * @param oldValue
+     *            O valor anterior do elemento.
+     * @param newValue
+     *            O novo valor do elemento.
+     * @return O <I>hash</I> do array ap&oacute;s a altera&ccedil;&atilde;o.
+     * @throws IndexOutOfBoundsException
+     *             Se a posi&ccedil;&atilde;o n&atilde;o estiver dentro do array.
+     */
+    public static int rehash(final int hash, final int length, final int index, final int oldValue, final int newValue) {
+        return rehash(hash, length, index, hash(SINGLE_VALUE, newValue) - hash(SINGLE_VALUE, oldValue));
+    }
+
+    /**
+     * Atualiza o <I>hash</I> de um array de <tt>long</tt>, calculado pelo m&eacute;todo {@link #hash(int, long[])}, ap&oacute;s a altera&ccedil;&atilde;o de um &uacute;nico elemento, sem percorrer o
+     * array.<BR>
+     * Como o <I>hash</I> &eacute; um polin&ocirc;mio em 31, a altera&ccedil;&atilde;o do elemento da posi&ccedil;&atilde;o <code>index</code> s&oacute; muda o termo multiplicado por 31 elevado a
+     * <code>length - 1 - index</code>; o resultado &eacute; id&ecirc;ntico ao de recalcular o <I>hash</I> do array inteiro, qualquer que seja a semente utilizada.
+     * 
+     * @param hash
+     *            O <I>hash</I> do array antes da altera&ccedil;&atilde;o.
+     * @param length
+     *            O tamanho do array.
+     * @param index
+     *            A posi&ccedil;&atilde;o do elemento alterado.
+     * @param oldValue
+     *            O valor anterior do elemento.
+     * @param newValue
+     *            O novo valor do elemento.
+     * @return O <I>hash</I> do array ap&oacute;s a altera&ccedil;&atilde;o.
+     * @throws IndexOutOfBoundsException
+     *             Se a posi&ccedil;&atilde;o n&atilde;o estiver dentro do array.
+     */
+    public static int rehash(final int hash, final int length, final int index, final long oldValue, final long newValue) {
+        return rehash(hash, length, index, hash(SINGLE_VALUE, newValue) - hash(SINGLE_VALUE, oldValue));
+    }
+
+    /**
+     * Atualiza o <I>hash</I> de um array de <tt>Object</tt>, calculado pelo m&eacute;todo {@link #hash(int, Object[])}, ap&oacute;s a altera&ccedil;&atilde;o de um &uacute;nico elemento, sem percorrer o
+     * array.<BR>
+     * Como o <I>hash</I> &eacute; um polin&ocirc;mio em 31, a altera&ccedil;&atilde;o do elemento da posi&ccedil;&atilde;o <code>index</code> s&oacute; muda o termo multiplicado por 31 elevado a
+     * <code>length - 1 - index</code>; o resultado &eacute; id&ecirc;ntico ao de recalcular o <I>hash</I> do array inteiro, qualquer que seja a semente utilizada.
+     * 
+     * @param hash
+     *            O <I>hash</I> do array antes da altera&ccedil;&atilde;o.
+     * @param length
+     *            O tamanho do array.
+     * @param index
+     *            A posi&ccedil;&atilde;o do elemento alterado.
+     * @param oldValue
+     *            O valor anterior do elemento.
+     * @param newValue
+     *            O novo valor do elemento.
+     * @return O <I>hash</I> do array ap&oacute;s a altera&ccedil;&atilde;o.
+     * @throws IndexOutOfBoundsException
+     *             Se a posi&ccedil;&atilde;o n&atilde;o estiver dentro do array.
+     */
+    public static int rehash(final int hash, final int length, final int index, final Object oldValue, final Object newValue) {
+        return rehash(hash, length, index, hash(SINGLE_VALUE, newValue) - hash(SINGLE_VALUE, oldValue));
+    }
+
+    /**
+     * Atualiza o <I>hash</I> de um array de <tt>short</tt>, calculado pelo m&eacute;todo {@link #hash(int, short[])}, ap&oacute;s a altera&ccedil;&atilde;o de um &uacute;nico elemento, sem percorrer o
+     * array.<BR>
+     * Como o <I>hash</I> &eacute; um polin&ocirc;mio em 31, a altera&ccedil;&atilde;o do elemento da posi&ccedil;&atilde;o <code>index</code> s&oacute; muda o termo multiplicado por 31 elevado a
+     * <code>length - 1 - index</code>; o resultado &eacute; id&ecirc;ntico ao de recalcular o <I>hash</I> do array inteiro, qualquer que seja a semente utilizada.
+     * 
+     * @param hash
+     *            O <I>hash</I> do array antes da altera&ccedil;&atilde;o.
+     * @param length
+     *            O tamanho do array.
+     * @param index
+     *            A posi&ccedil;&atilde;o do elemento alterado.
+     * @param oldValue
+     *            O valor anterior do elemento.
+     * @param newValue
+     *            O novo valor do elemento.
+     * @return O <I>hash</I> do array ap&oacute;s a altera&ccedil;&atilde;o.
+     * @throws IndexOutOfBoundsException
+     *             Se a posi&ccedil;&atilde;o n&atilde;o estiver dentro do array.
+     */
+    public static int rehash(final int hash, final int length, final int index, final short oldValue, final short newValue) {
+        return rehash(hash, length, index, hash(SINGLE_VALUE, newValue) - hash(SINGLE_VALUE, oldValue));
+    }
+
+    /**
+     * Habilita ou desabilita a mem&oacute;ria do <I>hash</I> das cole&ccedil;&otilde;es imut&aacute;veis do pacote <code>java.util</code>, isto &eacute;, as criadas por
+     * <code>List.of</code>, <code>Set.of</code>, <code>Map.of</code> e pelos m&eacute;todos <code>empty</code> e <code>singleton</code> da classe {@link java.util.Collections}.<BR>
+     * Com a mem&oacute;ria habilitada, o <I>hash</I> de cada cole&ccedil;&atilde;o imut&aacute;vel &eacute; calculado uma &uacute;nica vez pelo m&eacute;todo {@link #hash(int, Object)}
+     * e memorizado pela refer&ecirc;ncia da cole&ccedil;&atilde;o, sem impedir que ela seja coletada. Como a cole&ccedil;&atilde;o ser imut&aacute;vel n&atilde;o impede que os seus
+     * elementos sejam alterados, s&oacute; deve ser habilitada quando os elementos tamb&eacute;m forem imut&aacute;veis. Por padr&atilde;o a mem&oacute;ria est&aacute; desabilitada.
+     * 
+     * @param enabled
+     *            <code>true</code> para habilitar e <code>false</code> para desabilitar, descartando os <I>hashes</I> memorizados.
+     */
+    public static void setCollectionHashCaching(final boolean enabled) {
+        CollectionSupport.setCaching(enabled);
+    }
+
+    // Verifica se o trecho [from, to) est&aacute; dentro de uma sequ&ecirc;ncia com o tamanho informado.
+    private static void checkRange(final int length, final int from, final int to) {
+        if (from > to) {
+            throw new IllegalArgumentException("from(" + from + ") > to(" + to + ")");
+        }
+        if (from < 0 || to > length) {
+            throw new IndexOutOfBoundsException("from: " + from + ", to: " + to + ", length: " + length);
+        }
+    }
+
     // Calcula o hash de um Object assumindo que ele &eacute; um array.
     private static int hashArray(final int seed, final Object object) {
         if (object instanceof byte[])
@@ -412,6 +1463,69 @@ public final class HashCodeUtils {
         throw new AssertionError("received non-array object {\n  object: " + object + "\n}");
     }
 
+    // Calcula o hash dos caracteres do trecho [from, to) com a mesma f&oacute;rmula do String.hashCode.
+    private static int hashChars(final CharSequence chars, final int from, final int to) {
+        int hash = 0;
+        for (int i = from; i < to; ++i) {
+            hash = PRIME * hash + chars.charAt(i);
+        }
+        return hash;
+    }
+
+    // Combina a soma e o produto dos elementos espalhados em um hash que n&atilde;o depende da ordem dos elementos.
+    private static int hashUnordered(final int seed, final int sum, final int product, final int length) {
+        return hash(seed, mix(sum ^ mix(product + length)));
+    }
+
+    // Calcula em paralelo, por trechos, a soma e o produto dos elementos espalhados.
+    private static int hashUnorderedParallel(final int seed, final int length, final IntUnaryOperator elementHash) {
+        final int chunks = (length + UNORDERED_CHUNK_SIZE - 1) / UNORDERED_CHUNK_SIZE;
+        final int[] partial = new int[chunks << 1];
+        IntStream.range(0, chunks).parallel().forEach(chunk -> {
+            final int from = chunk * UNORDERED_CHUNK_SIZE;
+            final int to = Math.min(from + UNORDERED_CHUNK_SIZE, length);
+            int sum = 0;
+            int product = 1;
+            for (int i = from; i < to; ++i) {
+                final int mixed = mix(elementHash.applyAsInt(i));
+                sum += mixed;
+                product *= mixed | 1;
+            }
+            partial[chunk << 1] = sum;
+            partial[(chunk << 1) + 1] = product;
+        });
+        int sum = 0;
+        int product = 1;
+        for (int chunk = 0; chunk < chunks; ++chunk) {
+            sum += partial[chunk << 1];
+            product *= partial[(chunk << 1) + 1];
+        }
+        return hashUnordered(seed, sum, product, length);
+    }
+
+    // Espalha os bits do valor (finaliza&ccedil;&atilde;o de 32 bits do MurmurHash3).
+    private static int mix(int value) {
+        value ^= value >>> 16;
+        value *= 0x85ebca6b;
+        value ^= value >>> 13;
+        value *= 0xc2b2ae35;
+        value ^= value >>> 16;
+        return value;
+    }
+
+    // 31 elevado ao expoente informado, com o mesmo transbordamento da aritm&eacute;tica int, em tempo constante.
+    private static int power(final int exponent) {
+        return Powers.LOW[exponent & Powers.MASK] * Powers.MIDDLE[(exponent >>> Powers.BITS) & Powers.MASK] * Powers.HIGH[exponent >>> (Powers.BITS << 1)];
+    }
+
+    // Soma ao hash a diferen&ccedil;a da contribui&ccedil;&atilde;o do elemento alterado, multiplicada por 31 elevado &agrave; quantidade de elementos seguintes.
+    private static int rehash(final int hash, final int length, final int index, final int difference) {
+        if (index < 0 || index >= length) {
+            throw new IndexOutOfBoundsException("index: " + index + ", length: " + length);
+        }
+        return hash + difference * power(length - 1 - index);
+    }
+
     // Construtor privado, classe utilit&aacute;ria n&atilde;o-instanciavel
     private HashCodeUtils() {
         throw new UnsupportedOperationException(getClass().getName() + " can not be instantiated");
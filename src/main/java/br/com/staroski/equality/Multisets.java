@@ -0,0 +1,297 @@
+package br.com.staroski.equality;
+
+import java.util.Arrays;
+import java.util.function.IntFunction;
+import java.util.function.IntToLongFunction;
+import java.util.stream.IntStream;
+
+// Contagem de elementos em tabelas de endere&ccedil;amento aberto, utilizada pelas compara&ccedil;&otilde;es sem ordem da classe EqualsUtils.
+// Os elementos do primeiro array s&atilde;o contados e os do segundo s&atilde;o descontados; como os arrays t&ecirc;m o mesmo tamanho, eles cont&ecirc;m os mesmos elementos
+// se nenhum desconto falhar. Nas vers&otilde;es paralelas, os &iacute;ndices dos elementos s&atilde;o distribu&iacute;dos em uma &uacute;nica passada entre parti&ccedil;&otilde;es
+// definidas pelo seu hash, e cada parti&ccedil;&atilde;o &eacute; contada independentemente, sem estruturas compartilhadas.
+final class Multisets {
+
+    // arrays grandes o suficiente para compensar as vers&otilde;es paralelas
+    static final int PARALLEL_THRESHOLD = 1 << 16;
+
+    // multiconjunto de valores primitivos, representados pelos seus bits
+    private static final class Bits {
+
+        private long[] keys;
+        private int[] counts;
+        private boolean[] used;
+        private int size;
+
+        Bits(int expectedSize) {
+            allocate(capacityFor(expectedSize));
+        }
+
+        void add(long key) {
+            int slot = slot(key);
+            while (used[slot]) {
+                if (keys[slot] == key) {
+                    counts[slot]++;
+                    return;
+                }
+                slot = (slot + 1) & (keys.length - 1);
+            }
+            used[slot] = true;
+            keys[slot] = key;
+            counts[slot] = 1;
+            if (++size > keys.length >>> 1) {
+                resize();
+            }
+        }
+
+        boolean remove(long key) {
+            int slot = slot(key);
+            while (used[slot]) {
+                if (keys[slot] == key) {
+                    return counts[slot]-- > 0;
+                }
+                slot = (slot + 1) & (keys.length - 1);
+            }
+            return false;
+        }
+
+        private void allocate(int capacity) {
+            keys = new long[capacity];
+            counts = new int[capacity];
+            used = new boolean[capacity];
+        }
+
+        private void resize() {
+            final long[] oldKeys = keys;
+            final int[] oldCounts = counts;
+            final boolean[] oldUsed = used;
+            allocate(oldKeys.length << 1);
+            for (int i = 0; i < oldKeys.length; i++) {
+                if (oldUsed[i]) {
+                    int slot = slot(oldKeys[i]);
+                    while (used[slot]) {
+                        slot = (slot + 1) & (keys.length - 1);
+                    }
+                    used[slot] = true;
+                    keys[slot] = oldKeys[i];
+                    counts[slot] = oldCounts[i];
+                }
+            }
+        }
+
+        private int slot(long key) {
+            return (int) (mix(key) >>> 32) & (keys.length - 1);
+        }
+    }
+
+    // multiconjunto de objetos, comparados atrav&eacute;s dos m&eacute;todos HashCodeUtils.hash(int, Object) e EqualsUtils.equal(Object, Object)
+    private static final class Objects {
+
+        private Object[] keys;
+        private int[] hashes;
+        private int[] counts;
+        private boolean[] used;
+        private int size;
+
+        Objects(int expectedSize) {
+            allocate(capacityFor(expectedSize));
+        }
+
+        void add(Object key, int hash) {
+            int slot = slot(hash);
+            while (used[slot]) {
+                if (hashes[slot] == hash && EqualsUtils.equal(keys[slot], key)) {
+                    counts[slot]++;
+                    return;
+                }
+                slot = (slot + 1) & (keys.length - 1);
+            }
+            used[slot] = true;
+            keys[slot] = key;
+            hashes[slot] = hash;
+            counts[slot] = 1;
+            if (++size > keys.length >>> 1) {
+                resize();
+            }
+        }
+
+        boolean remove(Object key, int hash) {
+            int slot = slot(hash);
+            while (used[slot]) {
+                if (hashes[slot] == hash && EqualsUtils.equal(keys[slot], key)) {
+                    return counts[slot]-- > 0;
+                }
+                slot = (slot + 1) & (keys.length - 1);
+            }
+            return false;
+        }
+
+        private void allocate(int capacity) {
+            keys = new Object[capacity];
+            hashes = new int[capacity];
+            counts = new int[capacity];
+            used = new boolean[capacity];
+        }
+
+        private void resize() {
+            final Object[] oldKeys = keys;
+            final int[] oldHashes = hashes;
+            final int[] oldCounts = counts;
+            final boolean[] oldUsed = used;
+            allocate(oldKeys.length << 1);
+            for (int i = 0; i < oldKeys.length; i++) {
+                if (oldUsed[i]) {
+                    int slot = slot(oldHashes[i]);
+                    while (used[slot]) {
+                        slot = (slot + 1) & (keys.length - 1);
+                    }
+                    used[slot] = true;
+                    keys[slot] = oldKeys[i];
+                    hashes[slot] = oldHashes[i];
+                    counts[slot] = oldCounts[i];
+                }
+            }
+        }
+
+        private int slot(int hash) {
+            return (int) (mix(hash) >>> 32) & (keys.length - 1);
+        }
+    }
+
+    // compara sem ordem os valores primitivos de dois arrays de mesmo tamanho, representados pelos seus bits
+    static boolean equalBits(final int length, final IntToLongFunction bits1, final IntToLongFunction bits2) {
+        final Bits counts = new Bits(length);
+        for (int i = 0; i < length; i++) {
+            counts.add(bits1.applyAsLong(i));
+        }
+        for (int i = 0; i < length; i++) {
+            if (!counts.remove(bits2.applyAsLong(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // idem, contando cada parti&ccedil;&atilde;o em paralelo; os bits s&atilde;o lidos uma &uacute;nica vez, tamb&eacute;m em paralelo
+    static boolean equalBitsParallel(final int length, final IntToLongFunction bits1, final IntToLongFunction bits2) {
+        final int partitions = partitions();
+        if (partitions == 1) {
+            return equalBits(length, bits1, bits2);
+        }
+        final long[] values1 = IntStream.range(0, length).parallel().mapToLong(bits1::applyAsLong).toArray();
+        final long[] values2 = IntStream.range(0, length).parallel().mapToLong(bits2::applyAsLong).toArray();
+        final int shift = 64 - Integer.numberOfTrailingZeros(partitions);
+        final int[] starts1 = new int[partitions + 1];
+        final int[] starts2 = new int[partitions + 1];
+        final int[] indices1 = scatter(IntStream.range(0, length).parallel().map(i -> (int) (mix(values1[i]) >>> shift)).toArray(), starts1);
+        final int[] indices2 = scatter(IntStream.range(0, length).parallel().map(i -> (int) (mix(values2[i]) >>> shift)).toArray(), starts2);
+        if (!Arrays.equals(starts1, starts2)) {
+            return false;
+        }
+        return IntStream.range(0, partitions).parallel().allMatch(partition -> {
+            final int from = starts1[partition];
+            final int to = starts1[partition + 1];
+            final Bits counts = new Bits(to - from);
+            for (int i = from; i < to; i++) {
+                counts.add(values1[indices1[i]]);
+            }
+            for (int i = from; i < to; i++) {
+                if (!counts.remove(values2[indices2[i]])) {
+                    return false;
+                }
+            }
+            return true;
+        });
+    }
+
+    // compara sem ordem os objetos de duas sequ&ecirc;ncias de mesmo tamanho
+    static boolean equalObjects(final int length, final IntFunction<?> objects1, final IntFunction<?> objects2) {
+        final Objects counts = new Objects(length);
+        for (int i = 0; i < length; i++) {
+            final Object object = objects1.apply(i);
+            counts.add(object, HashCodeUtils.hash(HashCodeUtils.SINGLE_VALUE, object));
+        }
+        for (int i = 0; i < length; i++) {
+            final Object object = objects2.apply(i);
+            if (!counts.remove(object, HashCodeUtils.hash(HashCodeUtils.SINGLE_VALUE, object))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // idem, contando cada parti&ccedil;&atilde;o em paralelo; os hashes s&atilde;o calculados uma &uacute;nica vez, tamb&eacute;m em paralelo
+    static boolean equalObjectsParallel(final int length, final IntFunction<?> objects1, final IntFunction<?> objects2) {
+        final int partitions = partitions();
+        if (partitions == 1) {
+            return equalObjects(length, objects1, objects2);
+        }
+        final int[] hashes1 = IntStream.range(0, length).parallel().map(i -> HashCodeUtils.hash(HashCodeUtils.SINGLE_VALUE, objects1.apply(i))).toArray();
+        final int[] hashes2 = IntStream.range(0, length).parallel().map(i -> HashCodeUtils.hash(HashCodeUtils.SINGLE_VALUE, objects2.apply(i))).toArray();
+        final int shift = 64 - Integer.numberOfTrailingZeros(partitions);
+        final int[] starts1 = new int[partitions + 1];
+        final int[] starts2 = new int[partitions + 1];
+        final int[] indices1 = scatter(IntStream.range(0, length).parallel().map(i -> (int) (mix(hashes1[i]) >>> shift)).toArray(), starts1);
+        final int[] indices2 = scatter(IntStream.range(0, length).parallel().map(i -> (int) (mix(hashes2[i]) >>> shift)).toArray(), starts2);
+        if (!Arrays.equals(starts1, starts2)) {
+            return false;
+        }
+        return IntStream.range(0, partitions).parallel().allMatch(partition -> {
+            final int from = starts1[partition];
+            final int to = starts1[partition + 1];
+            final Objects counts = new Objects(to - from);
+            for (int i = from; i < to; i++) {
+                final int index = indices1[i];
+                counts.add(objects1.apply(index), hashes1[index]);
+            }
+            for (int i = from; i < to; i++) {
+                final int index = indices2[i];
+                if (!counts.remove(objects2.apply(index), hashes2[index])) {
+                    return false;
+                }
+            }
+            return true;
+        });
+    }
+
+    private static int capacityFor(int expectedSize) {
+        final int minimum = Math.max(8, expectedSize * 2);
+        return minimum >= 1 << 30 ? 1 << 30 : Integer.highestOneBit(minimum - 1) << 1;
+    }
+
+    // espalha os bits do valor (finaliza&ccedil;&atilde;o de 64 bits do MurmurHash3)
+    private static long mix(long value) {
+        value ^= value >>> 33;
+        value *= 0xff51afd7ed558ccdL;
+        value ^= value >>> 33;
+        value *= 0xc4ceb9fe1a85ec53L;
+        value ^= value >>> 33;
+        return value;
+    }
+
+    // quantidade de parti&ccedil;&otilde;es das vers&otilde;es paralelas, uma pot&ecirc;ncia de dois
+    private static int partitions() {
+        final int processors = Runtime.getRuntime().availableProcessors();
+        return processors <= 1 ? 1 : Integer.highestOneBit(processors - 1) << 1;
+    }
+
+    // agrupa os &iacute;ndices dos elementos pela sua parti&ccedil;&atilde;o, em uma &uacute;nica passada; os &iacute;ndices da parti&ccedil;&atilde;o p ficam entre starts[p] e starts[p + 1]
+    private static int[] scatter(int[] partitionOf, int[] starts) {
+        for (int partition : partitionOf) {
+            starts[partition + 1]++;
+        }
+        for (int i = 1; i < starts.length; i++) {
+            starts[i] += starts[i - 1];
+        }
+        final int[] next = Arrays.copyOf(starts, starts.length - 1);
+        final int[] indices = new int[partitionOf.length];
+        for (int i = 0; i < partitionOf.length; i++) {
+            indices[next[partitionOf[i]]++] = i;
+        }
+        return indices;
+    }
+
+    // Construtor privado, classe utilit&aacute;ria n&atilde;o-instanciavel
+    private Multisets() {
+        throw new UnsupportedOperationException(getClass().getName() + " can not be instantiated");
+    }
+}
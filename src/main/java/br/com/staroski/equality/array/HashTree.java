@@ -0,0 +1,633 @@
+package br.com.staroski.equality.array;
+
+import java.io.IOException;
+import java.io.InvalidObjectException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import br.com.staroski.equality.HashCodeUtils;
+
+/**
+ * &Aacute;rvore de <I>hashes</I> (<I>Merkle tree</I>) de um array de tipo primitivo ou de um {@link ByteBuffer}, dividido em trechos de tamanho fixo.<BR>
+ * <BR>
+ * Cada folha &eacute; o <I>hash</I> de um trecho, com o mesmo valor de {@link HashCodeUtils#hash(int, int[]) HashCodeUtils.hash(SINGLE_VALUE, trecho)}, e cada n&oacute; interno
+ * combina os <I>hashes</I> dos seus dois filhos. Isso permite:<BR>
+ * - ap&oacute;s alterar o array, {@link #invalidate(int, int) invalidar} somente os trechos alterados, que s&atilde;o recalculados, junto com os seus ancestrais, na pr&oacute;xima
+ * {@link #update() atualiza&ccedil;&atilde;o};<BR>
+ * - {@link #diff(HashTree) comparar} duas &aacute;rvores a partir da raiz, descendo somente pelos n&oacute;s diferentes, encontrando os trechos diferentes com O(log n) compara&ccedil;&otilde;es
+ * de <I>hash</I> por trecho;<BR>
+ * - serializar a &aacute;rvore, que cont&eacute;m somente os <I>hashes</I>, para comparar arrays de processos diferentes sem transferir o seu conte&uacute;do.<BR>
+ * <BR>
+ * O array &eacute; referenciado sem c&oacute;pia, portanto toda altera&ccedil;&atilde;o deve ser seguida da invalida&ccedil;&atilde;o do trecho alterado. Uma &aacute;rvore desserializada
+ * n&atilde;o tem acesso ao array e s&oacute; pode ser comparada.<BR>
+ * Como qualquer <I>hash</I>, trechos com <I>hashes</I> diferentes certamente s&atilde;o diferentes, mas trechos com o mesmo <I>hash</I> s&atilde;o iguais somente com alta
+ * probabilidade.<BR>
+ * Esta classe n&atilde;o &eacute; <I>thread-safe</I>.
+ *
+ * <PRE>
+ * HashTree tree = HashTree.of(state, 4096);
+ * state[index] = value;
+ * tree.invalidate(index);
+ *
+ * List&lt;HashTree.Range&gt; changed = tree.diff(remoteTree);
+ * </PRE>
+ *
+ * @author Ricardo Artur Staroski
+ */
+public final class HashTree implements Serializable {
+
+    /**
+     * Trecho [{@link #from()}, {@link #to()}) de elementos diferentes entre duas &aacute;rvores.
+     *
+     * @author Ricardo Artur Staroski
+     */
+    public static final class Range implements Serializable {
+
+        private static final long serialVersionUID = 1L;
+
+        private final int from;
+        private final int to;
+
+        Range(int from, int to) {
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        public boolean equals(Object object) {
+            if (this == object) {
+                return true;
+            }
+            if (object instanceof Range) {
+                final Range that = (Range) object;
+                return this.from == that.from && this.to == that.to;
+            }
+            return false;
+        }
+
+        /**
+         * Obt&eacute;m a posi&ccedil;&atilde;o inicial do trecho, inclusiva.
+         *
+         * @return A posi&ccedil;&atilde;o inicial.
+         */
+        public int from() {
+            return from;
+        }
+
+        @Override
+        public int hashCode() {
+            return HashCodeUtils.hash(HashCodeUtils.hash(HashCodeUtils.MULTI_VALUE, from), to);
+        }
+
+        /**
+         * Obt&eacute;m a posi&ccedil;&atilde;o final do trecho, exclusiva.
+         *
+         * @return A posi&ccedil;&atilde;o final.
+         */
+        public int to() {
+            return to;
+        }
+
+        @Override
+        public String toString() {
+            return "[" + from + ", " + to + ")";
+        }
+    }
+
+    // calcula o hash do trecho [from, to) do array, com o mesmo valor de HashCodeUtils.hash(SINGLE_VALUE, trecho)
+    private interface Chunks {
+
+        int hash(int from, int to);
+    }
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Quantidade padr&atilde;o de elementos de cada trecho.
+     */
+    public static final int DEFAULT_CHUNK_SIZE = 1 << 12;
+
+    // tipo dos elementos, somente &aacute;rvores do mesmo tipo podem ser comparadas
+    private final String type;
+    private final int length;
+    private final int chunkSize;
+    private final int chunks;
+
+    // &aacute;rvore bin&aacute;ria completa em um array: a raiz fica na posi&ccedil;&atilde;o 1, os filhos do n&oacute; n nas posi&ccedil;&otilde;es 2n e 2n + 1 e as folhas a partir da posi&ccedil;&atilde;o
+    // capacity; as folhas al&eacute;m da quantidade de trechos s&atilde;o zero
+    private final int capacity;
+    private final int[] nodes;
+
+    // ausentes numa &aacute;rvore desserializada
+    private transient Chunks source;
+    private transient long[] dirty;
+    private transient int dirtyCount;
+
+    private HashTree(String type, int length, int chunkSize, Chunks source) {
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("chunkSize: " + chunkSize);
+        }
+        this.type = type;
+        this.length = length;
+        this.chunkSize = chunkSize;
+        this.chunks = chunksFor(length, chunkSize);
+        this.capacity = capacityFor(chunks);
+        this.nodes = new int[capacity << 1];
+        this.source = source;
+        this.dirty = new long[(chunks + 63) >>> 6];
+        IntStream.range(0, chunks).parallel().forEach(chunk -> nodes[capacity + chunk] = hashChunk(chunk));
+        for (int node = capacity - 1; node > 0; node--) {
+            nodes[node] = combine(node);
+        }
+    }
+
+    /**
+     * Obt&eacute;m a quantidade de elementos de cada trecho.
+     *
+     * @return A quantidade de elementos de cada trecho.
+     */
+    public int chunkSize() {
+        return chunkSize;
+    }
+
+    /**
+     * Compara esta &aacute;rvore com a &aacute;rvore informada, descendo a partir da raiz somente pelos n&oacute;s cujos <I>hashes</I> s&atilde;o diferentes.<BR>
+     * Os trechos invalidados das duas &aacute;rvores s&atilde;o {@link #update() atualizados} antes da compara&ccedil;&atilde;o.
+     *
+     * @param other
+     *            A outra &aacute;rvore, criada com o mesmo tipo de elemento, tamanho e tamanho de trecho.
+     * @return Os trechos de elementos diferentes, em ordem, com os trechos vizinhos unidos.
+     * @throws IllegalArgumentException
+     *             Se as &aacute;rvores n&atilde;o forem compar&aacute;veis.
+     */
+    public List<Range> diff(HashTree other) {
+        if (other == null) {
+            throw new IllegalArgumentException("null");
+        }
+        if (!type.equals(other.type) || length != other.length || chunkSize != other.chunkSize) {
+            throw new IllegalArgumentException("incompatible trees: " + this + ", " + other);
+        }
+        update();
+        other.update();
+        if (nodes[1] == other.nodes[1]) {
+            return Collections.emptyList();
+        }
+        final List<Range> ranges = new ArrayList<Range>();
+        diff(other, 1, ranges);
+        return ranges;
+    }
+
+    /**
+     * Compara esta &aacute;rvore com o objeto informado.
+     *
+     * @param object
+     *            O objeto a ser comparado.
+     * @return <code>true</code> se o objeto for uma &aacute;rvore compat&iacute;vel com os mesmos <I>hashes</I> e <code>false</code> caso contr&aacute;rio.
+     */
+    @Override
+    public boolean equals(Object object) {
+        if (this == object) {
+            return true;
+        }
+        if (object instanceof HashTree) {
+            final HashTree that = (HashTree) object;
+            if (!type.equals(that.type) || length != that.length || chunkSize != that.chunkSize) {
+                return false;
+            }
+            this.update();
+            that.update();
+            return Arrays.equals(this.nodes, that.nodes);
+        }
+        return false;
+    }
+
+    /**
+     * Obt&eacute;m o <I>hash</I> da raiz desta &aacute;rvore, {@link #update() atualizando} os trechos invalidados.
+     *
+     * @return O <I>hash</I> da raiz.
+     */
+    @Override
+    public int hashCode() {
+        update();
+        return nodes[1];
+    }
+
+    /**
+     * Invalida o trecho que cont&eacute;m o elemento da posi&ccedil;&atilde;o informada, ap&oacute;s a sua altera&ccedil;&atilde;o.
+     *
+     * @param index
+     *            A posi&ccedil;&atilde;o do elemento alterado.
+     */
+    public void invalidate(int index) {
+        invalidate(index, index + 1);
+    }
+
+    /**
+     * Invalida os trechos que cont&ecirc;m os elementos das posi&ccedil;&otilde;es [<code>from</code>, <code>to</code>), ap&oacute;s a sua altera&ccedil;&atilde;o.
+     *
+     * @param from
+     *            A posi&ccedil;&atilde;o inicial, inclusiva.
+     * @param to
+     *            A posi&ccedil;&atilde;o final, exclusiva.
+     * @throws IllegalStateException
+     *             Se esta &aacute;rvore foi desserializada e portanto n&atilde;o tem acesso ao array.
+     */
+    public void invalidate(int from, int to) {
+        if (from > to) {
+            throw new IllegalArgumentException("from(" + from + ") > to(" + to + ")");
+        }
+        if (from < 0 || to > length) {
+            throw new IndexOutOfBoundsException("from: " + from + ", to: " + to + ", length: " + length);
+        }
+        checkAttached();
+        if (from == to) {
+            return;
+        }
+        final int last = (to - 1) / chunkSize;
+        for (int chunk = from / chunkSize; chunk <= last; chunk++) {
+            final long bit = 1L << chunk;
+            if ((dirty[chunk >>> 6] & bit) == 0) {
+                dirty[chunk >>> 6] |= bit;
+                dirtyCount++;
+            }
+        }
+    }
+
+    /**
+     * Obt&eacute;m a quantidade de elementos do array.
+     *
+     * @return A quantidade de elementos.
+     */
+    public int length() {
+        return length;
+    }
+
+    /**
+     * Cria a &aacute;rvore de <I>hashes</I> de um array de <tt>boolean</tt>, com trechos de {@link #DEFAULT_CHUNK_SIZE} elementos.
+     *
+     * @param array
+     *            O array, referenciado sem c&oacute;pia.
+     * @return A &aacute;rvore de <I>hashes</I>.
+     */
+    public static HashTree of(final boolean[] array) {
+        return of(array, DEFAULT_CHUNK_SIZE);
+    }
+
+    /**
+     * Cria a &aacute;rvore de <I>hashes</I> de um array de <tt>boolean</tt>.
+     *
+     * @param array
+     *            O array, referenciado sem c&oacute;pia.
+     * @param chunkSize
+     *            A quantidade de elementos de cada trecho.
+     * @return A &aacute;rvore de <I>hashes</I>.
+     */
+    public static HashTree of(final boolean[] array, final int chunkSize) {
+        checkNull(array);
+        return new HashTree("boolean", array.length, chunkSize, (from, to) -> HashCodeUtils.hash(HashCodeUtils.SINGLE_VALUE, array, from, to));
+    }
+
+    /**
+     * Cria a &aacute;rvore de <I>hashes</I> de um array de <tt>byte</tt>, com trechos de {@link #DEFAULT_CHUNK_SIZE} elementos.
+     *
+     * @param array
+     *            O array, referenciado sem c&oacute;pia.
+     * @return A &aacute;rvore de <I>hashes</I>.
+     */
+    public static HashTree of(final byte[] array) {
+        return of(array, DEFAULT_CHUNK_SIZE);
+    }
+
+    /**
+     * Cria a &aacute;rvore de <I>hashes</I> de um array de <tt>byte</tt>.
+     *
+     * @param array
+     *            O array, referenciado sem c&oacute;pia.
+     * @param chunkSize
+     *            A quantidade de elementos de cada trecho.
+     * @return A &aacute;rvore de <I>hashes</I>.
+     */
+    public static HashTree of(final byte[] array, final int chunkSize) {
+        checkNull(array);
+        return new HashTree("byte", array.length, chunkSize, (from, to) -> HashCodeUtils.hash(HashCodeUtils.SINGLE_VALUE, array, from, to));
+    }
+
+    /**
+     * Cria a &aacute;rvore de <I>hashes</I> dos bytes restantes de um {@link ByteBuffer}, isto &eacute;, entre a sua posi&ccedil;&atilde;o e o seu limite no momento da
+     * cria&ccedil;&atilde;o, com trechos de {@link #DEFAULT_CHUNK_SIZE} elementos.<BR>
+     * A &aacute;rvore &eacute; compat&iacute;vel com a de um array de <tt>byte</tt> com o mesmo conte&uacute;do.
+     *
+     * @param buffer
+     *            O <I>buffer</I>, lido com posi&ccedil;&otilde;es absolutas, sem alterar a sua posi&ccedil;&atilde;o.
+     * @return A &aacute;rvore de <I>hashes</I>.
+     */
+    public static HashTree of(final ByteBuffer buffer) {
+        return of(buffer, DEFAULT_CHUNK_SIZE);
+    }
+
+    /**
+     * Cria a &aacute;rvore de <I>hashes</I> dos bytes restantes de um {@link ByteBuffer}, isto &eacute;, entre a sua posi&ccedil;&atilde;o e o seu limite no momento da
+     * cria&ccedil;&atilde;o.<BR>
+     * A &aacute;rvore &eacute; compat&iacute;vel com a de um array de <tt>byte</tt> com o mesmo conte&uacute;do.
+     *
+     * @param buffer
+     *            O <I>buffer</I>, lido com posi&ccedil;&otilde;es absolutas, sem alterar a sua posi&ccedil;&atilde;o.
+     * @param chunkSize
+     *            A quantidade de elementos de cada trecho.
+     * @return A &aacute;rvore de <I>hashes</I>.
+     */
+    public static HashTree of(final ByteBuffer buffer, final int chunkSize) {
+        checkNull(buffer);
+        final int offset = buffer.position();
+        return new HashTree("byte", buffer.remaining(), chunkSize, (from, to) -> {
+            int hash = HashCodeUtils.MULTI_VALUE;
+            for (int i = from; i < to; i++) {
+                hash = HashCodeUtils.hash(hash, buffer.get(offset + i));
+            }
+            return HashCodeUtils.hash(HashCodeUtils.SINGLE_VALUE, hash);
+        });
+    }
+
+    /**
+     * Cria a &aacute;rvore de <I>hashes</I> de um array de <tt>char</tt>, com trechos de {@link #DEFAULT_CHUNK_SIZE} elementos.
+     *
+     * @param array
+     *            O array, referenciado sem c&oacute;pia.
+     * @return A &aacute;rvore de <I>hashes</I>.
+     */
+    public static HashTree of(final char[] array) {
+        return of(array, DEFAULT_CHUNK_SIZE);
+    }
+
+    /**
+     * Cria a &aacute;rvore de <I>hashes</I> de um array de <tt>char</tt>.
+     *
+     * @param array
+     *            O array, referenciado sem c&oacute;pia.
+     * @param chunkSize
+     *            A quantidade de elementos de cada trecho.
+     * @return A &aacute;rvore de <I>hashes</I>.
+     */
+    public static HashTree of(final char[] array, final int chunkSize) {
+        checkNull(array);
+        return new HashTree("char", array.length, chunkSize, (from, to) -> HashCodeUtils.hash(HashCodeUtils.SINGLE_VALUE, array, from, to));
+    }
+
+    /**
+     * Cria a &aacute;rvore de <I>hashes</I> de um array de <tt>double</tt>, com trechos de {@link #DEFAULT_CHUNK_SIZE} elementos.
+     *
+     * @param array
+     *            O array, referenciado sem c&oacute;pia.
+     * @return A &aacute;rvore de <I>hashes</I>.
+     */
+    public static HashTree of(final double[] array) {
+        return of(array, DEFAULT_CHUNK_SIZE);
+    }
+
+    /**
+     * Cria a &aacute;rvore de <I>hashes</I> de um array de <tt>double</tt>.
+     *
+     * @param array
+     *            O array, referenciado sem c&oacute;pia.
+     * @param chunkSize
+     *            A quantidade de elementos de cada trecho.
+     * @return A &aacute;rvore de <I>hashes</I>.
+     */
+    public static HashTree of(final double[] array, final int chunkSize) {
+        checkNull(array);
+        return new HashTree("double", array.length, chunkSize, (from, to) -> HashCodeUtils.hash(HashCodeUtils.SINGLE_VALUE, array, from, to));
+    }
+
+    /**
+     * Cria a &aacute;rvore de <I>hashes</I> de um array de <tt>float</tt>, com trechos de {@link #DEFAULT_CHUNK_SIZE} elementos.
+     *
+     * @param array
+     *            O array, referenciado sem c&oacute;pia.
+     * @return A &aacute;rvore de <I>hashes</I>.
+     */
+    public static HashTree of(final float[] array) {
+        return of(array, DEFAULT_CHUNK_SIZE);
+    }
+
+    /**
+     * Cria a &aacute;rvore de <I>hashes</I> de um array de <tt>float</tt>.
+     *
+     * @param array
+     *            O array, referenciado sem c&oacute;pia.
+     * @param chunkSize
+     *            A quantidade de elementos de cada trecho.
+     * @return A &aacute;rvore de <I>hashes</I>.
+     */
+    public static HashTree of(final float[] array, final int chunkSize) {
+        checkNull(array);
+        return new HashTree("float", array.length, chunkSize, (from, to) -> HashCodeUtils.hash(HashCodeUtils.SINGLE_VALUE, array, from, to));
+    }
+
+    /**
+     * Cria a &aacute;rvore de <I>hashes</I> de um array de <tt>int</tt>, com trechos de {@link #DEFAULT_CHUNK_SIZE} elementos.
+     *
+     * @param array
+     *            O array, referenciado sem c&oacute;pia.
+     * @return A &aacute;rvore de <I>hashes</I>.
+     */
+    public static HashTree of(final int[] array) {
+        return of(array, DEFAULT_CHUNK_SIZE);
+    }
+
+    /**
+     * Cria a &aacute;rvore de <I>hashes</I> de um array de <tt>int</tt>.
+     *
+     * @param array
+     *            O array, referenciado sem c&oacute;pia.
+     * @param chunkSize
+     *            A quantidade de elementos de cada trecho.
+     * @return A &aacute;rvore de <I>hashes</I>.
+     */
+    public static HashTree of(final int[] array, final int chunkSize) {
+        checkNull(array);
+        return new HashTree("int", array.length, chunkSize, (from, to) -> HashCodeUtils.hash(HashCodeUtils.SINGLE_VALUE, array, from, to));
+    }
+
+    /**
+     * Cria a &aacute;rvore de <I>hashes</I> de um array de <tt>long</tt>, com trechos de {@link #DEFAULT_CHUNK_SIZE} elementos.
+     *
+     * @param array
+     *            O array, referenciado sem c&oacute;pia.
+     * @return A &aacute;rvore de <I>hashes</I>.
+     */
+    public static HashTree of(final long[] array) {
+        return of(array, DEFAULT_CHUNK_SIZE);
+    }
+
+    /**
+     * Cria a &aacute;rvore de <I>hashes</I> de um array de <tt>long</tt>.
+     *
+     * @param array
+     *            O array, referenciado sem c&oacute;pia.
+     * @param chunkSize
+     *            A quantidade de elementos de cada trecho.
+     * @return A &aacute;rvore de <I>hashes</I>.
+     */
+    public static HashTree of(final long[] array, final int chunkSize) {
+        checkNull(array);
+        return new HashTree("long", array.length, chunkSize, (from, to) -> HashCodeUtils.hash(HashCodeUtils.SINGLE_VALUE, array, from, to));
+    }
+
+    /**
+     * Cria a &aacute;rvore de <I>hashes</I> de um array de <tt>short</tt>, com trechos de {@link #DEFAULT_CHUNK_SIZE} elementos.
+     *
+     * @param array
+     *            O array, referenciado sem c&oacute;pia.
+     * @return A &aacute;rvore de <I>hashes</I>.
+     */
+    public static HashTree of(final short[] array) {
+        return of(array, DEFAULT_CHUNK_SIZE);
+    }
+
+    /**
+     * Cria a &aacute;rvore de <I>hashes</I> de um array de <tt>short</tt>.
+     *
+     * @param array
+     *            O array, referenciado sem c&oacute;pia.
+     * @param chunkSize
+     *            A quantidade de elementos de cada trecho.
+     * @return A &aacute;rvore de <I>hashes</I>.
+     */
+    public static HashTree of(final short[] array, final int chunkSize) {
+        checkNull(array);
+        return new HashTree("short", array.length, chunkSize, (from, to) -> HashCodeUtils.hash(HashCodeUtils.SINGLE_VALUE, array, from, to));
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + "[type: " + type + ", length: " + length + ", chunkSize: " + chunkSize + "]";
+    }
+
+    /**
+     * Recalcula os <I>hashes</I> dos trechos invalidados e dos seus ancestrais.
+     *
+     * @return A quantidade de trechos recalculados.
+     */
+    public int update() {
+        if (dirtyCount == 0) {
+            return 0;
+        }
+        final int updated = dirtyCount;
+        for (int word = 0; word < dirty.length; word++) {
+            long bits = dirty[word];
+            while (bits != 0) {
+                final int chunk = (word << 6) + Long.numberOfTrailingZeros(bits);
+                bits &= bits - 1;
+                nodes[capacity + chunk] = hashChunk(chunk);
+            }
+        }
+        // recalcula cada ancestral uma &uacute;nica vez, n&iacute;vel por n&iacute;vel, aproveitando a ordem das folhas invalidadas
+        for (int level = capacity >>> 1; level > 0; level >>>= 1) {
+            int previous = 0;
+            for (int word = 0; word < dirty.length; word++) {
+                long bits = dirty[word];
+                while (bits != 0) {
+                    final int chunk = (word << 6) + Long.numberOfTrailingZeros(bits);
+                    bits &= bits - 1;
+                    final int node = (capacity + chunk) / (capacity / level);
+                    if (node != previous) {
+                        nodes[node] = combine(node);
+                        previous = node;
+                    }
+                }
+            }
+        }
+        Arrays.fill(dirty, 0L);
+        dirtyCount = 0;
+        return updated;
+    }
+
+    // quantidade de folhas: a menor pot&ecirc;ncia de dois que comporta todos os trechos
+    private static int capacityFor(int chunks) {
+        return chunks <= 1 ? 1 : Integer.highestOneBit(chunks - 1) << 1;
+    }
+
+    private void checkAttached() {
+        if (source == null) {
+            throw new IllegalStateException("detached tree: " + this);
+        }
+    }
+
+    private static void checkNull(final Object source) {
+        if (source == null) {
+            throw new IllegalArgumentException("null");
+        }
+    }
+
+    private static int chunksFor(int length, int chunkSize) {
+        return (int) (((long) length + chunkSize - 1) / chunkSize);
+    }
+
+    // combina os hashes dos dois filhos do n&oacute;
+    private int combine(int node) {
+        return HashCodeUtils.hash(HashCodeUtils.hash(HashCodeUtils.MULTI_VALUE, nodes[node << 1]), nodes[(node << 1) + 1]);
+    }
+
+    // desce pelos n&oacute;s diferentes, acumulando os trechos diferentes e unindo os vizinhos
+    private void diff(HashTree other, int node, List<Range> ranges) {
+        if (nodes[node] == other.nodes[node]) {
+            return;
+        }
+        if (node < capacity) {
+            diff(other, node << 1, ranges);
+            diff(other, (node << 1) + 1, ranges);
+            return;
+        }
+        final int chunk = node - capacity;
+        final int from = chunk * chunkSize;
+        final int to = (int) Math.min((long) from + chunkSize, length);
+        final int last = ranges.size() - 1;
+        if (last >= 0 && ranges.get(last).to == from) {
+            ranges.set(last, new Range(ranges.get(last).from, to));
+        } else {
+            ranges.add(new Range(from, to));
+        }
+    }
+
+    private int hashChunk(int chunk) {
+        final int from = chunk * chunkSize;
+        return source.hash(from, (int) Math.min((long) from + chunkSize, length));
+    }
+
+    // recalcula a estrutura a partir do tamanho e do tamanho de trecho, rejeitando dados inconsistentes que corromperiam as compara&ccedil;&otilde;es
+    private void readObject(ObjectInputStream input) throws IOException, ClassNotFoundException {
+        input.defaultReadObject();
+        if (type == null || length < 0 || chunkSize < 1) {
+            throw new InvalidObjectException("type: " + type + ", length: " + length + ", chunkSize: " + chunkSize);
+        }
+        if (chunks != chunksFor(length, chunkSize) || capacity != capacityFor(chunks)) {
+            throw new InvalidObjectException("chunks: " + chunks + ", capacity: " + capacity + ", length: " + length + ", chunkSize: " + chunkSize);
+        }
+        if (nodes == null || nodes.length != capacity << 1) {
+            throw new InvalidObjectException("nodes: " + (nodes == null ? null : nodes.length) + ", capacity: " + capacity);
+        }
+        for (int leaf = capacity + chunks; leaf < nodes.length; leaf++) {
+            if (nodes[leaf] != 0) {
+                throw new InvalidObjectException("non-empty leaf beyond chunks: " + (leaf - capacity));
+            }
+        }
+        for (int node = capacity - 1; node > 0; node--) {
+            if (nodes[node] != combine(node)) {
+                throw new InvalidObjectException("inconsistent node: " + node);
+            }
+        }
+    }
+
+    // atualiza os trechos invalidados antes de serializar, pois a &aacute;rvore desserializada n&atilde;o poder&aacute; recalcul&aacute;-los
+    private void writeObject(ObjectOutputStream output) throws IOException {
+        update();
+        output.defaultWriteObject();
+    }
+}
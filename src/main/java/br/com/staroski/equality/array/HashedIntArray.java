@@ -0,0 +1,132 @@
+package br.com.staroski.equality.array;
+
+import java.util.Arrays;
+
+import br.com.staroski.equality.HashCodeUtils;
+
+/**
+ * Array de <tt>int</tt> de tamanho fixo que mant&eacute;m o <I>hash</I> do seu conte&uacute;do sempre atualizado.<BR>
+ * <BR>
+ * O <I>hash</I> &eacute; o mesmo de {@link HashCodeUtils#hash(int, int[])} com a semente {@link HashCodeUtils#SINGLE_VALUE}, por&eacute;m cada escrita atrav&eacute;s de
+ * {@link #set(int, int)} o atualiza em tempo constante com {@link HashCodeUtils#rehash(int, int, int, int, int)}, ao inv&eacute;s de percorrer o array inteiro. &Uacute;til quando o
+ * <I>hash</I> de um array grande e mut&aacute;vel &eacute; utilizado como vers&atilde;o do seu conte&uacute;do.<BR>
+ * <BR>
+ * Esta classe n&atilde;o &eacute; <I>thread-safe</I>.
+ *
+ * @author Ricardo Artur Staroski
+ * @see HashedLongArray
+ */
+public final class HashedIntArray {
+
+    private final int[] array;
+    private int hash;
+
+    /**
+     * Cria um {@link HashedIntArray} com o tamanho informado e todos os elementos iguais a zero.
+     *
+     * @param length
+     *            O tamanho do array.
+     */
+    public HashedIntArray(int length) {
+        this(new int[length], false);
+    }
+
+    /**
+     * Cria um {@link HashedIntArray} com uma c&oacute;pia do array informado.
+     *
+     * @param array
+     *            O array a ser copiado.
+     */
+    public HashedIntArray(int[] array) {
+        this(array, true);
+    }
+
+    private HashedIntArray(int[] array, boolean copy) {
+        if (array == null) {
+            throw new IllegalArgumentException("null");
+        }
+        this.array = copy ? array.clone() : array;
+        this.hash = HashCodeUtils.hash(HashCodeUtils.SINGLE_VALUE, this.array);
+    }
+
+    /**
+     * Compara este array com o objeto informado.
+     *
+     * @param object
+     *            O objeto a ser comparado.
+     * @return <code>true</code> se o objeto for um {@link HashedIntArray} com o mesmo conte&uacute;do e <code>false</code> caso contr&aacute;rio.
+     */
+    @Override
+    public boolean equals(Object object) {
+        if (this == object) {
+            return true;
+        }
+        if (object instanceof HashedIntArray) {
+            final HashedIntArray that = (HashedIntArray) object;
+            return this.hash == that.hash && Arrays.equals(this.array, that.array);
+        }
+        return false;
+    }
+
+    /**
+     * Obt&eacute;m o elemento da posi&ccedil;&atilde;o informada.
+     *
+     * @param index
+     *            A posi&ccedil;&atilde;o do elemento.
+     * @return O elemento.
+     */
+    public int get(int index) {
+        return array[index];
+    }
+
+    /**
+     * Obt&eacute;m o <I>hash</I> do conte&uacute;do deste array, sem percorr&ecirc;-lo.
+     *
+     * @return O mesmo valor de {@link HashCodeUtils#hash(int, int[]) HashCodeUtils.hash(SINGLE_VALUE, toArray())}.
+     */
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+
+    /**
+     * Obt&eacute;m o tamanho deste array.
+     *
+     * @return O tamanho.
+     */
+    public int length() {
+        return array.length;
+    }
+
+    /**
+     * Altera o elemento da posi&ccedil;&atilde;o informada, atualizando o <I>hash</I> em tempo constante.
+     *
+     * @param index
+     *            A posi&ccedil;&atilde;o do elemento.
+     * @param value
+     *            O novo valor do elemento.
+     * @return O valor anterior do elemento.
+     */
+    public int set(int index, int value) {
+        final int old = array[index];
+        if (old != value) {
+            array[index] = value;
+            hash = HashCodeUtils.rehash(hash, array.length, index, old, value);
+        }
+        return old;
+    }
+
+    /**
+     * Obt&eacute;m uma c&oacute;pia do conte&uacute;do deste array.
+     *
+     * @return A c&oacute;pia.
+     */
+    public int[] toArray() {
+        return array.clone();
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(array);
+    }
+}
@@ -97,6 +97,21 @@ public abstract class HashCodeBuilder {
             return new BooleanArrayBuilder(appendSeed(), value);
         }
 
+        /**
+         * Adiciona uma contribuição do trecho [<code>from</code>, <code>to</code>) de um <t>boolean[]</t> ao cálculo do <code>hashCode</code>, sem copiá-lo
+         * 
+         * @param value
+         *            O array que contém o trecho a ser adicionado
+         * @param from
+         *            A posição inicial do trecho, inclusiva
+         * @param to
+         *            A posição final do trecho, exclusiva
+         * @return Uma intância de {@link Builder}
+         */
+        public Builder and(boolean[] value, int from, int to) {
+            return new BooleanArrayRangeBuilder(appendSeed(), value, from, to);
+        }
+
         /**
          * Adiciona uma contribuição do tipo <t>byte</t> ao cálculo do <code>hashCode</code>
          * 
@@ -119,6 +134,21 @@ public abstract class HashCodeBuilder {
             return new ByteArrayBuilder(appendSeed(), value);
         }
 
+        /**
+         * Adiciona uma contribuição do trecho [<code>from</code>, <code>to</code>) de um <t>byte[]</t> ao cálculo do <code>hashCode</code>, sem copiá-lo
+         * 
+         * @param value
+         *            O array que contém o trecho a ser adicionado
+         * @param from
+         *            A posição inicial do trecho, inclusiva
+         * @param to
+         *            A posição final do trecho, exclusiva
+         * @return Uma intância de {@link Builder}
+         */
+        public Builder and(byte[] value, int from, int to) {
+            return new ByteArrayRangeBuilder(appendSeed(), value, from, to);
+        }
+
         /**
          * Adiciona uma contribuição do tipo <t>char</t> ao cálculo do <code>hashCode</code>
          * 
@@ -141,6 +171,21 @@ public abstract class HashCodeBuilder {
             return new CharArrayBuilder(appendSeed(), value);
         }
 
+        /**
+         * Adiciona uma contribuição do trecho [<code>from</code>, <code>to</code>) de um <t>char[]</t> ao cálculo do <code>hashCode</code>, sem copiá-lo
+         * 
+         * @param value
+         *            O array que contém o trecho a ser adicionado
+         * @param from
+         *            A posição inicial do trecho, inclusiva
+         * @param to
+         *            A posição final do trecho, exclusiva
+         * @return Uma intância de {@link Builder}
+         */
+        public Builder and(char[] value, int from, int to) {
+            return new CharArrayRangeBuilder(appendSeed(), value, from, to);
+        }
+
         /**
          * Adiciona uma contribuição do tipo <t>double</t> ao cálculo do <code>hashCode</code>
          * 
@@ -163,6 +208,21 @@ public abstract class HashCodeBuilder {
             return new DoubleArrayBuilder(appendSeed(), value);
         }
 
+        /**
+         * Adiciona uma contribuição do trecho [<code>from</code>, <code>to</code>) de um <t>double[]</t> ao cálculo do <code>hashCode</code>, sem copiá-lo
+         * 
+         * @param value
+         *            O array que contém o trecho a ser adicionado
+         * @param from
+         *            A posição inicial do trecho, inclusiva
+         * @param to
+         *            A posição final do trecho, exclusiva
+         * @return Uma intância de {@link Builder}
+         */
+        public Builder and(double[] value, int from, int to) {
+            return new DoubleArrayRangeBuilder(appendSeed(), value, from, to);
+        }
+
         /**
          * Adiciona uma contribuição do tipo <t>float</t> ao cálculo do <code>hashCode</code>
          * 
@@ -185,6 +245,21 @@ public abstract class HashCodeBuilder {
             return new FloatArrayBuilder(appendSeed(), value);
         }
 
+        /**
+         * Adiciona uma contribuição do trecho [<code>from</code>, <code>to</code>) de um <t>float[]</t> ao cálculo do <code>hashCode</code>, sem copiá-lo
+         * 
+         * @param value
+         *            O array que contém o trecho a ser adicionado
+         * @param from
+         *            A posição inicial do trecho, inclusiva
+         * @param to
+         *            A posição final do trecho, exclusiva
+         * @return Uma intância de {@link Builder}
+         */
+        public Builder and(float[] value, int from, int to) {
+            return new FloatArrayRangeBuilder(appendSeed(), value, from, to);
+        }
+
         /**
          * Adiciona uma contribuição do tipo <t>int</t> ao cálculo do <code>hashCode</code>
          * 
@@ -207,6 +282,21 @@ public abstract class HashCodeBuilder {
             return new IntArrayBuilder(appendSeed(), value);
         }
 
+        /**
+         * Adiciona uma contribuição do trecho [<code>from</code>, <code>to</code>) de um <t>int[]</t> ao cálculo do <code>hashCode</code>, sem copiá-lo
+         * 
+         * @param value
+         *            O array que contém o trecho a ser adicionado
+         * @param from
+         *            A posição inicial do trecho, inclusiva
+         * @param to
+         *            A posição final do trecho, exclusiva
+         * @return Uma intância de {@link Builder}
+         */
+        public Builder and(int[] value, int from, int to) {
+            return new IntArrayRangeBuilder(appendSeed(), value, from, to);
+        }
+
         /**
          * Adiciona uma contribuição do tipo <t>long</t> ao cálculo do <code>hashCode</code>
          * 
@@ -229,6 +319,21 @@ public abstract class HashCodeBuilder {
             return new LongArrayBuilder(appendSeed(), value);
         }
 
+        /**
+         * Adiciona uma contribuição do trecho [<code>from</code>, <code>to</code>) de um <t>long[]</t> ao cálculo do <code>hashCode</code>, sem copiá-lo
+         * 
+         * @param value
+         *            O array que contém o trecho a ser adicionado
+         * @param from
+         *            A posição inicial do trecho, inclusiva
+         * @param to
+         *            A posição final do trecho, exclusiva
+         * @return Uma intância de {@link Builder}
+         */
+        public Builder and(long[] value, int from, int to) {
+            return new LongArrayRangeBuilder(appendSeed(), value, from, to);
+        }
+
         /**
          * Adiciona uma contribuição do tipo <t>Object</t> ao cálculo do <code>hashCode</code>
          * 
@@ -251,6 +356,21 @@ public abstract class HashCodeBuilder {
             return new ObjectBuilder(appendSeed(), value);
         }
 
+        /**
+         * Adiciona uma contribuição do trecho [<code>from</code>, <code>to</code>) de um <t>Object[]</t> ao cálculo do <code>hashCode</code>, sem copiá-lo
+         * 
+         * @param value
+         *            O array que contém o trecho a ser adicionado
+         * @param from
+         *            A posição inicial do trecho, inclusiva
+         * @param to
+         *            A posição final do trecho, exclusiva
+         * @return Uma intância de {@link Builder}
+         */
+        public Builder and(Object[] value, int from, int to) {
+            return new ObjectArrayRangeBuilder(appendSeed(), value, from, to);
+        }
+
         /**
          * Adiciona uma contribuição do tipo <t>short</t> ao cálculo do <code>hashCode</code>
          * 
@@ -273,6 +393,21 @@ public abstract class HashCodeBuilder {
             return new ShortArrayBuilder(appendSeed(), value);
         }
 
+        /**
+         * Adiciona uma contribuição do trecho [<code>from</code>, <code>to</code>) de um <t>short[]</t> ao cálculo do <code>hashCode</code>, sem copiá-lo
+         * 
+         * @param value
+         *            O array que contém o trecho a ser adicionado
+         * @param from
+         *            A posição inicial do trecho, inclusiva
+         * @param to
+         *            A posição final do trecho, exclusiva
+         * @return Uma intância de {@link Builder}
+         */
+        public Builder and(short[] value, int from, int to) {
+            return new ShortArrayRangeBuilder(appendSeed(), value, from, to);
+        }
+
         /**
          * Retorna o <code>hashCode</code> calculado por este {@link Builder}.
          * 
@@ -314,6 +449,25 @@ public abstract class HashCodeBuilder {
         }
     }
 
+    private static final class BooleanArrayRangeBuilder extends Builder {
+
+        private final boolean[] value;
+        private final int from;
+        private final int to;
+
+        BooleanArrayRangeBuilder(Number seed, boolean[] value, int from, int to) {
+            super(seed);
+            this.value = value;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        int compute(int seed) {
+            return HashCodeUtils.hash(seed, value, from, to);
+        }
+    }
+
     private static final class BooleanBuilder extends Builder {
 
         private final boolean value;
@@ -344,6 +498,25 @@ public abstract class HashCodeBuilder {
         }
     }
 
+    private static final class ByteArrayRangeBuilder extends Builder {
+
+        private final byte[] value;
+        private final int from;
+        private final int to;
+
+        ByteArrayRangeBuilder(Number seed, byte[] value, int from, int to) {
+            super(seed);
+            this.value = value;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        int compute(int seed) {
+            return HashCodeUtils.hash(seed, value, from, to);
+        }
+    }
+
     private static final class ByteBuilder extends Builder {
 
         private final byte value;
@@ -374,6 +547,25 @@ public abstract class HashCodeBuilder {
         }
     }
 
+    private static final class CharArrayRangeBuilder extends Builder {
+
+        private final char[] value;
+        private final int from;
+        private final int to;
+
+        CharArrayRangeBuilder(Number seed, char[] value, int from, int to) {
+            super(seed);
+            this.value = value;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        int compute(int seed) {
+            return HashCodeUtils.hash(seed, value, from, to);
+        }
+    }
+
     private static final class CharBuilder extends Builder {
 
         private final char value;
@@ -404,6 +596,25 @@ public abstract class HashCodeBuilder {
         }
     }
 
+    private static final class DoubleArrayRangeBuilder extends Builder {
+
+        private final double[] value;
+        private final int from;
+        private final int to;
+
+        DoubleArrayRangeBuilder(Number seed, double[] value, int from, int to) {
+            super(seed);
+            this.value = value;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        int compute(int seed) {
+            return HashCodeUtils.hash(seed, value, from, to);
+        }
+    }
+
     private static final class DoubleBuilder extends Builder {
 
         private final double value;
@@ -434,6 +645,25 @@ public abstract class HashCodeBuilder {
         }
     }
 
+    private static final class FloatArrayRangeBuilder extends Builder {
+
+        private final float[] value;
+        private final int from;
+        private final int to;
+
+        FloatArrayRangeBuilder(Number seed, float[] value, int from, int to) {
+            super(seed);
+            this.value = value;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        int compute(int seed) {
+            return HashCodeUtils.hash(seed, value, from, to);
+        }
+    }
+
     private static final class FloatBuilder extends Builder {
 
         private final float value;
@@ -464,6 +694,25 @@ public abstract class HashCodeBuilder {
         }
     }
 
+    private static final class IntArrayRangeBuilder extends Builder {
+
+        private final int[] value;
+        private final int from;
+        private final int to;
+
+        IntArrayRangeBuilder(Number seed, int[] value, int from, int to) {
+            super(seed);
+            this.value = value;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        int compute(int seed) {
+            return HashCodeUtils.hash(seed, value, from, to);
+        }
+    }
+
     private static final class IntBuilder extends Builder {
 
         private final int value;
@@ -494,6 +743,25 @@ public abstract class HashCodeBuilder {
         }
     }
 
+    private static final class LongArrayRangeBuilder extends Builder {
+
+        private final long[] value;
+        private final int from;
+        private final int to;
+
+        LongArrayRangeBuilder(Number seed, long[] value, int from, int to) {
+            super(seed);
+            this.value = value;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        int compute(int seed) {
+            return HashCodeUtils.hash(seed, value, from, to);
+        }
+    }
+
     private static final class LongBuilder extends Builder {
 
         private final long value;
@@ -524,6 +792,25 @@ public abstract class HashCodeBuilder {
         }
     }
 
+    private static final class ObjectArrayRangeBuilder extends Builder {
+
+        private final Object[] value;
+        private final int from;
+        private final int to;
+
+        ObjectArrayRangeBuilder(Number seed, Object[] value, int from, int to) {
+            super(seed);
+            this.value = value;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        int compute(int seed) {
+            return HashCodeUtils.hash(seed, value, from, to);
+        }
+    }
+
     private static final class ObjectBuilder extends Builder {
 
         private final Object value;
@@ -554,6 +841,25 @@ public abstract class HashCodeBuilder {
         }
     }
 
+    private static final class ShortArrayRangeBuilder extends Builder {
+
+        private final short[] value;
+        private final int from;
+        private final int to;
+
+        ShortArrayRangeBuilder(Number seed, short[] value, int from, int to) {
+            super(seed);
+            this.value = value;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        int compute(int seed) {
+            return HashCodeUtils.hash(seed, value, from, to);
+        }
+    }
+
     private static final class ShortBuilder extends Builder {
 
         private final short value;
@@ -594,6 +900,21 @@ public abstract class HashCodeBuilder {
         return new BooleanArrayBuilder(SINGLE_SEED, value);
     }
 
+    /**
+     * Obtém um {@link Builder} para a contribuição do trecho [<code>from</code>, <code>to</code>) do <t>boolean[]</t> informado, sem copiá-lo
+     * 
+     * @param value
+     *            O array que contém o trecho para o cálculo do <code>hashCode</code>
+     * @param from
+     *            A posição inicial do trecho, inclusiva
+     * @param to
+     *            A posição final do trecho, exclusiva
+     * @return O {@link Builder} criado a partir da contribuição informada
+     */
+    public static Builder hash(boolean[] value, int from, int to) {
+        return new BooleanArrayRangeBuilder(SINGLE_SEED, value, from, to);
+    }
+
     /**
      * Obtém um {@link Builder}para a contribuição do tipo <t>byte</t> informada
      * 
@@ -616,6 +937,21 @@ public abstract class HashCodeBuilder {
         return new ByteArrayBuilder(SINGLE_SEED, value);
     }
 
+    /**
+     * Obtém um {@link Builder} para a contribuição do trecho [<code>from</code>, <code>to</code>) do <t>byte[]</t> informado, sem copiá-lo
+     * 
+     * @param value
+     *            O array que contém o trecho para o cálculo do <code>hashCode</code>
+     * @param from
+     *            A posição inicial do trecho, inclusiva
+     * @param to
+     *            A posição final do trecho, exclusiva
+     * @return O {@link Builder} criado a partir da contribuição informada
+     */
+    public static Builder hash(byte[] value, int from, int to) {
+        return new ByteArrayRangeBuilder(SINGLE_SEED, value, from, to);
+    }
+
     /**
      * Obtém um {@link Builder}para a contribuição do tipo <t>char</t> informada
      * 
@@ -638,6 +974,21 @@ public abstract class HashCodeBuilder {
         return new CharArrayBuilder(SINGLE_SEED, value);
     }
 
+    /**
+     * Obtém um {@link Builder} para a contribuição do trecho [<code>from</code>, <code>to</code>) do <t>char[]</t> informado, sem copiá-lo
+     * 
+     * @param value
+     *            O array que contém o trecho para o cálculo do <code>hashCode</code>
+     * @param from
+     *            A posição inicial do trecho, inclusiva
+     * @param to
+     *            A posição final do trecho, exclusiva
+     * @return O {@link Builder} criado a partir da contribuição informada
+     */
+    public static Builder hash(char[] value, int from, int to) {
+        return new CharArrayRangeBuilder(SINGLE_SEED, value, from, to);
+    }
+
     /**
      * Obtém um {@link Builder}para a contribuição do tipo <t>double</t> informada
      * 
@@ -660,6 +1011,21 @@ public abstract class HashCodeBuilder {
         return new DoubleArrayBuilder(SINGLE_SEED, value);
     }
 
+    /**
+     * Obtém um {@link Builder} para a contribuição do trecho [<code>from</code>, <code>to</code>) do <t>double[]</t> informado, sem copiá-lo
+     * 
+     * @param value
+     *            O array que contém o trecho para o cálculo do <code>hashCode</code>
+     * @param from
+     *            A posição inicial do trecho, inclusiva
+     * @param to
+     *            A posição final do trecho, exclusiva
+     * @return O {@link Builder} criado a partir da contribuição informada
+     */
+    public static Builder hash(double[] value, int from, int to) {
+        return new DoubleArrayRangeBuilder(SINGLE_SEED, value, from, to);
+    }
+
     /**
      * Obtém um {@link Builder}para a contribuição do tipo <t>float</t> informada
      * 
@@ -682,6 +1048,21 @@ public abstract class HashCodeBuilder {
         return new FloatArrayBuilder(SINGLE_SEED, value);
     }
 
+    /**
+     * Obtém um {@link Builder} para a contribuição do trecho [<code>from</code>, <code>to</code>) do <t>float[]</t> informado, sem copiá-lo
+     * 
+     * @param value
+     *            O array que contém o trecho para o cálculo do <code>hashCode</code>
+     * @param from
+     *            A posição inicial do trecho, inclusiva
+     * @param to
+     *            A posição final do trecho, exclusiva
+     * @return O {@link Builder} criado a partir da contribuição informada
+     */
+    public static Builder hash(float[] value, int from, int to) {
+        return new FloatArrayRangeBuilder(SINGLE_SEED, value, from, to);
+    }
+
     /**
      * Obtém um {@link Builder}para a contribuição do tipo <t>int</t> informada
      * 
@@ -704,6 +1085,21 @@ public abstract class HashCodeBuilder {
         return new IntArrayBuilder(SINGLE_SEED, value);
     }
 
+    /**
+     * Obtém um {@link Builder} para a contribuição do trecho [<code>from</code>, <code>to</code>) do <t>int[]</t> informado, sem copiá-lo
+     * 
+     * @param value
+     *            O array que contém o trecho para o cálculo do <code>hashCode</code>
+     * @param from
+     *            A posição inicial do trecho, inclusiva
+     * @param to
+     *            A posição final do trecho, exclusiva
+     * @return O {@link Builder} criado a partir da contribuição informada
+     */
+    public static Builder hash(int[] value, int from, int to) {
+        return new IntArrayRangeBuilder(SINGLE_SEED, value, from, to);
+    }
+
     /**
      * Obtém um {@link Builder}para a contribuição do tipo <t>long</t> informada
      * 
@@ -726,6 +1122,21 @@ public abstract class HashCodeBuilder {
         return new LongArrayBuilder(SINGLE_SEED, value);
     }
 
+    /**
+     * Obtém um {@link Builder} para a contribuição do trecho [<code>from</code>, <code>to</code>) do <t>long[]</t> informado, sem copiá-lo
+     * 
+     * @param value
+     *            O array que contém o trecho para o cálculo do <code>hashCode</code>
+     * @param from
+     *            A posição inicial do trecho, inclusiva
+     * @param to
+     *            A posição final do trecho, exclusiva
+     * @return O {@link Builder} criado a partir da contribuição informada
+     */
+    public static Builder hash(long[] value, int from, int to) {
+        return new LongArrayRangeBuilder(SINGLE_SEED, value, from, to);
+    }
+
     /**
      * Obtém um {@link Builder}para a contribuição do tipo <t>Object</t> informada
      * 
@@ -748,6 +1159,21 @@ public abstract class HashCodeBuilder {
         return new ObjectArrayBuilder(SINGLE_SEED, value);
     }
 
+    /**
+     * Obtém um {@link Builder} para a contribuição do trecho [<code>from</code>, <code>to</code>) do <t>Object[]</t> informado, sem copiá-lo
+     * 
+     * @param value
+     *            O array que contém o trecho para o cálculo do <code>hashCode</code>
+     * @param from
+     *            A posição inicial do trecho, inclusiva
+     * @param to
+     *            A posição final do trecho, exclusiva
+     * @return O {@link Builder} criado a partir da contribuição informada
+     */
+    public static Builder hash(Object[] value, int from, int to) {
+        return new ObjectArrayRangeBuilder(SINGLE_SEED, value, from, to);
+    }
+
     /**
      * Obtém um {@link Builder}para a contribuição do tipo <t>short</t> informada
      * 
@@ -770,6 +1196,21 @@ public abstract class HashCodeBuilder {
         return new ShortArrayBuilder(SINGLE_SEED, value);
     }
 
+    /**
+     * Obtém um {@link Builder} para a contribuição do trecho [<code>from</code>, <code>to</code>) do <t>short[]</t> informado, sem copiá-lo
+     * 
+     * @param value
+     *            O array que contém o trecho para o cálculo do <code>hashCode</code>
+     * @param from
+     *            A posição inicial do trecho, inclusiva
+     * @param to
+     *            A posição final do trecho, exclusiva
+     * @return O {@link Builder} criado a partir da contribuição informada
+     */
+    public static Builder hash(short[] value, int from, int to) {
+        return new ShortArrayRangeBuilder(SINGLE_SEED, value, from, to);
+    }
+
     // Construtor privado, classe utilit&aacute;ria n&atilde;o-instanciavel
     private HashCodeBuilder() {
         throw new UnsupportedOperationException(getClass().getName() + " can not be instantiated");
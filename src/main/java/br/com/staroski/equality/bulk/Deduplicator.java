@@ -0,0 +1,271 @@
+package br.com.staroski.equality.bulk;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+
+import br.com.staroski.equality.collection.EquivalenceHashSet;
+import br.com.staroski.equality.strategy.Equivalence;
+
+/**
+ * Elimina as duplicatas de grandes volumes de objetos, inclusive volumes maiores do que o <I>heap</I> da JVM.<BR>
+ * <BR>
+ * Os objetos s&atilde;o distribu&iacute;dos em parti&ccedil;&otilde;es de acordo com o <I>hash</I> calculado pela {@link Equivalence equival&ecirc;ncia}, de forma que objetos equivalentes
+ * sempre caem na mesma parti&ccedil;&atilde;o. Quando a quantidade de objetos em mem&oacute;ria ultrapassa o {@link #maxElementsInMemory(int) limite}, as parti&ccedil;&otilde;es s&atilde;o
+ * gravadas em arquivos tempor&aacute;rios.<BR>
+ * Em seguida, cada parti&ccedil;&atilde;o &eacute; processada em paralelo e os objetos distintos s&atilde;o entregues ao consumidor &agrave; medida em que s&atilde;o encontrados, sem
+ * materializar o resultado. Parti&ccedil;&otilde;es que n&atilde;o cabem na mem&oacute;ria s&atilde;o novamente particionadas, utilizando outros bits do <I>hash</I>.<BR>
+ * <BR>
+ * Os objetos gravados em disco s&atilde;o serializados atrav&eacute;s de {@link java.io.ObjectOutputStream}, portanto devem ser {@link java.io.Serializable serializ&aacute;veis}.<BR>
+ * O consumidor nunca &eacute; invocado simultaneamente por mais de uma <I>thread</I>, mas a ordem dos objetos entregues n&atilde;o &eacute; determinada.
+ *
+ * <PRE>
+ * Deduplicator&lt;MyClass&gt; deduplicator = new Deduplicator&lt;MyClass&gt;(Equivalence.fieldBased(MyClass.class)).maxElementsInMemory(1000000);
+ * long distinct = deduplicator.deduplicate(source, element -&gt; writer.write(element));
+ * </PRE>
+ *
+ * @param <T>
+ *            O tipo dos objetos.
+ * @author Ricardo Artur Staroski
+ * @see Equivalence
+ */
+public final class Deduplicator<T> {
+
+    private static final int DEFAULT_MAX_ELEMENTS_IN_MEMORY = 1 << 20;
+
+    // cada n&iacute;vel de particionamento utiliza 6 bits do hash espalhado: 64 parti&ccedil;&otilde;es por n&iacute;vel
+    private static final int PARTITION_BITS = 6;
+    private static final int PARTITIONS = 1 << PARTITION_BITS;
+    private static final int MAXIMUM_LEVEL = 32 / PARTITION_BITS - 1;
+
+    // espalha os bits do hash (finaliza&ccedil;&atilde;o do MurmurHash3), pois cada n&iacute;vel de particionamento utiliza uma faixa de bits
+    private static int spread(int hash) {
+        hash ^= hash >>> 16;
+        hash *= 0x85ebca6b;
+        hash ^= hash >>> 13;
+        hash *= 0xc2b2ae35;
+        hash ^= hash >>> 16;
+        return hash;
+    }
+
+    private final Equivalence<? super T> equivalence;
+    private int maxElementsInMemory = DEFAULT_MAX_ELEMENTS_IN_MEMORY;
+    private int parallelism = Runtime.getRuntime().availableProcessors();
+    private File temporaryDirectory;
+
+    /**
+     * Cria um {@link Deduplicator} que compara os objetos atrav&eacute;s da {@link Equivalence equival&ecirc;ncia} informada.
+     *
+     * @param equivalence
+     *            A {@link Equivalence equival&ecirc;ncia} utilizada para comparar os objetos.
+     */
+    public Deduplicator(Equivalence<? super T> equivalence) {
+        if (equivalence == null) {
+            throw new IllegalArgumentException("null");
+        }
+        this.equivalence = equivalence;
+    }
+
+    /**
+     * Elimina as duplicatas dos objetos informados.
+     *
+     * @param source
+     *            Os objetos a serem processados.
+     * @param sink
+     *            O consumidor que recebe cada objeto distinto.
+     * @return A quantidade de objetos distintos.
+     * @throws IOException
+     *             Se ocorrer algum erro de I/O nos arquivos tempor&aacute;rios.
+     */
+    public long deduplicate(Iterable<? extends T> source, Consumer<? super T> sink) throws IOException {
+        if (source == null) {
+            throw new IllegalArgumentException("null");
+        }
+        return deduplicate(source.iterator(), sink);
+    }
+
+    /**
+     * Elimina as duplicatas dos objetos informados.
+     *
+     * @param source
+     *            Os objetos a serem processados.
+     * @param sink
+     *            O consumidor que recebe cada objeto distinto.
+     * @return A quantidade de objetos distintos.
+     * @throws IOException
+     *             Se ocorrer algum erro de I/O nos arquivos tempor&aacute;rios.
+     */
+    public long deduplicate(Iterator<? extends T> source, Consumer<? super T> sink) throws IOException {
+        if (source == null || sink == null) {
+            throw new IllegalArgumentException("null");
+        }
+        final Partition<T>[] partitions = newPartitions();
+        try {
+            int buffered = 0;
+            while (source.hasNext()) {
+                final T element = source.next();
+                if (partitions[partitionOf(element, 0)].add(element) && ++buffered >= maxElementsInMemory) {
+                    spill(partitions);
+                    buffered = 0;
+                }
+            }
+            return process(partitions, sink);
+        } finally {
+            for (Partition<T> partition : partitions) {
+                partition.delete();
+            }
+        }
+    }
+
+    /**
+     * Define a quantidade m&aacute;xima de objetos mantidos em mem&oacute;ria; ao ultrapass&aacute;-la, os objetos s&atilde;o gravados em arquivos tempor&aacute;rios.
+     *
+     * @param maxElementsInMemory
+     *            A quantidade m&aacute;xima de objetos em mem&oacute;ria.
+     * @return Este {@link Deduplicator}.
+     */
+    public Deduplicator<T> maxElementsInMemory(int maxElementsInMemory) {
+        if (maxElementsInMemory <= 0) {
+            throw new IllegalArgumentException("maxElementsInMemory: " + maxElementsInMemory);
+        }
+        this.maxElementsInMemory = maxElementsInMemory;
+        return this;
+    }
+
+    /**
+     * Define a quantidade de parti&ccedil;&otilde;es processadas em paralelo, por padr&atilde;o igual &agrave; quantidade de processadores.
+     *
+     * @param parallelism
+     *            A quantidade de <I>threads</I>.
+     * @return Este {@link Deduplicator}.
+     */
+    public Deduplicator<T> parallelism(int parallelism) {
+        if (parallelism <= 0) {
+            throw new IllegalArgumentException("parallelism: " + parallelism);
+        }
+        this.parallelism = parallelism;
+        return this;
+    }
+
+    /**
+     * Define o diret&oacute;rio dos arquivos tempor&aacute;rios, por padr&atilde;o o diret&oacute;rio tempor&aacute;rio do sistema.
+     *
+     * @param directory
+     *            O diret&oacute;rio dos arquivos tempor&aacute;rios.
+     * @return Este {@link Deduplicator}.
+     */
+    public Deduplicator<T> temporaryDirectory(File directory) {
+        this.temporaryDirectory = directory;
+        return this;
+    }
+
+    // elimina as duplicatas de uma parti&ccedil;&atilde;o, particionando-a novamente se ela n&atilde;o couber na mem&oacute;ria de uma thread
+    private long deduplicate(Partition<T> partition, int level, final Consumer<? super T> sink) throws IOException {
+        final int budget = Math.max(1, maxElementsInMemory / parallelism);
+        if (!partition.spilled() || partition.size() <= budget || level >= MAXIMUM_LEVEL) {
+            final EquivalenceHashSet<T> distinct = new EquivalenceHashSet<T>(equivalence, (int) Math.min(partition.size(), Integer.MAX_VALUE / 2));
+            final long[] count = new long[1];
+            partition.forEach(element -> {
+                if (distinct.add(element)) {
+                    count[0]++;
+                    sink.accept(element);
+                }
+            });
+            partition.delete();
+            return count[0];
+        }
+        final Partition<T>[] children = newPartitions();
+        try {
+            final int childLevel = level + 1;
+            final int[] buffered = new int[1];
+            partition.forEach(element -> {
+                if (children[partitionOf(element, childLevel)].add(element) && ++buffered[0] >= budget) {
+                    try {
+                        spill(children);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                    buffered[0] = 0;
+                }
+            });
+            partition.delete();
+            long count = 0;
+            for (Partition<T> child : children) {
+                count += deduplicate(child, childLevel, sink);
+            }
+            return count;
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        } finally {
+            for (Partition<T> child : children) {
+                child.delete();
+            }
+        }
+    }
+
+    private Partition<T>[] newPartitions() {
+        @SuppressWarnings("unchecked")
+        final Partition<T>[] partitions = (Partition<T>[]) new Partition<?>[PARTITIONS];
+        for (int i = 0; i < PARTITIONS; i++) {
+            partitions[i] = new Partition<T>(equivalence, temporaryDirectory);
+        }
+        return partitions;
+    }
+
+    private int partitionOf(T element, int level) {
+        return (spread(equivalence.hash(element)) >>> (level * PARTITION_BITS)) & (PARTITIONS - 1);
+    }
+
+    // processa as parti&ccedil;&otilde;es em paralelo, serializando as chamadas ao consumidor
+    private long process(Partition<T>[] partitions, final Consumer<? super T> sink) throws IOException {
+        final Consumer<T> synchronizedSink = new Consumer<T>() {
+
+            public synchronized void accept(T element) {
+                sink.accept(element);
+            }
+        };
+        final ExecutorService executor = Executors.newFixedThreadPool(Math.min(parallelism, partitions.length));
+        try {
+            final List<Future<Long>> results = new ArrayList<Future<Long>>();
+            for (final Partition<T> partition : partitions) {
+                results.add(executor.submit(() -> deduplicate(partition, 0, synchronizedSink)));
+            }
+            long count = 0;
+            for (Future<Long> result : results) {
+                count += result.get();
+            }
+            return count;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException(e);
+        } catch (ExecutionException e) {
+            final Throwable cause = e.getCause();
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            }
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new IOException(cause);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private void spill(Partition<T>[] partitions) throws IOException {
+        for (Partition<T> partition : partitions) {
+            partition.spill();
+        }
+    }
+}
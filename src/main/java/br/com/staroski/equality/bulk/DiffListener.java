@@ -0,0 +1,50 @@
+package br.com.staroski.equality.bulk;
+
+/**
+ * Interface para receber, de forma incremental, o resultado da compara&ccedil;&atilde;o entre duas cole&ccedil;&otilde;es feita pelo {@link HashDiff}.<BR>
+ * Os m&eacute;todos nunca s&atilde;o invocados simultaneamente por mais de uma <I>thread</I>.
+ *
+ * @param <T>
+ *            O tipo dos objetos comparados.
+ * @author Ricardo Artur Staroski
+ * @see HashDiff
+ * @see DiffResult
+ */
+public interface DiffListener<T> {
+
+    /**
+     * Notifica um par de objetos com a mesma chave cujos registros s&atilde;o diferentes.
+     *
+     * @param left
+     *            O objeto da cole&ccedil;&atilde;o da esquerda.
+     * @param right
+     *            O objeto da cole&ccedil;&atilde;o da direita.
+     */
+    void changed(T left, T right);
+
+    /**
+     * Notifica um par de objetos com a mesma chave cujos registros s&atilde;o iguais.
+     *
+     * @param left
+     *            O objeto da cole&ccedil;&atilde;o da esquerda.
+     * @param right
+     *            O objeto da cole&ccedil;&atilde;o da direita.
+     */
+    void matched(T left, T right);
+
+    /**
+     * Notifica um objeto que s&oacute; existe na cole&ccedil;&atilde;o da esquerda.
+     *
+     * @param left
+     *            O objeto da cole&ccedil;&atilde;o da esquerda.
+     */
+    void onlyLeft(T left);
+
+    /**
+     * Notifica um objeto que s&oacute; existe na cole&ccedil;&atilde;o da direita.
+     *
+     * @param right
+     *            O objeto da cole&ccedil;&atilde;o da direita.
+     */
+    void onlyRight(T right);
+}
@@ -0,0 +1,75 @@
+package br.com.staroski.equality.bulk;
+
+import java.util.AbstractMap.SimpleImmutableEntry;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * {@link DiffListener} que materializa o resultado da compara&ccedil;&atilde;o entre duas cole&ccedil;&otilde;es feita pelo {@link HashDiff}.
+ *
+ * @param <T>
+ *            O tipo dos objetos comparados.
+ * @author Ricardo Artur Staroski
+ * @see HashDiff
+ */
+public final class DiffResult<T> implements DiffListener<T> {
+
+    private final List<Map.Entry<T, T>> changed = new ArrayList<Map.Entry<T, T>>();
+    private final List<Map.Entry<T, T>> matched = new ArrayList<Map.Entry<T, T>>();
+    private final List<T> onlyLeft = new ArrayList<T>();
+    private final List<T> onlyRight = new ArrayList<T>();
+
+    /**
+     * Obt&eacute;m os pares (esquerda, direita) com a mesma chave cujos registros s&atilde;o diferentes.
+     *
+     * @return Os pares de objetos alterados.
+     */
+    public List<Map.Entry<T, T>> changed() {
+        return Collections.unmodifiableList(changed);
+    }
+
+    public void changed(T left, T right) {
+        changed.add(new SimpleImmutableEntry<T, T>(left, right));
+    }
+
+    /**
+     * Obt&eacute;m os pares (esquerda, direita) com a mesma chave cujos registros s&atilde;o iguais.
+     *
+     * @return Os pares de objetos iguais.
+     */
+    public List<Map.Entry<T, T>> matched() {
+        return Collections.unmodifiableList(matched);
+    }
+
+    public void matched(T left, T right) {
+        matched.add(new SimpleImmutableEntry<T, T>(left, right));
+    }
+
+    /**
+     * Obt&eacute;m os objetos que s&oacute; existem na cole&ccedil;&atilde;o da esquerda.
+     *
+     * @return Os objetos que s&oacute; existem na cole&ccedil;&atilde;o da esquerda.
+     */
+    public List<T> onlyLeft() {
+        return Collections.unmodifiableList(onlyLeft);
+    }
+
+    public void onlyLeft(T left) {
+        onlyLeft.add(left);
+    }
+
+    /**
+     * Obt&eacute;m os objetos que s&oacute; existem na cole&ccedil;&atilde;o da direita.
+     *
+     * @return Os objetos que s&oacute; existem na cole&ccedil;&atilde;o da direita.
+     */
+    public List<T> onlyRight() {
+        return Collections.unmodifiableList(onlyRight);
+    }
+
+    public void onlyRight(T right) {
+        onlyRight.add(right);
+    }
+}
@@ -0,0 +1,249 @@
+package br.com.staroski.equality.bulk;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import br.com.staroski.equality.collection.EquivalenceHashMap;
+import br.com.staroski.equality.strategy.Equivalence;
+
+/**
+ * Compara duas cole&ccedil;&otilde;es atrav&eacute;s de uma jun&ccedil;&atilde;o <I>hash</I> (<I>hash join</I>), sem o la&ccedil;o O(n&middot;m) de compara&ccedil;&otilde;es.<BR>
+ * <BR>
+ * Uma tabela <I>hash</I> &eacute; constru&iacute;da com os objetos da cole&ccedil;&atilde;o da esquerda, utilizando a {@link Equivalence equival&ecirc;ncia} de chave, e em seguida
+ * os objetos da cole&ccedil;&atilde;o da direita s&atilde;o procurados nesta tabela em paralelo.<BR>
+ * Cada par de objetos com a mesma chave &eacute; comparado pela {@link Equivalence equival&ecirc;ncia} de registro, sendo notificado como {@link DiffListener#matched(Object, Object)
+ * igual} ou {@link DiffListener#changed(Object, Object) alterado}. Os objetos sem correspondente s&atilde;o notificados como {@link DiffListener#onlyLeft(Object) exclusivos da
+ * esquerda} ou {@link DiffListener#onlyRight(Object) exclusivos da direita}.<BR>
+ * Chaves repetidas s&atilde;o pareadas uma a uma, dando prefer&ecirc;ncia aos objetos cujos registros s&atilde;o iguais.<BR>
+ * <BR>
+ * O resultado &eacute; entregue ao {@link DiffListener} &agrave; medida em que &eacute; encontrado, sem ser materializado; para materializ&aacute;-lo utilize um {@link DiffResult}.
+ *
+ * <PRE>
+ * HashDiff&lt;Customer&gt; diff = new HashDiff&lt;Customer&gt;(customerIdEquivalence, Equivalence.fieldBased(Customer.class));
+ * DiffResult&lt;Customer&gt; result = diff.diff(yesterday, today, new DiffResult&lt;Customer&gt;());
+ * </PRE>
+ *
+ * @param <T>
+ *            O tipo dos objetos comparados.
+ * @author Ricardo Artur Staroski
+ * @see DiffListener
+ * @see DiffResult
+ */
+public final class HashDiff<T> {
+
+    // fim da lista encadeada de &iacute;ndices com a mesma chave
+    private static final int NONE = -1;
+
+    private final Equivalence<? super T> keyEquivalence;
+    private final Equivalence<? super T> recordEquivalence;
+    private int parallelism = Runtime.getRuntime().availableProcessors();
+
+    /**
+     * Cria um {@link HashDiff} que utiliza a mesma {@link Equivalence equival&ecirc;ncia} para as chaves e para os registros, portanto nunca notifica objetos alterados.
+     *
+     * @param equivalence
+     *            A {@link Equivalence equival&ecirc;ncia} dos objetos.
+     */
+    public HashDiff(Equivalence<? super T> equivalence) {
+        this(equivalence, equivalence);
+    }
+
+    /**
+     * Cria um {@link HashDiff} que pareia os objetos pela {@link Equivalence equival&ecirc;ncia} de chave e compara os pares pela {@link Equivalence equival&ecirc;ncia} de
+     * registro.
+     *
+     * @param keyEquivalence
+     *            A {@link Equivalence equival&ecirc;ncia} que identifica os objetos correspondentes.
+     * @param recordEquivalence
+     *            A {@link Equivalence equival&ecirc;ncia} que determina se os objetos correspondentes s&atilde;o iguais ou alterados.
+     */
+    public HashDiff(Equivalence<? super T> keyEquivalence, Equivalence<? super T> recordEquivalence) {
+        if (keyEquivalence == null || recordEquivalence == null) {
+            throw new IllegalArgumentException("null");
+        }
+        this.keyEquivalence = keyEquivalence;
+        this.recordEquivalence = recordEquivalence;
+    }
+
+    /**
+     * Compara as cole&ccedil;&otilde;es informadas, notificando o resultado ao {@link DiffListener}.<BR>
+     * A tabela <I>hash</I> &eacute; constru&iacute;da com a cole&ccedil;&atilde;o da esquerda, portanto ela deve ser a menor das duas.
+     *
+     * @param left
+     *            A cole&ccedil;&atilde;o da esquerda.
+     * @param right
+     *            A cole&ccedil;&atilde;o da direita.
+     * @param listener
+     *            O {@link DiffListener} que recebe o resultado.
+     * @return O pr&oacute;prio {@link DiffListener} informado.
+     */
+    @SuppressWarnings("unchecked")
+    public <L extends DiffListener<? super T>> L diff(Collection<? extends T> left, Collection<? extends T> right, L listener) {
+        if (left == null || right == null || listener == null) {
+            throw new IllegalArgumentException("null");
+        }
+        final Object[] build = left.toArray();
+        final int[] next = new int[build.length];
+        final EquivalenceHashMap<T, Integer> heads = new EquivalenceHashMap<T, Integer>(keyEquivalence, build.length);
+        // percorre de tr&aacute;s para frente, assim cada lista encadeada mant&eacute;m a ordem original dos objetos
+        for (int i = build.length - 1; i >= 0; i--) {
+            final Integer head = heads.put((T) build[i], i);
+            next[i] = head == null ? NONE : head.intValue();
+        }
+        final AtomicLongArray claimed = new AtomicLongArray((build.length + 63) >>> 6);
+        final DiffListener<T> synchronizedListener = synchronize(listener);
+        final List<? extends T> probe = right instanceof List && right instanceof RandomAccess ? (List<? extends T>) right : Arrays.asList((T[]) right.toArray());
+        final int threads = Math.max(1, Math.min(parallelism, probe.size()));
+        if (threads == 1) {
+            probe(build, next, heads, claimed, probe, 0, probe.size(), synchronizedListener);
+        } else {
+            final ExecutorService executor = Executors.newFixedThreadPool(threads);
+            try {
+                final List<Future<?>> results = new ArrayList<Future<?>>();
+                final int chunk = (probe.size() + threads - 1) / threads;
+                for (int start = 0; start < probe.size(); start += chunk) {
+                    final int from = start;
+                    final int to = Math.min(probe.size(), start + chunk);
+                    results.add(executor.submit(() -> probe(build, next, heads, claimed, probe, from, to, synchronizedListener)));
+                }
+                for (Future<?> result : results) {
+                    result.get();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(e);
+            } catch (ExecutionException e) {
+                final Throwable cause = e.getCause();
+                if (cause instanceof RuntimeException) {
+                    throw (RuntimeException) cause;
+                }
+                if (cause instanceof Error) {
+                    throw (Error) cause;
+                }
+                throw new IllegalStateException(cause);
+            } finally {
+                executor.shutdownNow();
+            }
+        }
+        for (int i = 0; i < build.length; i++) {
+            if (!isClaimed(claimed, i)) {
+                synchronizedListener.onlyLeft((T) build[i]);
+            }
+        }
+        return listener;
+    }
+
+    /**
+     * Compara as cole&ccedil;&otilde;es informadas, materializando o resultado num {@link DiffResult}.
+     *
+     * @param left
+     *            A cole&ccedil;&atilde;o da esquerda.
+     * @param right
+     *            A cole&ccedil;&atilde;o da direita.
+     * @return O {@link DiffResult} com o resultado da compara&ccedil;&atilde;o.
+     */
+    public DiffResult<T> diff(Collection<? extends T> left, Collection<? extends T> right) {
+        return diff(left, right, new DiffResult<T>());
+    }
+
+    /**
+     * Define a quantidade de <I>threads</I> utilizadas para procurar os objetos da cole&ccedil;&atilde;o da direita, por padr&atilde;o igual &agrave; quantidade de processadores.
+     *
+     * @param parallelism
+     *            A quantidade de <I>threads</I>.
+     * @return Este {@link HashDiff}.
+     */
+    public HashDiff<T> parallelism(int parallelism) {
+        if (parallelism <= 0) {
+            throw new IllegalArgumentException("parallelism: " + parallelism);
+        }
+        this.parallelism = parallelism;
+        return this;
+    }
+
+    // tenta marcar o &iacute;ndice como pareado, retorna false se outra thread j&aacute; o pareou
+    private static boolean claim(AtomicLongArray claimed, int index) {
+        final int word = index >>> 6;
+        final long mask = 1L << index;
+        for (;;) {
+            final long bits = claimed.get(word);
+            if ((bits & mask) != 0) {
+                return false;
+            }
+            if (claimed.compareAndSet(word, bits, bits | mask)) {
+                return true;
+            }
+        }
+    }
+
+    private static boolean isClaimed(AtomicLongArray claimed, int index) {
+        return (claimed.get(index >>> 6) & (1L << index)) != 0;
+    }
+
+    // serializa as chamadas ao listener, que pode ser notificado por v&aacute;rias threads
+    private static <T> DiffListener<T> synchronize(final DiffListener<? super T> listener) {
+        return new DiffListener<T>() {
+
+            public synchronized void changed(T left, T right) {
+                listener.changed(left, right);
+            }
+
+            public synchronized void matched(T left, T right) {
+                listener.matched(left, right);
+            }
+
+            public synchronized void onlyLeft(T left) {
+                listener.onlyLeft(left);
+            }
+
+            public synchronized void onlyRight(T right) {
+                listener.onlyRight(right);
+            }
+        };
+    }
+
+    // procura um trecho da cole&ccedil;&atilde;o da direita na tabela hash, que ap&oacute;s constru&iacute;da s&oacute; &eacute; lida
+    @SuppressWarnings("unchecked")
+    private void probe(Object[] build, int[] next, EquivalenceHashMap<T, Integer> heads, AtomicLongArray claimed, List<? extends T> probe, int from, int to,
+            DiffListener<T> listener) {
+        for (int i = from; i < to; i++) {
+            final T right = probe.get(i);
+            final Integer head = heads.get(right);
+            if (head == null) {
+                listener.onlyRight(right);
+                continue;
+            }
+            // primeiro procura um objeto da esquerda ainda n&atilde;o pareado cujo registro seja igual
+            boolean paired = false;
+            for (int index = head.intValue(); index != NONE; index = next[index]) {
+                if (!isClaimed(claimed, index) && recordEquivalence.equals((T) build[index], right) && claim(claimed, index)) {
+                    listener.matched((T) build[index], right);
+                    paired = true;
+                    break;
+                }
+            }
+            // depois pareia com qualquer objeto da esquerda ainda n&atilde;o pareado
+            for (int index = head.intValue(); !paired && index != NONE; index = next[index]) {
+                if (claim(claimed, index)) {
+                    if (recordEquivalence.equals((T) build[index], right)) {
+                        listener.matched((T) build[index], right);
+                    } else {
+                        listener.changed((T) build[index], right);
+                    }
+                    paired = true;
+                }
+            }
+            if (!paired) {
+                listener.onlyRight(right);
+            }
+        }
+    }
+}
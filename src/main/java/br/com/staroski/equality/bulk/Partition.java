@@ -0,0 +1,115 @@
+package br.com.staroski.equality.bulk;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.UncheckedIOException;
+import java.util.function.Consumer;
+
+import br.com.staroski.equality.collection.EquivalenceHashSet;
+import br.com.staroski.equality.strategy.Equivalence;
+
+// Parti&ccedil;&atilde;o de elementos mantida em mem&oacute;ria e, quando necess&aacute;rio, despejada (spill) num arquivo tempor&aacute;rio.
+// Os elementos em mem&oacute;ria ficam num EquivalenceHashSet, assim as duplicatas j&aacute; s&atilde;o descartadas antes de serem gravadas.
+final class Partition<T> {
+
+    private final Equivalence<? super T> equivalence;
+    private final File directory;
+    private EquivalenceHashSet<T> buffer;
+    private File file;
+    private ObjectOutputStream output;
+    private long spilled;
+
+    Partition(Equivalence<? super T> equivalence, File directory) {
+        this.equivalence = equivalence;
+        this.directory = directory;
+        this.buffer = new EquivalenceHashSet<T>(equivalence);
+    }
+
+    // adiciona o elemento, retorna true se ele ocupou uma nova posi&ccedil;&atilde;o em mem&oacute;ria
+    boolean add(T element) {
+        return buffer.add(element);
+    }
+
+    int buffered() {
+        return buffer.size();
+    }
+
+    // remove o arquivo tempor&aacute;rio e libera a mem&oacute;ria
+    void delete() {
+        buffer = null;
+        closeOutput();
+        if (file != null) {
+            file.delete();
+            file = null;
+        }
+    }
+
+    // percorre os elementos despejados e, em seguida, os elementos em mem&oacute;ria
+    @SuppressWarnings("unchecked")
+    void forEach(Consumer<? super T> action) throws IOException {
+        if (file != null) {
+            closeOutput();
+            final ObjectInputStream input = new ObjectInputStream(new BufferedInputStream(new FileInputStream(file)));
+            try {
+                for (long i = 0; i < spilled; i++) {
+                    action.accept((T) input.readObject());
+                }
+            } catch (ClassNotFoundException e) {
+                throw new IOException(e);
+            } catch (EOFException e) {
+                throw new IOException("truncated spill file: " + file, e);
+            } finally {
+                input.close();
+            }
+        }
+        for (T element : buffer) {
+            action.accept(element);
+        }
+    }
+
+    // quantidade de elementos, que pode incluir duplicatas entre os elementos despejados
+    long size() {
+        return spilled + buffer.size();
+    }
+
+    boolean spilled() {
+        return file != null;
+    }
+
+    // grava os elementos em mem&oacute;ria no arquivo tempor&aacute;rio e libera a mem&oacute;ria
+    void spill() throws IOException {
+        if (buffer.isEmpty()) {
+            return;
+        }
+        if (file == null) {
+            file = File.createTempFile("partition", ".spill", directory);
+            output = new ObjectOutputStream(new BufferedOutputStream(new FileOutputStream(file)));
+        }
+        for (T element : buffer) {
+            output.writeObject(element);
+        }
+        // descarta a tabela de refer&ecirc;ncias do ObjectOutputStream, que sen&atilde;o manteria todos os elementos vivos
+        output.reset();
+        spilled += buffer.size();
+        buffer = new EquivalenceHashSet<T>(equivalence);
+    }
+
+    private void closeOutput() {
+        if (output != null) {
+            try {
+                output.close();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            } finally {
+                output = null;
+            }
+        }
+    }
+}
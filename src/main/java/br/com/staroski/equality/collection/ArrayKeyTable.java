@@ -0,0 +1,193 @@
+package br.com.staroski.equality.collection;
+
+import java.util.Arrays;
+
+// Tabela hash de endere&ccedil;amento aberto (sondagem linear) cujas chaves s&atilde;o arrays primitivos comparados pelo conte&uacute;do.
+// O hash e o tamanho de cada chave ficam armazenados em int[] paralelos, de forma que as sondagens descartam chaves diferentes
+// sem acessar o array armazenado, e as buscas podem ser feitas por um trecho (offset, length) de um array maior sem copi&aacute;-lo.
+abstract class ArrayKeyTable<A> {
+
+    private static final int DEFAULT_CAPACITY = 16;
+    private static final float LOAD_FACTOR = 0.5f;
+    private static final int MAXIMUM_CAPACITY = 1 << 30;
+
+    // constante de Fibonacci (2^32 / raz&atilde;o &aacute;urea), espalha os bits baixos dos hashes polinomiais
+    private static final int GOLDEN_RATIO = 0x9E3779B9;
+
+    int[] hashes;
+    int[] lengths;
+    Object[] keys;
+    Object[] values; // null quando a tabela n&atilde;o armazena valores
+    int size;
+
+    private int shift;
+    private int threshold;
+
+    ArrayKeyTable(int expectedSize, boolean storeValues) {
+        if (expectedSize < 0) {
+            throw new IllegalArgumentException("expectedSize: " + expectedSize);
+        }
+        final long needed = (long) Math.ceil(Math.max(expectedSize, DEFAULT_CAPACITY / 2) / LOAD_FACTOR);
+        allocate(needed >= MAXIMUM_CAPACITY ? MAXIMUM_CAPACITY : Integer.highestOneBit((int) needed - 1) << 1, storeValues);
+    }
+
+    // insere a chave caso ela n&atilde;o exista, retorna o &iacute;ndice da chave existente ou o complemento (~) do &iacute;ndice em que ela foi inserida;
+    // quando "copy" &eacute; true o trecho informado &eacute; copiado antes de ser armazenado, sen&atilde;o o pr&oacute;prio array &eacute; armazenado
+    final int add(A array, int offset, int length, boolean copy) {
+        checkRange(array, offset, length);
+        final int hash = hash(array, offset, length);
+        int index = find(array, offset, length, hash);
+        if (index >= 0) {
+            return index;
+        }
+        if (size >= threshold) {
+            resize();
+            index = freeSlot(hash);
+        } else {
+            index = ~index;
+        }
+        keys[index] = copy ? copyOf(array, offset, length) : array;
+        hashes[index] = hash;
+        lengths[index] = length;
+        size++;
+        return ~index;
+    }
+
+    final void clear() {
+        if (size > 0) {
+            Arrays.fill(keys, null);
+            if (values != null) {
+                Arrays.fill(values, null);
+            }
+            size = 0;
+        }
+    }
+
+    // obt&eacute;m o &iacute;ndice da chave ou -1 caso ela n&atilde;o exista
+    final int indexOf(A array, int offset, int length) {
+        if (array == null) {
+            return -1;
+        }
+        checkRange(array, offset, length);
+        final int index = find(array, offset, length, hash(array, offset, length));
+        return index < 0 ? -1 : index;
+    }
+
+    // remove a entrada do &iacute;ndice informado, deslocando para tr&aacute;s as entradas seguintes do mesmo agrupamento (backward shift deletion)
+    final void removeAt(int index) {
+        final int mask = keys.length - 1;
+        int hole = index;
+        int next = index;
+        for (;;) {
+            next = (next + 1) & mask;
+            final Object key = keys[next];
+            if (key == null) {
+                break;
+            }
+            final int home = slot(hashes[next]);
+            final boolean movable = hole <= next ? (home <= hole || home > next) : (home <= hole && home > next);
+            if (movable) {
+                keys[hole] = key;
+                hashes[hole] = hashes[next];
+                lengths[hole] = lengths[next];
+                if (values != null) {
+                    values[hole] = values[next];
+                }
+                hole = next;
+            }
+        }
+        keys[hole] = null;
+        if (values != null) {
+            values[hole] = null;
+        }
+        size--;
+    }
+
+    // copia o trecho informado do array
+    abstract A copyOf(A array, int offset, int length);
+
+    // compara o conte&uacute;do da chave armazenada, cujo tamanho j&aacute; foi verificado, com o trecho informado do array
+    abstract boolean equal(A key, A array, int offset, int length);
+
+    // calcula o hash do trecho informado do array, igual ao hash de uma c&oacute;pia do trecho
+    abstract int hash(A array, int offset, int length);
+
+    // obt&eacute;m o tamanho do array
+    abstract int length(A array);
+
+    private void allocate(int capacity, boolean storeValues) {
+        hashes = new int[capacity];
+        lengths = new int[capacity];
+        keys = new Object[capacity];
+        values = storeValues ? new Object[capacity] : null;
+        shift = 32 - Integer.numberOfTrailingZeros(capacity);
+        threshold = (int) (capacity * LOAD_FACTOR);
+    }
+
+    private void checkRange(A array, int offset, int length) {
+        if (array == null) {
+            throw new IllegalArgumentException("null");
+        }
+        if (offset < 0 || length < 0 || offset > length(array) - length) {
+            throw new IndexOutOfBoundsException("offset: " + offset + ", length: " + length + ", array length: " + length(array));
+        }
+    }
+
+    // obt&eacute;m o &iacute;ndice da chave, ou o complemento (~) do &iacute;ndice livre onde ela seria inserida
+    @SuppressWarnings("unchecked")
+    private int find(A array, int offset, int length, int hash) {
+        final Object[] keys = this.keys;
+        final int[] hashes = this.hashes;
+        final int[] lengths = this.lengths;
+        final int mask = keys.length - 1;
+        int index = slot(hash);
+        for (;;) {
+            final Object key = keys[index];
+            if (key == null) {
+                return ~index;
+            }
+            if (hashes[index] == hash && lengths[index] == length && equal((A) key, array, offset, length)) {
+                return index;
+            }
+            index = (index + 1) & mask;
+        }
+    }
+
+    private int freeSlot(int hash) {
+        final int mask = keys.length - 1;
+        int index = slot(hash);
+        while (keys[index] != null) {
+            index = (index + 1) & mask;
+        }
+        return index;
+    }
+
+    // dobra a capacidade reaproveitando os hashes e tamanhos armazenados, sem reler as chaves
+    private void resize() {
+        final int capacity = keys.length;
+        if (capacity == MAXIMUM_CAPACITY) {
+            throw new IllegalStateException("capacity exceeded: " + capacity);
+        }
+        final int[] oldHashes = hashes;
+        final int[] oldLengths = lengths;
+        final Object[] oldKeys = keys;
+        final Object[] oldValues = values;
+        allocate(capacity << 1, oldValues != null);
+        for (int i = 0; i < capacity; i++) {
+            final Object key = oldKeys[i];
+            if (key != null) {
+                final int index = freeSlot(oldHashes[i]);
+                keys[index] = key;
+                hashes[index] = oldHashes[i];
+                lengths[index] = oldLengths[i];
+                if (oldValues != null) {
+                    values[index] = oldValues[i];
+                }
+            }
+        }
+    }
+
+    private int slot(int hash) {
+        return (hash * GOLDEN_RATIO) >>> shift;
+    }
+}
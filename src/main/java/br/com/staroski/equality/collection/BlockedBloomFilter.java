@@ -0,0 +1,66 @@
+package br.com.staroski.equality.collection;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import br.com.staroski.equality.strategy.Equivalence;
+
+// Filtro de Bloom em blocos de 512 bits (uma linha de cache): o hash escolhe o bloco e todos os bits do objeto s&atilde;o ligados dentro dele
+final class BlockedBloomFilter<T> extends BloomFilter<T> {
+
+    static final int BLOCK_WORDS = 8;
+    static final int BLOCK_BITS = BLOCK_WORDS << 6;
+
+    // bits necess&aacute;rios para escolher uma posi&ccedil;&atilde;o dentro do bloco
+    private static final int POSITION_BITS = 9;
+    private static final int POSITIONS_PER_MIX = 64 / POSITION_BITS;
+
+    private final long blocks;
+
+    BlockedBloomFilter(Equivalence<? super T> equivalence, AtomicLongArray words, int hashes) {
+        super(equivalence, words, hashes);
+        if (words.length() == 0 || words.length() % BLOCK_WORDS != 0) {
+            throw new IllegalArgumentException("word count must be a multiple of " + BLOCK_WORDS + ": " + words.length());
+        }
+        this.blocks = words.length() / BLOCK_WORDS;
+    }
+
+    @Override
+    public boolean mightContainHash(int hash) {
+        final long mixed = mix(hash);
+        final int base = block(mixed);
+        long positions = mix((int) mixed);
+        for (int i = 0; i < hashes; i++) {
+            if (i > 0 && i % POSITIONS_PER_MIX == 0) {
+                positions = mix((int) (positions ^ i));
+            }
+            final int bit = (int) positions & (BLOCK_BITS - 1);
+            positions >>>= POSITION_BITS;
+            if ((words.get(base + (bit >>> 6)) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public boolean putHash(int hash) {
+        final long mixed = mix(hash);
+        final int base = block(mixed);
+        long positions = mix((int) mixed);
+        boolean changed = false;
+        for (int i = 0; i < hashes; i++) {
+            if (i > 0 && i % POSITIONS_PER_MIX == 0) {
+                positions = mix((int) (positions ^ i));
+            }
+            final int bit = (int) positions & (BLOCK_BITS - 1);
+            positions >>>= POSITION_BITS;
+            changed |= setBit(words, base + (bit >>> 6), 1L << bit);
+        }
+        return changed;
+    }
+
+    // escolhe o bloco pelos 32 bits altos, sem divis&atilde;o (multiply-shift)
+    private int block(long mixed) {
+        return (int) (((mixed >>> 32) * blocks) >>> 32) * BLOCK_WORDS;
+    }
+}
@@ -0,0 +1,328 @@
+package br.com.staroski.equality.collection;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import br.com.staroski.equality.strategy.Equivalence;
+
+/**
+ * Superclasse para filtros de Bloom, estruturas probabil&iacute;sticas que respondem se um objeto <B>certamente n&atilde;o</B> foi inserido ou se ele <B>talvez</B> tenha sido inserido.<BR>
+ * <BR>
+ * Um filtro de Bloom &eacute; &uacute;til como pr&eacute;-filtro de buscas negativas: se o filtro responde que o objeto n&atilde;o foi inserido, a busca no {@link java.util.Map} ou
+ * reposit&oacute;rio completo pode ser evitada.<BR>
+ * <BR>
+ * Os objetos s&atilde;o convertidos em <I>hashes</I> atrav&eacute;s de uma {@link Equivalence equival&ecirc;ncia}, portanto o filtro pode ser utilizado com objetos que implementam
+ * <code>hashCode</code> atrav&eacute;s de uma {@link br.com.staroski.equality.strategy.EqualityStrategy estrat&eacute;gia} ({@link Equivalence#natural()}), com
+ * {@link br.com.staroski.equality.strategy.ValueSupplier fornecedores de valores} ({@link Equivalence#valueBased()}), com {@link Equivalence#fieldBased(Class) atributos} ou com qualquer
+ * outra {@link Equivalence equival&ecirc;ncia}.<BR>
+ * Tamb&eacute;m &eacute; poss&iacute;vel inserir e consultar <I>hashes</I> j&aacute; calculados, atrav&eacute;s dos m&eacute;todos {@link #putHash(int)} e {@link #mightContainHash(int)}.<BR>
+ * <BR>
+ * Esta classe disponibiliza duas implementa&ccedil;&otilde;es: o filtro {@link #create(Equivalence, long, double) tradicional}, com a menor taxa de falsos positivos, e o filtro
+ * {@link #blocked(Equivalence, long, double) em blocos}, que consulta uma &uacute;nica linha de <I>cache</I> por objeto.<BR>
+ * <BR>
+ * As inser&ccedil;&otilde;es e consultas s&atilde;o <I>thread-safe</I> e n&atilde;o utilizam <I>locks</I>.
+ *
+ * @param <T>
+ *            O tipo dos objetos inseridos no filtro.
+ * @author Ricardo Artur Staroski
+ * @see Equivalence
+ */
+public abstract class BloomFilter<T> {
+
+    // identificadores de cada implementa&ccedil;&atilde;o na forma serializada
+    private static final int STANDARD = 1;
+    private static final int BLOCKED = 2;
+
+    /**
+     * Cria um filtro de Bloom em blocos de 512 bits, onde todos os bits de um objeto ficam na mesma linha de <I>cache</I>.<BR>
+     * Para a mesma mem&oacute;ria, a taxa de falsos positivos &eacute; um pouco maior do que a do filtro {@link #create(Equivalence, long, double) tradicional}, mas cada
+     * consulta acessa a mem&oacute;ria uma &uacute;nica vez.
+     *
+     * @param equivalence
+     *            A {@link Equivalence equival&ecirc;ncia} que calcula o <I>hash</I> dos objetos.
+     * @param expectedInsertions
+     *            A quantidade de objetos que se espera inserir.
+     * @param falsePositiveRate
+     *            A taxa de falsos positivos desejada, entre <code>0</code> e <code>1</code> (exclusive).
+     * @return O filtro criado.
+     */
+    public static <T> BloomFilter<T> blocked(Equivalence<? super T> equivalence, long expectedInsertions, double falsePositiveRate) {
+        final long bits = optimalBits(expectedInsertions, falsePositiveRate);
+        // limitado a 1 << 30 palavras, como o filtro tradicional, mantendo a quantidade de palavras m&uacute;ltipla de BLOCK_WORDS; o arredondamento para cima
+        // n&atilde;o soma ao total de bits, que pode ser Long.MAX_VALUE
+        final int blocks = (int) Math.min((1 << 30) / BlockedBloomFilter.BLOCK_WORDS, (bits - 1) / BlockedBloomFilter.BLOCK_BITS + 1);
+        return new BlockedBloomFilter<T>(equivalence, new AtomicLongArray(blocks * BlockedBloomFilter.BLOCK_WORDS), optimalHashes(expectedInsertions, bits));
+    }
+
+    /**
+     * Cria um filtro de Bloom tradicional, dimensionado para a quantidade de inser&ccedil;&otilde;es e a taxa de falsos positivos informadas.
+     *
+     * @param equivalence
+     *            A {@link Equivalence equival&ecirc;ncia} que calcula o <I>hash</I> dos objetos.
+     * @param expectedInsertions
+     *            A quantidade de objetos que se espera inserir.
+     * @param falsePositiveRate
+     *            A taxa de falsos positivos desejada, entre <code>0</code> e <code>1</code> (exclusive).
+     * @return O filtro criado.
+     */
+    public static <T> BloomFilter<T> create(Equivalence<? super T> equivalence, long expectedInsertions, double falsePositiveRate) {
+        final long bits = optimalBits(expectedInsertions, falsePositiveRate);
+        final int words = (int) Math.min(1 << 30, Long.highestOneBit(Math.max(64, bits) - 1) << 1 >>> 6);
+        return new StandardBloomFilter<T>(equivalence, new AtomicLongArray(words), optimalHashes(expectedInsertions, bits));
+    }
+
+    /**
+     * Recria um filtro a partir do array obtido pelo m&eacute;todo {@link #toLongArray()}.
+     *
+     * @param equivalence
+     *            A {@link Equivalence equival&ecirc;ncia} que calcula o <I>hash</I> dos objetos, que deve ser a mesma utilizada pelo filtro original.
+     * @param array
+     *            O array obtido pelo m&eacute;todo {@link #toLongArray()}.
+     * @return O filtro recriado.
+     */
+    public static <T> BloomFilter<T> fromLongArray(Equivalence<? super T> equivalence, long[] array) {
+        if (array == null || array.length < 1) {
+            throw new IllegalArgumentException("invalid array");
+        }
+        final int type = (int) (array[0] >>> 32);
+        final int hashes = (int) array[0];
+        final long[] words = new long[array.length - 1];
+        System.arraycopy(array, 1, words, 0, words.length);
+        return create(type, equivalence, new AtomicLongArray(words), hashes);
+    }
+
+    /**
+     * L&ecirc; um filtro gravado pelo m&eacute;todo {@link #writeTo(OutputStream)}.
+     *
+     * @param equivalence
+     *            A {@link Equivalence equival&ecirc;ncia} que calcula o <I>hash</I> dos objetos, que deve ser a mesma utilizada pelo filtro original.
+     * @param input
+     *            O <I>stream</I> de onde o filtro ser&aacute; lido.
+     * @return O filtro lido.
+     * @throws IOException
+     *             Se ocorrer algum erro de I/O.
+     */
+    public static <T> BloomFilter<T> readFrom(Equivalence<? super T> equivalence, InputStream input) throws IOException {
+        final DataInputStream data = new DataInputStream(input);
+        final int type = data.readInt();
+        final int hashes = data.readInt();
+        final int length = data.readInt();
+        final AtomicLongArray words = new AtomicLongArray(length);
+        for (int i = 0; i < length; i++) {
+            words.lazySet(i, data.readLong());
+        }
+        return create(type, equivalence, words, hashes);
+    }
+
+    private static <T> BloomFilter<T> create(int type, Equivalence<? super T> equivalence, AtomicLongArray words, int hashes) {
+        switch (type) {
+            case STANDARD:
+                return new StandardBloomFilter<T>(equivalence, words, hashes);
+            case BLOCKED:
+                return new BlockedBloomFilter<T>(equivalence, words, hashes);
+            default:
+                throw new IllegalArgumentException("unknown filter type: " + type);
+        }
+    }
+
+    private static long optimalBits(long expectedInsertions, double falsePositiveRate) {
+        if (expectedInsertions <= 0) {
+            throw new IllegalArgumentException("expectedInsertions: " + expectedInsertions);
+        }
+        if (!(falsePositiveRate > 0 && falsePositiveRate < 1)) {
+            throw new IllegalArgumentException("falsePositiveRate: " + falsePositiveRate);
+        }
+        return (long) Math.ceil(-expectedInsertions * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+    }
+
+    private static int optimalHashes(long expectedInsertions, long bits) {
+        return (int) Math.max(1, Math.min(16, Math.round((double) bits / expectedInsertions * Math.log(2))));
+    }
+
+    // espalha os 32 bits do hash em 64 bits (finaliza&ccedil;&atilde;o do SplitMix64), de onde s&atilde;o derivadas as posi&ccedil;&otilde;es dos bits
+    static long mix(int hash) {
+        long z = hash * 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    // liga o bit informado sem lock, retorna true se ele estava desligado
+    static boolean setBit(AtomicLongArray words, int word, long mask) {
+        for (;;) {
+            final long current = words.get(word);
+            if ((current & mask) != 0) {
+                return false;
+            }
+            if (words.compareAndSet(word, current, current | mask)) {
+                return true;
+            }
+        }
+    }
+
+    final Equivalence<? super T> equivalence;
+    final AtomicLongArray words;
+    final int hashes;
+
+    BloomFilter(Equivalence<? super T> equivalence, AtomicLongArray words, int hashes) {
+        if (equivalence == null) {
+            throw new IllegalArgumentException("null");
+        }
+        if (hashes < 1) {
+            throw new IllegalArgumentException("hashes: " + hashes);
+        }
+        this.equivalence = equivalence;
+        this.words = words;
+        this.hashes = hashes;
+    }
+
+    /**
+     * Obt&eacute;m a quantidade de bits do filtro.
+     *
+     * @return A quantidade de bits do filtro.
+     */
+    public final long bitSize() {
+        return (long) words.length() << 6;
+    }
+
+    /**
+     * Obt&eacute;m a quantidade de bits ligados no filtro.
+     *
+     * @return A quantidade de bits ligados.
+     */
+    public final long bitCount() {
+        long count = 0;
+        final int length = words.length();
+        for (int i = 0; i < length; i++) {
+            count += Long.bitCount(words.get(i));
+        }
+        return count;
+    }
+
+    /**
+     * Estima a taxa de falsos positivos atual, a partir da propor&ccedil;&atilde;o de bits ligados.
+     *
+     * @return A taxa de falsos positivos estimada.
+     */
+    public double expectedFalsePositiveRate() {
+        return Math.pow((double) bitCount() / bitSize(), hashes);
+    }
+
+    /**
+     * Obt&eacute;m a quantidade de bits ligados por objeto inserido.
+     *
+     * @return A quantidade de bits ligados por objeto.
+     */
+    public final int hashCount() {
+        return hashes;
+    }
+
+    /**
+     * Adiciona ao filtro todos os objetos inseridos no filtro informado.<BR>
+     * Os dois filtros devem ter sido criados com os mesmos par&acirc;metros e com {@link Equivalence equival&ecirc;ncias} compat&iacute;veis.
+     *
+     * @param other
+     *            O filtro a ser combinado com este.
+     */
+    public final void merge(BloomFilter<? extends T> other) {
+        if (other == null) {
+            throw new IllegalArgumentException("null");
+        }
+        if (other.getClass() != getClass() || other.hashes != hashes || other.words.length() != words.length()) {
+            throw new IllegalArgumentException("incompatible filters");
+        }
+        final int length = words.length();
+        for (int i = 0; i < length; i++) {
+            final long mask = other.words.get(i);
+            if (mask != 0) {
+                long current;
+                do {
+                    current = words.get(i);
+                } while ((current | mask) != current && !words.compareAndSet(i, current, current | mask));
+            }
+        }
+    }
+
+    /**
+     * Verifica se o objeto informado talvez tenha sido inserido no filtro.
+     *
+     * @param object
+     *            O objeto a ser verificado.
+     * @return <code>false</code> se o objeto certamente n&atilde;o foi inserido e <code>true</code> se ele talvez tenha sido inserido.
+     */
+    public final boolean mightContain(T object) {
+        return mightContainHash(equivalence.hash(object));
+    }
+
+    /**
+     * Verifica se um objeto com o <I>hash</I> informado talvez tenha sido inserido no filtro.
+     *
+     * @param hash
+     *            O <I>hash</I> do objeto, calculado pela mesma {@link Equivalence equival&ecirc;ncia} do filtro.
+     * @return <code>false</code> se o objeto certamente n&atilde;o foi inserido e <code>true</code> se ele talvez tenha sido inserido.
+     */
+    public abstract boolean mightContainHash(int hash);
+
+    /**
+     * Insere o objeto informado no filtro.
+     *
+     * @param object
+     *            O objeto a ser inserido.
+     * @return <code>true</code> se algum bit do filtro foi alterado, isto &eacute;, se o objeto certamente n&atilde;o havia sido inserido.
+     */
+    public final boolean put(T object) {
+        return putHash(equivalence.hash(object));
+    }
+
+    /**
+     * Insere no filtro um objeto com o <I>hash</I> informado.
+     *
+     * @param hash
+     *            O <I>hash</I> do objeto, calculado pela mesma {@link Equivalence equival&ecirc;ncia} do filtro.
+     * @return <code>true</code> se algum bit do filtro foi alterado, isto &eacute;, se o objeto certamente n&atilde;o havia sido inserido.
+     */
+    public abstract boolean putHash(int hash);
+
+    /**
+     * Obt&eacute;m uma representa&ccedil;&atilde;o compacta deste filtro, que pode ser recriado atrav&eacute;s do m&eacute;todo {@link #fromLongArray(Equivalence, long[])}.
+     *
+     * @return Um array com o tipo do filtro, a quantidade de <I>hashes</I> e os bits do filtro.
+     */
+    public final long[] toLongArray() {
+        final int length = words.length();
+        final long[] array = new long[length + 1];
+        array[0] = ((long) type() << 32) | hashes;
+        for (int i = 0; i < length; i++) {
+            array[i + 1] = words.get(i);
+        }
+        return array;
+    }
+
+    /**
+     * Grava este filtro no <I>stream</I> informado, de onde ele pode ser lido atrav&eacute;s do m&eacute;todo {@link #readFrom(Equivalence, InputStream)}.
+     *
+     * @param output
+     *            O <I>stream</I> onde o filtro ser&aacute; gravado.
+     * @throws IOException
+     *             Se ocorrer algum erro de I/O.
+     */
+    public final void writeTo(OutputStream output) throws IOException {
+        final DataOutputStream data = new DataOutputStream(output);
+        final int length = words.length();
+        data.writeInt(type());
+        data.writeInt(hashes);
+        data.writeInt(length);
+        for (int i = 0; i < length; i++) {
+            data.writeLong(words.get(i));
+        }
+        data.flush();
+    }
+
+    private int type() {
+        return this instanceof BlockedBloomFilter ? BLOCKED : STANDARD;
+    }
+}
@@ -0,0 +1,34 @@
+package br.com.staroski.equality.collection;
+
+import java.util.Arrays;
+
+import br.com.staroski.equality.EqualsUtils;
+import br.com.staroski.equality.HashCodeUtils;
+
+// Tabela cujas chaves s&atilde;o arrays de byte, com o mesmo hash de HashCodeUtils.hash(SINGLE_VALUE, byte[])
+final class ByteArrayKeyTable extends ArrayKeyTable<byte[]> {
+
+    ByteArrayKeyTable(int expectedSize, boolean storeValues) {
+        super(expectedSize, storeValues);
+    }
+
+    @Override
+    byte[] copyOf(byte[] array, int offset, int length) {
+        return Arrays.copyOfRange(array, offset, offset + length);
+    }
+
+    @Override
+    boolean equal(byte[] key, byte[] array, int offset, int length) {
+        return EqualsUtils.mismatch(key, 0, length, array, offset, offset + length) < 0;
+    }
+
+    @Override
+    int hash(byte[] array, int offset, int length) {
+        return HashCodeUtils.hash(HashCodeUtils.SINGLE_VALUE, array, offset, offset + length);
+    }
+
+    @Override
+    int length(byte[] array) {
+        return array.length;
+    }
+}
@@ -0,0 +1,478 @@
+package br.com.staroski.equality.collection;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.ReentrantLock;
+
+import br.com.staroski.equality.strategy.Equivalence;
+
+/**
+ * {@link ConcurrentMap} cujas chaves s&atilde;o comparadas atrav&eacute;s de uma {@link Equivalence equival&ecirc;ncia} externa, ao inv&eacute;s dos m&eacute;todos <code>hashCode</code> e
+ * <code>equals</code> das pr&oacute;prias chaves.<BR>
+ * <BR>
+ * A tabela &eacute; dividida em segmentos, cada um protegido por um <I>lock</I> pr&oacute;prio que s&oacute; &eacute; adquirido nas escritas.<BR>
+ * As leituras n&atilde;o adquirem <I>lock</I>: as entradas de cada segmento s&atilde;o listas encadeadas cujos elos s&atilde;o imut&aacute;veis, publicadas atrav&eacute;s de escritas
+ * <code>volatile</code>.<BR>
+ * O <I>hash</I> de cada chave &eacute; armazenado na sua entrada, portanto o redimensionamento de um segmento n&atilde;o recalcula <I>hashes</I> nem invoca o <code>equals</code>.<BR>
+ * <BR>
+ * Chaves e valores <code>null</code> n&atilde;o s&atilde;o permitidos.<BR>
+ * Os iteradores s&atilde;o fracamente consistentes, assim como os do {@link java.util.concurrent.ConcurrentHashMap}.
+ *
+ * @param <K>
+ *            O tipo das chaves.
+ * @param <V>
+ *            O tipo dos valores.
+ * @author Ricardo Artur Staroski
+ * @see Equivalence
+ * @see EquivalenceHashMap
+ */
+public class ConcurrentEquivalenceHashMap<K, V> extends AbstractMap<K, V> implements ConcurrentMap<K, V> {
+
+    private static final class Node<K, V> {
+
+        final int hash;
+        final K key;
+        final Node<K, V> next;
+        volatile V value;
+
+        Node(int hash, K key, V value, Node<K, V> next) {
+            this.hash = hash;
+            this.key = key;
+            this.value = value;
+            this.next = next;
+        }
+    }
+
+    @SuppressWarnings("serial")
+    private static final class Segment<K, V> extends ReentrantLock {
+
+        final Equivalence<? super K> equivalence;
+        volatile AtomicReferenceArray<Node<K, V>> table;
+        volatile int count;
+        private int threshold;
+
+        Segment(Equivalence<? super K> equivalence, int capacity) {
+            this.equivalence = equivalence;
+            setTable(new AtomicReferenceArray<Node<K, V>>(capacity));
+        }
+
+        void clear() {
+            lock();
+            try {
+                setTable(new AtomicReferenceArray<Node<K, V>>(table.length()));
+                count = 0;
+            } finally {
+                unlock();
+            }
+        }
+
+        Node<K, V> find(K key, int hash) {
+            final AtomicReferenceArray<Node<K, V>> table = this.table;
+            Node<K, V> node = table.get(hash & (table.length() - 1));
+            while (node != null) {
+                if (node.hash == hash && (node.key == key || equivalence.equals(node.key, key))) {
+                    return node;
+                }
+                node = node.next;
+            }
+            return null;
+        }
+
+        V put(K key, int hash, V value, boolean onlyIfAbsent) {
+            lock();
+            try {
+                final Node<K, V> existing = find(key, hash);
+                if (existing != null) {
+                    final V previous = existing.value;
+                    if (!onlyIfAbsent) {
+                        existing.value = value;
+                    }
+                    return previous;
+                }
+                if (count >= threshold) {
+                    resize();
+                }
+                final AtomicReferenceArray<Node<K, V>> table = this.table;
+                final int index = hash & (table.length() - 1);
+                table.set(index, new Node<K, V>(hash, key, value, table.get(index)));
+                count = count + 1;
+                return null;
+            } finally {
+                unlock();
+            }
+        }
+
+        V remove(K key, int hash, Object expected) {
+            lock();
+            try {
+                final AtomicReferenceArray<Node<K, V>> table = this.table;
+                final int index = hash & (table.length() - 1);
+                final Node<K, V> first = table.get(index);
+                Node<K, V> node = first;
+                while (node != null && !(node.hash == hash && (node.key == key || equivalence.equals(node.key, key)))) {
+                    node = node.next;
+                }
+                if (node == null) {
+                    return null;
+                }
+                final V previous = node.value;
+                if (expected != null && !expected.equals(previous)) {
+                    return null;
+                }
+                // os elos s&atilde;o imut&aacute;veis: copia os n&oacute;s anteriores ao removido
+                Node<K, V> head = node.next;
+                for (Node<K, V> p = first; p != node; p = p.next) {
+                    head = new Node<K, V>(p.hash, p.key, p.value, head);
+                }
+                table.set(index, head);
+                count = count - 1;
+                return previous;
+            } finally {
+                unlock();
+            }
+        }
+
+        V replace(K key, int hash, V expected, V value) {
+            lock();
+            try {
+                final Node<K, V> node = find(key, hash);
+                if (node == null) {
+                    return null;
+                }
+                final V previous = node.value;
+                if (expected != null && !expected.equals(previous)) {
+                    return null;
+                }
+                node.value = value;
+                return previous;
+            } finally {
+                unlock();
+            }
+        }
+
+        // dobra a capacidade reaproveitando os hashes armazenados; leitores concorrentes continuam vendo a tabela antiga at&eacute; a publica&ccedil;&atilde;o da nova
+        private void resize() {
+            final AtomicReferenceArray<Node<K, V>> oldTable = table;
+            final int oldCapacity = oldTable.length();
+            if (oldCapacity >= MAXIMUM_SEGMENT_CAPACITY) {
+                return;
+            }
+            final int capacity = oldCapacity << 1;
+            final int mask = capacity - 1;
+            final AtomicReferenceArray<Node<K, V>> newTable = new AtomicReferenceArray<Node<K, V>>(capacity);
+            for (int i = 0; i < oldCapacity; i++) {
+                for (Node<K, V> node = oldTable.get(i); node != null; node = node.next) {
+                    final int index = node.hash & mask;
+                    newTable.lazySet(index, new Node<K, V>(node.hash, node.key, node.value, newTable.get(index)));
+                }
+            }
+            setTable(newTable);
+        }
+
+        private void setTable(AtomicReferenceArray<Node<K, V>> table) {
+            threshold = (int) (table.length() * LOAD_FACTOR);
+            this.table = table;
+        }
+    }
+
+    private final class EntryIterator implements Iterator<Map.Entry<K, V>> {
+
+        private int segmentIndex = segments.length;
+        private AtomicReferenceArray<Node<K, V>> table;
+        private int tableIndex;
+        private Node<K, V> nextNode;
+        private K lastKey;
+
+        EntryIterator() {
+            advance();
+        }
+
+        public boolean hasNext() {
+            return nextNode != null;
+        }
+
+        public Map.Entry<K, V> next() {
+            final Node<K, V> node = nextNode;
+            if (node == null) {
+                throw new NoSuchElementException();
+            }
+            lastKey = node.key;
+            nextNode = node.next;
+            if (nextNode == null) {
+                advance();
+            }
+            return new WriteThroughEntry(node.key, node.value);
+        }
+
+        public void remove() {
+            if (lastKey == null) {
+                throw new IllegalStateException();
+            }
+            ConcurrentEquivalenceHashMap.this.remove(lastKey);
+            lastKey = null;
+        }
+
+        private void advance() {
+            for (;;) {
+                if (table != null) {
+                    while (tableIndex > 0) {
+                        final Node<K, V> node = table.get(--tableIndex);
+                        if (node != null) {
+                            nextNode = node;
+                            return;
+                        }
+                    }
+                }
+                if (segmentIndex == 0) {
+                    nextNode = null;
+                    return;
+                }
+                table = segments[--segmentIndex].table;
+                tableIndex = table.length();
+            }
+        }
+    }
+
+    private final class WriteThroughEntry extends SimpleEntry<K, V> {
+
+        private static final long serialVersionUID = 1L;
+
+        WriteThroughEntry(K key, V value) {
+            super(key, value);
+        }
+
+        @Override
+        public V setValue(V value) {
+            if (value == null) {
+                throw new IllegalArgumentException("null");
+            }
+            put(getKey(), value);
+            return super.setValue(value);
+        }
+    }
+
+    private static final int DEFAULT_CONCURRENCY_LEVEL = 16;
+    private static final int DEFAULT_CAPACITY = 16;
+    private static final float LOAD_FACTOR = 0.75f;
+    private static final int MAXIMUM_SEGMENTS = 1 << 16;
+    private static final int MAXIMUM_SEGMENT_CAPACITY = 1 << 30;
+
+    private final Equivalence<? super K> equivalence;
+    private final Segment<K, V>[] segments;
+    private final int segmentShift;
+    private Set<Map.Entry<K, V>> entrySet;
+
+    /**
+     * Cria um {@link ConcurrentEquivalenceHashMap} vazio.
+     *
+     * @param equivalence
+     *            A {@link Equivalence equival&ecirc;ncia} utilizada para comparar as chaves.
+     */
+    public ConcurrentEquivalenceHashMap(Equivalence<? super K> equivalence) {
+        this(equivalence, DEFAULT_CAPACITY, DEFAULT_CONCURRENCY_LEVEL);
+    }
+
+    /**
+     * Cria um {@link ConcurrentEquivalenceHashMap} vazio, dimensionado para a quantidade de entradas informada.
+     *
+     * @param equivalence
+     *            A {@link Equivalence equival&ecirc;ncia} utilizada para comparar as chaves.
+     * @param expectedSize
+     *            A quantidade de entradas esperada.
+     */
+    public ConcurrentEquivalenceHashMap(Equivalence<? super K> equivalence, int expectedSize) {
+        this(equivalence, expectedSize, DEFAULT_CONCURRENCY_LEVEL);
+    }
+
+    /**
+     * Cria um {@link ConcurrentEquivalenceHashMap} vazio, dimensionado para a quantidade de entradas informada.
+     *
+     * @param equivalence
+     *            A {@link Equivalence equival&ecirc;ncia} utilizada para comparar as chaves.
+     * @param expectedSize
+     *            A quantidade de entradas esperada.
+     * @param concurrencyLevel
+     *            A quantidade estimada de threads escrevendo simultaneamente, que determina a quantidade de segmentos.
+     */
+    public ConcurrentEquivalenceHashMap(Equivalence<? super K> equivalence, int expectedSize, int concurrencyLevel) {
+        if (equivalence == null) {
+            throw new IllegalArgumentException("null");
+        }
+        if (expectedSize < 0) {
+            throw new IllegalArgumentException("expectedSize: " + expectedSize);
+        }
+        if (concurrencyLevel <= 0) {
+            throw new IllegalArgumentException("concurrencyLevel: " + concurrencyLevel);
+        }
+        this.equivalence = equivalence;
+        final int segmentCount = powerOfTwo(Math.min(concurrencyLevel, MAXIMUM_SEGMENTS));
+        this.segmentShift = 32 - Integer.numberOfTrailingZeros(segmentCount);
+        final int perSegment = (int) Math.ceil(expectedSize / (double) segmentCount / LOAD_FACTOR);
+        final int segmentCapacity = powerOfTwo(Math.max(2, Math.min(perSegment, MAXIMUM_SEGMENT_CAPACITY)));
+        @SuppressWarnings("unchecked")
+        final Segment<K, V>[] segments = (Segment<K, V>[]) new Segment<?, ?>[segmentCount];
+        for (int i = 0; i < segmentCount; i++) {
+            segments[i] = new Segment<K, V>(equivalence, segmentCapacity);
+        }
+        this.segments = segments;
+    }
+
+    @Override
+    public void clear() {
+        for (Segment<K, V> segment : segments) {
+            segment.clear();
+        }
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return get(key) != null;
+    }
+
+    @Override
+    public Set<Map.Entry<K, V>> entrySet() {
+        Set<Map.Entry<K, V>> entries = entrySet;
+        if (entries == null) {
+            entrySet = entries = new AbstractSet<Map.Entry<K, V>>() {
+
+                @Override
+                public void clear() {
+                    ConcurrentEquivalenceHashMap.this.clear();
+                }
+
+                @Override
+                public Iterator<Map.Entry<K, V>> iterator() {
+                    return new EntryIterator();
+                }
+
+                @Override
+                public int size() {
+                    return ConcurrentEquivalenceHashMap.this.size();
+                }
+            };
+        }
+        return entries;
+    }
+
+    /**
+     * Obt&eacute;m a {@link Equivalence equival&ecirc;ncia} utilizada para comparar as chaves.
+     *
+     * @return A {@link Equivalence equival&ecirc;ncia} utilizada para comparar as chaves.
+     */
+    public Equivalence<? super K> equivalence() {
+        return equivalence;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public V get(Object key) {
+        if (key == null) {
+            return null;
+        }
+        final int hash = spread(equivalence.hash((K) key));
+        final Node<K, V> node = segmentFor(hash).find((K) key, hash);
+        return node == null ? null : node.value;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        for (Segment<K, V> segment : segments) {
+            if (segment.count != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public V put(K key, V value) {
+        checkNotNull(key, value);
+        final int hash = spread(equivalence.hash(key));
+        return segmentFor(hash).put(key, hash, value, false);
+    }
+
+    @Override
+    public V putIfAbsent(K key, V value) {
+        checkNotNull(key, value);
+        final int hash = spread(equivalence.hash(key));
+        return segmentFor(hash).put(key, hash, value, true);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public V remove(Object key) {
+        if (key == null) {
+            return null;
+        }
+        final int hash = spread(equivalence.hash((K) key));
+        return segmentFor(hash).remove((K) key, hash, null);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public boolean remove(Object key, Object value) {
+        if (key == null || value == null) {
+            return false;
+        }
+        final int hash = spread(equivalence.hash((K) key));
+        return segmentFor(hash).remove((K) key, hash, value) != null;
+    }
+
+    @Override
+    public V replace(K key, V value) {
+        checkNotNull(key, value);
+        final int hash = spread(equivalence.hash(key));
+        return segmentFor(hash).replace(key, hash, null, value);
+    }
+
+    @Override
+    public boolean replace(K key, V oldValue, V newValue) {
+        checkNotNull(key, newValue);
+        if (oldValue == null) {
+            throw new IllegalArgumentException("null");
+        }
+        final int hash = spread(equivalence.hash(key));
+        return segmentFor(hash).replace(key, hash, oldValue, newValue) != null;
+    }
+
+    @Override
+    public int size() {
+        long size = 0;
+        for (Segment<K, V> segment : segments) {
+            size += segment.count;
+        }
+        return size > Integer.MAX_VALUE ? Integer.MAX_VALUE : (int) size;
+    }
+
+    private void checkNotNull(K key, V value) {
+        if (key == null || value == null) {
+            throw new IllegalArgumentException("null");
+        }
+    }
+
+    private int powerOfTwo(int value) {
+        return value <= 1 ? 1 : Integer.highestOneBit(value - 1) << 1;
+    }
+
+    // os bits altos do hash espalhado escolhem o segmento e os bits baixos escolhem o balde dentro do segmento
+    private Segment<K, V> segmentFor(int hash) {
+        return segmentShift == 32 ? segments[0] : segments[hash >>> segmentShift];
+    }
+
+    // espalha os bits do hash (finaliza&ccedil;&atilde;o do MurmurHash3), pois os baldes e segmentos s&atilde;o escolhidos por m&aacute;scara.
+    // A fun&ccedil;&atilde;o &eacute; bijetora, portanto comparar hashes espalhados equivale a comparar os hashes originais.
+    private static int spread(int hash) {
+        hash ^= hash >>> 16;
+        hash *= 0x85ebca6b;
+        hash ^= hash >>> 13;
+        hash *= 0xc2b2ae35;
+        hash ^= hash >>> 16;
+        return hash;
+    }
+}
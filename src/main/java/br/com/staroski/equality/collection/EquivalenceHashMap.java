@@ -0,0 +1,191 @@
+package br.com.staroski.equality.collection;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+
+import br.com.staroski.equality.strategy.Equivalence;
+
+/**
+ * {@link Map} de endere&ccedil;amento aberto cujas chaves s&atilde;o comparadas atrav&eacute;s de uma {@link Equivalence equival&ecirc;ncia} externa, ao inv&eacute;s dos m&eacute;todos
+ * <code>hashCode</code> e <code>equals</code> das pr&oacute;prias chaves.<BR>
+ * <BR>
+ * As chaves, os valores e os <I>hashes</I> das chaves s&atilde;o armazenados em arrays paralelos, sem criar um objeto por entrada.<BR>
+ * Como o <I>hash</I> de cada chave &eacute; armazenado, o redimensionamento da tabela n&atilde;o recalcula <I>hashes</I> nem invoca o <code>equals</code>, e as buscas s&oacute; invocam o
+ * <code>equals</code> da {@link Equivalence equival&ecirc;ncia} para chaves cujo <I>hash</I> &eacute; igual.<BR>
+ * <BR>
+ * As buscas podem ser feitas com qualquer objeto aceito pela {@link Equivalence equival&ecirc;ncia}, sem precisar encapsul&aacute;-lo num objeto tempor&aacute;rio.<BR>
+ * <BR>
+ * Chaves <code>null</code> n&atilde;o s&atilde;o permitidas.<BR>
+ * Os m&eacute;todos <code>equals</code> e <code>hashCode</code> deste {@link Map} seguem o contrato de {@link AbstractMap}, portanto s&oacute; s&atilde;o consistentes com outros {@link Map}s
+ * que utilizem a mesma {@link Equivalence equival&ecirc;ncia}.<BR>
+ * Esta classe n&atilde;o &eacute; <I>thread-safe</I>.
+ *
+ * <PRE>
+ * Map&lt;MyClass, String&gt; map = new EquivalenceHashMap&lt;MyClass, String&gt;(Equivalence.fieldBased(MyClass.class));
+ * </PRE>
+ *
+ * @param <K>
+ *            O tipo das chaves.
+ * @param <V>
+ *            O tipo dos valores.
+ * @author Ricardo Artur Staroski
+ * @see Equivalence
+ * @see EquivalenceHashSet
+ */
+public class EquivalenceHashMap<K, V> extends AbstractMap<K, V> {
+
+    private final class Entry extends SimpleEntry<K, V> {
+
+        private static final long serialVersionUID = 1L;
+
+        Entry(K key, V value) {
+            super(key, value);
+        }
+
+        @Override
+        public V setValue(V value) {
+            put(getKey(), value);
+            return super.setValue(value);
+        }
+    }
+
+    private final class EntrySet extends AbstractSet<Map.Entry<K, V>> {
+
+        @Override
+        public void clear() {
+            EquivalenceHashMap.this.clear();
+        }
+
+        @Override
+        public Iterator<Map.Entry<K, V>> iterator() {
+            return table.new TableIterator<Map.Entry<K, V>>() {
+
+                @Override
+                @SuppressWarnings("unchecked")
+                Map.Entry<K, V> next(K key, Object value) {
+                    return new Entry(key, (V) value);
+                }
+            };
+        }
+
+        @Override
+        public int size() {
+            return table.size;
+        }
+    }
+
+    private final OpenHashTable<K> table;
+    private Set<Map.Entry<K, V>> entrySet;
+
+    /**
+     * Cria um {@link EquivalenceHashMap} vazio.
+     *
+     * @param equivalence
+     *            A {@link Equivalence equival&ecirc;ncia} utilizada para comparar as chaves.
+     */
+    public EquivalenceHashMap(Equivalence<? super K> equivalence) {
+        this(equivalence, OpenHashTable.DEFAULT_CAPACITY / 2);
+    }
+
+    /**
+     * Cria um {@link EquivalenceHashMap} vazio, dimensionado para a quantidade de entradas informada.
+     *
+     * @param equivalence
+     *            A {@link Equivalence equival&ecirc;ncia} utilizada para comparar as chaves.
+     * @param expectedSize
+     *            A quantidade de entradas esperada.
+     */
+    public EquivalenceHashMap(Equivalence<? super K> equivalence, int expectedSize) {
+        this(equivalence, expectedSize, OpenHashTable.DEFAULT_LOAD_FACTOR);
+    }
+
+    /**
+     * Cria um {@link EquivalenceHashMap} vazio, dimensionado para a quantidade de entradas informada.
+     *
+     * @param equivalence
+     *            A {@link Equivalence equival&ecirc;ncia} utilizada para comparar as chaves.
+     * @param expectedSize
+     *            A quantidade de entradas esperada.
+     * @param loadFactor
+     *            A taxa de ocupa&ccedil;&atilde;o m&aacute;xima da tabela, entre <code>0</code> e <code>1</code> (exclusive).
+     */
+    public EquivalenceHashMap(Equivalence<? super K> equivalence, int expectedSize, float loadFactor) {
+        this.table = new OpenHashTable<K>(equivalence, expectedSize, loadFactor, true);
+    }
+
+    @Override
+    public void clear() {
+        table.clear();
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return table.indexOf(key) >= 0;
+    }
+
+    @Override
+    public Set<Map.Entry<K, V>> entrySet() {
+        Set<Map.Entry<K, V>> entries = entrySet;
+        if (entries == null) {
+            entrySet = entries = new EntrySet();
+        }
+        return entries;
+    }
+
+    /**
+     * Obt&eacute;m a {@link Equivalence equival&ecirc;ncia} utilizada para comparar as chaves.
+     *
+     * @return A {@link Equivalence equival&ecirc;ncia} utilizada para comparar as chaves.
+     */
+    public Equivalence<? super K> equivalence() {
+        return table.equivalence;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public V get(Object key) {
+        final int index = table.indexOf(key);
+        return index < 0 ? null : (V) table.values[index];
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return table.size == 0;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public V put(K key, V value) {
+        if (key == null) {
+            throw new IllegalArgumentException("null");
+        }
+        int index = table.add(key, table.hash(key));
+        if (index < 0) {
+            index = ~index;
+        }
+        final Object[] values = table.values;
+        final V previous = (V) values[index];
+        values[index] = value;
+        return previous;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public V remove(Object key) {
+        final int index = table.indexOf(key);
+        if (index < 0) {
+            return null;
+        }
+        final V previous = (V) table.values[index];
+        table.removeAt(index, null);
+        return previous;
+    }
+
+    @Override
+    public int size() {
+        return table.size;
+    }
+}
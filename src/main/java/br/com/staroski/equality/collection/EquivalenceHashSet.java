@@ -0,0 +1,136 @@
+package br.com.staroski.equality.collection;
+
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.Set;
+
+import br.com.staroski.equality.strategy.Equivalence;
+
+/**
+ * {@link Set} de endere&ccedil;amento aberto cujos elementos s&atilde;o comparados atrav&eacute;s de uma {@link Equivalence equival&ecirc;ncia} externa, ao inv&eacute;s dos m&eacute;todos
+ * <code>hashCode</code> e <code>equals</code> dos pr&oacute;prios elementos.<BR>
+ * <BR>
+ * Os elementos e seus <I>hashes</I> s&atilde;o armazenados em arrays paralelos, sem criar um objeto por elemento.<BR>
+ * Como o <I>hash</I> de cada elemento &eacute; armazenado, o redimensionamento da tabela n&atilde;o recalcula <I>hashes</I> nem invoca o <code>equals</code>.<BR>
+ * <BR>
+ * Elementos <code>null</code> n&atilde;o s&atilde;o permitidos.<BR>
+ * Esta classe n&atilde;o &eacute; <I>thread-safe</I>.
+ *
+ * @param <E>
+ *            O tipo dos elementos.
+ * @author Ricardo Artur Staroski
+ * @see Equivalence
+ * @see EquivalenceHashMap
+ */
+public class EquivalenceHashSet<E> extends AbstractSet<E> {
+
+    private final OpenHashTable<E> table;
+
+    /**
+     * Cria um {@link EquivalenceHashSet} vazio.
+     *
+     * @param equivalence
+     *            A {@link Equivalence equival&ecirc;ncia} utilizada para comparar os elementos.
+     */
+    public EquivalenceHashSet(Equivalence<? super E> equivalence) {
+        this(equivalence, OpenHashTable.DEFAULT_CAPACITY / 2);
+    }
+
+    /**
+     * Cria um {@link EquivalenceHashSet} vazio, dimensionado para a quantidade de elementos informada.
+     *
+     * @param equivalence
+     *            A {@link Equivalence equival&ecirc;ncia} utilizada para comparar os elementos.
+     * @param expectedSize
+     *            A quantidade de elementos esperada.
+     */
+    public EquivalenceHashSet(Equivalence<? super E> equivalence, int expectedSize) {
+        this(equivalence, expectedSize, OpenHashTable.DEFAULT_LOAD_FACTOR);
+    }
+
+    /**
+     * Cria um {@link EquivalenceHashSet} vazio, dimensionado para a quantidade de elementos informada.
+     *
+     * @param equivalence
+     *            A {@link Equivalence equival&ecirc;ncia} utilizada para comparar os elementos.
+     * @param expectedSize
+     *            A quantidade de elementos esperada.
+     * @param loadFactor
+     *            A taxa de ocupa&ccedil;&atilde;o m&aacute;xima da tabela, entre <code>0</code> e <code>1</code> (exclusive).
+     */
+    public EquivalenceHashSet(Equivalence<? super E> equivalence, int expectedSize, float loadFactor) {
+        this.table = new OpenHashTable<E>(equivalence, expectedSize, loadFactor, false);
+    }
+
+    @Override
+    public boolean add(E element) {
+        if (element == null) {
+            throw new IllegalArgumentException("null");
+        }
+        return table.add(element, table.hash(element)) < 0;
+    }
+
+    @Override
+    public void clear() {
+        table.clear();
+    }
+
+    @Override
+    public boolean contains(Object element) {
+        return table.indexOf(element) >= 0;
+    }
+
+    /**
+     * Obt&eacute;m a {@link Equivalence equival&ecirc;ncia} utilizada para comparar os elementos.
+     *
+     * @return A {@link Equivalence equival&ecirc;ncia} utilizada para comparar os elementos.
+     */
+    public Equivalence<? super E> equivalence() {
+        return table.equivalence;
+    }
+
+    /**
+     * Obt&eacute;m o elemento armazenado que &eacute; equivalente ao objeto informado.<BR>
+     * &Uacute;til para obter a inst&acirc;ncia can&ocirc;nica de um objeto (<I>interning</I>).
+     *
+     * @param element
+     *            O objeto a ser procurado.
+     * @return O elemento armazenado ou <code>null</code> se n&atilde;o houver elemento equivalente.
+     */
+    @SuppressWarnings("unchecked")
+    public E get(Object element) {
+        final int index = table.indexOf(element);
+        return index < 0 ? null : (E) table.keys[index];
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return table.size == 0;
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        return table.new TableIterator<E>() {
+
+            @Override
+            E next(E element, Object value) {
+                return element;
+            }
+        };
+    }
+
+    @Override
+    public boolean remove(Object element) {
+        final int index = table.indexOf(element);
+        if (index < 0) {
+            return false;
+        }
+        table.removeAt(index, null);
+        return true;
+    }
+
+    @Override
+    public int size() {
+        return table.size;
+    }
+}
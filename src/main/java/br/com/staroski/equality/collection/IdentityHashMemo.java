@@ -0,0 +1,392 @@
+package br.com.staroski.equality.collection;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.ReentrantLock;
+
+import br.com.staroski.equality.strategy.Equivalence;
+
+/**
+ * {@link Equivalence Equival&ecirc;ncia} que memoriza o <I>hash</I> calculado por outra {@link Equivalence equival&ecirc;ncia} para cada objeto, identificado pela sua refer&ecirc;ncia.<BR>
+ * <BR>
+ * &Uacute;til para objetos imut&aacute;veis de classes que n&atilde;o podem ser alteradas, onde n&atilde;o &eacute; poss&iacute;vel guardar uma
+ * {@link br.com.staroski.equality.strategy.EqualityStrategy#cached() estrat&eacute;gia com cache}: ap&oacute;s o primeiro c&aacute;lculo, o <I>hash</I> do mesmo objeto &eacute; obtido
+ * por uma &uacute;nica consulta. O <code>equals</code> &eacute; delegado para a {@link Equivalence equival&ecirc;ncia} original, por&eacute;m retorna <code>false</code> sem compar&aacute;-los
+ * se os <I>hashes</I> memorizados dos dois objetos forem diferentes.<BR>
+ * <BR>
+ * Os objetos s&atilde;o referenciados fracamente, portanto a mem&oacute;ria n&atilde;o impede que sejam coletados, e as entradas dos objetos coletados s&atilde;o descartadas nas escritas
+ * seguintes. A tabela &eacute; dividida em segmentos, cada um protegido por um <I>lock</I> pr&oacute;prio que s&oacute; &eacute; adquirido nas escritas; as leituras n&atilde;o adquirem
+ * <I>lock</I>. Quando um segmento atinge a sua parte da {@link #maximumSize() quantidade m&aacute;xima} de entradas, as entradas de um dos seus baldes s&atilde;o descartadas,
+ * percorrendo os baldes circularmente.<BR>
+ * <BR>
+ * Se um objeto memorizado for alterado, o seu <I>hash</I> deve ser {@link #invalidate(Object) invalidado}.
+ *
+ * <PRE>
+ * IdentityHashMemo&lt;ForeignClass&gt; memo = new IdentityHashMemo&lt;ForeignClass&gt;(Equivalence.fieldBased(ForeignClass.class));
+ *
+ * EquivalenceHashMap&lt;ForeignClass, String&gt; map = new EquivalenceHashMap&lt;ForeignClass, String&gt;(memo);
+ * </PRE>
+ *
+ * @param <T>
+ *            O tipo dos objetos comparados por esta {@link Equivalence equival&ecirc;ncia}.
+ * @author Ricardo Artur Staroski
+ * @see Equivalence
+ */
+public class IdentityHashMemo<T> extends Equivalence<T> {
+
+    // entrada da tabela, cujos elos s&atilde;o imut&aacute;veis; identity &eacute; o identityHashCode espalhado do objeto
+    private static final class Node extends WeakReference<Object> {
+
+        final int identity;
+        final int hash;
+        final Node next;
+
+        Node(Object object, int identity, int hash, Node next, ReferenceQueue<Object> queue) {
+            super(object, queue);
+            this.identity = identity;
+            this.hash = hash;
+            this.next = next;
+        }
+    }
+
+    @SuppressWarnings("serial")
+    private static final class Segment extends ReentrantLock {
+
+        final ReferenceQueue<Object> queue;
+        final int maximumSize;
+        volatile AtomicReferenceArray<Node> table;
+        volatile int count;
+        private int threshold;
+        private int evictionIndex;
+
+        Segment(ReferenceQueue<Object> queue, int maximumSize) {
+            this.queue = queue;
+            this.maximumSize = maximumSize;
+            setTable(new AtomicReferenceArray<Node>(2));
+        }
+
+        void clear() {
+            lock();
+            try {
+                setTable(new AtomicReferenceArray<Node>(2));
+                count = 0;
+            } finally {
+                unlock();
+            }
+        }
+
+        Node find(Object object, int identity) {
+            final AtomicReferenceArray<Node> table = this.table;
+            Node node = table.get(identity & (table.length() - 1));
+            while (node != null) {
+                if (node.identity == identity && node.get() == object) {
+                    return node;
+                }
+                node = node.next;
+            }
+            return null;
+        }
+
+        void put(Object object, int identity, int hash) {
+            lock();
+            try {
+                if (find(object, identity) != null) {
+                    return;
+                }
+                if (count >= maximumSize) {
+                    evict();
+                }
+                if (count >= threshold) {
+                    resize();
+                }
+                final AtomicReferenceArray<Node> table = this.table;
+                final int index = identity & (table.length() - 1);
+                table.set(index, new Node(object, identity, hash, table.get(index), queue));
+                count = count + 1;
+            } finally {
+                unlock();
+            }
+        }
+
+        // remove a entrada do objeto, ou a pr&oacute;pria entrada informada quando o objeto j&aacute; foi coletado
+        void remove(Object object, Node stale, int identity) {
+            lock();
+            try {
+                final AtomicReferenceArray<Node> table = this.table;
+                final int index = identity & (table.length() - 1);
+                final Node first = table.get(index);
+                Node node = first;
+                while (node != null && !(stale != null ? node == stale : node.identity == identity && node.get() == object)) {
+                    node = node.next;
+                }
+                if (node == null) {
+                    return;
+                }
+                // os elos s&atilde;o imut&aacute;veis: copia os n&oacute;s anteriores ao removido que ainda n&atilde;o foram coletados
+                Node head = node.next;
+                int removed = 1;
+                for (Node p = first; p != node; p = p.next) {
+                    final Object referent = p.get();
+                    if (referent == null) {
+                        removed++;
+                    } else {
+                        head = new Node(referent, p.identity, p.hash, head, queue);
+                    }
+                }
+                table.set(index, head);
+                count = count - removed;
+            } finally {
+                unlock();
+            }
+        }
+
+        // descarta as entradas do pr&oacute;ximo balde n&atilde;o vazio, percorrendo os baldes circularmente
+        private void evict() {
+            final AtomicReferenceArray<Node> table = this.table;
+            final int length = table.length();
+            for (int i = 0; i < length; i++) {
+                final int index = (evictionIndex + i) & (length - 1);
+                Node node = table.get(index);
+                if (node != null) {
+                    int removed = 0;
+                    for (; node != null; node = node.next) {
+                        removed++;
+                    }
+                    table.set(index, null);
+                    count = count - removed;
+                    evictionIndex = index + 1;
+                    return;
+                }
+            }
+        }
+
+        // dobra a capacidade reaproveitando os hashes armazenados e descartando as entradas dos objetos j&aacute; coletados
+        private void resize() {
+            final AtomicReferenceArray<Node> oldTable = table;
+            final int oldCapacity = oldTable.length();
+            if (oldCapacity >= MAXIMUM_SEGMENT_CAPACITY) {
+                return;
+            }
+            final int capacity = oldCapacity << 1;
+            final int mask = capacity - 1;
+            final AtomicReferenceArray<Node> newTable = new AtomicReferenceArray<Node>(capacity);
+            int count = 0;
+            for (int i = 0; i < oldCapacity; i++) {
+                for (Node node = oldTable.get(i); node != null; node = node.next) {
+                    final Object referent = node.get();
+                    if (referent != null) {
+                        final int index = node.identity & mask;
+                        newTable.lazySet(index, new Node(referent, node.identity, node.hash, newTable.get(index), queue));
+                        count++;
+                    }
+                }
+            }
+            this.count = count;
+            setTable(newTable);
+        }
+
+        private void setTable(AtomicReferenceArray<Node> table) {
+            threshold = (int) (table.length() * LOAD_FACTOR);
+            this.table = table;
+        }
+    }
+
+    /**
+     * Quantidade m&aacute;xima padr&atilde;o de <I>hashes</I> memorizados.
+     */
+    public static final int DEFAULT_MAXIMUM_SIZE = 1 << 16;
+
+    private static final int DEFAULT_CONCURRENCY_LEVEL = 16;
+    private static final float LOAD_FACTOR = 0.75f;
+    private static final int MAXIMUM_SEGMENTS = 1 << 16;
+    private static final int MAXIMUM_SEGMENT_CAPACITY = 1 << 30;
+
+    private final Equivalence<? super T> equivalence;
+    private final int maximumSize;
+    private final ReferenceQueue<Object> queue = new ReferenceQueue<Object>();
+    private final Segment[] segments;
+    private final int segmentShift;
+
+    /**
+     * Cria um {@link IdentityHashMemo} que memoriza at&eacute; {@value #DEFAULT_MAXIMUM_SIZE} <I>hashes</I>.
+     *
+     * @param equivalence
+     *            A {@link Equivalence equival&ecirc;ncia} que calcula os <I>hashes</I> e compara os objetos.
+     */
+    public IdentityHashMemo(Equivalence<? super T> equivalence) {
+        this(equivalence, DEFAULT_MAXIMUM_SIZE, DEFAULT_CONCURRENCY_LEVEL);
+    }
+
+    /**
+     * Cria um {@link IdentityHashMemo}.
+     *
+     * @param equivalence
+     *            A {@link Equivalence equival&ecirc;ncia} que calcula os <I>hashes</I> e compara os objetos.
+     * @param maximumSize
+     *            A quantidade m&aacute;xima de <I>hashes</I> memorizados.
+     */
+    public IdentityHashMemo(Equivalence<? super T> equivalence, int maximumSize) {
+        this(equivalence, maximumSize, DEFAULT_CONCURRENCY_LEVEL);
+    }
+
+    /**
+     * Cria um {@link IdentityHashMemo}.
+     *
+     * @param equivalence
+     *            A {@link Equivalence equival&ecirc;ncia} que calcula os <I>hashes</I> e compara os objetos.
+     * @param maximumSize
+     *            A quantidade m&aacute;xima de <I>hashes</I> memorizados.
+     * @param concurrencyLevel
+     *            A quantidade estimada de threads escrevendo simultaneamente, que determina a quantidade de segmentos.
+     */
+    public IdentityHashMemo(Equivalence<? super T> equivalence, int maximumSize, int concurrencyLevel) {
+        if (equivalence == null) {
+            throw new IllegalArgumentException("null");
+        }
+        if (maximumSize <= 0) {
+            throw new IllegalArgumentException("maximumSize: " + maximumSize);
+        }
+        if (concurrencyLevel <= 0) {
+            throw new IllegalArgumentException("concurrencyLevel: " + concurrencyLevel);
+        }
+        this.equivalence = equivalence;
+        this.maximumSize = maximumSize;
+        final int segmentCount = powerOfTwo(Math.min(Math.min(concurrencyLevel, maximumSize), MAXIMUM_SEGMENTS));
+        this.segmentShift = 32 - Integer.numberOfTrailingZeros(segmentCount);
+        final int perSegment = (maximumSize + segmentCount - 1) / segmentCount;
+        this.segments = new Segment[segmentCount];
+        for (int i = 0; i < segmentCount; i++) {
+            segments[i] = new Segment(queue, perSegment);
+        }
+    }
+
+    public boolean equals(T object1, T object2) {
+        if (object1 == object2) {
+            return true;
+        }
+        if (object1 != null && object2 != null) {
+            final Node node1 = find(object1);
+            final Node node2 = find(object2);
+            if (node1 != null && node2 != null && node1.hash != node2.hash) {
+                return false;
+            }
+        }
+        return equivalence.equals(object1, object2);
+    }
+
+    /**
+     * Obt&eacute;m a {@link Equivalence equival&ecirc;ncia} que calcula os <I>hashes</I> e compara os objetos.
+     *
+     * @return A {@link Equivalence equival&ecirc;ncia} original.
+     */
+    public Equivalence<? super T> equivalence() {
+        return equivalence;
+    }
+
+    /**
+     * Obt&eacute;m o <I>hash</I> memorizado do objeto informado, calculando-o e memorizando-o se ainda n&atilde;o tiver sido calculado.
+     *
+     * @param object
+     *            O objeto.
+     * @return O <I>hash</I> do objeto.
+     */
+    public int hash(T object) {
+        if (object == null) {
+            return equivalence.hash(null);
+        }
+        final int identity = spread(System.identityHashCode(object));
+        final Segment segment = segmentFor(identity);
+        final Node node = segment.find(object, identity);
+        if (node != null) {
+            return node.hash;
+        }
+        final int hash = equivalence.hash(object);
+        expungeStaleEntries();
+        segment.put(object, identity, hash);
+        return hash;
+    }
+
+    /**
+     * Descarta o <I>hash</I> memorizado do objeto informado, que ser&aacute; recalculado na pr&oacute;xima chamada do m&eacute;todo {@link #hash(Object)}.<BR>
+     * Deve ser chamado sempre que o objeto for alterado.
+     *
+     * @param object
+     *            O objeto alterado.
+     */
+    public void invalidate(Object object) {
+        if (object == null) {
+            return;
+        }
+        final int identity = spread(System.identityHashCode(object));
+        segmentFor(identity).remove(object, null, identity);
+    }
+
+    /**
+     * Descarta todos os <I>hashes</I> memorizados.
+     */
+    public void invalidateAll() {
+        for (Segment segment : segments) {
+            segment.clear();
+        }
+        while (queue.poll() != null) {
+            // as entradas j&aacute; foram descartadas
+        }
+    }
+
+    /**
+     * Obt&eacute;m a quantidade m&aacute;xima de <I>hashes</I> memorizados.
+     *
+     * @return A quantidade m&aacute;xima de <I>hashes</I>.
+     */
+    public int maximumSize() {
+        return maximumSize;
+    }
+
+    /**
+     * Obt&eacute;m a quantidade de <I>hashes</I> memorizados, que pode incluir objetos j&aacute; coletados cujas entradas ainda n&atilde;o foram descartadas.
+     *
+     * @return A quantidade de <I>hashes</I> memorizados.
+     */
+    public int size() {
+        long size = 0;
+        for (Segment segment : segments) {
+            size += segment.count;
+        }
+        return size > Integer.MAX_VALUE ? Integer.MAX_VALUE : (int) size;
+    }
+
+    // descarta as entradas dos objetos coletados, travando um segmento de cada vez
+    private void expungeStaleEntries() {
+        Reference<?> reference;
+        while ((reference = queue.poll()) != null) {
+            final Node stale = (Node) reference;
+            segmentFor(stale.identity).remove(null, stale, stale.identity);
+        }
+    }
+
+    private Node find(Object object) {
+        final int identity = spread(System.identityHashCode(object));
+        return segmentFor(identity).find(object, identity);
+    }
+
+    private int powerOfTwo(int value) {
+        return value <= 1 ? 1 : Integer.highestOneBit(value - 1) << 1;
+    }
+
+    // os bits altos do identityHashCode espalhado escolhem o segmento e os bits baixos escolhem o balde dentro do segmento
+    private Segment segmentFor(int identity) {
+        return segmentShift == 32 ? segments[0] : segments[identity >>> segmentShift];
+    }
+
+    // espalha os bits do hash (finaliza&ccedil;&atilde;o do MurmurHash3), pois os baldes e segmentos s&atilde;o escolhidos por m&aacute;scara
+    private static int spread(int hash) {
+        hash ^= hash >>> 16;
+        hash *= 0x85ebca6b;
+        hash ^= hash >>> 13;
+        hash *= 0xc2b2ae35;
+        hash ^= hash >>> 16;
+        return hash;
+    }
+}
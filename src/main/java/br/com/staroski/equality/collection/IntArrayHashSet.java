@@ -0,0 +1,182 @@
+package br.com.staroski.equality.collection;
+
+import java.util.function.Consumer;
+
+/**
+ * <I>Hash set</I> de arrays de <tt>int</tt> comparados pelo seu conte&uacute;do, com a mesma sem&acirc;ntica de
+ * {@link br.com.staroski.equality.HashCodeUtils#hash(int, int[])} e {@link br.com.staroski.equality.EqualsUtils#equal(int[], int[])}.<BR>
+ * <BR>
+ * O <I>hash</I> e o tamanho de cada array s&atilde;o armazenados em arrays paralelos, descartando rapidamente os arrays diferentes, e as buscas podem ser feitas por um trecho
+ * (<code>offset</code>, <code>length</code>) de um array maior sem copi&aacute;-lo.<BR>
+ * <BR>
+ * Os arrays inseridos atrav&eacute;s de {@link #add(int[])} s&atilde;o armazenados sem c&oacute;pia e portanto n&atilde;o devem ser alterados enquanto estiverem no <I>set</I>.<BR>
+ * Elementos <code>null</code> n&atilde;o s&atilde;o permitidos.<BR>
+ * Esta classe n&atilde;o &eacute; <I>thread-safe</I>.
+ *
+ * @author Ricardo Artur Staroski
+ * @see IntArrayHashMap
+ */
+public class IntArrayHashSet {
+
+    private final IntArrayKeyTable table;
+
+    /**
+     * Cria um {@link IntArrayHashSet} vazio.
+     */
+    public IntArrayHashSet() {
+        this(0);
+    }
+
+    /**
+     * Cria um {@link IntArrayHashSet} vazio, dimensionado para a quantidade de elementos informada.
+     *
+     * @param expectedSize
+     *            A quantidade de elementos esperada.
+     */
+    public IntArrayHashSet(int expectedSize) {
+        table = new IntArrayKeyTable(expectedSize, false);
+    }
+
+    /**
+     * Adiciona o array informado, sem c&oacute;pia, caso ainda n&atilde;o exista um array com o mesmo conte&uacute;do.
+     *
+     * @param array
+     *            O array a ser adicionado.
+     * @return <code>true</code> se o array foi adicionado e <code>false</code> se j&aacute; existia.
+     */
+    public boolean add(int[] array) {
+        if (array == null) {
+            throw new IllegalArgumentException("null");
+        }
+        return table.add(array, 0, array.length, false) < 0;
+    }
+
+    /**
+     * Adiciona uma c&oacute;pia do trecho informado do array, caso ainda n&atilde;o exista um array com o mesmo conte&uacute;do.
+     *
+     * @param array
+     *            O array que cont&eacute;m o trecho a ser adicionado.
+     * @param offset
+     *            A posi&ccedil;&atilde;o inicial do trecho no array.
+     * @param length
+     *            O tamanho do trecho.
+     * @return <code>true</code> se o trecho foi adicionado e <code>false</code> se j&aacute; existia.
+     */
+    public boolean add(int[] array, int offset, int length) {
+        return table.add(array, offset, length, true) < 0;
+    }
+
+    /**
+     * Remove todos os elementos.
+     */
+    public void clear() {
+        table.clear();
+    }
+
+    /**
+     * Verifica se existe um array com o mesmo conte&uacute;do do array informado.
+     *
+     * @param array
+     *            O array a ser procurado.
+     * @return <code>true</code> se existir e <code>false</code> caso contr&aacute;rio.
+     */
+    public boolean contains(int[] array) {
+        return array != null && table.indexOf(array, 0, array.length) >= 0;
+    }
+
+    /**
+     * Verifica se existe um array com o mesmo conte&uacute;do do trecho informado do array, sem copiar o trecho.
+     *
+     * @param array
+     *            O array que cont&eacute;m o trecho a ser procurado.
+     * @param offset
+     *            A posi&ccedil;&atilde;o inicial do trecho no array.
+     * @param length
+     *            O tamanho do trecho.
+     * @return <code>true</code> se existir e <code>false</code> caso contr&aacute;rio.
+     */
+    public boolean contains(int[] array, int offset, int length) {
+        return table.indexOf(array, offset, length) >= 0;
+    }
+
+    /**
+     * Executa a a&ccedil;&atilde;o informada para cada elemento deste <I>set</I>.
+     *
+     * @param action
+     *            A a&ccedil;&atilde;o a ser executada.
+     */
+    public void forEach(Consumer<? super int[]> action) {
+        final Object[] keys = table.keys;
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != null) {
+                action.accept((int[]) keys[i]);
+            }
+        }
+    }
+
+    /**
+     * Obt&eacute;m o array armazenado que tem o mesmo conte&uacute;do do trecho informado do array.<BR>
+     * &Uacute;til para obter a inst&acirc;ncia can&ocirc;nica de um array (<I>interning</I>).
+     *
+     * @param array
+     *            O array que cont&eacute;m o trecho a ser procurado.
+     * @param offset
+     *            A posi&ccedil;&atilde;o inicial do trecho no array.
+     * @param length
+     *            O tamanho do trecho.
+     * @return O array armazenado ou <code>null</code> se n&atilde;o existir.
+     */
+    public int[] get(int[] array, int offset, int length) {
+        final int index = table.indexOf(array, offset, length);
+        return index < 0 ? null : (int[]) table.keys[index];
+    }
+
+    /**
+     * Verifica se este <I>set</I> est&aacute; vazio.
+     *
+     * @return <code>true</code> se estiver vazio e <code>false</code> caso contr&aacute;rio.
+     */
+    public boolean isEmpty() {
+        return table.size == 0;
+    }
+
+    /**
+     * Remove o array com o mesmo conte&uacute;do do array informado.
+     *
+     * @param array
+     *            O array a ser removido.
+     * @return <code>true</code> se o array foi removido e <code>false</code> se n&atilde;o existia.
+     */
+    public boolean remove(int[] array) {
+        return array != null && remove(array, 0, array.length);
+    }
+
+    /**
+     * Remove o array com o mesmo conte&uacute;do do trecho informado do array.
+     *
+     * @param array
+     *            O array que cont&eacute;m o trecho a ser removido.
+     * @param offset
+     *            A posi&ccedil;&atilde;o inicial do trecho no array.
+     * @param length
+     *            O tamanho do trecho.
+     * @return <code>true</code> se o array foi removido e <code>false</code> se n&atilde;o existia.
+     */
+    public boolean remove(int[] array, int offset, int length) {
+        final int index = table.indexOf(array, offset, length);
+        if (index < 0) {
+            return false;
+        }
+        table.removeAt(index);
+        return true;
+    }
+
+    /**
+     * Obt&eacute;m a quantidade de elementos deste <I>set</I>.
+     *
+     * @return A quantidade de elementos.
+     */
+    public int size() {
+        return table.size;
+    }
+}
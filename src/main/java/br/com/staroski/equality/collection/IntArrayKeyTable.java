@@ -0,0 +1,34 @@
+package br.com.staroski.equality.collection;
+
+import java.util.Arrays;
+
+import br.com.staroski.equality.EqualsUtils;
+import br.com.staroski.equality.HashCodeUtils;
+
+// Tabela cujas chaves s&atilde;o arrays de int, com o mesmo hash de HashCodeUtils.hash(SINGLE_VALUE, int[])
+final class IntArrayKeyTable extends ArrayKeyTable<int[]> {
+
+    IntArrayKeyTable(int expectedSize, boolean storeValues) {
+        super(expectedSize, storeValues);
+    }
+
+    @Override
+    int[] copyOf(int[] array, int offset, int length) {
+        return Arrays.copyOfRange(array, offset, offset + length);
+    }
+
+    @Override
+    boolean equal(int[] key, int[] array, int offset, int length) {
+        return EqualsUtils.mismatch(key, 0, length, array, offset, offset + length) < 0;
+    }
+
+    @Override
+    int hash(int[] array, int offset, int length) {
+        return HashCodeUtils.hash(HashCodeUtils.SINGLE_VALUE, array, offset, offset + length);
+    }
+
+    @Override
+    int length(int[] array) {
+        return array.length;
+    }
+}
@@ -0,0 +1,216 @@
+package br.com.staroski.equality.collection;
+
+import java.util.function.BiConsumer;
+
+/**
+ * <I>Hash map</I> cujas chaves s&atilde;o arrays de <tt>long</tt> comparados pelo seu conte&uacute;do, com a mesma sem&acirc;ntica de
+ * {@link br.com.staroski.equality.HashCodeUtils#hash(int, long[])} e {@link br.com.staroski.equality.EqualsUtils#equal(long[], long[])}.<BR>
+ * <BR>
+ * Dispensa encapsular cada array num objeto que implementa <code>hashCode</code> e <code>equals</code>: o <I>hash</I> e o tamanho de cada chave s&atilde;o armazenados em arrays
+ * paralelos, descartando rapidamente as chaves diferentes, e as buscas podem ser feitas por um trecho (<code>offset</code>, <code>length</code>) de um array maior sem copi&aacute;-lo.<BR>
+ * <BR>
+ * As chaves inseridas atrav&eacute;s de {@link #put(long[], Object)} s&atilde;o armazenadas sem c&oacute;pia e portanto n&atilde;o devem ser alteradas enquanto estiverem no <I>map</I>.<BR>
+ * Chaves <code>null</code> n&atilde;o s&atilde;o permitidas.<BR>
+ * Esta classe n&atilde;o &eacute; <I>thread-safe</I>.
+ *
+ * @param <V>
+ *            O tipo dos valores.
+ * @author Ricardo Artur Staroski
+ * @see LongArrayHashSet
+ */
+public class LongArrayHashMap<V> {
+
+    private final LongArrayKeyTable table;
+
+    /**
+     * Cria um {@link LongArrayHashMap} vazio.
+     */
+    public LongArrayHashMap() {
+        this(0);
+    }
+
+    /**
+     * Cria um {@link LongArrayHashMap} vazio, dimensionado para a quantidade de entradas informada.
+     *
+     * @param expectedSize
+     *            A quantidade de entradas esperada.
+     */
+    public LongArrayHashMap(int expectedSize) {
+        table = new LongArrayKeyTable(expectedSize, true);
+    }
+
+    /**
+     * Remove todas as entradas.
+     */
+    public void clear() {
+        table.clear();
+    }
+
+    /**
+     * Verifica se existe uma entrada cuja chave tem o mesmo conte&uacute;do do array informado.
+     *
+     * @param key
+     *            A chave a ser procurada.
+     * @return <code>true</code> se a chave existir e <code>false</code> caso contr&aacute;rio.
+     */
+    public boolean containsKey(long[] key) {
+        return key != null && table.indexOf(key, 0, key.length) >= 0;
+    }
+
+    /**
+     * Verifica se existe uma entrada cuja chave tem o mesmo conte&uacute;do do trecho informado do array.
+     *
+     * @param array
+     *            O array que cont&eacute;m a chave a ser procurada.
+     * @param offset
+     *            A posi&ccedil;&atilde;o inicial da chave no array.
+     * @param length
+     *            O tamanho da chave.
+     * @return <code>true</code> se a chave existir e <code>false</code> caso contr&aacute;rio.
+     */
+    public boolean containsKey(long[] array, int offset, int length) {
+        return table.indexOf(array, offset, length) >= 0;
+    }
+
+    /**
+     * Executa a a&ccedil;&atilde;o informada para cada entrada deste <I>map</I>.
+     *
+     * @param action
+     *            A a&ccedil;&atilde;o a ser executada.
+     */
+    @SuppressWarnings("unchecked")
+    public void forEach(BiConsumer<? super long[], ? super V> action) {
+        final Object[] keys = table.keys;
+        final Object[] values = table.values;
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != null) {
+                action.accept((long[]) keys[i], (V) values[i]);
+            }
+        }
+    }
+
+    /**
+     * Obt&eacute;m o valor associado &agrave; chave com o mesmo conte&uacute;do do array informado.
+     *
+     * @param key
+     *            A chave a ser procurada.
+     * @return O valor associado ou <code>null</code> se a chave n&atilde;o existir.
+     */
+    public V get(long[] key) {
+        return key == null ? null : get(key, 0, key.length);
+    }
+
+    /**
+     * Obt&eacute;m o valor associado &agrave; chave com o mesmo conte&uacute;do do trecho informado do array, sem copiar o trecho.
+     *
+     * @param array
+     *            O array que cont&eacute;m a chave a ser procurada.
+     * @param offset
+     *            A posi&ccedil;&atilde;o inicial da chave no array.
+     * @param length
+     *            O tamanho da chave.
+     * @return O valor associado ou <code>null</code> se a chave n&atilde;o existir.
+     */
+    @SuppressWarnings("unchecked")
+    public V get(long[] array, int offset, int length) {
+        final int index = table.indexOf(array, offset, length);
+        return index < 0 ? null : (V) table.values[index];
+    }
+
+    /**
+     * Verifica se este <I>map</I> est&aacute; vazio.
+     *
+     * @return <code>true</code> se estiver vazio e <code>false</code> caso contr&aacute;rio.
+     */
+    public boolean isEmpty() {
+        return table.size == 0;
+    }
+
+    /**
+     * Associa o valor &agrave; chave informada.<BR>
+     * Se ainda n&atilde;o houver uma chave com o mesmo conte&uacute;do, o pr&oacute;prio array informado &eacute; armazenado como chave, sem c&oacute;pia.
+     *
+     * @param key
+     *            A chave.
+     * @param value
+     *            O valor.
+     * @return O valor associado anteriormente ou <code>null</code> se a chave n&atilde;o existia.
+     */
+    public V put(long[] key, V value) {
+        if (key == null) {
+            throw new IllegalArgumentException("null");
+        }
+        return put(table.add(key, 0, key.length, false), value);
+    }
+
+    /**
+     * Associa o valor &agrave; chave com o mesmo conte&uacute;do do trecho informado do array.<BR>
+     * Se ainda n&atilde;o houver uma chave com o mesmo conte&uacute;do, uma c&oacute;pia do trecho &eacute; armazenada como chave.
+     *
+     * @param array
+     *            O array que cont&eacute;m a chave.
+     * @param offset
+     *            A posi&ccedil;&atilde;o inicial da chave no array.
+     * @param length
+     *            O tamanho da chave.
+     * @param value
+     *            O valor.
+     * @return O valor associado anteriormente ou <code>null</code> se a chave n&atilde;o existia.
+     */
+    public V put(long[] array, int offset, int length, V value) {
+        return put(table.add(array, offset, length, true), value);
+    }
+
+    /**
+     * Remove a entrada cuja chave tem o mesmo conte&uacute;do do array informado.
+     *
+     * @param key
+     *            A chave a ser removida.
+     * @return O valor associado ou <code>null</code> se a chave n&atilde;o existir.
+     */
+    public V remove(long[] key) {
+        return key == null ? null : remove(key, 0, key.length);
+    }
+
+    /**
+     * Remove a entrada cuja chave tem o mesmo conte&uacute;do do trecho informado do array.
+     *
+     * @param array
+     *            O array que cont&eacute;m a chave a ser removida.
+     * @param offset
+     *            A posi&ccedil;&atilde;o inicial da chave no array.
+     * @param length
+     *            O tamanho da chave.
+     * @return O valor associado ou <code>null</code> se a chave n&atilde;o existir.
+     */
+    @SuppressWarnings("unchecked")
+    public V remove(long[] array, int offset, int length) {
+        final int index = table.indexOf(array, offset, length);
+        if (index < 0) {
+            return null;
+        }
+        final V previous = (V) table.values[index];
+        table.removeAt(index);
+        return previous;
+    }
+
+    /**
+     * Obt&eacute;m a quantidade de entradas deste <I>map</I>.
+     *
+     * @return A quantidade de entradas.
+     */
+    public int size() {
+        return table.size;
+    }
+
+    @SuppressWarnings("unchecked")
+    private V put(int index, V value) {
+        if (index < 0) {
+            index = ~index;
+        }
+        final Object[] values = table.values;
+        final V previous = (V) values[index];
+        values[index] = value;
+        return previous;
+    }
+}
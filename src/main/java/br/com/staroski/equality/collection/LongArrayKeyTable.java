@@ -0,0 +1,34 @@
+package br.com.staroski.equality.collection;
+
+import java.util.Arrays;
+
+import br.com.staroski.equality.EqualsUtils;
+import br.com.staroski.equality.HashCodeUtils;
+
+// Tabela cujas chaves s&atilde;o arrays de long, com o mesmo hash de HashCodeUtils.hash(SINGLE_VALUE, long[])
+final class LongArrayKeyTable extends ArrayKeyTable<long[]> {
+
+    LongArrayKeyTable(int expectedSize, boolean storeValues) {
+        super(expectedSize, storeValues);
+    }
+
+    @Override
+    long[] copyOf(long[] array, int offset, int length) {
+        return Arrays.copyOfRange(array, offset, offset + length);
+    }
+
+    @Override
+    boolean equal(long[] key, long[] array, int offset, int length) {
+        return EqualsUtils.mismatch(key, 0, length, array, offset, offset + length) < 0;
+    }
+
+    @Override
+    int hash(long[] array, int offset, int length) {
+        return HashCodeUtils.hash(HashCodeUtils.SINGLE_VALUE, array, offset, offset + length);
+    }
+
+    @Override
+    int length(long[] array) {
+        return array.length;
+    }
+}
@@ -0,0 +1,670 @@
+package br.com.staroski.equality.collection;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+
+import br.com.staroski.equality.HashCodeUtils;
+
+/**
+ * Reposit&oacute;rio de arrays de <tt>byte</tt> (<I>blobs</I>) endere&ccedil;ados pelo seu conte&uacute;do, armazenados fora do <I>heap</I> da JVM.<BR>
+ * <BR>
+ * Tanto os bytes dos <I>blobs</I> quanto o &iacute;ndice <I>hash</I> utilizado para encontr&aacute;-los ficam em mem&oacute;ria direta ({@link ByteBuffer#allocateDirect(int)}) ou, no modo
+ * persistente, em arquivos mapeados em mem&oacute;ria, portanto o uso do <I>heap</I> n&atilde;o cresce com a quantidade de <I>blobs</I> armazenados.<BR>
+ * <BR>
+ * Os <I>blobs</I> s&atilde;o comparados com a mesma sem&acirc;ntica de {@link HashCodeUtils#hash(int, byte[])} e {@link br.com.staroski.equality.EqualsUtils#equal(byte[], byte[])}: o
+ * &iacute;ndice armazena o <I>hash</I> e o tamanho de cada <I>blob</I>, e os bytes s&oacute; s&atilde;o comparados quando ambos coincidem.<BR>
+ * <BR>
+ * Cada <I>blob</I> armazenado &eacute; identificado por um <code>long</code>, v&aacute;lido at&eacute; a pr&oacute;xima {@link #compact() compacta&ccedil;&atilde;o}.<BR>
+ * Os <I>blobs</I> removidos continuam ocupando espa&ccedil;o at&eacute; que o m&eacute;todo {@link #compact()} seja invocado.<BR>
+ * <BR>
+ * No modo persistente, criado pelo m&eacute;todo {@link #open(File)}, os <I>blobs</I> s&atilde;o gravados num arquivo e o &iacute;ndice &eacute; reconstru&iacute;do ao reabrir o
+ * arquivo, sem recalcular os <I>hashes</I>.<BR>
+ * Esta classe n&atilde;o &eacute; <I>thread-safe</I>.
+ *
+ * @author Ricardo Artur Staroski
+ * @see ByteArrayHashSet
+ */
+public final class OffHeapBlobStore implements Closeable {
+
+    /**
+     * Tamanho padr&atilde;o, em bytes, de cada bloco de dados: 64 MB.
+     */
+    public static final int DEFAULT_CHUNK_SIZE = 1 << 26;
+
+    // cabe&ccedil;alho de cada registro: tamanho + 1 (negativo quando removido) e hash
+    private static final int HEADER_SIZE = 8;
+
+    // cada posi&ccedil;&atilde;o do &iacute;ndice: hash, tamanho e endere&ccedil;o + 1 (zero quando livre)
+    private static final int SLOT_SIZE = 16;
+    private static final int SLOTS_PER_BUFFER_SHIFT = 26;
+    private static final int SLOTS_PER_BUFFER = 1 << SLOTS_PER_BUFFER_SHIFT;
+    private static final long MAXIMUM_SLOTS = 1L << 40;
+    private static final int MINIMUM_SLOTS = 1 << 10;
+
+    // constante de Fibonacci (2^64 / raz&atilde;o &aacute;urea), espalha os bits baixos dos hashes polinomiais
+    private static final long GOLDEN_RATIO = 0x9E3779B97F4A7C15L;
+
+    /**
+     * Cria um {@link OffHeapBlobStore} em mem&oacute;ria direta, com blocos de dados de {@link #DEFAULT_CHUNK_SIZE} bytes.
+     *
+     * @return O {@link OffHeapBlobStore} criado.
+     */
+    public static OffHeapBlobStore create() {
+        return create(DEFAULT_CHUNK_SIZE);
+    }
+
+    /**
+     * Cria um {@link OffHeapBlobStore} em mem&oacute;ria direta.
+     *
+     * @param chunkSize
+     *            O tamanho, em bytes, de cada bloco de dados, que limita o tamanho m&aacute;ximo de um <I>blob</I>.
+     * @return O {@link OffHeapBlobStore} criado.
+     */
+    public static OffHeapBlobStore create(int chunkSize) {
+        try {
+            return new OffHeapBlobStore(null, chunkSize);
+        } catch (IOException e) {
+            throw new AssertionError(e);
+        }
+    }
+
+    /**
+     * Abre ou cria um {@link OffHeapBlobStore} persistente, com blocos de dados de {@link #DEFAULT_CHUNK_SIZE} bytes.
+     *
+     * @param file
+     *            O arquivo onde os <I>blobs</I> s&atilde;o armazenados.
+     * @return O {@link OffHeapBlobStore} aberto.
+     * @throws IOException
+     *             Se ocorrer algum erro de I/O.
+     */
+    public static OffHeapBlobStore open(File file) throws IOException {
+        return open(file, DEFAULT_CHUNK_SIZE);
+    }
+
+    /**
+     * Abre ou cria um {@link OffHeapBlobStore} persistente.<BR>
+     * Um arquivo existente deve ser reaberto com o mesmo tamanho de bloco com que foi criado.
+     *
+     * @param file
+     *            O arquivo onde os <I>blobs</I> s&atilde;o armazenados.
+     * @param chunkSize
+     *            O tamanho, em bytes, de cada bloco de dados, que limita o tamanho m&aacute;ximo de um <I>blob</I>.
+     * @return O {@link OffHeapBlobStore} aberto.
+     * @throws IOException
+     *             Se ocorrer algum erro de I/O.
+     */
+    public static OffHeapBlobStore open(File file, int chunkSize) throws IOException {
+        if (file == null) {
+            throw new IllegalArgumentException("null");
+        }
+        return new OffHeapBlobStore(file, chunkSize);
+    }
+
+    private final File file;
+    private final int chunkSize;
+    private final List<ByteBuffer> chunks = new ArrayList<ByteBuffer>();
+
+    private RandomAccessFile channelFile;
+    private FileChannel channel;
+    private long end; // endere&ccedil;o onde o pr&oacute;ximo registro ser&aacute; gravado
+    private long liveBytes;
+    private long deadBytes;
+
+    private ByteBuffer[] index;
+    private long slots;
+    private int slotShift;
+    private int size;
+    private boolean closed;
+
+    private OffHeapBlobStore(File file, int chunkSize) throws IOException {
+        if (chunkSize <= HEADER_SIZE) {
+            throw new IllegalArgumentException("chunkSize: " + chunkSize);
+        }
+        this.file = file;
+        this.chunkSize = chunkSize;
+        allocateIndex(MINIMUM_SLOTS);
+        if (file != null) {
+            openChannel();
+            load();
+        }
+    }
+
+    /**
+     * Fecha este {@link OffHeapBlobStore}, gravando os dados pendentes no modo persistente.
+     *
+     * @throws IOException
+     *             Se ocorrer algum erro de I/O.
+     */
+    public void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        flush();
+        if (channel != null) {
+            channel.close();
+            channelFile.close();
+        }
+        chunks.clear();
+        index = null;
+    }
+
+    /**
+     * Remove fisicamente os <I>blobs</I> removidos, liberando o espa&ccedil;o ocupado por eles.<BR>
+     * <B>Os identificadores obtidos anteriormente deixam de ser v&aacute;lidos.</B>
+     *
+     * @throws IOException
+     *             Se ocorrer algum erro de I/O no modo persistente.
+     */
+    public void compact() throws IOException {
+        checkOpen();
+        if (deadBytes == 0) {
+            return;
+        }
+        final List<ByteBuffer> oldChunks = new ArrayList<ByteBuffer>(chunks);
+        final long oldEnd = end;
+        File tempFile = null;
+        if (file != null) {
+            flush();
+            tempFile = new File(file.getPath() + ".compact");
+            Files.deleteIfExists(tempFile.toPath());
+            channel.close();
+            channelFile.close();
+            channelFile = new RandomAccessFile(tempFile, "rw");
+            channel = channelFile.getChannel();
+        }
+        chunks.clear();
+        end = 0;
+        liveBytes = 0;
+        deadBytes = 0;
+        size = 0;
+        allocateIndex(MINIMUM_SLOTS);
+        final byte[] buffer = new byte[Math.min(chunkSize, 1 << 16)];
+        long address = 0;
+        while (address < oldEnd) {
+            final ByteBuffer chunk = oldChunks.get(chunkOf(address));
+            final int offset = offsetOf(address);
+            final int header = offset + HEADER_SIZE <= chunkSize ? chunk.getInt(offset) : 0;
+            if (header == 0) {
+                address = nextChunk(address);
+                continue;
+            }
+            final int length = Math.abs(header) - 1;
+            if (header > 0) {
+                final int hash = chunk.getInt(offset + 4);
+                final long target = reserve(length);
+                final ByteBuffer targetChunk = chunks.get(chunkOf(target));
+                final int targetOffset = offsetOf(target);
+                targetChunk.putInt(targetOffset, header);
+                targetChunk.putInt(targetOffset + 4, hash);
+                for (int copied = 0; copied < length;) {
+                    final int count = Math.min(buffer.length, length - copied);
+                    read(chunk, offset + HEADER_SIZE + copied, buffer, 0, count);
+                    write(targetChunk, targetOffset + HEADER_SIZE + copied, buffer, count);
+                    copied += count;
+                }
+                index(hash, length, target);
+                liveBytes += length;
+            }
+            address += HEADER_SIZE + length;
+        }
+        if (file != null) {
+            flush();
+            channel.close();
+            channelFile.close();
+            Files.move(tempFile.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            openChannel();
+            chunks.clear();
+            for (long a = 0; a < end; a += chunkSize) {
+                chunks.add(mapChunk(chunks.size()));
+            }
+        }
+    }
+
+    /**
+     * Verifica se existe um <I>blob</I> com o mesmo conte&uacute;do do array informado.
+     *
+     * @param blob
+     *            O <I>blob</I> a ser procurado.
+     * @return <code>true</code> se existir e <code>false</code> caso contr&aacute;rio.
+     */
+    public boolean contains(byte[] blob) {
+        return find(blob) >= 0;
+    }
+
+    /**
+     * Obt&eacute;m o identificador do <I>blob</I> com o mesmo conte&uacute;do do array informado.
+     *
+     * @param blob
+     *            O <I>blob</I> a ser procurado.
+     * @return O identificador do <I>blob</I> ou <code>-1</code> se ele n&atilde;o existir.
+     */
+    public long find(byte[] blob) {
+        if (blob == null) {
+            throw new IllegalArgumentException("null");
+        }
+        return find(blob, 0, blob.length);
+    }
+
+    /**
+     * Obt&eacute;m o identificador do <I>blob</I> com o mesmo conte&uacute;do do trecho informado do array, sem copiar o trecho.
+     *
+     * @param array
+     *            O array que cont&eacute;m o <I>blob</I> a ser procurado.
+     * @param offset
+     *            A posi&ccedil;&atilde;o inicial do <I>blob</I> no array.
+     * @param length
+     *            O tamanho do <I>blob</I>.
+     * @return O identificador do <I>blob</I> ou <code>-1</code> se ele n&atilde;o existir.
+     */
+    public long find(byte[] array, int offset, int length) {
+        checkOpen();
+        checkRange(array, offset, length);
+        final long slot = findSlot(array, offset, length, hash(array, offset, length));
+        return slot < 0 ? -1 : slotAddress(slot);
+    }
+
+    /**
+     * Grava no disco as altera&ccedil;&otilde;es pendentes, no modo persistente.
+     */
+    public void flush() {
+        if (file != null) {
+            for (ByteBuffer chunk : chunks) {
+                ((MappedByteBuffer) chunk).force();
+            }
+        }
+    }
+
+    /**
+     * Obt&eacute;m uma c&oacute;pia do conte&uacute;do do <I>blob</I> identificado.
+     *
+     * @param id
+     *            O identificador do <I>blob</I>.
+     * @return O conte&uacute;do do <I>blob</I>.
+     */
+    public byte[] get(long id) {
+        final int length = length(id);
+        final byte[] blob = new byte[length];
+        read(chunks.get(chunkOf(id)), offsetOf(id) + HEADER_SIZE, blob, 0, length);
+        return blob;
+    }
+
+    /**
+     * Obt&eacute;m o tamanho do <I>blob</I> identificado.
+     *
+     * @param id
+     *            O identificador do <I>blob</I>.
+     * @return O tamanho do <I>blob</I>.
+     */
+    public int length(long id) {
+        checkOpen();
+        if (id < 0 || id >= end) {
+            throw new IllegalArgumentException("id: " + id);
+        }
+        final int header = chunks.get(chunkOf(id)).getInt(offsetOf(id));
+        if (header <= 0) {
+            throw new IllegalArgumentException("id: " + id);
+        }
+        return header - 1;
+    }
+
+    /**
+     * Obt&eacute;m a quantidade total de bytes dos <I>blobs</I> armazenados.
+     *
+     * @return A quantidade total de bytes dos <I>blobs</I> armazenados.
+     */
+    public long liveBytes() {
+        return liveBytes;
+    }
+
+    /**
+     * Obt&eacute;m a quantidade de bytes ocupados por <I>blobs</I> removidos, que ser&atilde;o liberados pela {@link #compact() compacta&ccedil;&atilde;o}.
+     *
+     * @return A quantidade de bytes ocupados por <I>blobs</I> removidos.
+     */
+    public long deadBytes() {
+        return deadBytes;
+    }
+
+    /**
+     * Armazena o <I>blob</I> informado caso ainda n&atilde;o exista um <I>blob</I> com o mesmo conte&uacute;do.
+     *
+     * @param blob
+     *            O <I>blob</I> a ser armazenado.
+     * @return O identificador do <I>blob</I> armazenado, novo ou existente.
+     * @throws IOException
+     *             Se ocorrer algum erro de I/O no modo persistente.
+     */
+    public long putIfAbsent(byte[] blob) throws IOException {
+        if (blob == null) {
+            throw new IllegalArgumentException("null");
+        }
+        return putIfAbsent(blob, 0, blob.length);
+    }
+
+    /**
+     * Armazena o trecho informado do array caso ainda n&atilde;o exista um <I>blob</I> com o mesmo conte&uacute;do.
+     *
+     * @param array
+     *            O array que cont&eacute;m o <I>blob</I> a ser armazenado.
+     * @param offset
+     *            A posi&ccedil;&atilde;o inicial do <I>blob</I> no array.
+     * @param length
+     *            O tamanho do <I>blob</I>.
+     * @return O identificador do <I>blob</I> armazenado, novo ou existente.
+     * @throws IOException
+     *             Se ocorrer algum erro de I/O no modo persistente.
+     */
+    public long putIfAbsent(byte[] array, int offset, int length) throws IOException {
+        checkOpen();
+        checkRange(array, offset, length);
+        if (length > chunkSize - HEADER_SIZE) {
+            throw new IllegalArgumentException("blob larger than chunk: " + length);
+        }
+        final int hash = hash(array, offset, length);
+        final long slot = findSlot(array, offset, length, hash);
+        if (slot >= 0) {
+            return slotAddress(slot);
+        }
+        final long address = reserve(length);
+        final ByteBuffer chunk = chunks.get(chunkOf(address));
+        final int position = offsetOf(address);
+        chunk.putInt(position + 4, hash);
+        write(chunk, position + HEADER_SIZE, array, offset, length);
+        chunk.putInt(position, length + 1); // publicado por &uacute;ltimo, o registro s&oacute; passa a existir completo
+        index(hash, length, address);
+        liveBytes += length;
+        return address;
+    }
+
+    /**
+     * Remove o <I>blob</I> com o mesmo conte&uacute;do do array informado.<BR>
+     * O espa&ccedil;o ocupado s&oacute; &eacute; liberado pela {@link #compact() compacta&ccedil;&atilde;o}.
+     *
+     * @param blob
+     *            O <I>blob</I> a ser removido.
+     * @return <code>true</code> se o <I>blob</I> foi removido e <code>false</code> se n&atilde;o existia.
+     */
+    public boolean remove(byte[] blob) {
+        checkOpen();
+        if (blob == null) {
+            throw new IllegalArgumentException("null");
+        }
+        final long slot = findSlot(blob, 0, blob.length, hash(blob, 0, blob.length));
+        if (slot < 0) {
+            return false;
+        }
+        final long address = slotAddress(slot);
+        final ByteBuffer chunk = chunks.get(chunkOf(address));
+        final int position = offsetOf(address);
+        chunk.putInt(position, -chunk.getInt(position));
+        removeSlot(slot);
+        liveBytes -= blob.length;
+        deadBytes += blob.length;
+        return true;
+    }
+
+    /**
+     * Obt&eacute;m a quantidade de <I>blobs</I> armazenados.
+     *
+     * @return A quantidade de <I>blobs</I> armazenados.
+     */
+    public int size() {
+        return size;
+    }
+
+    private void allocateIndex(long slots) {
+        this.slots = slots;
+        this.slotShift = 64 - Long.numberOfTrailingZeros(slots);
+        final int buffers = (int) ((slots + SLOTS_PER_BUFFER - 1) >>> SLOTS_PER_BUFFER_SHIFT);
+        index = new ByteBuffer[buffers];
+        for (int i = 0; i < buffers; i++) {
+            index[i] = ByteBuffer.allocateDirect((int) Math.min(slots, SLOTS_PER_BUFFER) * SLOT_SIZE);
+        }
+    }
+
+    private int chunkOf(long address) {
+        return (int) (address / chunkSize);
+    }
+
+    private void checkOpen() {
+        if (closed) {
+            throw new IllegalStateException("closed");
+        }
+    }
+
+    private void checkRange(byte[] array, int offset, int length) {
+        if (array == null) {
+            throw new IllegalArgumentException("null");
+        }
+        if (offset < 0 || length < 0 || offset > array.length - length) {
+            throw new IndexOutOfBoundsException("offset: " + offset + ", length: " + length + ", array length: " + array.length);
+        }
+    }
+
+    private boolean equal(long address, byte[] array, int offset, int length) {
+        final ByteBuffer chunk = chunks.get(chunkOf(address));
+        final int position = offsetOf(address) + HEADER_SIZE;
+        final ByteBuffer wrapped = ByteBuffer.wrap(array, offset, length);
+        int i = 0;
+        for (; i + 8 <= length; i += 8) {
+            if (chunk.getLong(position + i) != wrapped.getLong(offset + i)) {
+                return false;
+            }
+        }
+        for (; i < length; i++) {
+            if (chunk.get(position + i) != array[offset + i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private long findSlot(byte[] array, int offset, int length, int hash) {
+        final long mask = slots - 1;
+        long slot = home(hash);
+        for (;;) {
+            final ByteBuffer buffer = index[(int) (slot >>> SLOTS_PER_BUFFER_SHIFT)];
+            final int position = slotPosition(slot);
+            final long stored = buffer.getLong(position + 8);
+            if (stored == 0) {
+                return -1;
+            }
+            if (buffer.getInt(position) == hash && buffer.getInt(position + 4) == length && equal(stored - 1, array, offset, length)) {
+                return slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+    }
+
+    private int hash(byte[] array, int offset, int length) {
+        return HashCodeUtils.hash(HashCodeUtils.SINGLE_VALUE, array, offset, offset + length);
+    }
+
+    // verifica se o arquivo tem um registro no in&iacute;cio do bloco informado
+    private boolean hasRecord(long address, long fileSize) throws IOException {
+        if (address + HEADER_SIZE > fileSize) {
+            return false;
+        }
+        final int chunkIndex = chunkOf(address);
+        while (chunks.size() <= chunkIndex) {
+            chunks.add(mapChunk(chunks.size()));
+        }
+        return chunks.get(chunkIndex).getInt(0) != 0;
+    }
+
+    private long home(int hash) {
+        return (hash * GOLDEN_RATIO) >>> slotShift;
+    }
+
+    // insere no &iacute;ndice um registro que sabidamente ainda n&atilde;o est&aacute; indexado
+    private void index(int hash, int length, long address) {
+        if (size >= slots / 2) {
+            if (slots >= MAXIMUM_SLOTS) {
+                throw new IllegalStateException("index capacity exceeded: " + slots);
+            }
+            rehash(slots << 1);
+        }
+        putSlot(hash, length, address);
+        size++;
+    }
+
+    // carrega um arquivo existente, reconstruindo o &iacute;ndice a partir dos cabe&ccedil;alhos dos registros
+    private void load() throws IOException {
+        final long fileSize = channel.size();
+        long address = 0;
+        while (address < fileSize) {
+            final int chunkIndex = chunkOf(address);
+            while (chunks.size() <= chunkIndex) {
+                chunks.add(mapChunk(chunks.size()));
+            }
+            final ByteBuffer chunk = chunks.get(chunkIndex);
+            final int offset = offsetOf(address);
+            final int header = offset + HEADER_SIZE <= chunkSize ? chunk.getInt(offset) : 0;
+            if (header == 0) {
+                // o restante do bloco s&oacute; foi abandonado se um registro foi gravado no bloco seguinte; caso contr&aacute;rio este &eacute; o fim dos dados e as
+                // pr&oacute;ximas grava&ccedil;&otilde;es continuam neste mesmo bloco
+                if (offset == 0 || !hasRecord(nextChunk(address), fileSize)) {
+                    break;
+                }
+                address = nextChunk(address);
+                continue;
+            }
+            final int length = Math.abs(header) - 1;
+            if (header > 0) {
+                index(chunk.getInt(offset + 4), length, address);
+                liveBytes += length;
+            } else {
+                deadBytes += length;
+            }
+            address += HEADER_SIZE + length;
+        }
+        end = address;
+    }
+
+    private ByteBuffer mapChunk(int chunkIndex) throws IOException {
+        return channel.map(FileChannel.MapMode.READ_WRITE, (long) chunkIndex * chunkSize, chunkSize);
+    }
+
+    private long nextChunk(long address) {
+        return ((long) chunkOf(address) + 1) * chunkSize;
+    }
+
+    private int offsetOf(long address) {
+        return (int) (address % chunkSize);
+    }
+
+    private void openChannel() throws IOException {
+        channelFile = new RandomAccessFile(file, "rw");
+        channel = channelFile.getChannel();
+    }
+
+    private void putSlot(int hash, int length, long address) {
+        final long mask = slots - 1;
+        long slot = home(hash);
+        for (;;) {
+            final ByteBuffer buffer = index[(int) (slot >>> SLOTS_PER_BUFFER_SHIFT)];
+            final int position = slotPosition(slot);
+            if (buffer.getLong(position + 8) == 0) {
+                buffer.putInt(position, hash);
+                buffer.putInt(position + 4, length);
+                buffer.putLong(position + 8, address + 1);
+                return;
+            }
+            slot = (slot + 1) & mask;
+        }
+    }
+
+    private void read(ByteBuffer chunk, int position, byte[] target, int offset, int length) {
+        final ByteBuffer view = chunk.duplicate();
+        view.position(position);
+        view.get(target, offset, length);
+    }
+
+    // dobra o &iacute;ndice reaproveitando os hashes armazenados, sem acessar os dados
+    private void rehash(long newSlots) {
+        final ByteBuffer[] oldIndex = index;
+        final long oldSlots = slots;
+        allocateIndex(newSlots);
+        for (long slot = 0; slot < oldSlots; slot++) {
+            final ByteBuffer buffer = oldIndex[(int) (slot >>> SLOTS_PER_BUFFER_SHIFT)];
+            final int position = slotPosition(slot);
+            final long stored = buffer.getLong(position + 8);
+            if (stored != 0) {
+                putSlot(buffer.getInt(position), buffer.getInt(position + 4), stored - 1);
+            }
+        }
+    }
+
+    // remove a posi&ccedil;&atilde;o informada do &iacute;ndice, deslocando para tr&aacute;s as posi&ccedil;&otilde;es seguintes do mesmo agrupamento (backward shift deletion)
+    private void removeSlot(long slot) {
+        final long mask = slots - 1;
+        long hole = slot;
+        long next = slot;
+        for (;;) {
+            next = (next + 1) & mask;
+            final ByteBuffer buffer = index[(int) (next >>> SLOTS_PER_BUFFER_SHIFT)];
+            final int position = slotPosition(next);
+            final long stored = buffer.getLong(position + 8);
+            if (stored == 0) {
+                break;
+            }
+            final long home = home(buffer.getInt(position));
+            final boolean movable = hole <= next ? (home <= hole || home > next) : (home <= hole && home > next);
+            if (movable) {
+                final ByteBuffer holeBuffer = index[(int) (hole >>> SLOTS_PER_BUFFER_SHIFT)];
+                final int holePosition = slotPosition(hole);
+                holeBuffer.putInt(holePosition, buffer.getInt(position));
+                holeBuffer.putInt(holePosition + 4, buffer.getInt(position + 4));
+                holeBuffer.putLong(holePosition + 8, stored);
+                hole = next;
+            }
+        }
+        index[(int) (hole >>> SLOTS_PER_BUFFER_SHIFT)].putLong(slotPosition(hole) + 8, 0);
+        size--;
+    }
+
+    // reserva espa&ccedil;o para um registro, iniciando um novo bloco quando ele n&atilde;o cabe no bloco atual
+    private long reserve(int length) throws IOException {
+        final int recordSize = HEADER_SIZE + length;
+        long address = end;
+        if (offsetOf(address) + recordSize > chunkSize || (offsetOf(address) == 0 && chunkOf(address) >= chunks.size())) {
+            if (offsetOf(address) != 0) {
+                address = nextChunk(address);
+            }
+            final int chunkIndex = chunkOf(address);
+            while (chunks.size() <= chunkIndex) {
+                chunks.add(file == null ? ByteBuffer.allocateDirect(chunkSize) : mapChunk(chunks.size()));
+            }
+        }
+        end = address + recordSize;
+        return address;
+    }
+
+    private long slotAddress(long slot) {
+        return index[(int) (slot >>> SLOTS_PER_BUFFER_SHIFT)].getLong(slotPosition(slot) + 8) - 1;
+    }
+
+    private int slotPosition(long slot) {
+        return (int) (slot & (SLOTS_PER_BUFFER - 1)) * SLOT_SIZE;
+    }
+
+    private void write(ByteBuffer chunk, int position, byte[] source, int length) {
+        write(chunk, position, source, 0, length);
+    }
+
+    private void write(ByteBuffer chunk, int position, byte[] source, int offset, int length) {
+        final ByteBuffer view = chunk.duplicate();
+        view.position(position);
+        view.put(source, offset, length);
+    }
+}
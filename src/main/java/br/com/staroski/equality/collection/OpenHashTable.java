@@ -0,0 +1,276 @@
+package br.com.staroski.equality.collection;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import br.com.staroski.equality.strategy.Equivalence;
+
+// Tabela hash de endere&ccedil;amento aberto (sondagem linear) compartilhada pelo EquivalenceHashMap e EquivalenceHashSet.
+// Os hashes ficam armazenados num int[] paralelo ao array de chaves, assim o redimensionamento nunca recalcula hashes nem
+// invoca equals, e as sondagens s&oacute; comparam chaves cujo hash armazenado &eacute; igual.
+final class OpenHashTable<K> {
+
+    static final int DEFAULT_CAPACITY = 16;
+    static final float DEFAULT_LOAD_FACTOR = 0.5f;
+
+    private static final int MAXIMUM_CAPACITY = 1 << 30;
+
+    // constante de Fibonacci (2^32 / raz&atilde;o &aacute;urea), espalha os bits baixos dos hashes polinomiais
+    private static final int GOLDEN_RATIO = 0x9E3779B9;
+
+    final Equivalence<? super K> equivalence;
+    final float loadFactor;
+
+    int[] hashes;
+    Object[] keys;
+    Object[] values; // null quando a tabela n&atilde;o armazena valores
+    int size;
+    int modCount;
+
+    private int shift;
+    private int threshold;
+
+    OpenHashTable(Equivalence<? super K> equivalence, int initialCapacity, float loadFactor, boolean storeValues) {
+        if (equivalence == null) {
+            throw new IllegalArgumentException("null");
+        }
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("initialCapacity: " + initialCapacity);
+        }
+        if (!(loadFactor > 0 && loadFactor < 1)) {
+            throw new IllegalArgumentException("loadFactor: " + loadFactor);
+        }
+        this.equivalence = equivalence;
+        this.loadFactor = loadFactor;
+        allocate(capacityFor(initialCapacity), storeValues);
+    }
+
+    // insere a chave caso ela n&atilde;o exista, retorna o &iacute;ndice da chave existente ou o complemento (~) do &iacute;ndice em que ela foi inserida
+    int add(K key, int hash) {
+        int index = find(key, hash);
+        if (index >= 0) {
+            return index;
+        }
+        if (size >= threshold) {
+            resize();
+            index = freeSlot(hash);
+        } else {
+            index = ~index;
+        }
+        keys[index] = key;
+        hashes[index] = hash;
+        size++;
+        modCount++;
+        return ~index;
+    }
+
+    void clear() {
+        if (size > 0) {
+            Arrays.fill(keys, null);
+            Arrays.fill(hashes, 0);
+            if (values != null) {
+                Arrays.fill(values, null);
+            }
+            size = 0;
+            modCount++;
+        }
+    }
+
+    int hash(K key) {
+        return equivalence.hash(key);
+    }
+
+    // obt&eacute;m o &iacute;ndice da chave ou -1 caso ela n&atilde;o exista
+    @SuppressWarnings("unchecked")
+    int indexOf(Object key) {
+        if (key == null) {
+            return -1;
+        }
+        final int index = find((K) key, hash((K) key));
+        return index < 0 ? -1 : index;
+    }
+
+    // remove a entrada do &iacute;ndice informado, deslocando para tr&aacute;s as entradas seguintes do mesmo agrupamento
+    // (backward shift deletion), de forma que a tabela nunca precisa de marcadores de remo&ccedil;&atilde;o.
+    // As entradas que, ao dar a volta no fim da tabela, passarem de um &iacute;ndice menor para um &iacute;ndice maior ou igual
+    // ao removido s&atilde;o adicionadas (chave e valor) em "displaced", para que um iterador decrescente n&atilde;o as perca.
+    void removeAt(int index, List<Object> displaced) {
+        final int mask = keys.length - 1;
+        int hole = index;
+        int next = index;
+        for (;;) {
+            next = (next + 1) & mask;
+            final Object key = keys[next];
+            if (key == null) {
+                break;
+            }
+            final int home = slot(hashes[next]);
+            final boolean movable = hole <= next ? (home <= hole || home > next) : (home <= hole && home > next);
+            if (movable) {
+                keys[hole] = key;
+                hashes[hole] = hashes[next];
+                if (values != null) {
+                    values[hole] = values[next];
+                }
+                if (displaced != null && next < index && hole >= index) {
+                    displaced.add(key);
+                    displaced.add(values == null ? null : values[next]);
+                }
+                hole = next;
+            }
+        }
+        keys[hole] = null;
+        hashes[hole] = 0;
+        if (values != null) {
+            values[hole] = null;
+        }
+        size--;
+        modCount++;
+    }
+
+    private void allocate(int capacity, boolean storeValues) {
+        hashes = new int[capacity];
+        keys = new Object[capacity];
+        values = storeValues ? new Object[capacity] : null;
+        shift = 32 - Integer.numberOfTrailingZeros(capacity);
+        threshold = (int) (capacity * loadFactor);
+    }
+
+    private int capacityFor(int expectedSize) {
+        final long needed = (long) Math.ceil(Math.max(expectedSize, DEFAULT_CAPACITY / 2) / (double) loadFactor);
+        if (needed >= MAXIMUM_CAPACITY) {
+            return MAXIMUM_CAPACITY;
+        }
+        return Integer.highestOneBit((int) needed - 1) << 1;
+    }
+
+    // obt&eacute;m o &iacute;ndice da chave, ou o complemento (~) do &iacute;ndice livre onde ela seria inserida
+    @SuppressWarnings("unchecked")
+    private int find(K key, int hash) {
+        final Object[] keys = this.keys;
+        final int[] hashes = this.hashes;
+        final int mask = keys.length - 1;
+        int index = slot(hash);
+        for (;;) {
+            final Object current = keys[index];
+            if (current == null) {
+                return ~index;
+            }
+            if (hashes[index] == hash && (current == key || equivalence.equals((K) current, key))) {
+                return index;
+            }
+            index = (index + 1) & mask;
+        }
+    }
+
+    private int freeSlot(int hash) {
+        final int mask = keys.length - 1;
+        int index = slot(hash);
+        while (keys[index] != null) {
+            index = (index + 1) & mask;
+        }
+        return index;
+    }
+
+    // dobra a capacidade reaproveitando os hashes armazenados, sem invocar hash nem equals
+    private void resize() {
+        final int capacity = keys.length;
+        if (capacity == MAXIMUM_CAPACITY) {
+            throw new IllegalStateException("capacity exceeded: " + capacity);
+        }
+        final int[] oldHashes = hashes;
+        final Object[] oldKeys = keys;
+        final Object[] oldValues = values;
+        allocate(capacity << 1, oldValues != null);
+        for (int i = 0; i < capacity; i++) {
+            final Object key = oldKeys[i];
+            if (key != null) {
+                final int hash = oldHashes[i];
+                final int index = freeSlot(hash);
+                keys[index] = key;
+                hashes[index] = hash;
+                if (oldValues != null) {
+                    values[index] = oldValues[i];
+                }
+            }
+        }
+        modCount++;
+    }
+
+    private int slot(int hash) {
+        return (hash * GOLDEN_RATIO) >>> shift;
+    }
+
+    // Iterador que percorre a tabela do fim para o come&ccedil;o, permitindo remo&ccedil;&otilde;es durante a itera&ccedil;&atilde;o
+    abstract class TableIterator<E> implements Iterator<E> {
+
+        private int index = keys.length;
+        private int lastIndex = -1;
+        private Object lastKey;
+        private int expectedModCount = modCount;
+        private final List<Object> displaced = new ArrayList<Object>();
+        private int displacedIndex;
+
+        public final boolean hasNext() {
+            if (index > 0) {
+                final Object[] keys = OpenHashTable.this.keys;
+                for (int i = index - 1; i >= 0; i--) {
+                    if (keys[i] != null) {
+                        return true;
+                    }
+                }
+            }
+            return displacedIndex < displaced.size();
+        }
+
+        @SuppressWarnings("unchecked")
+        public final E next() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            final Object[] keys = OpenHashTable.this.keys;
+            while (index > 0) {
+                final Object key = keys[--index];
+                if (key != null) {
+                    lastIndex = index;
+                    lastKey = key;
+                    return next((K) key, values == null ? null : values[index]);
+                }
+            }
+            if (displacedIndex < displaced.size()) {
+                final Object key = displaced.get(displacedIndex++);
+                final Object value = displaced.get(displacedIndex++);
+                lastIndex = -1;
+                lastKey = key;
+                return next((K) key, value);
+            }
+            throw new NoSuchElementException();
+        }
+
+        public final void remove() {
+            if (lastKey == null) {
+                throw new IllegalStateException();
+            }
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            if (lastIndex >= 0) {
+                removeAt(lastIndex, displaced);
+            } else {
+                final int index = indexOf(lastKey);
+                if (index >= 0) {
+                    removeAt(index, null);
+                }
+            }
+            lastKey = null;
+            expectedModCount = modCount;
+        }
+
+        // cria o elemento retornado pelo iterador
+        abstract E next(K key, Object value);
+    }
+}
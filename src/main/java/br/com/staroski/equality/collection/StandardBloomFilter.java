@@ -0,0 +1,47 @@
+package br.com.staroski.equality.collection;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import br.com.staroski.equality.strategy.Equivalence;
+
+// Filtro de Bloom tradicional: as posi&ccedil;&otilde;es dos bits s&atilde;o derivadas por hashing duplo (h1 + i * h2), com a quantidade de bits em pot&ecirc;ncia de dois
+final class StandardBloomFilter<T> extends BloomFilter<T> {
+
+    private final long mask;
+
+    StandardBloomFilter(Equivalence<? super T> equivalence, AtomicLongArray words, int hashes) {
+        super(equivalence, words, hashes);
+        final long bits = (long) words.length() << 6;
+        if (Long.bitCount(bits) != 1) {
+            throw new IllegalArgumentException("bit count must be a power of two: " + bits);
+        }
+        this.mask = bits - 1;
+    }
+
+    @Override
+    public boolean mightContainHash(int hash) {
+        final long mixed = mix(hash);
+        final long step = (mixed >>> 32) | 1;
+        long position = mixed;
+        for (int i = 0; i < hashes; i++, position += step) {
+            final long bit = position & mask;
+            if ((words.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public boolean putHash(int hash) {
+        final long mixed = mix(hash);
+        final long step = (mixed >>> 32) | 1;
+        long position = mixed;
+        boolean changed = false;
+        for (int i = 0; i < hashes; i++, position += step) {
+            final long bit = position & mask;
+            changed |= setBit(words, (int) (bit >>> 6), 1L << bit);
+        }
+        return changed;
+    }
+}
@@ -0,0 +1,144 @@
+package br.com.staroski.equality.strategy;
+
+import java.lang.reflect.Field;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.concurrent.ThreadLocalRandom;
+
+import br.com.staroski.equality.HashCodeUtils;
+
+// Equival&ecirc;ncia baseada em atributos que reordena, em tempo de execu&ccedil;&atilde;o, a ordem em que os atributos s&atilde;o comparados pelo equals.
+// Uma a cada SAMPLE_INTERVAL compara&ccedil;&otilde;es, sorteada por thread sem estado compartilhado, &eacute; amostrada: todos os atributos s&atilde;o comparados,
+// medindo o custo e se cada um foi diferente.
+// A cada REPLAN_SAMPLES amostras o plano &eacute; refeito, ordenando os atributos pelo custo m&eacute;dio por diferen&ccedil;a encontrada, e as estat&iacute;sticas
+// s&atilde;o reduzidas &agrave; metade, para acompanhar mudan&ccedil;as na carga. Como o equals &eacute; a conjun&ccedil;&atilde;o de todos os atributos, a ordem n&atilde;o altera o resultado;
+// o hash continua seguindo a ordem de declara&ccedil;&atilde;o, portanto &eacute; o mesmo do FieldBased.
+final class AdaptiveFieldBasedEquivalence<T> extends Equivalence<T> {
+
+    private static final int SAMPLE_INTERVAL = 64;
+    private static final int REPLAN_SAMPLES = 256;
+
+    private final Class<T> type;
+    private final Field[] fields;
+    private final byte[] kinds;
+
+    // &iacute;ndices dos atributos na ordem em que s&atilde;o comparados
+    private volatile int[] plan;
+
+    // estat&iacute;sticas das amostras, protegidas pelo monitor desta inst&acirc;ncia
+    private final long[] mismatches;
+    private final long[] nanos;
+    private int samples;
+
+    AdaptiveFieldBasedEquivalence(Class<T> type) {
+        if (type == null) {
+            throw new IllegalArgumentException("null");
+        }
+        this.type = type;
+        this.fields = Fields.equalityFields(type);
+        final int length = fields.length;
+        this.kinds = new byte[length];
+        final int[] plan = new int[length];
+        for (int i = 0; i < length; i++) {
+            kinds[i] = Fields.kindOf(fields[i].getType());
+            plan[i] = i;
+        }
+        this.plan = plan;
+        this.mismatches = new long[length];
+        this.nanos = new long[length];
+    }
+
+    public boolean equals(T object1, T object2) {
+        if (object1 == object2) {
+            return true;
+        }
+        if (object1 == null || object2 == null) {
+            return false;
+        }
+        if (!type.isInstance(object1) || !type.isInstance(object2)) {
+            return false;
+        }
+        try {
+            if (ThreadLocalRandom.current().nextInt(SAMPLE_INTERVAL) == 0) {
+                return sample(object1, object2);
+            }
+            final int[] plan = this.plan;
+            for (int i = 0; i < plan.length; i++) {
+                final int index = plan[i];
+                if (!FieldBasedEquivalence.equalField(fields[index], kinds[index], object1, object2)) {
+                    return false;
+                }
+            }
+            return true;
+        } catch (IllegalAccessException e) {
+            throw new SecurityException(e);
+        }
+    }
+
+    public int hash(T object) {
+        if (object == null) {
+            return HashCodeUtils.hash(HashCodeUtils.SINGLE_VALUE, 0);
+        }
+        try {
+            final int length = fields.length;
+            int hash = HashCodeUtils.MULTI_VALUE;
+            for (int i = 0; i < length; i++) {
+                hash = FieldBasedEquivalence.hashField(hash, fields[i], kinds[i], object);
+            }
+            return HashCodeUtils.hash(HashCodeUtils.SINGLE_VALUE, hash);
+        } catch (IllegalAccessException e) {
+            throw new SecurityException(e);
+        }
+    }
+
+    // compara todos os atributos, sem parar no primeiro diferente, medindo o custo de cada um
+    private boolean sample(T object1, T object2) throws IllegalAccessException {
+        final int length = fields.length;
+        final boolean[] equal = new boolean[length];
+        final long[] elapsed = new long[length];
+        boolean result = true;
+        for (int i = 0; i < length; i++) {
+            final long start = System.nanoTime();
+            equal[i] = FieldBasedEquivalence.equalField(fields[i], kinds[i], object1, object2);
+            elapsed[i] = System.nanoTime() - start;
+            result &= equal[i];
+        }
+        synchronized (this) {
+            for (int i = 0; i < length; i++) {
+                nanos[i] += elapsed[i];
+                if (!equal[i]) {
+                    mismatches[i]++;
+                }
+            }
+            if (++samples >= REPLAN_SAMPLES) {
+                replan();
+            }
+        }
+        return result;
+    }
+
+    // ordena os atributos pelo custo m&eacute;dio por diferen&ccedil;a encontrada, mantendo a ordem de declara&ccedil;&atilde;o nos empates
+    private void replan() {
+        final int length = fields.length;
+        final double[] scores = new double[length];
+        final Integer[] order = new Integer[length];
+        for (int i = 0; i < length; i++) {
+            scores[i] = (nanos[i] + 1.0) / (mismatches[i] + 1.0);
+            order[i] = i;
+            nanos[i] >>>= 1;
+            mismatches[i] >>>= 1;
+        }
+        Arrays.sort(order, new Comparator<Integer>() {
+
+            public int compare(Integer index1, Integer index2) {
+                return Double.compare(scores[index1], scores[index2]);
+            }
+        });
+        final int[] plan = new int[length];
+        for (int i = 0; i < length; i++) {
+            plan[i] = order[i];
+        }
+        this.plan = plan;
+        samples = 0;
+    }
+}
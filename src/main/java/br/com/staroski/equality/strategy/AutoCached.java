@@ -0,0 +1,51 @@
+package br.com.staroski.equality.strategy;
+
+// Estrat&eacute;gia que s&oacute; guarda o hashCode da estrat&eacute;gia original quando o AutoCaching decide que vale a pena para a classe do objeto.
+// Enquanto a classe n&atilde;o guarda os hashes, o objeto s&oacute; ocupa a refer&ecirc;ncia vazia do hash guardado; quando a classe deixa de guardar, a &eacute;poca
+// da classe muda e os hashes guardados s&atilde;o descartados conforme os objetos s&atilde;o utilizados.
+final class AutoCached extends EqualityStrategy {
+
+    // hash guardado, v&aacute;lido somente enquanto a &eacute;poca da classe n&atilde;o mudar
+    private static final class Hash {
+
+        final int value;
+        final int epoch;
+
+        Hash(int value, int epoch) {
+            this.value = value;
+            this.epoch = epoch;
+        }
+    }
+
+    private final AutoCaching.ClassStatistics statistics;
+    private Hash hash;
+
+    AutoCached(EqualityStrategy target) {
+        super(target);
+        statistics = AutoCaching.statistics(target.target.getClass());
+        statistics.created();
+    }
+
+    // n&atilde;o compara os hashes: o hash guardado do outro objeto n&atilde;o &eacute; acess&iacute;vel, e calcul&aacute;-lo dobraria o custo do equals e distorceria as estat&iacute;sticas
+    public boolean equals(Object obj) {
+        return target.equals(obj);
+    }
+
+    public int hashCode() {
+        final AutoCaching.ClassStatistics statistics = this.statistics;
+        statistics.called();
+        final int epoch = statistics.epoch;
+        final Hash hash = this.hash;
+        if (hash != null) {
+            if (hash.epoch == epoch) {
+                return hash.value;
+            }
+            this.hash = null;
+        }
+        final int value = statistics.compute((EqualityStrategy) target);
+        if (statistics.caching && AutoCaching.reserve(statistics, this)) {
+            this.hash = new Hash(value, epoch);
+        }
+        return value;
+    }
+}
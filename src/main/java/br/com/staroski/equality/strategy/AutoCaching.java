@@ -0,0 +1,486 @@
+package br.com.staroski.equality.strategy;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Controla as {@link EqualityStrategy#autoCached() estrat&eacute;gias com cache autom&aacute;tico}, que s&oacute; guardam o <code>hashCode</code> dos objetos das classes em que isso compensa.<BR>
+ * <BR>
+ * Para cada classe &eacute; medido, por amostragem, o custo de calcular o <code>hashCode</code> e a quantidade m&eacute;dia de chamadas de <code>hashCode</code> por objeto. O
+ * <code>hashCode</code> dos objetos de uma classe passa a ser guardado quando o tempo economizado por objeto, isto &eacute;, o custo m&eacute;dio multiplicado pelas chamadas
+ * repetidas, ultrapassa {@value #MIN_SAVED_NANOS} nanossegundos, e deixa de ser guardado quando as medi&ccedil;&otilde;es seguintes indicarem o contr&aacute;rio. As
+ * estat&iacute;sticas s&atilde;o reduzidas &agrave; metade a cada reavalia&ccedil;&atilde;o, para acompanhar mudan&ccedil;as na carga.<BR>
+ * <BR>
+ * Cada <code>hashCode</code> guardado ocupa {@value #ENTRY_BYTES} <I>bytes</I>, e o total ocupado por todas as classes nunca ultrapassa o {@link #setBudget(long) or&ccedil;amento}
+ * global. Quando o or&ccedil;amento se esgota, a classe que menos economiza deixa de guardar os seus hashes e devolve os seus <I>bytes</I>. Uma amostra dos objetos com o hash
+ * guardado &eacute; acompanhada atrav&eacute;s de refer&ecirc;ncias fracas, e a coleta de cada objeto da amostra devolve os <I>bytes</I> dos objetos que ele representa, portanto o
+ * {@link #usedBytes() total ocupado} &eacute; uma estimativa dos hashes guardados de objetos ainda vivos.<BR>
+ * <BR>
+ * As {@link #decisions() decis&otilde;es} tomadas para cada classe podem ser inspecionadas ou {@link #report() formatadas}.
+ *
+ * <PRE>
+ * AutoCaching.setBudget(64 * 1024 * 1024);
+ *
+ * class MyClass {
+ *
+ *     private final EqualityStrategy strategy = fieldBased(this).autoCached();
+ * }
+ * </PRE>
+ *
+ * @author Ricardo Artur Staroski
+ * @see EqualityStrategy#autoCached()
+ */
+public final class AutoCaching {
+
+    /**
+     * Decis&atilde;o de cache de uma classe, obtida atrav&eacute;s do m&eacute;todo {@link AutoCaching#decisions()}.
+     *
+     * @author Ricardo Artur Staroski
+     */
+    public static final class CacheDecision {
+
+        private final Class<?> type;
+        private final long calls;
+        private final long objects;
+        private final double averageNanos;
+        private final long cachedObjects;
+        private final boolean caching;
+
+        private CacheDecision(ClassStatistics statistics, Class<?> type) {
+            this.type = type;
+            this.calls = statistics.calls * SAMPLE_INTERVAL;
+            this.objects = statistics.objects * SAMPLE_INTERVAL;
+            this.averageNanos = statistics.averageNanos();
+            this.cachedObjects = statistics.cachedObjects.get();
+            this.caching = statistics.caching;
+        }
+
+        /**
+         * Obt&eacute;m o custo m&eacute;dio, em nanossegundos, de calcular o <code>hashCode</code> de um objeto da classe.
+         *
+         * @return O custo m&eacute;dio do <code>hashCode</code>.
+         */
+        public double averageNanos() {
+            return averageNanos;
+        }
+
+        /**
+         * Obt&eacute;m a quantidade de <I>bytes</I> ocupados pelos <code>hashCode</code> guardados da classe.
+         *
+         * @return Os <I>bytes</I> ocupados.
+         */
+        public long cachedBytes() {
+            return cachedObjects * ENTRY_BYTES;
+        }
+
+        /**
+         * Obt&eacute;m a quantidade de objetos da classe com o <code>hashCode</code> guardado.
+         *
+         * @return A quantidade de objetos com o <code>hashCode</code> guardado.
+         */
+        public long cachedObjects() {
+            return cachedObjects;
+        }
+
+        /**
+         * Obt&eacute;m a quantidade recente estimada de chamadas de <code>hashCode</code>, contadas por amostragem e reduzidas &agrave; metade a cada reavalia&ccedil;&atilde;o.
+         *
+         * @return A quantidade de chamadas.
+         */
+        public long calls() {
+            return calls;
+        }
+
+        /**
+         * Obt&eacute;m a quantidade m&eacute;dia de chamadas de <code>hashCode</code> por objeto da classe.
+         *
+         * @return As chamadas por objeto.
+         */
+        public double callsPerObject() {
+            return objects == 0 ? 0 : (double) calls / objects;
+        }
+
+        /**
+         * Verifica se o <code>hashCode</code> dos objetos da classe est&aacute; sendo guardado.
+         *
+         * @return <code>true</code> se estiver sendo guardado e <code>false</code> caso contr&aacute;rio.
+         */
+        public boolean isCaching() {
+            return caching;
+        }
+
+        /**
+         * Obt&eacute;m a quantidade recente estimada de objetos criados, contados por amostragem e reduzidos &agrave; metade a cada reavalia&ccedil;&atilde;o.
+         *
+         * @return A quantidade de objetos.
+         */
+        public long objects() {
+            return objects;
+        }
+
+        /**
+         * Obt&eacute;m o tempo estimado, em nanossegundos, economizado por objeto ao guardar o seu <code>hashCode</code>.
+         *
+         * @return O tempo economizado por objeto.
+         */
+        public double savedNanos() {
+            return Math.max(0, callsPerObject() - 1) * averageNanos;
+        }
+
+        public String toString() {
+            return String.format(Locale.ROOT, "%s: %s, hash=%.1fns, calls/object=%.1f, saved=%.1fns/object, cached=%d objects (%d bytes)", type.getName(),
+                    caching ? "caching" : "not caching", averageNanos, callsPerObject(), savedNanos(), cachedObjects, cachedBytes());
+        }
+
+        /**
+         * Obt&eacute;m a classe dos objetos.
+         *
+         * @return A classe dos objetos.
+         */
+        public Class<?> type() {
+            return type;
+        }
+    }
+
+    // estat&iacute;sticas de uma classe; os contadores s&oacute; s&atilde;o atualizados em uma a cada SAMPLE_INTERVAL chamadas, sorteadas por thread, para que
+    // as escritas compartilhadas n&atilde;o pesem em cada constru&ccedil;&atilde;o e hashCode, e sem sincroniza&ccedil;&atilde;o pois s&atilde;o apenas estimativas;
+    // a classe &eacute; referenciada fracamente para n&atilde;o impedir que ela e o seu classloader sejam descarregados
+    static final class ClassStatistics {
+
+        private final WeakReference<Class<?>> type;
+        long calls;
+        long objects;
+        final AtomicLong cachedObjects = new AtomicLong();
+        volatile boolean caching;
+        volatile int epoch;
+
+        // amostras do custo do hash, protegidas pelo monitor desta inst&acirc;ncia
+        private long samples;
+        private long nanos;
+
+        ClassStatistics(Class<?> type) {
+            this.type = new WeakReference<Class<?>>(type);
+        }
+
+        synchronized double averageNanos() {
+            return samples == 0 ? 0 : (double) nanos / samples;
+        }
+
+        synchronized void clear() {
+            calls = 0;
+            objects = 0;
+            samples = 0;
+            nanos = 0;
+        }
+
+        // conta, por amostragem, uma chamada de hashCode
+        void called() {
+            if (sampled()) {
+                calls++;
+            }
+        }
+
+        // calcula o hash, medindo o custo por amostragem
+        int compute(EqualityStrategy strategy) {
+            if (!sampled()) {
+                return strategy.hashCode();
+            }
+            final long start = System.nanoTime();
+            final int hash = strategy.hashCode();
+            final long elapsed = System.nanoTime() - start;
+            final boolean evaluate;
+            synchronized (this) {
+                nanos += elapsed;
+                evaluate = ++samples % EVALUATE_SAMPLES == 0;
+            }
+            if (evaluate) {
+                AutoCaching.evaluate(this);
+            }
+            return hash;
+        }
+
+        // conta, por amostragem, a cria&ccedil;&atilde;o de um objeto
+        void created() {
+            if (sampled()) {
+                objects++;
+            }
+        }
+
+        // reduz as estat&iacute;sticas &agrave; metade, mantendo as propor&ccedil;&otilde;es
+        synchronized void decay() {
+            calls >>>= 1;
+            objects >>>= 1;
+            samples >>>= 1;
+            nanos >>>= 1;
+        }
+
+        double savedNanos() {
+            final long objects = this.objects;
+            final double callsPerObject = objects == 0 ? 0 : (double) calls / objects;
+            return Math.max(0, callsPerObject - 1) * averageNanos();
+        }
+
+        // obt&eacute;m a classe, ou null se ela j&aacute; foi descarregada
+        Class<?> type() {
+            return type.get();
+        }
+    }
+
+    // refer&ecirc;ncia a um objeto da amostra, que representa SAMPLE_INTERVAL hashes guardados da sua classe na &eacute;poca em que foi criada
+    private static final class Sample extends WeakReference<Object> {
+
+        final ClassStatistics statistics;
+        final int epoch;
+
+        Sample(Object owner, ClassStatistics statistics, int epoch) {
+            super(owner, COLLECTED);
+            this.statistics = statistics;
+            this.epoch = epoch;
+        }
+    }
+
+    /**
+     * Tempo m&iacute;nimo, em nanossegundos, que deve ser economizado por objeto para que o <code>hashCode</code> dos objetos de uma classe seja guardado.
+     */
+    public static final long MIN_SAVED_NANOS = 100;
+
+    /**
+     * Quantidade estimada de <I>bytes</I> ocupados por cada <code>hashCode</code> guardado.
+     */
+    public static final int ENTRY_BYTES = 24;
+
+    private static final int SAMPLE_INTERVAL = 16;
+    private static final int EVALUATE_SAMPLES = 64;
+
+    private static final ClassValue<ClassStatistics> STATISTICS = new ClassValue<ClassStatistics>() {
+
+        protected ClassStatistics computeValue(Class<?> type) {
+            final ClassStatistics statistics = new ClassStatistics(type);
+            REGISTERED.add(statistics);
+            return statistics;
+        }
+    };
+
+    // todas as estat&iacute;sticas criadas, para as decis&otilde;es e reavalia&ccedil;&otilde;es que percorrem todas as classes
+    private static final Set<ClassStatistics> REGISTERED = Collections.newSetFromMap(new ConcurrentHashMap<ClassStatistics, Boolean>());
+
+    // objetos da amostra ainda n&atilde;o coletados, mantidos aqui para que as suas refer&ecirc;ncias sejam enfileiradas
+    private static final Set<Sample> SAMPLES = Collections.newSetFromMap(new ConcurrentHashMap<Sample, Boolean>());
+    private static final ReferenceQueue<Object> COLLECTED = new ReferenceQueue<Object>();
+
+    private static final AtomicLong USED_BYTES = new AtomicLong();
+
+    private static volatile long budget = 16 * 1024 * 1024;
+
+    /**
+     * Obt&eacute;m o or&ccedil;amento global, em <I>bytes</I>, para os <code>hashCode</code> guardados.
+     *
+     * @return O or&ccedil;amento global.
+     */
+    public static long budget() {
+        return budget;
+    }
+
+    /**
+     * Obt&eacute;m a decis&atilde;o de cache de cada classe, ordenadas pelo {@link CacheDecision#savedNanos() tempo economizado por objeto}, da classe que mais economiza para a que menos
+     * economiza.
+     *
+     * @return As decis&otilde;es de cache.
+     */
+    public static synchronized List<CacheDecision> decisions() {
+        expunge();
+        final List<CacheDecision> decisions = new ArrayList<CacheDecision>();
+        for (ClassStatistics statistics : registered()) {
+            final Class<?> type = statistics.type();
+            if (type != null) {
+                decisions.add(new CacheDecision(statistics, type));
+            }
+        }
+        Collections.sort(decisions, new Comparator<CacheDecision>() {
+
+            public int compare(CacheDecision decision1, CacheDecision decision2) {
+                return Double.compare(decision2.savedNanos(), decision1.savedNanos());
+            }
+        });
+        return decisions;
+    }
+
+    /**
+     * Formata as {@link #decisions() decis&otilde;es} de cache, uma linha por classe.
+     *
+     * @return As decis&otilde;es formatadas.
+     */
+    public static synchronized String report() {
+        expunge();
+        final StringBuilder report = new StringBuilder();
+        report.append(String.format(Locale.ROOT, "budget=%d bytes, used=%d bytes", budget, USED_BYTES.get())).append(System.lineSeparator());
+        for (CacheDecision decision : decisions()) {
+            report.append(decision).append(System.lineSeparator());
+        }
+        return report.toString();
+    }
+
+    /**
+     * Descarta as estat&iacute;sticas e os <code>hashCode</code> guardados de todas as classes, que voltam a ser avaliadas do in&iacute;cio.
+     */
+    public static synchronized void reset() {
+        for (ClassStatistics statistics : registered()) {
+            release(statistics);
+            statistics.clear();
+        }
+    }
+
+    /**
+     * Define o or&ccedil;amento global, em <I>bytes</I>, para os <code>hashCode</code> guardados. Se o total j&aacute; ocupado ultrapassar o novo or&ccedil;amento, as classes que menos
+     * economizam deixam de guardar os seus hashes.
+     *
+     * @param bytes
+     *            O or&ccedil;amento global; <code>0</code> impede que qualquer <code>hashCode</code> seja guardado.
+     */
+    public static synchronized void setBudget(long bytes) {
+        if (bytes < 0) {
+            throw new IllegalArgumentException("bytes: " + bytes);
+        }
+        budget = bytes;
+        while (USED_BYTES.get() > bytes && evictCheaperThan(Double.POSITIVE_INFINITY)) {
+            // continua liberando
+        }
+    }
+
+    /**
+     * Obt&eacute;m a quantidade estimada de <I>bytes</I> ocupados pelos <code>hashCode</code> guardados de todas as classes.
+     *
+     * @return Os <I>bytes</I> ocupados.
+     */
+    public static long usedBytes() {
+        expunge();
+        return USED_BYTES.get();
+    }
+
+    // reserva o espa&ccedil;o do hash guardado do objeto informado, se couber no or&ccedil;amento
+    static boolean reserve(ClassStatistics statistics, Object owner) {
+        expunge();
+        long used;
+        do {
+            used = USED_BYTES.get();
+            if (used + ENTRY_BYTES > budget) {
+                return false;
+            }
+        } while (!USED_BYTES.compareAndSet(used, used + ENTRY_BYTES));
+        statistics.cachedObjects.incrementAndGet();
+        if (sampled()) {
+            SAMPLES.add(new Sample(owner, statistics, statistics.epoch));
+        }
+        return true;
+    }
+
+    // obt&eacute;m as estat&iacute;sticas da classe
+    static ClassStatistics statistics(Class<?> type) {
+        return STATISTICS.get(type);
+    }
+
+    // reavalia se compensa guardar os hashes da classe
+    private static synchronized void evaluate(ClassStatistics statistics) {
+        expunge();
+        final double saved = statistics.savedNanos();
+        if (saved < MIN_SAVED_NANOS) {
+            if (statistics.caching) {
+                release(statistics);
+            }
+        } else if (USED_BYTES.get() + ENTRY_BYTES > budget) {
+            // or&ccedil;amento esgotado: a classe que menos economiza, possivelmente esta mesma, devolve os seus bytes
+            if (statistics.caching) {
+                evictCheaperThan(Double.POSITIVE_INFINITY);
+            } else if (evictCheaperThan(saved)) {
+                statistics.caching = true;
+            }
+        } else {
+            statistics.caching = true;
+        }
+        statistics.decay();
+    }
+
+    // devolve os bytes dos objetos da amostra j&aacute; coletados; os de &eacute;pocas anteriores j&aacute; foram devolvidos quando a classe deixou de guardar os hashes
+    private static void expunge() {
+        Sample sample;
+        while ((sample = (Sample) COLLECTED.poll()) != null) {
+            SAMPLES.remove(sample);
+            final ClassStatistics statistics = sample.statistics;
+            if (sample.epoch != statistics.epoch) {
+                continue;
+            }
+            long cached;
+            long freed;
+            do {
+                cached = statistics.cachedObjects.get();
+                freed = Math.min(SAMPLE_INTERVAL, cached);
+            } while (!statistics.cachedObjects.compareAndSet(cached, cached - freed));
+            USED_BYTES.addAndGet(-freed * ENTRY_BYTES);
+        }
+    }
+
+    // faz a classe que menos economiza, se economizar menos do que o informado, deixar de guardar os seus hashes
+    private static boolean evictCheaperThan(double saved) {
+        ClassStatistics cheapest = null;
+        double cheapestSaved = saved;
+        for (ClassStatistics statistics : registered()) {
+            if (statistics.caching) {
+                final double candidate = statistics.savedNanos();
+                if (candidate < cheapestSaved) {
+                    cheapest = statistics;
+                    cheapestSaved = candidate;
+                }
+            }
+        }
+        if (cheapest == null) {
+            return false;
+        }
+        release(cheapest);
+        return true;
+    }
+
+    // obt&eacute;m as estat&iacute;sticas registradas, descartando as das classes descarregadas e devolvendo os seus bytes;
+    // somente com o monitor da classe, pois release altera a decis&atilde;o e a &eacute;poca junto com os m&eacute;todos sincronizados
+    private static Iterable<ClassStatistics> registered() {
+        for (Iterator<ClassStatistics> iterator = REGISTERED.iterator(); iterator.hasNext();) {
+            final ClassStatistics statistics = iterator.next();
+            if (statistics.type() == null) {
+                iterator.remove();
+                release(statistics);
+            }
+        }
+        return REGISTERED;
+    }
+
+    // a classe deixa de guardar os hashes, que s&atilde;o invalidados pela mudan&ccedil;a de &eacute;poca, e devolve os seus bytes e a sua amostra
+    private static void release(ClassStatistics statistics) {
+        statistics.caching = false;
+        statistics.epoch++;
+        USED_BYTES.addAndGet(-statistics.cachedObjects.getAndSet(0) * ENTRY_BYTES);
+        for (Iterator<Sample> iterator = SAMPLES.iterator(); iterator.hasNext();) {
+            if (iterator.next().statistics == statistics) {
+                iterator.remove();
+            }
+        }
+    }
+
+    // sorteia uma a cada SAMPLE_INTERVAL chamadas, sem estado compartilhado entre as threads
+    private static boolean sampled() {
+        return ThreadLocalRandom.current().nextInt(SAMPLE_INTERVAL) == 0;
+    }
+
+    // Construtor privado, classe utilit&aacute;ria n&atilde;o-instanciavel
+    private AutoCaching() {
+        throw new UnsupportedOperationException(getClass().getName() + " can not be instantiated");
+    }
+}
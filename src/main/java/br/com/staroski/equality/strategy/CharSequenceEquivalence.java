@@ -0,0 +1,19 @@
+package br.com.staroski.equality.strategy;
+
+import br.com.staroski.equality.EqualsUtils;
+import br.com.staroski.equality.HashCodeUtils;
+
+final class CharSequenceEquivalence extends Equivalence<CharSequence> {
+
+    static final CharSequenceEquivalence INSTANCE = new CharSequenceEquivalence();
+
+    private CharSequenceEquivalence() {}
+
+    public boolean equals(CharSequence chars1, CharSequence chars2) {
+        return EqualsUtils.equal(chars1, chars2);
+    }
+
+    public int hash(CharSequence chars) {
+        return HashCodeUtils.hash(HashCodeUtils.SINGLE_VALUE, chars);
+    }
+}
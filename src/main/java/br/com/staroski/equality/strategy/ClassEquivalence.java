@@ -0,0 +1,147 @@
+package br.com.staroski.equality.strategy;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+
+/**
+ * {@link Equivalence Equival&ecirc;ncia} sem estado por objeto, baseada nos atributos declarados por uma classe, obtida atrav&eacute;s do m&eacute;todo {@link Equivalence#forClass(Class)}.
+ * <BR>
+ * <BR>
+ * Diferente da {@link EqualityStrategy#fieldBased(Object) estrat&eacute;gia baseada em atributos}, que &eacute; criada para cada objeto e guardada num atributo, uma &uacute;nica
+ * inst&acirc;ncia &eacute; compartilhada por todos os objetos da classe, assim os objetos n&atilde;o ocupam mem&oacute;ria adicional. Os valores calculados s&atilde;o os mesmos da
+ * {@link EqualityStrategy#fieldBased(Object) estrat&eacute;gia baseada em atributos}.
+ *
+ * <PRE>
+ * class MyClass {
+ *
+ *     private static final ClassEquivalence&lt;MyClass&gt; EQUIVALENCE = Equivalence.forClass(MyClass.class);
+ *
+ *     private int field1;
+ *     private Object field2;
+ *     private String[] field3;
+ *
+ *     public int hashCode() {
+ *         return EQUIVALENCE.hash(this);
+ *     }
+ *
+ *     public boolean equals(Object object) {
+ *         return EQUIVALENCE.equalTo(this, object);
+ *     }
+ * }
+ * </PRE>
+ *
+ * O <code>hashCode</code> tamb&eacute;m pode ser {@link #cached(String) guardado} num atributo <tt>int</tt> do pr&oacute;prio objeto, que deixa de participar do <code>hashCode</code> e
+ * <code>equals</code>.
+ *
+ * @param <T>
+ *            O tipo dos objetos comparados por esta {@link Equivalence equival&ecirc;ncia}.
+ * @author Ricardo Artur Staroski
+ * @see Equivalence#forClass(Class)
+ */
+public final class ClassEquivalence<T> extends Equivalence<T> {
+
+    private final Class<T> type;
+    private final Equivalence<T> fields;
+    private final Field hashField; // null quando o hash n&atilde;o &eacute; guardado no objeto
+
+    ClassEquivalence(Class<T> type) {
+        this(type, null);
+    }
+
+    private ClassEquivalence(Class<T> type, Field hashField) {
+        this.type = type;
+        this.fields = hashField == null ? RecordSupport.fieldBased(type) : new FieldBasedEquivalence<T>(type, hashField);
+        this.hashField = hashField;
+    }
+
+    /**
+     * Obt&eacute;m uma {@link ClassEquivalence equival&ecirc;ncia} que guarda o <code>hashCode</code> calculado no atributo informado do pr&oacute;prio objeto, da mesma forma que a
+     * classe {@link String}.<BR>
+     * O atributo deve ser um <tt>int</tt> n&atilde;o est&aacute;tico declarado pela classe, cujo valor <code>0</code> indica que o <code>hashCode</code> ainda n&atilde;o foi calculado,
+     * e n&atilde;o participa do <code>hashCode</code> e <code>equals</code>. Como o valor guardado nunca &eacute; recalculado, os demais atributos n&atilde;o devem ser alterados
+     * ap&oacute;s o primeiro c&aacute;lculo do <code>hashCode</code>.
+     *
+     * <PRE>
+     * private static final ClassEquivalence&lt;MyClass&gt; EQUIVALENCE = Equivalence.forClass(MyClass.class).cached("hash");
+     *
+     * private transient int hash;
+     * </PRE>
+     *
+     * @param fieldName
+     *            O nome do atributo onde o <code>hashCode</code> &eacute; guardado.
+     * @return Uma {@link ClassEquivalence equival&ecirc;ncia} que guarda o <code>hashCode</code> no pr&oacute;prio objeto.
+     */
+    public ClassEquivalence<T> cached(String fieldName) {
+        if (fieldName == null) {
+            throw new IllegalArgumentException("null");
+        }
+        final Field field;
+        try {
+            field = type.getDeclaredField(fieldName);
+        } catch (NoSuchFieldException e) {
+            throw new IllegalArgumentException(type.getName() + " does not declare the field " + fieldName, e);
+        }
+        if (field.getType() != int.class || Modifier.isStatic(field.getModifiers()) || Modifier.isFinal(field.getModifiers())) {
+            throw new IllegalArgumentException(field + " is not a non static, non final int field");
+        }
+        field.setAccessible(true);
+        return new ClassEquivalence<T>(type, field);
+    }
+
+    /**
+     * Verifica se o objeto informado &eacute; equivalente a um objeto qualquer, que s&oacute; &eacute; comparado se for uma inst&acirc;ncia da classe desta {@link Equivalence
+     * equival&ecirc;ncia}.<BR>
+     * Este m&eacute;todo pode ser utilizado diretamente pelo <code>equals</code> da classe.
+     *
+     * @param object
+     *            O objeto.
+     * @param other
+     *            O objeto qualquer.
+     * @return <code>true</code> se forem equivalentes e <code>false</code> caso contr&aacute;rio.
+     */
+    public boolean equalTo(T object, Object other) {
+        if (object == other) {
+            return true;
+        }
+        if (object == null || !type.isInstance(other)) {
+            return false;
+        }
+        return equals(object, type.cast(other));
+    }
+
+    public boolean equals(T object1, T object2) {
+        if (hashField != null && object1 != object2 && type.isInstance(object1) && type.isInstance(object2)) {
+            // se os dois hashes j&aacute; foram calculados e s&atilde;o diferentes, os objetos tamb&eacute;m s&atilde;o
+            final int hash1 = storedHash(object1);
+            final int hash2 = storedHash(object2);
+            if (hash1 != 0 && hash2 != 0 && hash1 != hash2) {
+                return false;
+            }
+        }
+        return fields.equals(object1, object2);
+    }
+
+    public int hash(T object) {
+        if (hashField == null || object == null) {
+            return fields.hash(object);
+        }
+        int hash = storedHash(object);
+        if (hash == 0) {
+            hash = fields.hash(object);
+            try {
+                hashField.setInt(object, hash);
+            } catch (IllegalAccessException e) {
+                throw new SecurityException(e);
+            }
+        }
+        return hash;
+    }
+
+    private int storedHash(T object) {
+        try {
+            return hashField.getInt(object);
+        } catch (IllegalAccessException e) {
+            throw new SecurityException(e);
+        }
+    }
+}
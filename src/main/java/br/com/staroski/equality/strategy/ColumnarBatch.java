@@ -0,0 +1,398 @@
+package br.com.staroski.equality.strategy;
+
+import java.lang.reflect.Field;
+import java.util.List;
+
+import br.com.staroski.equality.EqualsUtils;
+import br.com.staroski.equality.HashCodeUtils;
+
+/**
+ * Lote de objetos de uma mesma classe cujos atributos s&atilde;o extra&iacute;dos em colunas, uma por atributo, permitindo calcular o <code>hashCode</code> e o <code>equals</code> de
+ * todo o lote de uma s&oacute; vez.<BR>
+ * <BR>
+ * Os atributos primitivos s&atilde;o extra&iacute;dos para arrays primitivos (<code>int[]</code>, <code>long[]</code>, <code>double[]</code>, etc.) e os demais para arrays de
+ * refer&ecirc;ncias, assim os c&aacute;lculos percorrem cada coluna sequencialmente, sem <I>boxing</I> e sem a leitura por reflex&atilde;o de cada objeto.<BR>
+ * Os valores calculados s&atilde;o os mesmos da {@link EqualityStrategy#fieldBased(Object) estrat&eacute;gia baseada em atributos} de cada objeto.
+ *
+ * <PRE>
+ * ColumnarBatch&lt;MyClass&gt; batch = ColumnarBatch.of(MyClass.class, list);
+ * int[] hashes = batch.hashes(new int[batch.size()]);
+ * </PRE>
+ *
+ * @param <T>
+ *            O tipo dos objetos do lote.
+ * @author Ricardo Artur Staroski
+ * @see EqualityStrategy#fieldBased(Object)
+ * @see Equivalence#fieldBased(Class)
+ */
+public final class ColumnarBatch<T> {
+
+    /**
+     * Extrai os atributos dos objetos informados em colunas.<BR>
+     * Todos os objetos devem ser inst&acirc;ncias da classe informada, e n&atilde;o de suas subclasses, pois a {@link EqualityStrategy#fieldBased(Object) estrat&eacute;gia
+     * baseada em atributos} utiliza os atributos declarados pela classe do pr&oacute;prio objeto.
+     *
+     * @param type
+     *            A classe dos objetos.
+     * @param elements
+     *            Os objetos do lote.
+     * @return O lote com os atributos dos objetos extra&iacute;dos em colunas.
+     */
+    public static <T> ColumnarBatch<T> of(Class<T> type, List<? extends T> elements) {
+        if (type == null || elements == null) {
+            throw new IllegalArgumentException("null");
+        }
+        final int size = elements.size();
+        final Object[] objects = elements.toArray();
+        if (objects.length != size) {
+            throw new IllegalStateException("concurrent modification");
+        }
+        for (Object object : objects) {
+            if (object == null) {
+                throw new IllegalArgumentException("null");
+            }
+            if (object.getClass() != type) {
+                throw new IllegalArgumentException(object.getClass().getName() + " is not " + type.getName());
+            }
+        }
+        final Field[] fields = Fields.equalityFields(type);
+        final byte[] kinds = new byte[fields.length];
+        final Object[] columns = new Object[fields.length];
+        try {
+            for (int f = 0; f < fields.length; f++) {
+                kinds[f] = Fields.kindOf(fields[f].getType());
+                columns[f] = extract(fields[f], kinds[f], objects);
+            }
+        } catch (IllegalAccessException e) {
+            throw new SecurityException(e);
+        }
+        return new ColumnarBatch<T>(type, size, kinds, columns);
+    }
+
+    // extrai a coluna de um atributo
+    private static Object extract(Field field, byte kind, Object[] objects) throws IllegalAccessException {
+        final int size = objects.length;
+        switch (kind) {
+            case Fields.BOOLEAN: {
+                final boolean[] column = new boolean[size];
+                for (int i = 0; i < size; i++) {
+                    column[i] = field.getBoolean(objects[i]);
+                }
+                return column;
+            }
+            case Fields.BYTE: {
+                final byte[] column = new byte[size];
+                for (int i = 0; i < size; i++) {
+                    column[i] = field.getByte(objects[i]);
+                }
+                return column;
+            }
+            case Fields.CHAR: {
+                final char[] column = new char[size];
+                for (int i = 0; i < size; i++) {
+                    column[i] = field.getChar(objects[i]);
+                }
+                return column;
+            }
+            case Fields.SHORT: {
+                final short[] column = new short[size];
+                for (int i = 0; i < size; i++) {
+                    column[i] = field.getShort(objects[i]);
+                }
+                return column;
+            }
+            case Fields.INT: {
+                final int[] column = new int[size];
+                for (int i = 0; i < size; i++) {
+                    column[i] = field.getInt(objects[i]);
+                }
+                return column;
+            }
+            case Fields.LONG: {
+                final long[] column = new long[size];
+                for (int i = 0; i < size; i++) {
+                    column[i] = field.getLong(objects[i]);
+                }
+                return column;
+            }
+            case Fields.FLOAT: {
+                final float[] column = new float[size];
+                for (int i = 0; i < size; i++) {
+                    column[i] = field.getFloat(objects[i]);
+                }
+                return column;
+            }
+            case Fields.DOUBLE: {
+                final double[] column = new double[size];
+                for (int i = 0; i < size; i++) {
+                    column[i] = field.getDouble(objects[i]);
+                }
+                return column;
+            }
+            default: {
+                final Object[] column = new Object[size];
+                for (int i = 0; i < size; i++) {
+                    column[i] = field.get(objects[i]);
+                }
+                return column;
+            }
+        }
+    }
+
+    private final Class<T> type;
+    private final int size;
+    private final byte[] kinds;
+    private final Object[] columns;
+
+    private ColumnarBatch(Class<T> type, int size, byte[] kinds, Object[] columns) {
+        this.type = type;
+        this.size = size;
+        this.kinds = kinds;
+        this.columns = columns;
+    }
+
+    /**
+     * Compara, posi&ccedil;&atilde;o a posi&ccedil;&atilde;o, os objetos deste lote com os objetos do lote informado, que deve ser da mesma classe e do mesmo tamanho.<BR>
+     * Cada coluna s&oacute; &eacute; comparada nas posi&ccedil;&otilde;es que ainda s&atilde;o iguais, e a compara&ccedil;&atilde;o termina assim que todas as posi&ccedil;&otilde;es forem
+     * diferentes.
+     *
+     * @param other
+     *            O outro lote.
+     * @param out
+     *            O array que recebe o resultado de cada posi&ccedil;&atilde;o, com pelo menos {@link #size()} posi&ccedil;&otilde;es.
+     * @return O pr&oacute;prio array informado, onde cada posi&ccedil;&atilde;o &eacute; <code>true</code> se os objetos desta posi&ccedil;&atilde;o forem iguais e <code>false</code>
+     *         caso contr&aacute;rio.
+     */
+    public boolean[] equalsTo(ColumnarBatch<T> other, boolean[] out) {
+        if (other == null || out == null) {
+            throw new IllegalArgumentException("null");
+        }
+        if (other.type != type || other.size != size) {
+            throw new IllegalArgumentException("batches are not aligned: " + type.getName() + "[" + size + "], " + other.type.getName() + "[" + other.size + "]");
+        }
+        checkOutput(out.length);
+        for (int i = 0; i < size; i++) {
+            out[i] = true;
+        }
+        int remaining = size;
+        for (int f = 0; f < columns.length && remaining > 0; f++) {
+            remaining -= equalColumn(kinds[f], columns[f], other.columns[f], out);
+        }
+        return out;
+    }
+
+    /**
+     * Calcula o <code>hashCode</code> de todos os objetos do lote, igual ao <code>hashCode</code> da {@link EqualityStrategy#fieldBased(Object) estrat&eacute;gia baseada em
+     * atributos} de cada objeto.
+     *
+     * @param out
+     *            O array que recebe o <code>hashCode</code> de cada objeto, com pelo menos {@link #size()} posi&ccedil;&otilde;es.
+     * @return O pr&oacute;prio array informado.
+     */
+    public int[] hashes(int[] out) {
+        if (out == null) {
+            throw new IllegalArgumentException("null");
+        }
+        checkOutput(out.length);
+        for (int i = 0; i < size; i++) {
+            out[i] = HashCodeUtils.MULTI_VALUE;
+        }
+        for (int f = 0; f < columns.length; f++) {
+            hashColumn(kinds[f], columns[f], out);
+        }
+        for (int i = 0; i < size; i++) {
+            out[i] = HashCodeUtils.hash(HashCodeUtils.SINGLE_VALUE, out[i]);
+        }
+        return out;
+    }
+
+    /**
+     * Obt&eacute;m a quantidade de objetos do lote.
+     *
+     * @return A quantidade de objetos do lote.
+     */
+    public int size() {
+        return size;
+    }
+
+    private void checkOutput(int length) {
+        if (length < size) {
+            throw new IndexOutOfBoundsException("output length: " + length + ", batch size: " + size);
+        }
+    }
+
+    // compara uma coluna nas posi&ccedil;&otilde;es ainda iguais, retorna a quantidade de posi&ccedil;&otilde;es que deixaram de ser iguais
+    private int equalColumn(byte kind, Object column1, Object column2, boolean[] out) {
+        int changed = 0;
+        switch (kind) {
+            case Fields.BOOLEAN: {
+                final boolean[] a = (boolean[]) column1;
+                final boolean[] b = (boolean[]) column2;
+                for (int i = 0; i < size; i++) {
+                    if (out[i] && !EqualsUtils.equal(a[i], b[i])) {
+                        out[i] = false;
+                        changed++;
+                    }
+                }
+                return changed;
+            }
+            case Fields.BYTE: {
+                final byte[] a = (byte[]) column1;
+                final byte[] b = (byte[]) column2;
+                for (int i = 0; i < size; i++) {
+                    if (out[i] && !EqualsUtils.equal(a[i], b[i])) {
+                        out[i] = false;
+                        changed++;
+                    }
+                }
+                return changed;
+            }
+            case Fields.CHAR: {
+                final char[] a = (char[]) column1;
+                final char[] b = (char[]) column2;
+                for (int i = 0; i < size; i++) {
+                    if (out[i] && !EqualsUtils.equal(a[i], b[i])) {
+                        out[i] = false;
+                        changed++;
+                    }
+                }
+                return changed;
+            }
+            case Fields.SHORT: {
+                final short[] a = (short[]) column1;
+                final short[] b = (short[]) column2;
+                for (int i = 0; i < size; i++) {
+                    if (out[i] && !EqualsUtils.equal(a[i], b[i])) {
+                        out[i] = false;
+                        changed++;
+                    }
+                }
+                return changed;
+            }
+            case Fields.INT: {
+                final int[] a = (int[]) column1;
+                final int[] b = (int[]) column2;
+                for (int i = 0; i < size; i++) {
+                    if (out[i] && !EqualsUtils.equal(a[i], b[i])) {
+                        out[i] = false;
+                        changed++;
+                    }
+                }
+                return changed;
+            }
+            case Fields.LONG: {
+                final long[] a = (long[]) column1;
+                final long[] b = (long[]) column2;
+                for (int i = 0; i < size; i++) {
+                    if (out[i] && !EqualsUtils.equal(a[i], b[i])) {
+                        out[i] = false;
+                        changed++;
+                    }
+                }
+                return changed;
+            }
+            case Fields.FLOAT: {
+                final float[] a = (float[]) column1;
+                final float[] b = (float[]) column2;
+                for (int i = 0; i < size; i++) {
+                    if (out[i] && !EqualsUtils.equal(a[i], b[i])) {
+                        out[i] = false;
+                        changed++;
+                    }
+                }
+                return changed;
+            }
+            case Fields.DOUBLE: {
+                final double[] a = (double[]) column1;
+                final double[] b = (double[]) column2;
+                for (int i = 0; i < size; i++) {
+                    if (out[i] && !EqualsUtils.equal(a[i], b[i])) {
+                        out[i] = false;
+                        changed++;
+                    }
+                }
+                return changed;
+            }
+            default: {
+                final Object[] a = (Object[]) column1;
+                final Object[] b = (Object[]) column2;
+                for (int i = 0; i < size; i++) {
+                    if (out[i] && !EqualsUtils.equal(a[i], b[i])) {
+                        out[i] = false;
+                        changed++;
+                    }
+                }
+                return changed;
+            }
+        }
+    }
+
+    // acumula uma coluna no hash parcial de cada posi&ccedil;&atilde;o
+    private void hashColumn(byte kind, Object column, int[] out) {
+        switch (kind) {
+            case Fields.BOOLEAN: {
+                final boolean[] values = (boolean[]) column;
+                for (int i = 0; i < size; i++) {
+                    out[i] = HashCodeUtils.hash(out[i], values[i]);
+                }
+                return;
+            }
+            case Fields.BYTE: {
+                final byte[] values = (byte[]) column;
+                for (int i = 0; i < size; i++) {
+                    out[i] = HashCodeUtils.hash(out[i], values[i]);
+                }
+                return;
+            }
+            case Fields.CHAR: {
+                final char[] values = (char[]) column;
+                for (int i = 0; i < size; i++) {
+                    out[i] = HashCodeUtils.hash(out[i], values[i]);
+                }
+                return;
+            }
+            case Fields.SHORT: {
+                final short[] values = (short[]) column;
+                for (int i = 0; i < size; i++) {
+                    out[i] = HashCodeUtils.hash(out[i], values[i]);
+                }
+                return;
+            }
+            case Fields.INT: {
+                final int[] values = (int[]) column;
+                for (int i = 0; i < size; i++) {
+                    out[i] = HashCodeUtils.hash(out[i], values[i]);
+                }
+                return;
+            }
+            case Fields.LONG: {
+                final long[] values = (long[]) column;
+                for (int i = 0; i < size; i++) {
+                    out[i] = HashCodeUtils.hash(out[i], values[i]);
+                }
+                return;
+            }
+            case Fields.FLOAT: {
+                final float[] values = (float[]) column;
+                for (int i = 0; i < size; i++) {
+                    out[i] = HashCodeUtils.hash(out[i], values[i]);
+                }
+                return;
+            }
+            case Fields.DOUBLE: {
+                final double[] values = (double[]) column;
+                for (int i = 0; i < size; i++) {
+                    out[i] = HashCodeUtils.hash(out[i], values[i]);
+                }
+                return;
+            }
+            default: {
+                final Object[] values = (Object[]) column;
+                for (int i = 0; i < size; i++) {
+                    out[i] = HashCodeUtils.hash(out[i], values[i]);
+                }
+                return;
+            }
+        }
+    }
+}
@@ -0,0 +1,390 @@
+package br.com.staroski.equality.strategy;
+
+import java.lang.reflect.Field;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.RandomAccess;
+
+import br.com.staroski.equality.EqualsUtils;
+import br.com.staroski.equality.HashCodeUtils;
+
+/**
+ * {@link Equivalence Equival&ecirc;ncia} que aplica recursivamente a sem&acirc;ntica da {@link Equivalence#fieldBased(Class) equival&ecirc;ncia baseada em atributos} a todo o grafo de
+ * objetos, sem depender do <code>equals</code> de cada objeto do grafo.<BR>
+ * <BR>
+ * Os grafos s&atilde;o percorridos com uma pilha expl&iacute;cita, portanto grafos profundos n&atilde;o causam {@link StackOverflowError}, e cada par de objetos j&aacute; visitado
+ * &eacute; lembrado pela sua identidade, assim ciclos e refer&ecirc;ncias compartilhadas s&atilde;o comparados uma &uacute;nica vez. Os atributos de cada classe s&atilde;o obtidos uma
+ * &uacute;nica vez.<BR>
+ * <BR>
+ * A recurs&atilde;o termina nos <I>tipos de fronteira</I>, comparados atrav&eacute;s do m&eacute;todo {@link EqualsUtils#equal(Object, Object)}: os tipos do pacote <code>java</code> e
+ * <code>javax</code>, os enums e os tipos {@link #withBoundaries(Class...) informados}. As {@link List listas} e os {@link Map mapas} do JDK s&atilde;o exce&ccedil;&otilde;es: os
+ * elementos das listas e os valores dos mapas, obtidos pelas chaves, continuam sendo comparados recursivamente.<BR>
+ * <BR>
+ * O <code>hashCode</code> percorre o grafo em largura, limitado a uma quantidade fixa de objetos, sem descartar os objetos j&aacute; visitados, assim grafos equivalentes, mesmo com
+ * formas diferentes de compartilhamento, possuem o mesmo <code>hashCode</code>.
+ *
+ * <PRE>
+ * Equivalence&lt;Object&gt; equivalence = Equivalence.deep().withBoundaries(Money.class);
+ * boolean same = equivalence.equals(order1, order2);
+ * </PRE>
+ *
+ * @author Ricardo Artur Staroski
+ * @see Equivalence#deep()
+ */
+public final class DeepEquivalence extends Equivalence<Object> {
+
+    static final DeepEquivalence DEFAULT = new DeepEquivalence(new Class<?>[0]);
+
+    // quantidade m&aacute;xima de objetos percorridos pelo hashCode
+    private static final int HASH_NODES = 64;
+
+    // formas de comparar os objetos de uma classe
+    private static final byte BOUNDARY = 0;
+    private static final byte PRIMITIVE_ARRAY = 1;
+    private static final byte OBJECT_ARRAY = 2;
+    private static final byte LIST = 3;
+    private static final byte MAP = 4;
+    private static final byte FIELDS = 5;
+
+    // metadados de uma classe
+    private static final class Metadata {
+
+        final byte shape;
+        final Field[] fields;
+        final byte[] kinds;
+
+        Metadata(byte shape, Field[] fields) {
+            this.shape = shape;
+            this.fields = fields;
+            this.kinds = new byte[fields.length];
+            for (int i = 0; i < fields.length; i++) {
+                kinds[i] = Fields.kindOf(fields[i].getType());
+            }
+        }
+    }
+
+    // conjunto de pares de objetos comparados pela identidade, com endere&ccedil;amento aberto
+    private static final class IdentityPairSet {
+
+        private Object[] pairs = new Object[64];
+        private int size;
+
+        // adiciona o par, retorna false se ele j&aacute; existia
+        boolean add(Object a, Object b) {
+            if (size >= pairs.length >>> 2) {
+                resize();
+            }
+            return insert(pairs, a, b);
+        }
+
+        private boolean insert(Object[] pairs, Object a, Object b) {
+            final int mask = (pairs.length >>> 1) - 1;
+            int index = (System.identityHashCode(a) * 31 + System.identityHashCode(b)) * 0x9E3779B9 >>> 1 & mask;
+            for (;;) {
+                final Object key = pairs[index << 1];
+                if (key == null) {
+                    pairs[index << 1] = a;
+                    pairs[(index << 1) + 1] = b;
+                    if (pairs == this.pairs) {
+                        size++;
+                    }
+                    return true;
+                }
+                if (key == a && pairs[(index << 1) + 1] == b) {
+                    return false;
+                }
+                index = (index + 1) & mask;
+            }
+        }
+
+        private void resize() {
+            final Object[] old = pairs;
+            pairs = new Object[old.length << 1];
+            size = 0;
+            for (int i = 0; i < old.length; i += 2) {
+                if (old[i] != null) {
+                    insert(pairs, old[i], old[i + 1]);
+                }
+            }
+        }
+    }
+
+    private final Class<?>[] boundaries;
+
+    private final ClassValue<Metadata> metadata = new ClassValue<Metadata>() {
+
+        protected Metadata computeValue(Class<?> type) {
+            return metadataOf(type);
+        }
+    };
+
+    private DeepEquivalence(Class<?>[] boundaries) {
+        this.boundaries = boundaries;
+    }
+
+    public boolean equals(Object object1, Object object2) {
+        if (object1 == object2) {
+            return true;
+        }
+        try {
+            final IdentityPairSet visited = new IdentityPairSet();
+            Object[] stack = new Object[32];
+            int top = 0;
+            stack[top++] = object1;
+            stack[top++] = object2;
+            while (top > 0) {
+                final Object b = stack[--top];
+                final Object a = stack[--top];
+                stack[top] = stack[top + 1] = null;
+                if (a == b) {
+                    continue;
+                }
+                if (a == null || b == null) {
+                    return false;
+                }
+                final Metadata meta = metadata.get(a.getClass());
+                if (meta.shape == BOUNDARY) {
+                    if (!EqualsUtils.equal(a, b)) {
+                        return false;
+                    }
+                    continue;
+                }
+                if (meta.shape == LIST || meta.shape == MAP) {
+                    if (metadata.get(b.getClass()).shape != meta.shape) {
+                        return false;
+                    }
+                } else if (a.getClass() != b.getClass()) {
+                    return false;
+                }
+                // ciclos e refer&ecirc;ncias compartilhadas: um par j&aacute; visitado &eacute; considerado igual
+                if (!visited.add(a, b)) {
+                    continue;
+                }
+                switch (meta.shape) {
+                    case PRIMITIVE_ARRAY:
+                        if (!EqualsUtils.equal(a, b)) {
+                            return false;
+                        }
+                        break;
+                    case OBJECT_ARRAY: {
+                        final Object[] array1 = (Object[]) a;
+                        final Object[] array2 = (Object[]) b;
+                        if (array1.length != array2.length) {
+                            return false;
+                        }
+                        for (int i = array1.length - 1; i >= 0; i--) {
+                            stack = push(stack, top, array1[i], array2[i]);
+                            top += 2;
+                        }
+                        break;
+                    }
+                    case LIST: {
+                        final List<?> list1 = (List<?>) a;
+                        final List<?> list2 = (List<?>) b;
+                        final int size = list1.size();
+                        if (list2.size() != size) {
+                            return false;
+                        }
+                        if (list1 instanceof RandomAccess && list2 instanceof RandomAccess) {
+                            for (int i = size - 1; i >= 0; i--) {
+                                stack = push(stack, top, list1.get(i), list2.get(i));
+                                top += 2;
+                            }
+                        } else {
+                            final Iterator<?> iterator1 = list1.iterator();
+                            final Iterator<?> iterator2 = list2.iterator();
+                            while (iterator1.hasNext()) {
+                                stack = push(stack, top, iterator1.next(), iterator2.next());
+                                top += 2;
+                            }
+                        }
+                        break;
+                    }
+                    case MAP: {
+                        final Map<?, ?> map1 = (Map<?, ?>) a;
+                        final Map<?, ?> map2 = (Map<?, ?>) b;
+                        if (map1.size() != map2.size()) {
+                            return false;
+                        }
+                        for (Map.Entry<?, ?> entry : map1.entrySet()) {
+                            final Object value2 = map2.get(entry.getKey());
+                            if (value2 == null && !map2.containsKey(entry.getKey())) {
+                                return false;
+                            }
+                            stack = push(stack, top, entry.getValue(), value2);
+                            top += 2;
+                        }
+                        break;
+                    }
+                    default: {
+                        final Field[] fields = meta.fields;
+                        final byte[] kinds = meta.kinds;
+                        // os atributos primitivos s&atilde;o comparados imediatamente, os demais s&atilde;o empilhados
+                        for (int i = fields.length - 1; i >= 0; i--) {
+                            if (kinds[i] != Fields.OBJECT) {
+                                if (!FieldBasedEquivalence.equalField(fields[i], kinds[i], a, b)) {
+                                    return false;
+                                }
+                            } else {
+                                stack = push(stack, top, fields[i].get(a), fields[i].get(b));
+                                top += 2;
+                            }
+                        }
+                    }
+                }
+            }
+            return true;
+        } catch (IllegalAccessException e) {
+            throw new SecurityException(e);
+        }
+    }
+
+    public int hash(Object object) {
+        if (object == null) {
+            return HashCodeUtils.hash(HashCodeUtils.SINGLE_VALUE, 0);
+        }
+        try {
+            Object[] queue = new Object[HASH_NODES];
+            int head = 0;
+            int tail = 0;
+            queue[tail++] = object;
+            int hash = HashCodeUtils.MULTI_VALUE;
+            int nodes = 0;
+            while (head < tail && nodes < HASH_NODES) {
+                final Object node = queue[head];
+                queue[head++] = null;
+                nodes++;
+                if (node == null) {
+                    hash = HashCodeUtils.hash(hash, 0);
+                    continue;
+                }
+                final Metadata meta = metadata.get(node.getClass());
+                switch (meta.shape) {
+                    case BOUNDARY:
+                    case PRIMITIVE_ARRAY:
+                        hash = HashCodeUtils.hash(hash, node);
+                        break;
+                    case OBJECT_ARRAY: {
+                        final Object[] array = (Object[]) node;
+                        hash = HashCodeUtils.hash(hash, array.length);
+                        for (Object element : array) {
+                            queue = enqueue(queue, tail++, element);
+                        }
+                        break;
+                    }
+                    case LIST: {
+                        final List<?> list = (List<?>) node;
+                        hash = HashCodeUtils.hash(hash, list.size());
+                        for (Object element : list) {
+                            queue = enqueue(queue, tail++, element);
+                        }
+                        break;
+                    }
+                    case MAP: {
+                        // independente da ordem: somente o tamanho e a soma dos hashes das chaves
+                        final Map<?, ?> map = (Map<?, ?>) node;
+                        int keys = 0;
+                        for (Object key : map.keySet()) {
+                            keys += HashCodeUtils.hash(HashCodeUtils.SINGLE_VALUE, key);
+                        }
+                        hash = HashCodeUtils.hash(HashCodeUtils.hash(hash, map.size()), keys);
+                        break;
+                    }
+                    default: {
+                        final Field[] fields = meta.fields;
+                        final byte[] kinds = meta.kinds;
+                        for (int i = 0; i < fields.length; i++) {
+                            if (kinds[i] != Fields.OBJECT) {
+                                hash = FieldBasedEquivalence.hashField(hash, fields[i], kinds[i], node);
+                            } else {
+                                queue = enqueue(queue, tail++, fields[i].get(node));
+                            }
+                        }
+                    }
+                }
+                // s&oacute; os objetos que ainda podem ser percorridos s&atilde;o mantidos na fila
+                if (tail - head > HASH_NODES - nodes) {
+                    tail = head + HASH_NODES - nodes;
+                }
+            }
+            return HashCodeUtils.hash(HashCodeUtils.SINGLE_VALUE, hash);
+        } catch (IllegalAccessException e) {
+            throw new SecurityException(e);
+        }
+    }
+
+    /**
+     * Obt&eacute;m uma {@link DeepEquivalence equival&ecirc;ncia} que tamb&eacute;m termina a recurs&atilde;o nos tipos informados, e em seus subtipos, comparando-os atrav&eacute;s do
+     * m&eacute;todo {@link EqualsUtils#equal(Object, Object)}.
+     *
+     * @param types
+     *            Os tipos de fronteira adicionais.
+     * @return Uma nova {@link DeepEquivalence equival&ecirc;ncia} com os tipos de fronteira informados.
+     */
+    public DeepEquivalence withBoundaries(Class<?>... types) {
+        if (types == null) {
+            throw new IllegalArgumentException("null");
+        }
+        for (Class<?> type : types) {
+            if (type == null) {
+                throw new IllegalArgumentException("null");
+            }
+        }
+        final Class<?>[] boundaries = Arrays.copyOf(this.boundaries, this.boundaries.length + types.length);
+        System.arraycopy(types, 0, boundaries, this.boundaries.length, types.length);
+        return new DeepEquivalence(boundaries);
+    }
+
+    private static Object[] enqueue(Object[] queue, int index, Object object) {
+        if (index == queue.length) {
+            queue = Arrays.copyOf(queue, index << 1);
+        }
+        queue[index] = object;
+        return queue;
+    }
+
+    private static Object[] push(Object[] stack, int top, Object a, Object b) {
+        if (top + 2 > stack.length) {
+            stack = Arrays.copyOf(stack, stack.length << 1);
+        }
+        stack[top] = a;
+        stack[top + 1] = b;
+        return stack;
+    }
+
+    private boolean isBoundary(Class<?> type) {
+        if (type.isPrimitive() || type.isEnum() || Enum.class.isAssignableFrom(type)) {
+            return true;
+        }
+        final String name = type.getName();
+        if (name.startsWith("java.") || name.startsWith("javax.")) {
+            return true;
+        }
+        for (Class<?> boundary : boundaries) {
+            if (boundary.isAssignableFrom(type)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private Metadata metadataOf(Class<?> type) {
+        if (type.isArray()) {
+            return new Metadata(type.getComponentType().isPrimitive() ? PRIMITIVE_ARRAY : OBJECT_ARRAY, new Field[0]);
+        }
+        if (isBoundary(type)) {
+            if (type.getName().startsWith("java.util.")) {
+                if (List.class.isAssignableFrom(type)) {
+                    return new Metadata(LIST, new Field[0]);
+                }
+                if (Map.class.isAssignableFrom(type)) {
+                    return new Metadata(MAP, new Field[0]);
+                }
+            }
+            return new Metadata(BOUNDARY, new Field[0]);
+        }
+        return new Metadata(FIELDS, Fields.equalityFields(type));
+    }
+}
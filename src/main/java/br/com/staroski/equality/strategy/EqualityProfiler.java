@@ -0,0 +1,518 @@
+package br.com.staroski.equality.strategy;
+
+import java.io.PrintStream;
+import java.lang.ref.WeakReference;
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import br.com.staroski.equality.EqualsUtils;
+import br.com.staroski.equality.HashCodeUtils;
+
+/**
+ * Profiler por amostragem do custo de cada atributo no <code>hashCode</code> e <code>equals</code> das {@link EqualityStrategy estrat&eacute;gias}
+ * {@link EqualityStrategy#fieldBased(Object) baseadas em atributos} e {@link EqualityStrategy#valueBased(ValueSupplier) baseadas em valores}.<BR>
+ * <BR>
+ * Enquanto estiver {@link #enable(int) habilitado}, em m&eacute;dia uma a cada <I>n</I> chamadas de <code>hashCode</code> ou <code>equals</code>, sorteada, &eacute; medida,
+ * registrando para cada atributo de cada classe o tempo de leitura, o tempo de compara&ccedil;&atilde;o, o tempo de <I>hash</I>, a frequ&ecirc;ncia de valores diferentes e a
+ * frequ&ecirc;ncia de valores nulos. Nas
+ * {@link EqualityStrategy#valueBased(ValueSupplier) estrat&eacute;gias baseadas em valores} o tempo de leitura &eacute; o da chamada do m&eacute;todo {@link ValueSupplier#values()},
+ * registrado no atributo <code>values()</code>, e cada valor &eacute; registrado pela sua posi&ccedil;&atilde;o, como <code>value[0]</code>, <code>value[1]</code>, etc.<BR>
+ * As chamadas amostradas comparam todos os atributos, sem parar no primeiro diferente, mas o resultado &eacute; sempre o mesmo das chamadas n&atilde;o amostradas.<BR>
+ * <BR>
+ * As {@link #statistics() estat&iacute;sticas} s&atilde;o ordenadas pelo tempo total, do atributo mais caro para o mais barato, e podem ser {@link #report() formatadas} ou
+ * {@link #startDump(long, TimeUnit, PrintStream) impressas periodicamente}.
+ *
+ * <PRE>
+ * EqualityProfiler.enable(100);
+ * EqualityProfiler.startDump(1, TimeUnit.MINUTES, System.out);
+ * </PRE>
+ *
+ * @author Ricardo Artur Staroski
+ */
+public final class EqualityProfiler {
+
+    /**
+     * Estat&iacute;sticas de um atributo de uma classe, obtidas atrav&eacute;s do m&eacute;todo {@link EqualityProfiler#statistics()}.
+     *
+     * @author Ricardo Artur Staroski
+     */
+    public static final class FieldStatistics {
+
+        private final Class<?> type;
+        private final String name;
+        private final long samples;
+        private final long comparisons;
+        private final long readNanos;
+        private final long compareNanos;
+        private final long hashNanos;
+        private final long mismatches;
+        private final long nulls;
+
+        private FieldStatistics(Class<?> type, String name, long samples, long comparisons, long readNanos, long compareNanos, long hashNanos, long mismatches,
+                long nulls) {
+            this.type = type;
+            this.name = name;
+            this.samples = samples;
+            this.comparisons = comparisons;
+            this.readNanos = readNanos;
+            this.compareNanos = compareNanos;
+            this.hashNanos = hashNanos;
+            this.mismatches = mismatches;
+            this.nulls = nulls;
+        }
+
+        /**
+         * Obt&eacute;m a quantidade de chamadas de <code>equals</code> amostradas.
+         *
+         * @return A quantidade de compara&ccedil;&otilde;es amostradas.
+         */
+        public long comparisons() {
+            return comparisons;
+        }
+
+        /**
+         * Obt&eacute;m o tempo total, em nanossegundos, gasto para comparar o atributo nas chamadas amostradas.
+         *
+         * @return O tempo total de compara&ccedil;&atilde;o.
+         */
+        public long compareNanos() {
+            return compareNanos;
+        }
+
+        /**
+         * Obt&eacute;m o tempo total, em nanossegundos, gasto para calcular o <I>hash</I> do atributo nas chamadas amostradas.
+         *
+         * @return O tempo total de <I>hash</I>.
+         */
+        public long hashNanos() {
+            return hashNanos;
+        }
+
+        /**
+         * Obt&eacute;m a quantidade de compara&ccedil;&otilde;es amostradas em que o atributo era diferente.
+         *
+         * @return A quantidade de valores diferentes.
+         */
+        public long mismatches() {
+            return mismatches;
+        }
+
+        /**
+         * Obt&eacute;m a propor&ccedil;&atilde;o, entre <code>0</code> e <code>1</code>, das compara&ccedil;&otilde;es amostradas em que o atributo era diferente.
+         *
+         * @return A frequ&ecirc;ncia de valores diferentes.
+         */
+        public double mismatchRate() {
+            return comparisons == 0 ? 0 : (double) mismatches / comparisons;
+        }
+
+        /**
+         * Obt&eacute;m o nome do atributo.
+         *
+         * @return O nome do atributo.
+         */
+        public String name() {
+            return name;
+        }
+
+        /**
+         * Obt&eacute;m a quantidade de valores nulos lidos nas chamadas amostradas.
+         *
+         * @return A quantidade de valores nulos.
+         */
+        public long nulls() {
+            return nulls;
+        }
+
+        /**
+         * Obt&eacute;m a propor&ccedil;&atilde;o, entre <code>0</code> e <code>1</code>, das amostras em que o atributo era nulo.
+         *
+         * @return A frequ&ecirc;ncia de valores nulos.
+         */
+        public double nullRate() {
+            return samples == 0 ? 0 : (double) nulls / samples;
+        }
+
+        /**
+         * Obt&eacute;m o tempo total, em nanossegundos, gasto para ler o atributo nas chamadas amostradas.
+         *
+         * @return O tempo total de leitura.
+         */
+        public long readNanos() {
+            return readNanos;
+        }
+
+        /**
+         * Obt&eacute;m a quantidade de chamadas de <code>hashCode</code> e <code>equals</code> amostradas.
+         *
+         * @return A quantidade de amostras.
+         */
+        public long samples() {
+            return samples;
+        }
+
+        public String toString() {
+            return String.format(Locale.ROOT, "%s.%s: samples=%d, read=%dns, compare=%dns, hash=%dns, mismatches=%.1f%%, nulls=%.1f%%", type.getName(), name, samples,
+                    readNanos, compareNanos, hashNanos, mismatchRate() * 100, nullRate() * 100);
+        }
+
+        /**
+         * Obt&eacute;m o tempo total, em nanossegundos, gasto com o atributo nas chamadas amostradas.
+         *
+         * @return O tempo total.
+         */
+        public long totalNanos() {
+            return readNanos + compareNanos + hashNanos;
+        }
+
+        /**
+         * Obt&eacute;m a classe que declara o atributo.
+         *
+         * @return A classe do atributo.
+         */
+        public Class<?> type() {
+            return type;
+        }
+    }
+
+    // estat&iacute;sticas de uma classe, protegidas pelo seu monitor; a classe &eacute; referenciada fracamente para n&atilde;o impedir que ela e o seu classloader sejam
+    // descarregados
+    private static final class ClassProfile {
+
+        private final WeakReference<Class<?>> type;
+        String[] names = new String[0];
+        long[] samples = new long[0];
+        long[] comparisons = new long[0];
+        long[] readNanos = new long[0];
+        long[] compareNanos = new long[0];
+        long[] hashNanos = new long[0];
+        long[] mismatches = new long[0];
+        long[] nulls = new long[0];
+
+        ClassProfile(Class<?> type) {
+            this.type = new WeakReference<Class<?>>(type);
+        }
+
+        // garante que existam as posi&ccedil;&otilde;es dos atributos informados
+        void ensure(String[] names) {
+            if (this.names.length < names.length) {
+                final int length = names.length;
+                this.names = names.clone();
+                samples = Arrays.copyOf(samples, length);
+                comparisons = Arrays.copyOf(comparisons, length);
+                readNanos = Arrays.copyOf(readNanos, length);
+                compareNanos = Arrays.copyOf(compareNanos, length);
+                hashNanos = Arrays.copyOf(hashNanos, length);
+                mismatches = Arrays.copyOf(mismatches, length);
+                nulls = Arrays.copyOf(nulls, length);
+            }
+        }
+
+        // obt&eacute;m a classe, ou null se ela j&aacute; foi descarregada
+        Class<?> type() {
+            return type.get();
+        }
+    }
+
+    private static final ClassValue<ClassProfile> PROFILES = new ClassValue<ClassProfile>() {
+
+        protected ClassProfile computeValue(Class<?> type) {
+            final ClassProfile profile = new ClassProfile(type);
+            REGISTERED.add(profile);
+            return profile;
+        }
+    };
+
+    // todos os perfis criados, para as estat&iacute;sticas que percorrem todas as classes
+    private static final Set<ClassProfile> REGISTERED = Collections.newSetFromMap(new ConcurrentHashMap<ClassProfile, Boolean>());
+
+    private static final String VALUES = "values()";
+
+    private static volatile boolean enabled;
+    private static volatile int interval = 1;
+
+    private static ScheduledExecutorService dumper;
+
+    /**
+     * Desabilita o profiler, mantendo as estat&iacute;sticas j&aacute; coletadas.
+     */
+    public static void disable() {
+        enabled = false;
+    }
+
+    /**
+     * Habilita o profiler.
+     *
+     * @param sampleInterval
+     *            A cada quantas chamadas de <code>hashCode</code> ou <code>equals</code>, em m&eacute;dia, uma chamada &eacute; amostrada; <code>1</code> amostra todas as chamadas.
+     */
+    public static void enable(int sampleInterval) {
+        if (sampleInterval <= 0) {
+            throw new IllegalArgumentException("sampleInterval: " + sampleInterval);
+        }
+        interval = sampleInterval;
+        enabled = true;
+    }
+
+    /**
+     * Verifica se o profiler est&aacute; habilitado.
+     *
+     * @return <code>true</code> se estiver habilitado e <code>false</code> caso contr&aacute;rio.
+     */
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Formata as {@link #statistics() estat&iacute;sticas} coletadas, uma linha por atributo, do mais caro para o mais barato.
+     *
+     * @return As estat&iacute;sticas formatadas.
+     */
+    public static String report() {
+        final StringBuilder report = new StringBuilder();
+        for (FieldStatistics statistics : statistics()) {
+            report.append(statistics).append(System.lineSeparator());
+        }
+        return report.toString();
+    }
+
+    /**
+     * Descarta as estat&iacute;sticas coletadas.
+     */
+    public static void reset() {
+        for (Iterator<ClassProfile> iterator = REGISTERED.iterator(); iterator.hasNext();) {
+            final Class<?> type = iterator.next().type();
+            if (type != null) {
+                PROFILES.remove(type);
+            }
+            iterator.remove();
+        }
+    }
+
+    /**
+     * Inicia a impress&atilde;o peri&oacute;dica do {@link #report() relat&oacute;rio}, numa <I>thread daemon</I>, substituindo uma impress&atilde;o peri&oacute;dica anterior.
+     *
+     * @param period
+     *            O intervalo entre as impress&otilde;es.
+     * @param unit
+     *            A unidade do intervalo.
+     * @param out
+     *            Onde o relat&oacute;rio &eacute; impresso.
+     */
+    public static synchronized void startDump(long period, TimeUnit unit, final PrintStream out) {
+        if (unit == null || out == null) {
+            throw new IllegalArgumentException("null");
+        }
+        if (period <= 0) {
+            throw new IllegalArgumentException("period: " + period);
+        }
+        stopDump();
+        dumper = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            final Thread thread = new Thread(runnable, "EqualityProfiler");
+            thread.setDaemon(true);
+            return thread;
+        });
+        dumper.scheduleAtFixedRate(() -> out.print(report()), period, period, unit);
+    }
+
+    /**
+     * Obt&eacute;m as estat&iacute;sticas de cada atributo amostrado, ordenadas pelo {@link FieldStatistics#totalNanos() tempo total}, do atributo mais caro para o mais barato.
+     *
+     * @return As estat&iacute;sticas dos atributos.
+     */
+    public static List<FieldStatistics> statistics() {
+        final List<FieldStatistics> statistics = new ArrayList<FieldStatistics>();
+        for (Iterator<ClassProfile> iterator = REGISTERED.iterator(); iterator.hasNext();) {
+            final ClassProfile profile = iterator.next();
+            final Class<?> type = profile.type();
+            if (type == null) {
+                iterator.remove();
+                continue;
+            }
+            synchronized (profile) {
+                for (int i = 0; i < profile.names.length; i++) {
+                    statistics.add(new FieldStatistics(type, profile.names[i], profile.samples[i], profile.comparisons[i], profile.readNanos[i], profile.compareNanos[i],
+                            profile.hashNanos[i], profile.mismatches[i], profile.nulls[i]));
+                }
+            }
+        }
+        Collections.sort(statistics, new Comparator<FieldStatistics>() {
+
+            public int compare(FieldStatistics statistics1, FieldStatistics statistics2) {
+                return Long.compare(statistics2.totalNanos(), statistics1.totalNanos());
+            }
+        });
+        return statistics;
+    }
+
+    /**
+     * Interrompe a impress&atilde;o peri&oacute;dica do {@link #report() relat&oacute;rio}.
+     */
+    public static synchronized void stopDump() {
+        if (dumper != null) {
+            dumper.shutdownNow();
+            dumper = null;
+        }
+    }
+
+    // compara os atributos medindo cada um, com o mesmo resultado do FieldBased
+    static boolean equalFields(Field[] fields, Object object1, Object object2) throws IllegalAccessException {
+        final int length = fields.length;
+        final long[] read = new long[length];
+        final long[] compare = new long[length];
+        final boolean[] mismatch = new boolean[length];
+        final boolean[] isNull = new boolean[length];
+        boolean result = true;
+        for (int i = 0; i < length; i++) {
+            long start = System.nanoTime();
+            final Object value1 = fields[i].get(object1);
+            final Object value2 = fields[i].get(object2);
+            read[i] = System.nanoTime() - start;
+            start = System.nanoTime();
+            mismatch[i] = !EqualsUtils.equal(value1, value2);
+            compare[i] = System.nanoTime() - start;
+            isNull[i] = value1 == null || value2 == null;
+            result &= !mismatch[i];
+        }
+        record(object1.getClass(), namesOf(fields), read, compare, null, mismatch, isNull);
+        return result;
+    }
+
+    // compara os valores medindo cada um, com o mesmo resultado do ValueBased
+    static boolean equalValues(ValueSupplier supplier1, ValueSupplier supplier2) {
+        long start = System.nanoTime();
+        final Object[] values1 = supplier1.values();
+        final Object[] values2 = supplier2.values();
+        final long elapsed = System.nanoTime() - start;
+        if (values1 == null || values2 == null || values1.length != values2.length) {
+            return EqualsUtils.equal(values1, values2);
+        }
+        final int length = values1.length;
+        final long[] read = new long[length + 1];
+        final long[] compare = new long[length + 1];
+        final boolean[] mismatch = new boolean[length + 1];
+        final boolean[] isNull = new boolean[length + 1];
+        read[0] = elapsed;
+        boolean result = true;
+        for (int i = 0; i < length; i++) {
+            start = System.nanoTime();
+            mismatch[i + 1] = !EqualsUtils.equal(values1[i], values2[i]);
+            compare[i + 1] = System.nanoTime() - start;
+            isNull[i + 1] = values1[i] == null || values2[i] == null;
+            result &= !mismatch[i + 1];
+        }
+        record(supplier1.getClass(), valueNames(length), read, compare, null, mismatch, isNull);
+        return result;
+    }
+
+    // calcula o hash dos atributos medindo cada um, com o mesmo resultado do FieldBased
+    static int hashFields(Field[] fields, Object object) throws IllegalAccessException {
+        final int length = fields.length;
+        final long[] read = new long[length];
+        final long[] hashing = new long[length];
+        final boolean[] isNull = new boolean[length];
+        int hash = HashCodeUtils.MULTI_VALUE;
+        for (int i = 0; i < length; i++) {
+            long start = System.nanoTime();
+            final Object value = fields[i].get(object);
+            read[i] = System.nanoTime() - start;
+            start = System.nanoTime();
+            hash = HashCodeUtils.hash(hash, value);
+            hashing[i] = System.nanoTime() - start;
+            isNull[i] = value == null;
+        }
+        record(object.getClass(), namesOf(fields), read, null, hashing, null, isNull);
+        return HashCodeUtils.hash(HashCodeUtils.SINGLE_VALUE, hash);
+    }
+
+    // calcula o hash dos valores medindo cada um, com o mesmo resultado do ValueBased
+    static int hashValues(ValueSupplier supplier) {
+        long start = System.nanoTime();
+        final Object[] values = supplier.values();
+        final long elapsed = System.nanoTime() - start;
+        if (values == null) {
+            return HashCodeUtils.hash(HashCodeUtils.SINGLE_VALUE, values);
+        }
+        final int length = values.length;
+        final long[] read = new long[length + 1];
+        final long[] hashing = new long[length + 1];
+        final boolean[] isNull = new boolean[length + 1];
+        read[0] = elapsed;
+        int hash = HashCodeUtils.MULTI_VALUE;
+        for (int i = 0; i < length; i++) {
+            start = System.nanoTime();
+            hash = HashCodeUtils.hash(hash, values[i]);
+            hashing[i + 1] = System.nanoTime() - start;
+            isNull[i + 1] = values[i] == null;
+        }
+        record(supplier.getClass(), valueNames(length), read, null, hashing, null, isNull);
+        return HashCodeUtils.hash(HashCodeUtils.SINGLE_VALUE, hash);
+    }
+
+    // decide se a chamada atual deve ser amostrada, sorteando uma a cada interval chamadas sem estado compartilhado entre as threads
+    static boolean sample() {
+        if (!enabled) {
+            return false;
+        }
+        final int interval = EqualityProfiler.interval;
+        return interval == 1 || ThreadLocalRandom.current().nextInt(interval) == 0;
+    }
+
+    private static String[] namesOf(Field[] fields) {
+        final String[] names = new String[fields.length];
+        for (int i = 0; i < fields.length; i++) {
+            names[i] = fields[i].getName();
+        }
+        return names;
+    }
+
+    private static void record(Class<?> type, String[] names, long[] read, long[] compare, long[] hashing, boolean[] mismatch, boolean[] isNull) {
+        final ClassProfile profile = PROFILES.get(type);
+        synchronized (profile) {
+            profile.ensure(names);
+            for (int i = 0; i < names.length; i++) {
+                profile.samples[i]++;
+                profile.readNanos[i] += read[i];
+                if (compare != null) {
+                    profile.comparisons[i]++;
+                    profile.compareNanos[i] += compare[i];
+                }
+                if (hashing != null) {
+                    profile.hashNanos[i] += hashing[i];
+                }
+                if (mismatch != null && mismatch[i]) {
+                    profile.mismatches[i]++;
+                }
+                if (isNull[i]) {
+                    profile.nulls[i]++;
+                }
+            }
+        }
+    }
+
+    private static String[] valueNames(int length) {
+        final String[] names = new String[length + 1];
+        names[0] = VALUES;
+        for (int i = 0; i < length; i++) {
+            names[i + 1] = "value[" + i + "]";
+        }
+        return names;
+    }
+
+    // Construtor privado, classe utilit&aacute;ria n&atilde;o-instanciavel
+    private EqualityProfiler() {
+        throw new UnsupportedOperationException(getClass().getName() + " can not be instantiated");
+    }
+}
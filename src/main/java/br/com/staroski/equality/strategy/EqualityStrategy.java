@@ -68,6 +68,7 @@ package br.com.staroski.equality.strategy;
  * <BR>
  * Instancias desta classe possuem dois m&eacute;todos especiais: um para criar uma {@link EqualityStrategy estrat&eacute;gia} que mant&eacute;m um {@link #cached() cache} do <code>hashCode</code> da
  * {@link EqualityStrategy estrat&eacute;gia} original e outro m&eacute;todo para restaurar a {@link EqualityStrategy estrat&eacute;gia} original, isto &eacute;, {@link #uncached() sem o cache}.
+ * O cache tamb&eacute;m pode ser {@link #autoCached() autom&aacute;tico}, mantido somente para as classes em que compensa.
  * 
  * @author Ricardo Artur Staroski
  * @see
@@ -75,6 +76,34 @@ package br.com.staroski.equality.strategy;
  */
 public abstract class EqualityStrategy {
 
+    /**
+     * Obt&eacute;m uma {@link EqualityStrategy estrat&eacute;gia de equival&ecirc;ncia} que calcula o <code>hashCode</code> e <code>equals</code> com base nos atributos declarados pelo objeto passado
+     * por parametro, comparando-os na ordem definida pela {@link Equivalence#adaptive(Class) equival&ecirc;ncia adaptativa} da classe do objeto.
+     * 
+     * @param object
+     *            O objeto para o qual se deseja criar a {@link EqualityStrategy estrat&eacute;gia de equival&ecirc;ncia}.
+     * @return Uma {@link EqualityStrategy estrat&eacute;gia de equival&ecirc;ncia} que calcula o <code>hashCode</code> e <code>equals</code> com base nos atributos do objeto.
+     */
+    @SuppressWarnings("unchecked")
+    public static EqualityStrategy adaptive(Object object) {
+        if (object == null) {
+            throw new IllegalArgumentException("null");
+        }
+        return new EquivalenceBased<Object>(object, (Equivalence<Object>) Equivalence.adaptive(object.getClass()));
+    }
+
+    /**
+     * Obt&eacute;m uma {@link EqualityStrategy estrat&eacute;gia de equival&ecirc;ncia} que calcula o <code>hashCode</code> e <code>equals</code> com base nos atributos declarados pelo objeto passado
+     * por parametro e, recursivamente, nos atributos dos objetos referenciados, conforme a {@link Equivalence#deep() equival&ecirc;ncia de grafos}.
+     * 
+     * @param object
+     *            O objeto para o qual se deseja criar a {@link EqualityStrategy estrat&eacute;gia de equival&ecirc;ncia}.
+     * @return Uma {@link EqualityStrategy estrat&eacute;gia de equival&ecirc;ncia} que calcula o <code>hashCode</code> e <code>equals</code> com base no grafo de objetos.
+     */
+    public static EqualityStrategy deep(Object object) {
+        return new EquivalenceBased<Object>(object, DeepEquivalence.DEFAULT);
+    }
+
     /**
      * Obt&eacute;m uma {@link EqualityStrategy estrat&eacute;gia de equival&ecirc;ncia} que calcula o <code>hashCode</code> e <code>equals</code> com base nos atributos declarados pelo objeto passado
      * por parametro.
@@ -87,6 +116,56 @@ public abstract class EqualityStrategy {
         return new FieldBased(object);
     }
 
+    /**
+     * Obt&eacute;m uma {@link EqualityStrategy estrat&eacute;gia de equival&ecirc;ncia} que calcula o <code>hashCode</code> e <code>equals</code> baseado nos {@link LazyValueSupplier valores}
+     * informados, sem cache dos valores.
+     * 
+     * @param supplier
+     *            O {@link LazyValueSupplier fornecedor de valores} para o qual se deseja criar a {@link EqualityStrategy estrat&eacute;gia de equival&ecirc;ncia}.
+     * @return Uma {@link EqualityStrategy estrat&eacute;gia de equival&ecirc;ncia} que calcula o <code>hashCode</code> e <code>equals</code> baseado nos {@link LazyValueSupplier valores}
+     *         informados.
+     * @see #lazyValueBased(LazyValueSupplier, boolean)
+     */
+    public static EqualityStrategy lazyValueBased(LazyValueSupplier supplier) {
+        return new LazyValueBased(supplier, false);
+    }
+
+    /**
+     * Obt&eacute;m uma {@link EqualityStrategy estrat&eacute;gia de equival&ecirc;ncia} que calcula o <code>hashCode</code> e <code>equals</code> baseado nos {@link LazyValueSupplier valores}
+     * informados.<BR>
+     * O <code>equals</code> compara os valores na ordem dos &iacute;ndices e s&oacute; obt&eacute;m o valor de um &iacute;ndice dos dois objetos se todos os valores anteriores forem iguais.
+     * Os valores calculados s&atilde;o os mesmos da {@link #valueBased(ValueSupplier) estrat&eacute;gia baseada em valores} cujo array cont&eacute;m os mesmos valores.<BR>
+     * <BR>
+     * Com o cache habilitado, cada valor do objeto &eacute; obtido no m&aacute;ximo uma vez, portanto os valores devem ser imut&aacute;veis. Se o outro objeto comparado guardar num atributo
+     * uma {@link EqualityStrategy estrat&eacute;gia} com cache criada por este m&eacute;todo, o cache dele tamb&eacute;m &eacute; utilizado.
+     * 
+     * @param supplier
+     *            O {@link LazyValueSupplier fornecedor de valores} para o qual se deseja criar a {@link EqualityStrategy estrat&eacute;gia de equival&ecirc;ncia}.
+     * @param cache
+     *            <code>true</code> para manter um cache dos valores obtidos e <code>false</code> caso contr&aacute;rio.
+     * @return Uma {@link EqualityStrategy estrat&eacute;gia de equival&ecirc;ncia} que calcula o <code>hashCode</code> e <code>equals</code> baseado nos {@link LazyValueSupplier valores}
+     *         informados.
+     */
+    public static EqualityStrategy lazyValueBased(LazyValueSupplier supplier, boolean cache) {
+        return new LazyValueBased(supplier, cache);
+    }
+
+    /**
+     * Obt&eacute;m uma {@link EqualityStrategy estrat&eacute;gia de equival&ecirc;ncia} que calcula o <code>hashCode</code> e <code>equals</code> do objeto passado por parametro atrav&eacute;s da
+     * {@link Equivalence equival&ecirc;ncia} informada, por exemplo uma {@link TypedEquivalence} criada pelo m&eacute;todo {@link Equivalence#of(Class)}.<BR>
+     * O objeto s&oacute; &eacute; equivalente a objetos da mesma classe.
+     * 
+     * @param object
+     *            O objeto para o qual se deseja criar a {@link EqualityStrategy estrat&eacute;gia de equival&ecirc;ncia}.
+     * @param equivalence
+     *            A {@link Equivalence equival&ecirc;ncia} utilizada para calcular o <code>hashCode</code> e <code>equals</code>.
+     * @return Uma {@link EqualityStrategy estrat&eacute;gia de equival&ecirc;ncia} que calcula o <code>hashCode</code> e <code>equals</code> atrav&eacute;s da {@link Equivalence
+     *         equival&ecirc;ncia} informada.
+     */
+    public static <T> EqualityStrategy of(T object, Equivalence<? super T> equivalence) {
+        return new EquivalenceBased<T>(object, equivalence);
+    }
+
     /**
      * Obt&eacute;m uma {@link EqualityStrategy estrat&eacute;gia de equival&ecirc;ncia} que calcula o <code>hashCode</code> e <code>equals</code> baseado na refer&ecirc;ncia do objeto passado por
      * parametro.
@@ -99,6 +178,21 @@ public abstract class EqualityStrategy {
         return new ReferenceBased(object);
     }
 
+    /**
+     * Obt&eacute;m uma {@link EqualityStrategy estrat&eacute;gia de equival&ecirc;ncia} que calcula o <code>hashCode</code> e <code>equals</code> baseado nos {@link TypedValueSupplier valores}
+     * informados.<BR>
+     * Os valores calculados s&atilde;o os mesmos da {@link #valueBased(ValueSupplier) estrat&eacute;gia baseada em valores}, por&eacute;m os valores s&atilde;o entregues um a um a um
+     * {@link ValueSink}, sem alocar arrays e sem <I>boxing</I> dos valores primitivos.
+     * 
+     * @param supplier
+     *            O {@link TypedValueSupplier fornecedor de valores} para o qual se deseja criar a {@link EqualityStrategy estrat&eacute;gia de equival&ecirc;ncia}.
+     * @return Uma {@link EqualityStrategy estrat&eacute;gia de equival&ecirc;ncia} que calcula o <code>hashCode</code> e <code>equals</code> baseado nos {@link TypedValueSupplier valores}
+     *         informados.
+     */
+    public static EqualityStrategy typedValueBased(TypedValueSupplier supplier) {
+        return new TypedValueBased(supplier);
+    }
+
     /**
      * Obt&eacute;m uma {@link EqualityStrategy estrat&eacute;gia de equival&ecirc;ncia} que calcula o <code>hashCode</code> e <code>equals</code> baseado nos {@link ValueSupplier valores} informados.
      * 
@@ -120,6 +214,18 @@ public abstract class EqualityStrategy {
         this.target = target;
     }
 
+    /**
+     * Obt&eacute;m uma {@link EqualityStrategy estrat&eacute;gia de equival&ecirc;ncia} que s&oacute; mant&eacute;m um cache do valor calculado para o <code>hashCode</code> da {@link EqualityStrategy
+     * estrat&eacute;gia} original quando o {@link AutoCaching} decidir que isso compensa para a classe do objeto, conforme o custo do <code>hashCode</code> e a frequ&ecirc;ncia das
+     * chamadas medidos em tempo de execu&ccedil;&atilde;o.
+     * 
+     * @return Uma {@link EqualityStrategy estrat&eacute;gia de equival&ecirc;ncia} que decide sozinha se mant&eacute;m um cache do <code>hashCode</code>.
+     * @see AutoCaching
+     */
+    public final EqualityStrategy autoCached() {
+        return this instanceof AutoCached ? this : new AutoCached(uncached());
+    }
+
     /**
      * Obt&eacute;m uma {@link EqualityStrategy estrat&eacute;gia de equival&ecirc;ncia} que mant&eacute;m um cache do valor calculado para o <code>hashCode</code> da {@link EqualityStrategy
      * estrat&eacute;gia} atual.
@@ -127,8 +233,7 @@ public abstract class EqualityStrategy {
      * @return Uma {@link EqualityStrategy estrat&eacute;gia de equival&ecirc;ncia} que mant&eacute;m um cache do <code>hashCode</code>.
      */
     public final EqualityStrategy cached() {
-        final EqualityStrategy uncached = this;
-        return uncached instanceof Cached ? (Cached) uncached : new Cached(uncached);
+        return this instanceof Cached ? this : new Cached(uncached());
     }
 
     /**
@@ -155,6 +260,6 @@ public abstract class EqualityStrategy {
      */
     public final EqualityStrategy uncached() {
         final EqualityStrategy cached = this;
-        return cached instanceof Cached ? (EqualityStrategy) ((Cached) cached).target : cached;
+        return cached instanceof Cached || cached instanceof AutoCached ? (EqualityStrategy) cached.target : cached;
     }
 }
@@ -0,0 +1,200 @@
+package br.com.staroski.equality.strategy;
+
+/**
+ * Superclasse para criar equival&ecirc;ncias <I>externas</I> entre objetos de um mesmo tipo.<BR>
+ * <BR>
+ * Diferente de uma {@link EqualityStrategy estrat&eacute;gia de equival&ecirc;ncia}, que encapsula um &uacute;nico objeto, uma {@link Equivalence equival&ecirc;ncia} n&atilde;o possui estado
+ * por objeto: ela recebe os objetos por parametro e, por isso, uma &uacute;nica inst&acirc;ncia pode ser compartilhada por todos os objetos de uma classe.<BR>
+ * Isso permite, por exemplo, que cole&ccedil;&otilde;es como o {@link br.com.staroski.equality.collection.EquivalenceHashMap} utilizem o <code>hashCode</code> e <code>equals</code> definidos pela
+ * {@link Equivalence equival&ecirc;ncia} sem precisar encapsular cada chave em um objeto tempor&aacute;rio.<BR>
+ * <BR>
+ * Esta classe disponibiliza {@link Equivalence equival&ecirc;ncias} prontas com a mesma sem&acirc;ntica das {@link EqualityStrategy estrat&eacute;gias} baseadas na
+ * {@link #referenceBased() refer&ecirc;ncia} do objeto, nos {@link #fieldBased(Class) atributos} da classe e em {@link #valueBased() valores} espec&iacute;ficos, al&eacute;m de uma
+ * {@link #natural() equival&ecirc;ncia natural} baseada nas classes {@link br.com.staroski.equality.HashCodeUtils} e {@link br.com.staroski.equality.EqualsUtils}.
+ *
+ * <PRE>
+ * Equivalence&lt;MyClass&gt; equivalence = Equivalence.fieldBased(MyClass.class);
+ *
+ * EquivalenceHashMap&lt;MyClass, String&gt; map = new EquivalenceHashMap&lt;MyClass, String&gt;(equivalence);
+ * </PRE>
+ *
+ * @param <T>
+ *            O tipo dos objetos comparados por esta {@link Equivalence equival&ecirc;ncia}.
+ * @author Ricardo Artur Staroski
+ * @see EqualityStrategy
+ */
+public abstract class Equivalence<T> {
+
+    // equival&ecirc;ncias criadas pelo m&eacute;todo adaptive, uma por classe
+    private static final ClassValue<AdaptiveFieldBasedEquivalence<?>> ADAPTIVE_EQUIVALENCES = new ClassValue<AdaptiveFieldBasedEquivalence<?>>() {
+
+        @SuppressWarnings({ "rawtypes", "unchecked" })
+        protected AdaptiveFieldBasedEquivalence<?> computeValue(Class<?> type) {
+            return new AdaptiveFieldBasedEquivalence(type);
+        }
+    };
+
+    // equival&ecirc;ncias criadas pelo m&eacute;todo forClass, uma por classe
+    private static final ClassValue<ClassEquivalence<?>> CLASS_EQUIVALENCES = new ClassValue<ClassEquivalence<?>>() {
+
+        @SuppressWarnings({ "rawtypes", "unchecked" })
+        protected ClassEquivalence<?> computeValue(Class<?> type) {
+            return new ClassEquivalence(type);
+        }
+    };
+
+    /**
+     * Obt&eacute;m a {@link Equivalence equival&ecirc;ncia} baseada nos atributos declarados pela classe informada que adapta, em tempo de execu&ccedil;&atilde;o, a ordem em que os
+     * atributos s&atilde;o comparados.<BR>
+     * Uma amostra das compara&ccedil;&otilde;es mede o custo de cada atributo e quantas vezes ele foi diferente, e periodicamente os atributos s&atilde;o reordenados para que os atributos
+     * baratos e que mais diferem sejam comparados primeiro. Os resultados s&atilde;o os mesmos da {@link #fieldBased(Class) equival&ecirc;ncia baseada em atributos}, apenas as
+     * compara&ccedil;&otilde;es de objetos diferentes terminam mais cedo.<BR>
+     * A {@link Equivalence equival&ecirc;ncia} de cada classe &eacute; criada uma &uacute;nica vez, assim o plano de compara&ccedil;&atilde;o &eacute; compartilhado por todos os objetos da classe.
+     *
+     * @param type
+     *            A classe dos objetos comparados.
+     * @return A {@link Equivalence equival&ecirc;ncia} adaptativa da classe informada.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> Equivalence<T> adaptive(Class<T> type) {
+        if (type == null) {
+            throw new IllegalArgumentException("null");
+        }
+        return (Equivalence<T>) ADAPTIVE_EQUIVALENCES.get(type);
+    }
+
+    /**
+     * Obt&eacute;m a {@link Equivalence equival&ecirc;ncia} que compara {@link CharSequence}s pelo seu conte&uacute;do, atrav&eacute;s dos m&eacute;todos
+     * {@link br.com.staroski.equality.HashCodeUtils#hash(int, CharSequence)} e {@link br.com.staroski.equality.EqualsUtils#equal(CharSequence, CharSequence)}.<BR>
+     * O <I>hash</I> de uma sequ&ecirc;ncia &eacute; o mesmo <code>hashCode</code> de uma {@link String} com o mesmo conte&uacute;do, assim uma cole&ccedil;&atilde;o cujas chaves s&atilde;o
+     * {@link String}s pode ser consultada diretamente com um {@link StringBuilder} ou um {@link java.nio.CharBuffer}, sem criar uma {@link String} a cada consulta.
+     *
+     * <PRE>
+     * EquivalenceHashMap&lt;CharSequence, Token&gt; tokens = new EquivalenceHashMap&lt;CharSequence, Token&gt;(Equivalence.charSequence());
+     *
+     * Token token = tokens.get(buffer);
+     * </PRE>
+     *
+     * @return A {@link Equivalence equival&ecirc;ncia} de {@link CharSequence}s.
+     */
+    public static Equivalence<CharSequence> charSequence() {
+        return CharSequenceEquivalence.INSTANCE;
+    }
+
+    /**
+     * Obt&eacute;m a {@link DeepEquivalence equival&ecirc;ncia} que aplica recursivamente a sem&acirc;ntica da {@link #fieldBased(Class) equival&ecirc;ncia baseada em atributos} a todo o
+     * grafo de objetos.
+     *
+     * @return A {@link DeepEquivalence equival&ecirc;ncia} que compara grafos de objetos.
+     */
+    public static DeepEquivalence deep() {
+        return DeepEquivalence.DEFAULT;
+    }
+
+    /**
+     * Obt&eacute;m uma {@link Equivalence equival&ecirc;ncia} que calcula o <code>hashCode</code> e <code>equals</code> com base nos atributos declarados pela classe informada.<BR>
+     * Os valores calculados s&atilde;o os mesmos da {@link EqualityStrategy#fieldBased(Object) estrat&eacute;gia baseada em atributos}, por&eacute;m os atributos primitivos s&atilde;o lidos
+     * sem <I>boxing</I> e sem alocar arrays intermedi&aacute;rios.
+     *
+     * @param type
+     *            A classe dos objetos comparados.
+     * @return Uma {@link Equivalence equival&ecirc;ncia} que calcula o <code>hashCode</code> e <code>equals</code> com base nos atributos da classe.
+     */
+    public static <T> Equivalence<T> fieldBased(Class<T> type) {
+        return RecordSupport.fieldBased(type);
+    }
+
+    /**
+     * Obt&eacute;m a {@link ClassEquivalence equival&ecirc;ncia} sem estado por objeto baseada nos atributos declarados pela classe informada.<BR>
+     * A {@link ClassEquivalence equival&ecirc;ncia} de cada classe &eacute; criada uma &uacute;nica vez, e deve ser guardada num atributo <code>static final</code> da classe.
+     *
+     * @param type
+     *            A classe dos objetos comparados.
+     * @return A {@link ClassEquivalence equival&ecirc;ncia} da classe informada.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> ClassEquivalence<T> forClass(Class<T> type) {
+        if (type == null) {
+            throw new IllegalArgumentException("null");
+        }
+        return (ClassEquivalence<T>) CLASS_EQUIVALENCES.get(type);
+    }
+
+    /**
+     * Obt&eacute;m uma {@link Equivalence equival&ecirc;ncia} que calcula o <code>hashCode</code> e <code>equals</code> atrav&eacute;s dos m&eacute;todos
+     * {@link br.com.staroski.equality.HashCodeUtils#hash(int, Object)} e {@link br.com.staroski.equality.EqualsUtils#equal(Object, Object)}, isto &eacute;, utilizando o
+     * <code>hashCode</code> e <code>equals</code> dos pr&oacute;prios objetos e comparando arrays pelo seu conte&uacute;do.
+     *
+     * @return A {@link Equivalence equival&ecirc;ncia} natural.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> Equivalence<T> natural() {
+        return (Equivalence<T>) NaturalEquivalence.INSTANCE;
+    }
+
+    /**
+     * Obt&eacute;m um construtor de {@link TypedEquivalence equival&ecirc;ncia} composta por fun&ccedil;&otilde;es que extraem os componentes dos objetos da classe informada, sem
+     * reflex&atilde;o e sem <I>boxing</I> dos componentes primitivos.
+     *
+     * @param type
+     *            A classe dos objetos comparados.
+     * @return Um construtor de {@link TypedEquivalence equival&ecirc;ncia}.
+     */
+    public static <T> TypedEquivalence.Builder<T> of(Class<T> type) {
+        return new TypedEquivalence.Builder<T>(type);
+    }
+
+    /**
+     * Obt&eacute;m uma {@link Equivalence equival&ecirc;ncia} que calcula o <code>hashCode</code> e <code>equals</code> com base na refer&ecirc;ncia dos objetos.
+     *
+     * @return Uma {@link Equivalence equival&ecirc;ncia} que calcula o <code>hashCode</code> e <code>equals</code> com base na refer&ecirc;ncia dos objetos.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> Equivalence<T> referenceBased() {
+        return (Equivalence<T>) ReferenceBasedEquivalence.INSTANCE;
+    }
+
+    /**
+     * Obt&eacute;m uma {@link Equivalence equival&ecirc;ncia} que calcula o <code>hashCode</code> e <code>equals</code> com base nos {@link TypedValueSupplier valores} fornecidos pelos
+     * objetos, sem alocar arrays e sem <I>boxing</I> dos valores primitivos.
+     *
+     * @return Uma {@link Equivalence equival&ecirc;ncia} que calcula o <code>hashCode</code> e <code>equals</code> com base nos {@link TypedValueSupplier valores} fornecidos pelos
+     *         objetos.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T extends TypedValueSupplier> Equivalence<T> typedValueBased() {
+        return (Equivalence<T>) TypedValueBasedEquivalence.INSTANCE;
+    }
+
+    /**
+     * Obt&eacute;m uma {@link Equivalence equival&ecirc;ncia} que calcula o <code>hashCode</code> e <code>equals</code> com base nos {@link ValueSupplier valores} fornecidos pelos objetos.
+     *
+     * @return Uma {@link Equivalence equival&ecirc;ncia} que calcula o <code>hashCode</code> e <code>equals</code> com base nos {@link ValueSupplier valores} fornecidos pelos objetos.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T extends ValueSupplier> Equivalence<T> valueBased() {
+        return (Equivalence<T>) ValueBasedEquivalence.INSTANCE;
+    }
+
+    protected Equivalence() {}
+
+    /**
+     * Verifica se os objetos passados por parametro s&atilde;o equivalentes.
+     *
+     * @param object1
+     *            O primeiro objeto.
+     * @param object2
+     *            O segundo objeto.
+     * @return <code>true</code> se forem equivalentes e <code>false</code> caso contr&aacute;rio.
+     */
+    public abstract boolean equals(T object1, T object2);
+
+    /**
+     * Calcula o <code>hashCode</code> do objeto passado por parametro.
+     *
+     * @param object
+     *            O objeto do qual se deseja obter o <code>hashCode</code>.
+     * @return O <code>hashCode</code> calculado.
+     */
+    public abstract int hash(T object);
+}
@@ -0,0 +1,30 @@
+package br.com.staroski.equality.strategy;
+
+final class EquivalenceBased<T> extends EqualityStrategy {
+
+    private final Equivalence<? super T> equivalence;
+
+    EquivalenceBased(T target, Equivalence<? super T> equivalence) {
+        super(target);
+        if (equivalence == null) {
+            throw new IllegalArgumentException("null");
+        }
+        this.equivalence = equivalence;
+    }
+
+    @SuppressWarnings("unchecked")
+    public boolean equals(Object obj) {
+        if (target == obj) {
+            return true;
+        }
+        if (obj == null || obj.getClass() != target.getClass()) {
+            return false;
+        }
+        return equivalence.equals((T) target, (T) obj);
+    }
+
+    @SuppressWarnings("unchecked")
+    public int hashCode() {
+        return equivalence.hash((T) target);
+    }
+}
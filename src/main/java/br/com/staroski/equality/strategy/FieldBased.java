@@ -5,9 +5,6 @@ import static br.com.staroski.equality.HashCodeUtils.SINGLE_VALUE;
 import static br.com.staroski.equality.HashCodeUtils.hash;
 
 import java.lang.reflect.Field;
-import java.lang.reflect.Modifier;
-import java.util.ArrayList;
-import java.util.List;
 
 final class FieldBased extends EqualityStrategy {
 
@@ -15,16 +12,7 @@ final class FieldBased extends EqualityStrategy {
 
     FieldBased(Object target) {
         super(target);
-        final List<Field> usedFields = new ArrayList<Field>();
-        final Field[] declaredFields = target.getClass().getDeclaredFields();
-        for (Field field : declaredFields) {
-            if (!isEqualityStrategy(field) && !isStatic(field)) {
-                field.setAccessible(true);
-                usedFields.add(field);
-            }
-        }
-        final int length = usedFields.size();
-        fields = usedFields.toArray(new Field[length]);
+        fields = Fields.equalityFields(target.getClass());
     }
 
     public boolean equals(Object obj) {
@@ -34,10 +22,24 @@ final class FieldBased extends EqualityStrategy {
         if (obj == null) {
             return false;
         }
+        if (EqualityProfiler.sample()) {
+            try {
+                return EqualityProfiler.equalFields(fields, target, obj);
+            } catch (IllegalAccessException e) {
+                throw new SecurityException(e);
+            }
+        }
         return equal(fieldValues(target), fieldValues(obj));
     }
 
     public int hashCode() {
+        if (EqualityProfiler.sample()) {
+            try {
+                return EqualityProfiler.hashFields(fields, target);
+            } catch (IllegalAccessException e) {
+                throw new SecurityException(e);
+            }
+        }
         return hash(SINGLE_VALUE, fieldValues(target));
     }
 
@@ -53,12 +55,4 @@ final class FieldBased extends EqualityStrategy {
             throw new SecurityException(e);
         }
     }
-
-    private boolean isEqualityStrategy(Field field) {
-        return EqualityStrategy.class.isAssignableFrom(field.getType());
-    }
-
-    private boolean isStatic(Field field) {
-        return Modifier.isStatic(field.getModifiers());
-    }
 }
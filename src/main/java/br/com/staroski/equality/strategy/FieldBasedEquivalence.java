@@ -0,0 +1,118 @@
+package br.com.staroski.equality.strategy;
+
+import static br.com.staroski.equality.EqualsUtils.equal;
+
+import java.lang.reflect.Field;
+
+import br.com.staroski.equality.HashCodeUtils;
+
+final class FieldBasedEquivalence<T> extends Equivalence<T> {
+
+    private final Class<T> type;
+    private final Field[] fields;
+    private final byte[] kinds;
+
+    FieldBasedEquivalence(Class<T> type) {
+        this(type, null);
+    }
+
+    // o atributo exclu&iacute;do, quando informado, n&atilde;o participa do hashCode e equals
+    FieldBasedEquivalence(Class<T> type, Field excluded) {
+        if (type == null) {
+            throw new IllegalArgumentException("null");
+        }
+        this.type = type;
+        this.fields = Fields.equalityFields(type, excluded);
+        final int length = fields.length;
+        this.kinds = new byte[length];
+        for (int i = 0; i < length; i++) {
+            kinds[i] = Fields.kindOf(fields[i].getType());
+        }
+    }
+
+    public boolean equals(T object1, T object2) {
+        if (object1 == object2) {
+            return true;
+        }
+        if (object1 == null || object2 == null) {
+            return false;
+        }
+        if (!type.isInstance(object1) || !type.isInstance(object2)) {
+            return false;
+        }
+        try {
+            final int length = fields.length;
+            for (int i = 0; i < length; i++) {
+                if (!equalField(fields[i], kinds[i], object1, object2)) {
+                    return false;
+                }
+            }
+            return true;
+        } catch (IllegalAccessException e) {
+            throw new SecurityException(e);
+        }
+    }
+
+    public int hash(T object) {
+        if (object == null) {
+            return HashCodeUtils.hash(HashCodeUtils.SINGLE_VALUE, 0);
+        }
+        try {
+            final int length = fields.length;
+            int hash = HashCodeUtils.MULTI_VALUE;
+            for (int i = 0; i < length; i++) {
+                hash = hashField(hash, fields[i], kinds[i], object);
+            }
+            return HashCodeUtils.hash(HashCodeUtils.SINGLE_VALUE, hash);
+        } catch (IllegalAccessException e) {
+            throw new SecurityException(e);
+        }
+    }
+
+    // tamb&eacute;m utilizado pelo DeepEquivalence para os atributos primitivos
+    static boolean equalField(Field field, byte kind, Object object1, Object object2) throws IllegalAccessException {
+        switch (kind) {
+            case Fields.BOOLEAN:
+                return equal(field.getBoolean(object1), field.getBoolean(object2));
+            case Fields.BYTE:
+                return equal(field.getByte(object1), field.getByte(object2));
+            case Fields.CHAR:
+                return equal(field.getChar(object1), field.getChar(object2));
+            case Fields.SHORT:
+                return equal(field.getShort(object1), field.getShort(object2));
+            case Fields.INT:
+                return equal(field.getInt(object1), field.getInt(object2));
+            case Fields.LONG:
+                return equal(field.getLong(object1), field.getLong(object2));
+            case Fields.FLOAT:
+                return equal(field.getFloat(object1), field.getFloat(object2));
+            case Fields.DOUBLE:
+                return equal(field.getDouble(object1), field.getDouble(object2));
+            default:
+                return equal(field.get(object1), field.get(object2));
+        }
+    }
+
+    static int hashField(int seed, Field field, byte kind, Object object) throws IllegalAccessException {
+        switch (kind) {
+            case Fields.BOOLEAN:
+                return HashCodeUtils.hash(seed, field.getBoolean(object));
+            case Fields.BYTE:
+                return HashCodeUtils.hash(seed, field.getByte(object));
+            case Fields.CHAR:
+                return HashCodeUtils.hash(seed, field.getChar(object));
+            case Fields.SHORT:
+                return HashCodeUtils.hash(seed, field.getShort(object));
+            case Fields.INT:
+                return HashCodeUtils.hash(seed, field.getInt(object));
+            case Fields.LONG:
+                return HashCodeUtils.hash(seed, field.getLong(object));
+            case Fields.FLOAT:
+                return HashCodeUtils.hash(seed, field.getFloat(object));
+            case Fields.DOUBLE:
+                return HashCodeUtils.hash(seed, field.getDouble(object));
+            default:
+                return HashCodeUtils.hash(seed, field.get(object));
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package br.com.staroski.equality.strategy;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.List;
+
+// Utilit&aacute;rio que determina quais atributos de uma classe participam do hashCode e equals
+final class Fields {
+
+    // tipos de atributo, para ler primitivos sem boxing
+    static final byte OBJECT = 0;
+    static final byte BOOLEAN = 1;
+    static final byte BYTE = 2;
+    static final byte CHAR = 3;
+    static final byte SHORT = 4;
+    static final byte INT = 5;
+    static final byte LONG = 6;
+    static final byte FLOAT = 7;
+    static final byte DOUBLE = 8;
+
+    // obt&eacute;m os atributos declarados pela classe que participam do hashCode e equals, na ordem de declara&ccedil;&atilde;o
+    static Field[] equalityFields(Class<?> type) {
+        return equalityFields(type, null);
+    }
+
+    // idem, por&eacute;m sem o atributo exclu&iacute;do
+    static Field[] equalityFields(Class<?> type, Field excluded) {
+        final List<Field> usedFields = new ArrayList<Field>();
+        final Field[] declaredFields = type.getDeclaredFields();
+        for (Field field : declaredFields) {
+            if (!isEqualityStrategy(field) && !isStatic(field) && !field.equals(excluded)) {
+                field.setAccessible(true);
+                usedFields.add(field);
+            }
+        }
+        final int length = usedFields.size();
+        return usedFields.toArray(new Field[length]);
+    }
+
+    // obt&eacute;m o tipo do atributo, para ler primitivos sem boxing
+    static byte kindOf(Class<?> type) {
+        if (type == boolean.class) return BOOLEAN;
+        if (type == byte.class) return BYTE;
+        if (type == char.class) return CHAR;
+        if (type == short.class) return SHORT;
+        if (type == int.class) return INT;
+        if (type == long.class) return LONG;
+        if (type == float.class) return FLOAT;
+        if (type == double.class) return DOUBLE;
+        return OBJECT;
+    }
+
+    // obt&eacute;m o primeiro atributo declarado pela classe, ou por suas superclasses, onde o objeto guarda a sua estrat&eacute;gia, ou null se n&atilde;o houver
+    static Field strategyField(Class<?> type) {
+        for (Class<?> c = type; c != null && c != Object.class; c = c.getSuperclass()) {
+            for (Field field : c.getDeclaredFields()) {
+                if (isEqualityStrategy(field) && !isStatic(field)) {
+                    field.setAccessible(true);
+                    return field;
+                }
+            }
+        }
+        return null;
+    }
+
+    private static boolean isEqualityStrategy(Field field) {
+        return EqualityStrategy.class.isAssignableFrom(field.getType());
+    }
+
+    private static boolean isStatic(Field field) {
+        return Modifier.isStatic(field.getModifiers());
+    }
+
+    // Construtor privado, classe utilit&aacute;ria n&atilde;o-instanciavel
+    private Fields() {
+        throw new UnsupportedOperationException(getClass().getName() + " can not be instantiated");
+    }
+}
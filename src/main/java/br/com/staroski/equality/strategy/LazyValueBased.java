@@ -0,0 +1,110 @@
+package br.com.staroski.equality.strategy;
+
+import static br.com.staroski.equality.EqualsUtils.equal;
+import static br.com.staroski.equality.HashCodeUtils.MULTI_VALUE;
+import static br.com.staroski.equality.HashCodeUtils.SINGLE_VALUE;
+import static br.com.staroski.equality.HashCodeUtils.hash;
+
+import java.lang.reflect.Field;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+final class LazyValueBased extends EqualityStrategy {
+
+    // marca os valores ainda n&atilde;o calculados
+    private static final Object NOT_COMPUTED = new Object();
+
+    // atributo onde cada classe guarda a sua estrat&eacute;gia, para reaproveitar o cache do outro objeto comparado
+    private static final ClassValue<Field> STRATEGY_FIELDS = new ClassValue<Field>() {
+
+        protected Field computeValue(Class<?> type) {
+            return Fields.strategyField(type);
+        }
+    };
+
+    private final boolean caching;
+
+    // criado no primeiro uso, pois a estrat&eacute;gia costuma ser criada antes dos atributos do objeto serem inicializados
+    private volatile AtomicReferenceArray<Object> cache;
+
+    LazyValueBased(LazyValueSupplier target, boolean caching) {
+        super(target);
+        this.caching = caching;
+    }
+
+    public boolean equals(Object obj) {
+        final LazyValueSupplier target = (LazyValueSupplier) this.target;
+        if (target == obj) {
+            return true;
+        }
+        if (!(obj instanceof LazyValueSupplier)) {
+            return false;
+        }
+        final LazyValueSupplier other = (LazyValueSupplier) obj;
+        final int count = target.valueCount();
+        if (other.valueCount() != count) {
+            return false;
+        }
+        final LazyValueBased otherStrategy = strategyOf(other);
+        for (int i = 0; i < count; i++) {
+            final Object otherValue = otherStrategy == null ? other.value(i) : otherStrategy.value(i);
+            if (!equal(value(i), otherValue)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public int hashCode() {
+        final int count = ((LazyValueSupplier) target).valueCount();
+        int hash = MULTI_VALUE;
+        for (int i = 0; i < count; i++) {
+            hash = hash(hash, value(i));
+        }
+        return hash(SINGLE_VALUE, hash);
+    }
+
+    // obt&eacute;m a estrat&eacute;gia com cache do outro objeto, ou null se ele n&atilde;o tiver uma
+    private LazyValueBased strategyOf(LazyValueSupplier other) {
+        if (!caching) {
+            return null;
+        }
+        final Field field = STRATEGY_FIELDS.get(other.getClass());
+        if (field == null) {
+            return null;
+        }
+        try {
+            final Object strategy = field.get(other);
+            if (strategy instanceof EqualityStrategy) {
+                final EqualityStrategy uncached = ((EqualityStrategy) strategy).uncached();
+                if (uncached instanceof LazyValueBased && uncached.target == other && ((LazyValueBased) uncached).caching) {
+                    return (LazyValueBased) uncached;
+                }
+            }
+            return null;
+        } catch (IllegalAccessException e) {
+            throw new SecurityException(e);
+        }
+    }
+
+    private Object value(int index) {
+        final LazyValueSupplier target = (LazyValueSupplier) this.target;
+        if (!caching) {
+            return target.value(index);
+        }
+        AtomicReferenceArray<Object> cache = this.cache;
+        if (cache == null) {
+            final int count = target.valueCount();
+            cache = new AtomicReferenceArray<Object>(count);
+            for (int i = 0; i < count; i++) {
+                cache.set(i, NOT_COMPUTED);
+            }
+            this.cache = cache;
+        }
+        Object value = cache.get(index);
+        if (value == NOT_COMPUTED) {
+            value = target.value(index);
+            cache.set(index, value);
+        }
+        return value;
+    }
+}
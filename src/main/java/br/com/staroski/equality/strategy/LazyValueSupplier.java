@@ -0,0 +1,30 @@
+package br.com.staroski.equality.strategy;
+
+/**
+ * Interface para fornecer valores, sob demanda, &agrave;s {@link EqualityStrategy estrat&eacute;gias} criadas pelo m&eacute;todo
+ * {@link EqualityStrategy#lazyValueBased(LazyValueSupplier) lazyValueBased(LazyValueSupplier)}.<BR>
+ * Diferente do {@link ValueSupplier}, que fornece todos os valores de uma s&oacute; vez, cada valor &eacute; obtido pelo seu &iacute;ndice e somente quando necess&aacute;rio, assim o
+ * <code>equals</code> n&atilde;o calcula os valores seguintes ao primeiro valor diferente.<BR>
+ * Os valores mais baratos e com maior chance de serem diferentes devem ter os menores &iacute;ndices.
+ *
+ * @author Ricardo Artur Staroski
+ * @see EqualityStrategy#lazyValueBased(LazyValueSupplier)
+ */
+public interface LazyValueSupplier {
+
+    /**
+     * Obt&eacute;m o valor do &iacute;ndice informado.
+     *
+     * @param index
+     *            O &iacute;ndice do valor, de <code>0</code> at&eacute; {@link #valueCount()} <code>- 1</code>.
+     * @return O valor do &iacute;ndice informado.
+     */
+    Object value(int index);
+
+    /**
+     * Obt&eacute;m a quantidade de valores utilizados no c&aacute;lculo do <code>hashCode</code> e <code>equals</code>.
+     *
+     * @return A quantidade de valores.
+     */
+    int valueCount();
+}
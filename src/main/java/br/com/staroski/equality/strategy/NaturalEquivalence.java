@@ -0,0 +1,20 @@
+package br.com.staroski.equality.strategy;
+
+import static br.com.staroski.equality.EqualsUtils.equal;
+
+import br.com.staroski.equality.HashCodeUtils;
+
+final class NaturalEquivalence extends Equivalence<Object> {
+
+    static final NaturalEquivalence INSTANCE = new NaturalEquivalence();
+
+    private NaturalEquivalence() {}
+
+    public boolean equals(Object object1, Object object2) {
+        return equal(object1, object2);
+    }
+
+    public int hash(Object object) {
+        return HashCodeUtils.hash(HashCodeUtils.SINGLE_VALUE, object);
+    }
+}
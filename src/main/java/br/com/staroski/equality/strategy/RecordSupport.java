@@ -0,0 +1,16 @@
+package br.com.staroski.equality.strategy;
+
+// Cria as equival&ecirc;ncias baseadas em atributos, escolhendo a implementa&ccedil;&atilde;o de acordo com a classe.
+// Esta &eacute; a vers&atilde;o para JVMs anteriores ao JDK 16, que n&atilde;o possuem records; a vers&atilde;o para o JDK 16 ou superior fica em src/main/java16
+// e &eacute; gravada em META-INF/versions/16 do jar multi-release.
+final class RecordSupport {
+
+    static <T> Equivalence<T> fieldBased(Class<T> type) {
+        return new FieldBasedEquivalence<T>(type);
+    }
+
+    // Construtor privado, classe utilit&aacute;ria n&atilde;o-instanciavel
+    private RecordSupport() {
+        throw new UnsupportedOperationException(getClass().getName() + " can not be instantiated");
+    }
+}
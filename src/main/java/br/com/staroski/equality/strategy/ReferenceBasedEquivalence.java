@@ -0,0 +1,16 @@
+package br.com.staroski.equality.strategy;
+
+final class ReferenceBasedEquivalence extends Equivalence<Object> {
+
+    static final ReferenceBasedEquivalence INSTANCE = new ReferenceBasedEquivalence();
+
+    private ReferenceBasedEquivalence() {}
+
+    public boolean equals(Object object1, Object object2) {
+        return object1 == object2;
+    }
+
+    public int hash(Object object) {
+        return System.identityHashCode(object);
+    }
+}
@@ -0,0 +1,544 @@
+package br.com.staroski.equality.strategy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+
+import br.com.staroski.equality.EqualsUtils;
+import br.com.staroski.equality.HashCodeUtils;
+
+/**
+ * {@link Equivalence Equival&ecirc;ncia} composta por fun&ccedil;&otilde;es que extraem os componentes dos objetos, sem reflex&atilde;o e sem <I>boxing</I> dos componentes
+ * primitivos.<BR>
+ * <BR>
+ * Os componentes s&atilde;o comparados na ordem em que foram informados, terminando no primeiro componente diferente, e o <I>hash</I> &eacute; calculado atrav&eacute;s dos m&eacute;todos
+ * primitivos da classe {@link HashCodeUtils}. Os valores calculados s&atilde;o os mesmos da {@link EqualityStrategy#fieldBased(Object) estrat&eacute;gia baseada em atributos} e da
+ * {@link EqualityStrategy#valueBased(ValueSupplier) estrat&eacute;gia baseada em valores} com os mesmos componentes na mesma ordem.<BR>
+ * <BR>
+ * Uma &uacute;nica inst&acirc;ncia pode ser compartilhada por todos os objetos da classe:
+ *
+ * <PRE>
+ * class Person {
+ *
+ *     private static final TypedEquivalence&lt;Person&gt; EQUIVALENCE = Equivalence.of(Person.class)
+ *                                                                    .andLong(Person::id)
+ *                                                                    .and(Person::name)
+ *                                                                    .build();
+ *
+ *     public int hashCode() {
+ *         return EQUIVALENCE.hash(this);
+ *     }
+ *
+ *     public boolean equals(Object object) {
+ *         return EQUIVALENCE.equalTo(this, object);
+ *     }
+ * }
+ * </PRE>
+ *
+ * @param <T>
+ *            O tipo dos objetos comparados por esta {@link Equivalence equival&ecirc;ncia}.
+ * @author Ricardo Artur Staroski
+ * @see Equivalence#of(Class)
+ */
+public final class TypedEquivalence<T> extends Equivalence<T> {
+
+    /**
+     * Construtor de {@link TypedEquivalence}, obtido atrav&eacute;s do m&eacute;todo {@link Equivalence#of(Class)}.
+     *
+     * @param <T>
+     *            O tipo dos objetos comparados.
+     * @author Ricardo Artur Staroski
+     */
+    public static final class Builder<T> {
+
+        private final Class<T> type;
+        private final List<Component<T>> components = new ArrayList<Component<T>>();
+
+        Builder(Class<T> type) {
+            if (type == null) {
+                throw new IllegalArgumentException("null");
+            }
+            this.type = type;
+        }
+
+        /**
+         * Adiciona um componente objeto, comparado atrav&eacute;s do m&eacute;todo {@link br.com.staroski.equality.EqualsUtils#equal(Object, Object)}.
+         *
+         * @param extractor
+         *            A fun&ccedil;&atilde;o que extrai o componente.
+         * @return Este {@link Builder}.
+         */
+        public Builder<T> and(Function<? super T, ?> extractor) {
+            return add(new ObjectComponent<T>(extractor));
+        }
+
+        /**
+         * Adiciona um componente <tt>boolean</tt>.
+         *
+         * @param extractor
+         *            A fun&ccedil;&atilde;o que extrai o componente.
+         * @return Este {@link Builder}.
+         */
+        public Builder<T> andBoolean(Predicate<? super T> extractor) {
+            return add(new BooleanComponent<T>(extractor));
+        }
+
+        /**
+         * Adiciona um componente <tt>byte</tt>.
+         *
+         * @param extractor
+         *            A fun&ccedil;&atilde;o que extrai o componente.
+         * @return Este {@link Builder}.
+         */
+        public Builder<T> andByte(ToByteFunction<? super T> extractor) {
+            return add(new ByteComponent<T>(extractor));
+        }
+
+        /**
+         * Adiciona um componente <tt>char</tt>.
+         *
+         * @param extractor
+         *            A fun&ccedil;&atilde;o que extrai o componente.
+         * @return Este {@link Builder}.
+         */
+        public Builder<T> andChar(ToCharFunction<? super T> extractor) {
+            return add(new CharComponent<T>(extractor));
+        }
+
+        /**
+         * Adiciona um componente {@link CharSequence}, comparado pelo seu conte&uacute;do atrav&eacute;s do m&eacute;todo
+         * {@link br.com.staroski.equality.EqualsUtils#equal(CharSequence, CharSequence)}.<BR>
+         * Para componentes {@link String} o resultado &eacute; o mesmo do m&eacute;todo {@link #and(Function)}.
+         *
+         * @param extractor
+         *            A fun&ccedil;&atilde;o que extrai o componente.
+         * @return Este {@link Builder}.
+         */
+        public Builder<T> andChars(Function<? super T, ? extends CharSequence> extractor) {
+            return add(new CharSequenceComponent<T>(extractor));
+        }
+
+        /**
+         * Adiciona um componente <tt>double</tt>.
+         *
+         * @param extractor
+         *            A fun&ccedil;&atilde;o que extrai o componente.
+         * @return Este {@link Builder}.
+         */
+        public Builder<T> andDouble(ToDoubleFunction<? super T> extractor) {
+            return add(new DoubleComponent<T>(extractor));
+        }
+
+        /**
+         * Adiciona um componente <tt>float</tt>.
+         *
+         * @param extractor
+         *            A fun&ccedil;&atilde;o que extrai o componente.
+         * @return Este {@link Builder}.
+         */
+        public Builder<T> andFloat(ToFloatFunction<? super T> extractor) {
+            return add(new FloatComponent<T>(extractor));
+        }
+
+        /**
+         * Adiciona um componente <tt>int</tt>.
+         *
+         * @param extractor
+         *            A fun&ccedil;&atilde;o que extrai o componente.
+         * @return Este {@link Builder}.
+         */
+        public Builder<T> andInt(ToIntFunction<? super T> extractor) {
+            return add(new IntComponent<T>(extractor));
+        }
+
+        /**
+         * Adiciona um componente <tt>long</tt>.
+         *
+         * @param extractor
+         *            A fun&ccedil;&atilde;o que extrai o componente.
+         * @return Este {@link Builder}.
+         */
+        public Builder<T> andLong(ToLongFunction<? super T> extractor) {
+            return add(new LongComponent<T>(extractor));
+        }
+
+        /**
+         * Adiciona um componente <tt>short</tt>.
+         *
+         * @param extractor
+         *            A fun&ccedil;&atilde;o que extrai o componente.
+         * @return Este {@link Builder}.
+         */
+        public Builder<T> andShort(ToShortFunction<? super T> extractor) {
+            return add(new ShortComponent<T>(extractor));
+        }
+
+        /**
+         * Cria a {@link TypedEquivalence equival&ecirc;ncia} com os componentes adicionados.
+         *
+         * @return A {@link TypedEquivalence equival&ecirc;ncia} criada.
+         */
+        public TypedEquivalence<T> build() {
+            @SuppressWarnings("unchecked")
+            final Component<T>[] array = (Component<T>[]) new Component<?>[components.size()];
+            return new TypedEquivalence<T>(type, components.toArray(array));
+        }
+
+        private Builder<T> add(Component<T> component) {
+            components.add(component);
+            return this;
+        }
+    }
+
+    /**
+     * Fun&ccedil;&atilde;o que extrai um componente <tt>byte</tt> dos objetos, utilizada pelo m&eacute;todo {@link Builder#andByte(ToByteFunction)}.
+     *
+     * @param <T>
+     *            O tipo dos objetos.
+     * @author Ricardo Artur Staroski
+     */
+    public interface ToByteFunction<T> {
+
+        /**
+         * Extrai o componente do objeto informado.
+         *
+         * @param object
+         *            O objeto.
+         * @return O componente.
+         */
+        byte applyAsByte(T object);
+    }
+
+    /**
+     * Fun&ccedil;&atilde;o que extrai um componente <tt>char</tt> dos objetos, utilizada pelo m&eacute;todo {@link Builder#andChar(ToCharFunction)}.
+     *
+     * @param <T>
+     *            O tipo dos objetos.
+     * @author Ricardo Artur Staroski
+     */
+    public interface ToCharFunction<T> {
+
+        /**
+         * Extrai o componente do objeto informado.
+         *
+         * @param object
+         *            O objeto.
+         * @return O componente.
+         */
+        char applyAsChar(T object);
+    }
+
+    /**
+     * Fun&ccedil;&atilde;o que extrai um componente <tt>float</tt> dos objetos, utilizada pelo m&eacute;todo {@link Builder#andFloat(ToFloatFunction)}.
+     *
+     * @param <T>
+     *            O tipo dos objetos.
+     * @author Ricardo Artur Staroski
+     */
+    public interface ToFloatFunction<T> {
+
+        /**
+         * Extrai o componente do objeto informado.
+         *
+         * @param object
+         *            O objeto.
+         * @return O componente.
+         */
+        float applyAsFloat(T object);
+    }
+
+    /**
+     * Fun&ccedil;&atilde;o que extrai um componente <tt>short</tt> dos objetos, utilizada pelo m&eacute;todo {@link Builder#andShort(ToShortFunction)}.
+     *
+     * @param <T>
+     *            O tipo dos objetos.
+     * @author Ricardo Artur Staroski
+     */
+    public interface ToShortFunction<T> {
+
+        /**
+         * Extrai o componente do objeto informado.
+         *
+         * @param object
+         *            O objeto.
+         * @return O componente.
+         */
+        short applyAsShort(T object);
+    }
+
+    // componente extra&iacute;do dos objetos
+    private static abstract class Component<T> {
+
+        abstract boolean equal(T object1, T object2);
+
+        abstract int hash(int seed, T object);
+    }
+
+    private static final class BooleanComponent<T> extends Component<T> {
+
+        private final Predicate<? super T> extractor;
+
+        BooleanComponent(Predicate<? super T> extractor) {
+            if (extractor == null) {
+                throw new IllegalArgumentException("null");
+            }
+            this.extractor = extractor;
+        }
+
+        boolean equal(T object1, T object2) {
+            return extractor.test(object1) == extractor.test(object2);
+        }
+
+        int hash(int seed, T object) {
+            return HashCodeUtils.hash(seed, extractor.test(object));
+        }
+    }
+
+    private static final class ByteComponent<T> extends Component<T> {
+
+        private final ToByteFunction<? super T> extractor;
+
+        ByteComponent(ToByteFunction<? super T> extractor) {
+            if (extractor == null) {
+                throw new IllegalArgumentException("null");
+            }
+            this.extractor = extractor;
+        }
+
+        boolean equal(T object1, T object2) {
+            return EqualsUtils.equal(extractor.applyAsByte(object1), extractor.applyAsByte(object2));
+        }
+
+        int hash(int seed, T object) {
+            return HashCodeUtils.hash(seed, extractor.applyAsByte(object));
+        }
+    }
+
+    private static final class CharComponent<T> extends Component<T> {
+
+        private final ToCharFunction<? super T> extractor;
+
+        CharComponent(ToCharFunction<? super T> extractor) {
+            if (extractor == null) {
+                throw new IllegalArgumentException("null");
+            }
+            this.extractor = extractor;
+        }
+
+        boolean equal(T object1, T object2) {
+            return EqualsUtils.equal(extractor.applyAsChar(object1), extractor.applyAsChar(object2));
+        }
+
+        int hash(int seed, T object) {
+            return HashCodeUtils.hash(seed, extractor.applyAsChar(object));
+        }
+    }
+
+    private static final class CharSequenceComponent<T> extends Component<T> {
+
+        private final Function<? super T, ? extends CharSequence> extractor;
+
+        CharSequenceComponent(Function<? super T, ? extends CharSequence> extractor) {
+            if (extractor == null) {
+                throw new IllegalArgumentException("null");
+            }
+            this.extractor = extractor;
+        }
+
+        boolean equal(T object1, T object2) {
+            return EqualsUtils.equal(extractor.apply(object1), extractor.apply(object2));
+        }
+
+        int hash(int seed, T object) {
+            return HashCodeUtils.hash(seed, extractor.apply(object));
+        }
+    }
+
+    private static final class DoubleComponent<T> extends Component<T> {
+
+        private final ToDoubleFunction<? super T> extractor;
+
+        DoubleComponent(ToDoubleFunction<? super T> extractor) {
+            if (extractor == null) {
+                throw new IllegalArgumentException("null");
+            }
+            this.extractor = extractor;
+        }
+
+        boolean equal(T object1, T object2) {
+            return EqualsUtils.equal(extractor.applyAsDouble(object1), extractor.applyAsDouble(object2));
+        }
+
+        int hash(int seed, T object) {
+            return HashCodeUtils.hash(seed, extractor.applyAsDouble(object));
+        }
+    }
+
+    private static final class FloatComponent<T> extends Component<T> {
+
+        private final ToFloatFunction<? super T> extractor;
+
+        FloatComponent(ToFloatFunction<? super T> extractor) {
+            if (extractor == null) {
+                throw new IllegalArgumentException("null");
+            }
+            this.extractor = extractor;
+        }
+
+        boolean equal(T object1, T object2) {
+            return EqualsUtils.equal(extractor.applyAsFloat(object1), extractor.applyAsFloat(object2));
+        }
+
+        int hash(int seed, T object) {
+            return HashCodeUtils.hash(seed, extractor.applyAsFloat(object));
+        }
+    }
+
+    private static final class IntComponent<T> extends Component<T> {
+
+        private final ToIntFunction<? super T> extractor;
+
+        IntComponent(ToIntFunction<? super T> extractor) {
+            if (extractor == null) {
+                throw new IllegalArgumentException("null");
+            }
+            this.extractor = extractor;
+        }
+
+        boolean equal(T object1, T object2) {
+            return extractor.applyAsInt(object1) == extractor.applyAsInt(object2);
+        }
+
+        int hash(int seed, T object) {
+            return HashCodeUtils.hash(seed, extractor.applyAsInt(object));
+        }
+    }
+
+    private static final class LongComponent<T> extends Component<T> {
+
+        private final ToLongFunction<? super T> extractor;
+
+        LongComponent(ToLongFunction<? super T> extractor) {
+            if (extractor == null) {
+                throw new IllegalArgumentException("null");
+            }
+            this.extractor = extractor;
+        }
+
+        boolean equal(T object1, T object2) {
+            return extractor.applyAsLong(object1) == extractor.applyAsLong(object2);
+        }
+
+        int hash(int seed, T object) {
+            return HashCodeUtils.hash(seed, extractor.applyAsLong(object));
+        }
+    }
+
+    private static final class ObjectComponent<T> extends Component<T> {
+
+        private final Function<? super T, ?> extractor;
+
+        ObjectComponent(Function<? super T, ?> extractor) {
+            if (extractor == null) {
+                throw new IllegalArgumentException("null");
+            }
+            this.extractor = extractor;
+        }
+
+        boolean equal(T object1, T object2) {
+            return EqualsUtils.equal(extractor.apply(object1), extractor.apply(object2));
+        }
+
+        int hash(int seed, T object) {
+            return HashCodeUtils.hash(seed, extractor.apply(object));
+        }
+    }
+
+    private static final class ShortComponent<T> extends Component<T> {
+
+        private final ToShortFunction<? super T> extractor;
+
+        ShortComponent(ToShortFunction<? super T> extractor) {
+            if (extractor == null) {
+                throw new IllegalArgumentException("null");
+            }
+            this.extractor = extractor;
+        }
+
+        boolean equal(T object1, T object2) {
+            return EqualsUtils.equal(extractor.applyAsShort(object1), extractor.applyAsShort(object2));
+        }
+
+        int hash(int seed, T object) {
+            return HashCodeUtils.hash(seed, extractor.applyAsShort(object));
+        }
+    }
+
+    private final Class<T> type;
+    private final Component<T>[] components;
+
+    private TypedEquivalence(Class<T> type, Component<T>[] components) {
+        this.type = type;
+        this.components = components;
+    }
+
+    /**
+     * Verifica se o objeto informado &eacute; equivalente a um objeto qualquer, que s&oacute; &eacute; comparado se for uma inst&acirc;ncia do tipo desta {@link Equivalence
+     * equival&ecirc;ncia}.<BR>
+     * Este m&eacute;todo pode ser utilizado diretamente pelo <code>equals</code> da classe.
+     *
+     * @param object
+     *            O objeto.
+     * @param other
+     *            O objeto qualquer.
+     * @return <code>true</code> se forem equivalentes e <code>false</code> caso contr&aacute;rio.
+     */
+    public boolean equalTo(T object, Object other) {
+        if (object == other) {
+            return true;
+        }
+        if (object == null || !type.isInstance(other)) {
+            return false;
+        }
+        return equalComponents(object, type.cast(other));
+    }
+
+    public boolean equals(T object1, T object2) {
+        if (object1 == object2) {
+            return true;
+        }
+        if (object1 == null || object2 == null) {
+            return false;
+        }
+        if (!type.isInstance(object1) || !type.isInstance(object2)) {
+            return false;
+        }
+        return equalComponents(object1, object2);
+    }
+
+    public int hash(T object) {
+        if (object == null) {
+            return HashCodeUtils.hash(HashCodeUtils.SINGLE_VALUE, 0);
+        }
+        final Component<T>[] components = this.components;
+        int hash = HashCodeUtils.MULTI_VALUE;
+        for (int i = 0; i < components.length; i++) {
+            hash = components[i].hash(hash, object);
+        }
+        return HashCodeUtils.hash(HashCodeUtils.SINGLE_VALUE, hash);
+    }
+
+    private boolean equalComponents(T object1, T object2) {
+        final Component<T>[] components = this.components;
+        for (int i = 0; i < components.length; i++) {
+            if (!components[i].equal(object1, object2)) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,23 @@
+package br.com.staroski.equality.strategy;
+
+final class TypedValueBased extends EqualityStrategy {
+
+    TypedValueBased(TypedValueSupplier target) {
+        super(target);
+    }
+
+    public boolean equals(Object obj) {
+        final TypedValueSupplier target = (TypedValueSupplier) this.target;
+        if (target == obj) {
+            return true;
+        }
+        if (obj instanceof TypedValueSupplier) {
+            return TypedValues.equal(target, (TypedValueSupplier) obj);
+        }
+        return false;
+    }
+
+    public int hashCode() {
+        return TypedValues.hash((TypedValueSupplier) target);
+    }
+}
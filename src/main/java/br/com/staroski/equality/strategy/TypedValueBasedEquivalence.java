@@ -0,0 +1,27 @@
+package br.com.staroski.equality.strategy;
+
+import br.com.staroski.equality.HashCodeUtils;
+
+final class TypedValueBasedEquivalence extends Equivalence<TypedValueSupplier> {
+
+    static final TypedValueBasedEquivalence INSTANCE = new TypedValueBasedEquivalence();
+
+    private TypedValueBasedEquivalence() {}
+
+    public boolean equals(TypedValueSupplier object1, TypedValueSupplier object2) {
+        if (object1 == object2) {
+            return true;
+        }
+        if (object1 == null || object2 == null) {
+            return false;
+        }
+        return TypedValues.equal(object1, object2);
+    }
+
+    public int hash(TypedValueSupplier object) {
+        if (object == null) {
+            return HashCodeUtils.hash(HashCodeUtils.SINGLE_VALUE, 0);
+        }
+        return TypedValues.hash(object);
+    }
+}
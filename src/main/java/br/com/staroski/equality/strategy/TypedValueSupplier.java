@@ -0,0 +1,27 @@
+package br.com.staroski.equality.strategy;
+
+/**
+ * Interface para fornecer valores &agrave;s {@link EqualityStrategy estrat&eacute;gias} criadas pelo m&eacute;todo {@link EqualityStrategy#typedValueBased(TypedValueSupplier)
+ * typedValueBased(TypedValueSupplier)}.<BR>
+ * Diferente do {@link ValueSupplier}, que retorna um novo array a cada chamada, os valores s&atilde;o entregues um a um a um {@link ValueSink}, sem alocar arrays e sem <I>boxing</I>
+ * dos valores primitivos.
+ *
+ * <PRE>
+ * public void values(ValueSink sink) {
+ *     sink.put(field1).put(field2).put(field3);
+ * }
+ * </PRE>
+ *
+ * @author Ricardo Artur Staroski
+ * @see EqualityStrategy#typedValueBased(TypedValueSupplier)
+ */
+public interface TypedValueSupplier {
+
+    /**
+     * Entrega ao {@link ValueSink} os valores utilizados no c&aacute;lculo do <code>hashCode</code> e <code>equals</code>, sempre na mesma ordem.
+     *
+     * @param sink
+     *            O {@link ValueSink} que recebe os valores.
+     */
+    void values(ValueSink sink);
+}
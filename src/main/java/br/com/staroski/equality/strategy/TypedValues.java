@@ -0,0 +1,273 @@
+package br.com.staroski.equality.strategy;
+
+import java.util.Arrays;
+
+import br.com.staroski.equality.EqualsUtils;
+import br.com.staroski.equality.HashCodeUtils;
+
+// ValueSink que calcula o hashCode e o equals dos valores fornecidos por um TypedValueSupplier, com os mesmos resultados do ValueBased.
+// Para o hashCode os valores s&atilde;o acumulados diretamente no hash; para o equals os valores do primeiro objeto s&atilde;o gravados em arrays
+// primitivos e os valores do segundo objeto s&atilde;o comparados com os gravados. As inst&acirc;ncias s&atilde;o reaproveitadas por thread, assim
+// nenhum objeto &eacute; alocado ap&oacute;s o aquecimento; chamadas reentrantes (valores cujo hashCode/equals tamb&eacute;m usam esta classe) usam outra inst&acirc;ncia.
+final class TypedValues implements ValueSink {
+
+    private static final int HASH = 0;
+    private static final int RECORD = 1;
+    private static final int COMPARE = 2;
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    // inst&acirc;ncia livre da thread, null enquanto estiver em uso
+    private static final ThreadLocal<TypedValues> FREE = new ThreadLocal<TypedValues>();
+
+    static boolean equal(TypedValueSupplier supplier1, TypedValueSupplier supplier2) {
+        final TypedValues values = acquire();
+        try {
+            values.mode = RECORD;
+            supplier1.values(values);
+            values.mode = COMPARE;
+            supplier2.values(values);
+            return !values.mismatch && values.position == values.count;
+        } finally {
+            release(values);
+        }
+    }
+
+    static int hash(TypedValueSupplier supplier) {
+        final TypedValues values = acquire();
+        try {
+            values.mode = HASH;
+            values.hash = HashCodeUtils.MULTI_VALUE;
+            supplier.values(values);
+            return HashCodeUtils.hash(HashCodeUtils.SINGLE_VALUE, values.hash);
+        } finally {
+            release(values);
+        }
+    }
+
+    private static TypedValues acquire() {
+        final TypedValues values = FREE.get();
+        if (values == null) {
+            return new TypedValues();
+        }
+        FREE.set(null);
+        return values;
+    }
+
+    private static void release(TypedValues values) {
+        values.reset();
+        FREE.set(values);
+    }
+
+    private int mode;
+    private int hash;
+    private byte[] kinds = new byte[INITIAL_CAPACITY];
+    private long[] bits = new long[INITIAL_CAPACITY];
+    private Object[] references = new Object[INITIAL_CAPACITY];
+    private int count;
+    private int position;
+    private boolean mismatch;
+
+    private TypedValues() {}
+
+    public ValueSink put(boolean value) {
+        if (mode == HASH) {
+            hash = HashCodeUtils.hash(hash, value);
+        } else {
+            primitive(Fields.BOOLEAN, value ? 1 : 0);
+        }
+        return this;
+    }
+
+    public ValueSink put(boolean[] array) {
+        if (mode == HASH) {
+            hash = HashCodeUtils.hash(hash, array);
+        } else {
+            reference(array);
+        }
+        return this;
+    }
+
+    public ValueSink put(byte value) {
+        if (mode == HASH) {
+            hash = HashCodeUtils.hash(hash, value);
+        } else {
+            primitive(Fields.BYTE, value);
+        }
+        return this;
+    }
+
+    public ValueSink put(byte[] array) {
+        if (mode == HASH) {
+            hash = HashCodeUtils.hash(hash, array);
+        } else {
+            reference(array);
+        }
+        return this;
+    }
+
+    public ValueSink put(char value) {
+        if (mode == HASH) {
+            hash = HashCodeUtils.hash(hash, value);
+        } else {
+            primitive(Fields.CHAR, value);
+        }
+        return this;
+    }
+
+    public ValueSink put(char[] array) {
+        if (mode == HASH) {
+            hash = HashCodeUtils.hash(hash, array);
+        } else {
+            reference(array);
+        }
+        return this;
+    }
+
+    public ValueSink put(double value) {
+        if (mode == HASH) {
+            hash = HashCodeUtils.hash(hash, value);
+        } else {
+            primitive(Fields.DOUBLE, Double.doubleToLongBits(value));
+        }
+        return this;
+    }
+
+    public ValueSink put(double[] array) {
+        if (mode == HASH) {
+            hash = HashCodeUtils.hash(hash, array);
+        } else {
+            reference(array);
+        }
+        return this;
+    }
+
+    public ValueSink put(float value) {
+        if (mode == HASH) {
+            hash = HashCodeUtils.hash(hash, value);
+        } else {
+            primitive(Fields.FLOAT, Float.floatToIntBits(value));
+        }
+        return this;
+    }
+
+    public ValueSink put(float[] array) {
+        if (mode == HASH) {
+            hash = HashCodeUtils.hash(hash, array);
+        } else {
+            reference(array);
+        }
+        return this;
+    }
+
+    public ValueSink put(int value) {
+        if (mode == HASH) {
+            hash = HashCodeUtils.hash(hash, value);
+        } else {
+            primitive(Fields.INT, value);
+        }
+        return this;
+    }
+
+    public ValueSink put(int[] array) {
+        if (mode == HASH) {
+            hash = HashCodeUtils.hash(hash, array);
+        } else {
+            reference(array);
+        }
+        return this;
+    }
+
+    public ValueSink put(long value) {
+        if (mode == HASH) {
+            hash = HashCodeUtils.hash(hash, value);
+        } else {
+            primitive(Fields.LONG, value);
+        }
+        return this;
+    }
+
+    public ValueSink put(long[] array) {
+        if (mode == HASH) {
+            hash = HashCodeUtils.hash(hash, array);
+        } else {
+            reference(array);
+        }
+        return this;
+    }
+
+    public ValueSink put(Object object) {
+        if (mode == HASH) {
+            hash = HashCodeUtils.hash(hash, object);
+        } else {
+            reference(object);
+        }
+        return this;
+    }
+
+    public ValueSink put(Object[] array) {
+        if (mode == HASH) {
+            hash = HashCodeUtils.hash(hash, array);
+        } else {
+            reference(array);
+        }
+        return this;
+    }
+
+    public ValueSink put(short value) {
+        if (mode == HASH) {
+            hash = HashCodeUtils.hash(hash, value);
+        } else {
+            primitive(Fields.SHORT, value);
+        }
+        return this;
+    }
+
+    public ValueSink put(short[] array) {
+        if (mode == HASH) {
+            hash = HashCodeUtils.hash(hash, array);
+        } else {
+            reference(array);
+        }
+        return this;
+    }
+
+    private void append(byte kind, long value, Object reference) {
+        if (count == kinds.length) {
+            final int capacity = count << 1;
+            kinds = Arrays.copyOf(kinds, capacity);
+            bits = Arrays.copyOf(bits, capacity);
+            references = Arrays.copyOf(references, capacity);
+        }
+        kinds[count] = kind;
+        bits[count] = value;
+        references[count] = reference;
+        count++;
+    }
+
+    private void primitive(byte kind, long value) {
+        if (mode == RECORD) {
+            append(kind, value, null);
+        } else if (!mismatch) {
+            mismatch = position >= count || kinds[position] != kind || bits[position] != value;
+            position++;
+        }
+    }
+
+    private void reference(Object object) {
+        if (mode == RECORD) {
+            append(Fields.OBJECT, 0, object);
+        } else if (!mismatch) {
+            mismatch = position >= count || kinds[position] != Fields.OBJECT || !EqualsUtils.equal(references[position], object);
+            position++;
+        }
+    }
+
+    // descarta os valores gravados, sem manter refer&ecirc;ncias aos objetos comparados
+    private void reset() {
+        Arrays.fill(references, 0, count, null);
+        count = 0;
+        position = 0;
+        mismatch = false;
+    }
+}
@@ -15,12 +15,18 @@ final class ValueBased extends EqualityStrategy {
             return true;
         }
         if (obj instanceof ValueSupplier) {
+            if (EqualityProfiler.sample()) {
+                return EqualityProfiler.equalValues(target, (ValueSupplier) obj);
+            }
             return equal(target.values(), ((ValueSupplier) obj).values());
         }
         return false;
     }
 
     public int hashCode() {
+        if (EqualityProfiler.sample()) {
+            return EqualityProfiler.hashValues((ValueSupplier) target);
+        }
         return hash(SINGLE_VALUE, ((ValueSupplier) target).values());
     }
 }
@@ -0,0 +1,29 @@
+package br.com.staroski.equality.strategy;
+
+import static br.com.staroski.equality.EqualsUtils.equal;
+
+import br.com.staroski.equality.HashCodeUtils;
+
+final class ValueBasedEquivalence extends Equivalence<ValueSupplier> {
+
+    static final ValueBasedEquivalence INSTANCE = new ValueBasedEquivalence();
+
+    private ValueBasedEquivalence() {}
+
+    public boolean equals(ValueSupplier object1, ValueSupplier object2) {
+        if (object1 == object2) {
+            return true;
+        }
+        if (object1 == null || object2 == null) {
+            return false;
+        }
+        return equal(object1.values(), object2.values());
+    }
+
+    public int hash(ValueSupplier object) {
+        if (object == null) {
+            return HashCodeUtils.hash(HashCodeUtils.SINGLE_VALUE, 0);
+        }
+        return HashCodeUtils.hash(HashCodeUtils.SINGLE_VALUE, object.values());
+    }
+}
@@ -0,0 +1,176 @@
+package br.com.staroski.equality.strategy;
+
+/**
+ * Interface que recebe os valores fornecidos por um {@link TypedValueSupplier}.<BR>
+ * Existe um m&eacute;todo para cada tipo primitivo e para cada tipo de array, assim os valores primitivos s&atilde;o recebidos sem <I>boxing</I>.<BR>
+ * Todos os m&eacute;todos retornam o pr&oacute;prio {@link ValueSink}, permitindo encadear as chamadas.
+ *
+ * @author Ricardo Artur Staroski
+ * @see TypedValueSupplier
+ * @see EqualityStrategy#typedValueBased(TypedValueSupplier)
+ */
+public interface ValueSink {
+
+    /**
+     * Recebe um valor <tt>boolean</tt>.
+     *
+     * @param value
+     *            O valor.
+     * @return Este {@link ValueSink}.
+     */
+    ValueSink put(boolean value);
+
+    /**
+     * Recebe um array de <tt>boolean</tt>, comparado pelo seu conte&uacute;do.
+     *
+     * @param array
+     *            O array.
+     * @return Este {@link ValueSink}.
+     */
+    ValueSink put(boolean[] array);
+
+    /**
+     * Recebe um valor <tt>byte</tt>.
+     *
+     * @param value
+     *            O valor.
+     * @return Este {@link ValueSink}.
+     */
+    ValueSink put(byte value);
+
+    /**
+     * Recebe um array de <tt>byte</tt>, comparado pelo seu conte&uacute;do.
+     *
+     * @param array
+     *            O array.
+     * @return Este {@link ValueSink}.
+     */
+    ValueSink put(byte[] array);
+
+    /**
+     * Recebe um valor <tt>char</tt>.
+     *
+     * @param value
+     *            O valor.
+     * @return Este {@link ValueSink}.
+     */
+    ValueSink put(char value);
+
+    /**
+     * Recebe um array de <tt>char</tt>, comparado pelo seu conte&uacute;do.
+     *
+     * @param array
+     *            O array.
+     * @return Este {@link ValueSink}.
+     */
+    ValueSink put(char[] array);
+
+    /**
+     * Recebe um valor <tt>double</tt>.
+     *
+     * @param value
+     *            O valor.
+     * @return Este {@link ValueSink}.
+     */
+    ValueSink put(double value);
+
+    /**
+     * Recebe um array de <tt>double</tt>, comparado pelo seu conte&uacute;do.
+     *
+     * @param array
+     *            O array.
+     * @return Este {@link ValueSink}.
+     */
+    ValueSink put(double[] array);
+
+    /**
+     * Recebe um valor <tt>float</tt>.
+     *
+     * @param value
+     *            O valor.
+     * @return Este {@link ValueSink}.
+     */
+    ValueSink put(float value);
+
+    /**
+     * Recebe um array de <tt>float</tt>, comparado pelo seu conte&uacute;do.
+     *
+     * @param array
+     *            O array.
+     * @return Este {@link ValueSink}.
+     */
+    ValueSink put(float[] array);
+
+    /**
+     * Recebe um valor <tt>int</tt>.
+     *
+     * @param value
+     *            O valor.
+     * @return Este {@link ValueSink}.
+     */
+    ValueSink put(int value);
+
+    /**
+     * Recebe um array de <tt>int</tt>, comparado pelo seu conte&uacute;do.
+     *
+     * @param array
+     *            O array.
+     * @return Este {@link ValueSink}.
+     */
+    ValueSink put(int[] array);
+
+    /**
+     * Recebe um valor <tt>long</tt>.
+     *
+     * @param value
+     *            O valor.
+     * @return Este {@link ValueSink}.
+     */
+    ValueSink put(long value);
+
+    /**
+     * Recebe um array de <tt>long</tt>, comparado pelo seu conte&uacute;do.
+     *
+     * @param array
+     *            O array.
+     * @return Este {@link ValueSink}.
+     */
+    ValueSink put(long[] array);
+
+    /**
+     * Recebe um objeto, cujo <code>hashCode</code> e <code>equals</code> s&atilde;o calculados atrav&eacute;s das classes {@link br.com.staroski.equality.HashCodeUtils} e
+     * {@link br.com.staroski.equality.EqualsUtils}, isto &eacute;, arrays s&atilde;o comparados pelo seu conte&uacute;do.
+     *
+     * @param object
+     *            O objeto.
+     * @return Este {@link ValueSink}.
+     */
+    ValueSink put(Object object);
+
+    /**
+     * Recebe um array de <tt>Object</tt>, comparado pelo seu conte&uacute;do.
+     *
+     * @param array
+     *            O array.
+     * @return Este {@link ValueSink}.
+     */
+    ValueSink put(Object[] array);
+
+    /**
+     * Recebe um valor <tt>short</tt>.
+     *
+     * @param value
+     *            O valor.
+     * @return Este {@link ValueSink}.
+     */
+    ValueSink put(short value);
+
+    /**
+     * Recebe um array de <tt>short</tt>, comparado pelo seu conte&uacute;do.
+     *
+     * @param array
+     *            O array.
+     * @return Este {@link ValueSink}.
+     */
+    ValueSink put(short[] array);
+}
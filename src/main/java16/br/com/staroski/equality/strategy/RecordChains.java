@@ -0,0 +1,35 @@
+package br.com.staroski.equality.strategy;
+
+import java.lang.constant.ConstantDescs;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+
+// Modelo das classes ocultas criadas pelo RecordEquivalence, uma por classe de record: as cadeias de MethodHandles s&atilde;o recebidas como dados da
+// classe oculta e guardadas em atributos static final, que o JIT trata como constantes, permitindo o inlining das cadeias inteiras.
+// Esta classe nunca &eacute; carregada diretamente, somente os seus bytes s&atilde;o utilizados.
+final class RecordChains implements RecordEquivalence.Chains {
+
+    // (Object, Object)boolean
+    private static final MethodHandle EQUALS;
+
+    // (Object)int
+    private static final MethodHandle HASH;
+
+    static {
+        try {
+            final MethodHandles.Lookup lookup = MethodHandles.lookup();
+            EQUALS = MethodHandles.classDataAt(lookup, ConstantDescs.DEFAULT_NAME, MethodHandle.class, 0);
+            HASH = MethodHandles.classDataAt(lookup, ConstantDescs.DEFAULT_NAME, MethodHandle.class, 1);
+        } catch (IllegalAccessException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    public boolean equal(Object object1, Object object2) throws Throwable {
+        return (boolean) EQUALS.invokeExact(object1, object2);
+    }
+
+    public int hash(Object object) throws Throwable {
+        return (int) HASH.invokeExact(object);
+    }
+}
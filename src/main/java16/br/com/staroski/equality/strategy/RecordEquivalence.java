@@ -0,0 +1,191 @@
+package br.com.staroski.equality.strategy;
+
+import static java.lang.invoke.MethodType.methodType;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.RecordComponent;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import br.com.staroski.equality.EqualsUtils;
+import br.com.staroski.equality.HashCodeUtils;
+
+// Equival&ecirc;ncia de records montada, uma &uacute;nica vez por classe, como uma cadeia de MethodHandles sobre os atributos dos componentes,
+// da mesma forma que o java.lang.runtime.ObjectMethods. Os atributos s&atilde;o lidos diretamente, e n&atilde;o pelos m&eacute;todos de acesso, pois estes podem
+// ser sobrescritos; assim o resultado &eacute; o mesmo do Record.equals e do FieldBased. Por&eacute;m, ao inv&eacute;s do hash do ObjectMethods, cada componente &eacute;
+// combinado pelos m&eacute;todos do HashCodeUtils na ordem de declara&ccedil;&atilde;o, que &eacute; a mesma ordem dos atributos do record, portanto o hash &eacute; igual
+// ao do FieldBased.
+// Para que o JIT trate as cadeias como constantes, elas s&atilde;o guardadas nos atributos static final de uma classe oculta por record, criada a partir
+// do modelo RecordChains; se os bytes do modelo n&atilde;o puderem ser lidos, as cadeias s&atilde;o chamadas a partir de atributos comuns.
+final class RecordEquivalence<T> extends Equivalence<T> {
+
+    // cadeias de MethodHandles de uma classe de record
+    interface Chains {
+
+        boolean equal(Object object1, Object object2) throws Throwable;
+
+        int hash(Object object) throws Throwable;
+    }
+
+    // cadeias guardadas em atributos comuns, quando a classe oculta n&atilde;o p&ocirc;de ser criada
+    private static final class HandleChains implements Chains {
+
+        private final MethodHandle equals;
+        private final MethodHandle hash;
+
+        HandleChains(MethodHandle equals, MethodHandle hash) {
+            this.equals = equals;
+            this.hash = hash;
+        }
+
+        public boolean equal(Object object1, Object object2) throws Throwable {
+            return (boolean) equals.invokeExact(object1, object2);
+        }
+
+        public int hash(Object object) throws Throwable {
+            return (int) hash.invokeExact(object);
+        }
+    }
+
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+    // bytes do modelo das classes ocultas, ou null se n&atilde;o puderem ser lidos
+    private static final byte[] TEMPLATE = template();
+
+    private static final ClassValue<Chains> CHAINS = new ClassValue<Chains>() {
+
+        protected Chains computeValue(Class<?> type) {
+            try {
+                return chainsOf(type);
+            } catch (ReflectiveOperationException e) {
+                throw new SecurityException(e);
+            }
+        }
+    };
+
+    private final Class<T> type;
+    private final Chains chains;
+
+    RecordEquivalence(Class<T> type) {
+        this.type = type;
+        this.chains = CHAINS.get(type); // falha na cria&ccedil;&atilde;o, e n&atilde;o no primeiro uso, se a classe n&atilde;o puder ser lida
+    }
+
+    public boolean equals(T object1, T object2) {
+        if (object1 == object2) {
+            return true;
+        }
+        if (object1 == null || object2 == null || object1.getClass() != type || object2.getClass() != type) {
+            return false;
+        }
+        try {
+            return chains.equal(object1, object2);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    public int hash(T object) {
+        if (object == null) {
+            return HashCodeUtils.hash(HashCodeUtils.SINGLE_VALUE, 0);
+        }
+        try {
+            return chains.hash(object);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    // monta as cadeias sobre os atributos dos componentes e as guarda numa classe oculta criada a partir do modelo
+    private static Chains chainsOf(Class<?> type) throws ReflectiveOperationException {
+        final RecordComponent[] components = type.getRecordComponents();
+        final MethodHandle[] getters = new MethodHandle[components.length];
+        for (int i = 0; i < components.length; i++) {
+            final Field field = type.getDeclaredField(components[i].getName());
+            field.setAccessible(true);
+            getters[i] = LOOKUP.unreflectGetter(field).asType(methodType(field.getType(), Object.class));
+        }
+        final MethodHandle equals = equalsChain(getters);
+        final MethodHandle hash = hashChain(getters);
+        if (TEMPLATE == null) {
+            return new HandleChains(equals, hash);
+        }
+        final MethodHandles.Lookup hidden = LOOKUP.defineHiddenClassWithClassData(TEMPLATE, List.of(equals, hash), true);
+        try {
+            return (Chains) hidden.findConstructor(hidden.lookupClass(), methodType(void.class)).invoke();
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    // os componentes de classes finais que n&atilde;o s&atilde;o arrays, cole&ccedil;&otilde;es nem mapas, como String, s&atilde;o tratados pelos m&eacute;todos do EqualsUtils e
+    // HashCodeUtils exatamente como pelos m&eacute;todos Objects.equals e Objects.hashCode, que dispensam as verifica&ccedil;&otilde;es de tipo a cada chamada
+    private static boolean isPlain(Class<?> componentType) {
+        return !componentType.isPrimitive() && !componentType.isArray() && Modifier.isFinal(componentType.getModifiers())
+                && !Collection.class.isAssignableFrom(componentType) && !Map.class.isAssignableFrom(componentType);
+    }
+
+    // obt&eacute;m o m&eacute;todo do tipo primitivo do componente, ou do tipo Object para os demais tipos (inclusive arrays, comparados pelo conte&uacute;do)
+    private static MethodHandle utility(Class<?> owner, String name, Class<?> returnType, Class<?> prefix, Class<?> componentType) throws ReflectiveOperationException {
+        final Class<?> argument = componentType.isPrimitive() ? componentType : Object.class;
+        final MethodType type = prefix == null ? methodType(returnType, argument, argument) : methodType(returnType, prefix, argument);
+        return LOOKUP.findStatic(owner, name, type);
+    }
+
+    // if (equal(a0(x), a0(y))) { if (equal(a1(x), a1(y))) { ... return true; } } return false;
+    private static MethodHandle equalsChain(MethodHandle[] getters) throws ReflectiveOperationException {
+        final MethodHandle isFalse = MethodHandles.dropArguments(MethodHandles.constant(boolean.class, false), 0, Object.class, Object.class);
+        MethodHandle chain = MethodHandles.dropArguments(MethodHandles.constant(boolean.class, true), 0, Object.class, Object.class);
+        for (int i = getters.length - 1; i >= 0; i--) {
+            final Class<?> componentType = getters[i].type().returnType();
+            MethodHandle equal = isPlain(componentType) ? LOOKUP.findStatic(Objects.class, "equals", methodType(boolean.class, Object.class, Object.class))
+                    : utility(EqualsUtils.class, "equal", boolean.class, null, componentType);
+            final MethodHandle getter = getters[i].asType(methodType(equal.type().parameterType(0), Object.class));
+            equal = MethodHandles.filterArguments(equal, 0, getter, getter);
+            chain = MethodHandles.guardWithTest(equal, chain, isFalse);
+        }
+        return chain;
+    }
+
+    // hash(SINGLE_VALUE, hash(...hash(hash(MULTI_VALUE, a0(x)), a1(x))..., an(x)))
+    private static MethodHandle hashChain(MethodHandle[] getters) throws ReflectiveOperationException {
+        MethodHandle chain = MethodHandles.dropArguments(MethodHandles.constant(int.class, HashCodeUtils.MULTI_VALUE), 0, Object.class);
+        for (MethodHandle getter : getters) {
+            final Class<?> componentType = getter.type().returnType();
+            MethodHandle step = isPlain(componentType) ? MethodHandles.filterArguments(
+                    LOOKUP.findStatic(HashCodeUtils.class, "hash", methodType(int.class, int.class, int.class)), 1,
+                    LOOKUP.findStatic(Objects.class, "hashCode", methodType(int.class, Object.class)))
+                    : utility(HashCodeUtils.class, "hash", int.class, int.class, componentType);
+            // (int, Object)int
+            step = MethodHandles.filterArguments(step, 1, getter.asType(methodType(step.type().parameterType(1), Object.class)));
+            // (Object, Object)int, depois (Object)int
+            step = MethodHandles.collectArguments(step, 0, chain);
+            chain = MethodHandles.permuteArguments(step, methodType(int.class, Object.class), 0, 0);
+        }
+        final MethodHandle single = MethodHandles.insertArguments(LOOKUP.findStatic(HashCodeUtils.class, "hash", methodType(int.class, int.class, int.class)), 0,
+                HashCodeUtils.SINGLE_VALUE);
+        return MethodHandles.filterReturnValue(chain, single);
+    }
+
+    private static byte[] template() {
+        try (InputStream input = RecordEquivalence.class.getResourceAsStream("RecordChains.class")) {
+            return input == null ? null : input.readAllBytes();
+        } catch (IOException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package br.com.staroski.equality.strategy;
+
+// Cria as equival&ecirc;ncias baseadas em atributos, escolhendo a implementa&ccedil;&atilde;o de acordo com a classe.
+// Esta &eacute; a vers&atilde;o para o JDK 16 ou superior, gravada em META-INF/versions/16 do jar multi-release: os records utilizam uma
+// equival&ecirc;ncia montada com MethodHandles sobre os atributos dos componentes, as demais classes continuam utilizando reflex&atilde;o.
+final class RecordSupport {
+
+    static <T> Equivalence<T> fieldBased(Class<T> type) {
+        if (type != null && type.isRecord()) {
+            return new RecordEquivalence<T>(type);
+        }
+        return new FieldBasedEquivalence<T>(type);
+    }
+
+    // Construtor privado, classe utilit&aacute;ria n&atilde;o-instanciavel
+    private RecordSupport() {
+        throw new UnsupportedOperationException(getClass().getName() + " can not be instantiated");
+    }
+}